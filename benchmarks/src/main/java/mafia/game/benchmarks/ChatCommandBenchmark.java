@@ -0,0 +1,45 @@
+package mafia.game.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import mafia.game.engine.ChatCommandParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 채팅 명령어 분기 벤치마크
+ *
+ * handleChatMessage가 모든 일반 채팅마다 거치는 명령어 판별(ChatCommandParser)을
+ * 일반 채팅, 영문 명령어, 한글 별칭 메시지로 측정합니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChatCommandBenchmark {
+
+    @Param({
+        "[Player1] 저는 시민입니다. 경찰 결과 공개해 주세요.",
+        "[Player1] 1/2 확률이네요",
+        "[Player1] /STATS Player2",
+        "[Player1] /감정 웃음"
+    })
+    public String msg;
+
+    @Benchmark
+    public ChatCommandParser.ParsedCommand parse() {
+        return ChatCommandParser.parse(msg);
+    }
+}
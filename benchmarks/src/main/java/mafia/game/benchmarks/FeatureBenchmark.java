@@ -0,0 +1,100 @@
+package mafia.game.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import mafia.game.features.EmotionManager;
+import mafia.game.features.WhisperManager;
+import mafia.game.time.GameClocks;
+import mafia.game.time.VirtualGameClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 쪽지/감정 표현 벤치마크
+ *
+ * 도배 상황의 제한 검사 비용을 측정합니다. 쪽지는 시간당 한도에 도달한 발신자,
+ * 감정 표현은 쿨다운이 지난 발신자(가상 시계로 시간을 진행)와 쿨다운 중인 발신자를 사용합니다.
+ *
+ * 서버는 프로세스당 방 하나를 운영하므로, 방 수는 제한 기록을 가진 발신자 수(방 수 x 8명)로 반영합니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FeatureBenchmark {
+
+    private static final int PLAYERS_PER_ROOM = 8;
+
+    @Param({"1", "10", "100"})
+    public int rooms;
+
+    private VirtualGameClock clock;
+    private WhisperManager whisperManager;
+    private EmotionManager emotionManager;
+    private String[] senders;
+    private int next;
+
+    @Setup
+    public void setup() {
+        clock = new VirtualGameClock();
+        GameClocks.set(clock);
+
+        whisperManager = WhisperManager.getInstance();
+        whisperManager.startDayPhase();
+        emotionManager = EmotionManager.getInstance();
+
+        senders = new String[rooms * PLAYERS_PER_ROOM];
+        for (int i = 0; i < senders.length; i++) {
+            senders[i] = "Player" + i;
+            // 시간당 한도까지 전송
+            for (int j = 0; j < 10; j++) {
+                whisperManager.sendWhisper(senders[i], "Target", "안녕하세요");
+            }
+            emotionManager.express(senders[i], "THUMBS_UP");
+        }
+    }
+
+    private String nextSender() {
+        String sender = senders[next];
+        next = next + 1 == senders.length ? 0 : next + 1;
+        return sender;
+    }
+
+    /**
+     * 한도에 도달한 발신자의 쪽지 (제한 검사 후 거부)
+     */
+    @Benchmark
+    public Object sendWhisperRateLimited() {
+        return whisperManager.sendWhisper(nextSender(), "Target", "Player3 마피아 같아요");
+    }
+
+    /**
+     * 쿨다운 중인 발신자의 감정 표현 (거부)
+     */
+    @Benchmark
+    public Object expressOnCooldown() {
+        return emotionManager.express(nextSender(), "THUMBS_UP");
+    }
+
+    /**
+     * 쿨다운이 지난 발신자의 감정 표현 (히스토리 기록, 통지)
+     */
+    @Benchmark
+    public Object expressAccepted() {
+        clock.advance(3000);
+        return emotionManager.express(nextSender(), "THUMBS_UP");
+    }
+}
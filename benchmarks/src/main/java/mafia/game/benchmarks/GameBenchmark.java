@@ -0,0 +1,99 @@
+package mafia.game.benchmarks;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import mafia.game.engine.GameRandom;
+import mafia.game.engine.GameRules;
+import mafia.game.engine.RoleComposer;
+import mafia.game.simulation.GameSimulator;
+import mafia.game.simulation.HeuristicBotPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 게임 규칙 벤치마크
+ *
+ * 서버의 assignRoles(역할 구성 + 섞기), 투표 집계(findMaxVotedPlayer 대체인 GameRules.plurality),
+ * 밤 행동 처리를 포함한 한 게임 전체 진행(GameSimulator)을 인원수별로 측정합니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBenchmark {
+
+    @Param({"4", "6", "8"})
+    public int playerCount;
+
+    private RoleComposer roleComposer;
+    private GameSimulator simulator;
+    private Map<String, Integer> voteCount;
+    private int[] votes;
+    private long seed;
+
+    @Setup
+    public void setup() {
+        roleComposer = new RoleComposer();
+        simulator = new GameSimulator(roleComposer, new HeuristicBotPolicy(), false);
+
+        // 마지막 플레이어에게 표가 몰린 투표 현황 (서버의 voteCount와 같은 형태)
+        voteCount = new HashMap<>();
+        votes = new int[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            int count = i == playerCount - 1 ? 3 : i % 2;
+            voteCount.put("Player" + i, count);
+            votes[i] = count;
+        }
+    }
+
+    /**
+     * 역할 배정 (MafiaGameServer.assignRoles와 같은 구성 + 섞기)
+     */
+    @Benchmark
+    public List<String> assignRoles() {
+        GameRandom random = new GameRandom(seed++);
+        List<String> roles = roleComposer.compose(playerCount, random);
+        random.shuffle(roles);
+        return roles;
+    }
+
+    /**
+     * 투표 집계 (서버의 이름 기반 득표 맵)
+     */
+    @Benchmark
+    public GameRules.PluralityResult pluralityByName() {
+        return GameRules.plurality(voteCount);
+    }
+
+    /**
+     * 투표 집계 (시뮬레이터의 좌석 배열)
+     */
+    @Benchmark
+    public int pluralityBySeat() {
+        return GameRules.plurality(votes);
+    }
+
+    /**
+     * 한 게임 전체 진행 (밤 행동 처리, 투표, 찬반 투표, 승리 판정 포함)
+     */
+    @Benchmark
+    public Object playGame() {
+        return simulator.play(playerCount, seed++).getWinner();
+    }
+}
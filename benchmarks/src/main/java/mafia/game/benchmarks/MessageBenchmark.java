@@ -0,0 +1,70 @@
+package mafia.game.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import mafia.game.models.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Message 포맷팅 벤치마크
+ *
+ * 메시지 종류별 toProtocol(전송 문자열)과 toLogString(로그 문자열) 비용을 측정합니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MessageBenchmark {
+
+    @Param({"CHAT", "WHISPER", "SYSTEM", "MAFIA_CHAT", "EMOTION"})
+    public String type;
+
+    private Message message;
+
+    @Setup
+    public void setup() {
+        switch (type) {
+            case "CHAT":
+                message = Message.chat("Player1", "저는 시민입니다. 경찰 결과 공개해 주세요.");
+                break;
+            case "WHISPER":
+                message = Message.whisper("Player2", "Player5가 수상해요");
+                break;
+            case "SYSTEM":
+                message = Message.system("밤이 되었습니다. 능력을 사용할 대상을 선택하세요.");
+                break;
+            case "MAFIA_CHAT":
+                message = Message.mafiaChat("Player3", "오늘은 Player4를 노리자");
+                break;
+            case "EMOTION":
+                message = Message.emotion("Player6", "👍 좋아요");
+                break;
+            default:
+                throw new IllegalArgumentException("알 수 없는 메시지 종류: " + type);
+        }
+    }
+
+    @Benchmark
+    public String toProtocol() {
+        return message.toProtocol();
+    }
+
+    @Benchmark
+    public String toLogString() {
+        return message.toLogString();
+    }
+}
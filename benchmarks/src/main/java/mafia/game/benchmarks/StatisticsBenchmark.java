@@ -0,0 +1,87 @@
+package mafia.game.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import mafia.game.features.StatisticsManager;
+import mafia.game.models.PlayerStatistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * StatisticsManager 벤치마크
+ *
+ * 리더보드 조회와 통계 저장 시의 직렬화(ObjectOutputStream) 비용을 등록 플레이어 수별로 측정합니다.
+ * 플레이어 수는 방 수 x 8명이며, 통계는 파일 저장 없이 메모리에서만 채웁니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StatisticsBenchmark {
+
+    private static final int PLAYERS_PER_ROOM = 8;
+    private static final String[] ROLES = {"MAFIA", "DOCTOR", "POLICE", "CITIZEN", "SPY", "SOLDIER"};
+
+    @Param({"1", "10", "100"})
+    public int rooms;
+
+    private StatisticsManager manager;
+    private PlayerStatistics sample;
+
+    @Setup
+    public void setup() {
+        manager = StatisticsManager.getInstance();
+        int players = rooms * PLAYERS_PER_ROOM;
+        for (int i = 0; i < players; i++) {
+            PlayerStatistics stats = manager.getStatistics("BenchPlayer" + i);
+            for (int game = 0; game < 5 + i % 20; game++) {
+                stats.recordGame(ROLES[(i + game) % ROLES.length], (i + game) % 3 == 0, game % 7 == 0);
+            }
+        }
+        sample = manager.getStatistics("BenchPlayer0");
+    }
+
+    @Benchmark
+    public List<PlayerStatistics> leaderboardByWinRate() {
+        return manager.getLeaderboardByWinRate(10);
+    }
+
+    @Benchmark
+    public List<PlayerStatistics> leaderboardByGames() {
+        return manager.getLeaderboardByGames(10);
+    }
+
+    @Benchmark
+    public String leaderboardString() {
+        return manager.getLeaderboardString("MVP", 10);
+    }
+
+    /**
+     * 플레이어 한 명 통계 직렬화 (saveStatistics의 파일 쓰기 제외)
+     */
+    @Benchmark
+    public byte[] serializeStatistics() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(sample);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,81 @@
+package mafia.game.benchmarks;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import mafia.game.features.VoteTracker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * VoteTracker 벤치마크
+ *
+ * 투표 시작부터 전원 투표, 최다 득표자 조회까지 한 라운드와
+ * 투표가 끝난 상태에서의 findTopVoted를 인원수별로 측정합니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VoteTrackerBenchmark {
+
+    @Param({"4", "6", "8"})
+    public int playerCount;
+
+    private VoteTracker tracker;
+    private String[] players;
+    private Set<String> playerSet;
+
+    @Setup
+    public void setup() {
+        tracker = VoteTracker.getInstance();
+        players = new String[playerCount];
+        playerSet = new HashSet<>();
+        for (int i = 0; i < playerCount; i++) {
+            players[i] = "Player" + i;
+            playerSet.add(players[i]);
+        }
+
+        // findTopVoted 측정용: 전원 투표가 끝난 상태
+        castRound();
+    }
+
+    private List<String> castRound() {
+        tracker.startVoting(playerSet, playerSet, 20, VoteTracker.VoteMode.PUBLIC);
+        for (int i = 0; i < playerCount; i++) {
+            tracker.castVote(players[i], players[(i + 1) % playerCount]);
+        }
+        return tracker.findTopVoted();
+    }
+
+    /**
+     * 한 라운드 (startVoting + 전원 castVote + findTopVoted)
+     */
+    @Benchmark
+    public List<String> voteRound() {
+        return castRound();
+    }
+
+    /**
+     * 최다 득표자 조회
+     */
+    @Benchmark
+    public List<String> findTopVoted() {
+        return tracker.findTopVoted();
+    }
+}
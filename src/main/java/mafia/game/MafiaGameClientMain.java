@@ -32,6 +32,10 @@ import javax.swing.JTextField;
 import javax.swing.SwingConstants;
 import javax.swing.border.EmptyBorder;
 
+// 클라이언트 리소스 캐시 임포트
+import mafia.game.client.AssetPreloader;
+import mafia.game.client.CachedBackground;
+
 /**
  * MafiaGameClientMain 메인 클래스
  * JFrame을 상속받아 로그인 GUI 인터페이스를 제공합니다.
@@ -81,11 +85,14 @@ public class MafiaGameClientMain extends JFrame {
 
     /**
      * 프로그램 진입점
-     * 로그인 화면을 생성하고 표시합니다.
+     * 리소스 미리 읽기를 백그라운드에서 시작한 뒤 로그인 화면을 생성하고 표시합니다.
      *
      * @param args 커맨드 라인 인자
      */
     public static void main(String[] args) {
+        // 로그인 화면이 떠 있는 동안 이미지/효과음 디코딩
+        AssetPreloader.getInstance().start();
+
         EventQueue.invokeLater(new Runnable() {
             public void run() {
                 try {
@@ -95,6 +102,7 @@ public class MafiaGameClientMain extends JFrame {
                     } else {
                         // 일반 모드: 로그인 화면 표시
                         MafiaGameClientMain frame = new MafiaGameClientMain();
+                        reportFirstFrame(frame);
                         frame.setVisible(true);
                     }
                 } catch (Exception e) {
@@ -104,6 +112,22 @@ public class MafiaGameClientMain extends JFrame {
         });
     }
 
+    /**
+     * 첫 화면이 그려져 입력을 받을 수 있게 된 시점 출력 (JVM 시작 기준)
+     *
+     * @param frame 로그인 화면
+     */
+    private static void reportFirstFrame(JFrame frame) {
+        frame.addWindowListener(new java.awt.event.WindowAdapter() {
+            @Override
+            public void windowOpened(java.awt.event.WindowEvent e) {
+                // 창이 열린 뒤 첫 그리기가 끝난 다음 이벤트에서 측정
+                EventQueue.invokeLater(() -> System.out.println(
+                        "[Startup] 첫 화면 표시: " + AssetPreloader.millisSinceLaunch() + "ms (JVM 시작 기준)"));
+            }
+        });
+    }
+
     /**
      * 테스트 모드 자동 로그인
      * 랜덤 이름을 생성하여 자동으로 서버에 접속합니다.
@@ -207,23 +231,22 @@ public class MafiaGameClientMain extends JFrame {
      * @param gbc GridBagConstraints
      */
     private void addLogo(JPanel panel, java.awt.GridBagConstraints gbc) {
-        try {
-            java.net.URL iconURL = getClass().getResource("/info/ServerImg.png");
-            if (iconURL != null) {
-                javax.swing.ImageIcon icon = new javax.swing.ImageIcon(iconURL);
-                java.awt.Image img = icon.getImage();
-                java.awt.Image newImg = img.getScaledInstance(80, 80, java.awt.Image.SCALE_SMOOTH);
-
-                JLabel logoLabel = new JLabel(new javax.swing.ImageIcon(newImg));
-                logoLabel.setHorizontalAlignment(SwingConstants.CENTER);
-
-                gbc.gridy = 0;
-                gbc.insets = new java.awt.Insets(30, 20, 10, 20);
-                panel.add(logoLabel, gbc);
-            }
-        } catch (Exception e) {
-            // 이미지 로드 실패 시 무시
+        // 디코딩/축소는 AssetPreloader가 백그라운드에서 수행 (자리만 먼저 잡아 둠)
+        if (getClass().getResource("/info/ServerImg.png") == null) {
+            return;
         }
+        JLabel logoLabel = new JLabel();
+        logoLabel.setHorizontalAlignment(SwingConstants.CENTER);
+        logoLabel.setPreferredSize(new java.awt.Dimension(AssetPreloader.LOGO_SIZE, AssetPreloader.LOGO_SIZE));
+        AssetPreloader.getInstance().getLogoIcon().thenAccept(icon -> {
+            if (icon != null) {
+                javax.swing.SwingUtilities.invokeLater(() -> logoLabel.setIcon(icon));
+            }
+        });
+
+        gbc.gridy = 0;
+        gbc.insets = new java.awt.Insets(30, 20, 10, 20);
+        panel.add(logoLabel, gbc);
     }
 
     /**
@@ -398,47 +421,20 @@ public class MafiaGameClientMain extends JFrame {
      */
     class BackgroundPanel extends JPanel {
         /**
-         * 배경 이미지
-         */
-        private java.awt.Image backgroundImage;
-
-        /**
-         * 배경 패널 생성자
-         * 배경 이미지를 로드합니다.
+         * 패널 크기로 미리 그려 둔 배경
+         * /info/lobby_background.png, .jpg, /info/background.png 순서로 찾습니다.
          */
-        public BackgroundPanel() {
-            try {
-                // 로비 배경 이미지 우선 시도
-                java.net.URL bgURL = getClass().getResource("/info/lobby_background.png");
-
-                // PNG가 없으면 JPG 시도
-                if (bgURL == null) {
-                    bgURL = getClass().getResource("/info/lobby_background.jpg");
-                }
-
-                // 로비 배경이 없으면 기본 배경 사용
-                if (bgURL == null) {
-                    bgURL = getClass().getResource("/info/background.png");
-                }
-
-                if (bgURL != null) {
-                    backgroundImage = new javax.swing.ImageIcon(bgURL).getImage();
-                }
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-        }
+        private final CachedBackground background = new CachedBackground(CachedBackground.Fit.STRETCH,
+                "/info/lobby_background.png", "/info/lobby_background.jpg", "/info/background.png");
 
         /**
          * 패널 그리기
-         * 배경 이미지를 패널 크기에 맞게 그립니다.
+         * 미리 그려 둔 배경 이미지를 복사합니다.
          */
         @Override
         protected void paintComponent(java.awt.Graphics g) {
             super.paintComponent(g);
-            if (backgroundImage != null) {
-                g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
-            }
+            background.paint(this, g);
         }
     }
 
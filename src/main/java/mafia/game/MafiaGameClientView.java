@@ -21,7 +21,6 @@ package mafia.game;
 // AWT 및 그래픽 관련 임포트
 import java.awt.*;
 import java.awt.event.*;
-import java.awt.image.BufferedImage;
 
 // IO 및 네트워크 관련 임포트
 import java.io.*;
@@ -30,20 +29,50 @@ import java.net.Socket;
 // 유틸리티 임포트
 import java.util.*;
 
-// 이미지 및 사운드 처리 임포트
-import javax.imageio.ImageIO;
-import javax.sound.sampled.*;
-
 // Swing UI 컴포넌트 임포트
 import javax.swing.*;
 import javax.swing.border.*;
 
+// 클라이언트 리소스 캐시 임포트
+import mafia.game.audio.SoundEngine;
+import mafia.game.client.AnimationScheduler;
+import mafia.game.client.AssetPreloader;
+import mafia.game.client.BoundedChatModel;
+import mafia.game.client.CachedBackground;
+import mafia.game.client.RoleImageCache;
+import mafia.game.client.UiUpdateQueue;
+
 /**
  * MafiaGameClientView 메인 클래스
  * JFrame을 상속받아 게임 화면 GUI를 제공합니다.
  */
 public class MafiaGameClientView extends JFrame {
 
+    // ========================================
+    // 설정 상수
+    // ========================================
+
+    /**
+     * 채팅 기록 보관 줄 수 (넘으면 오래된 줄부터 삭제)
+     */
+    private static final int CHAT_HISTORY_LINES = 2000;
+
+    /**
+     * 채팅 한 줄 높이 (픽셀, 고정 높이라 보이는 줄만 그림)
+     */
+    private static final int CHAT_LINE_HEIGHT = 18;
+
+    /**
+     * 버튼 눌림 효과 시간 (밀리초) 및 최대 축소 폭 (픽셀)
+     */
+    private static final int BUTTON_CLICK_MILLIS = 200;
+    private static final int BUTTON_CLICK_INSET = 20;
+
+    /**
+     * 찬반 투표 패널 페이드 인 시간 (밀리초)
+     */
+    private static final int FADE_IN_MILLIS = 300;
+
     // ========================================
     // UI 컴포넌트
     // ========================================
@@ -79,9 +108,24 @@ public class MafiaGameClientView extends JFrame {
     private JPanel agreeDisagreePanel;
 
     /**
-     * 채팅 로그 텍스트 영역
+     * 채팅 로그 목록 (보이는 줄만 그림)
      */
-    private JTextArea textArea;
+    private JList<String> chatList;
+
+    /**
+     * 채팅 로그 모델 (최대 CHAT_HISTORY_LINES줄)
+     */
+    private BoundedChatModel chatModel;
+
+    /**
+     * 줄바꿈 없이 끝난 마지막 줄의 현재 폭 (다음 추가분이 이어 붙으므로 폭 계산을 이어감, EDT 전용)
+     */
+    private int chatLineWidth;
+
+    /**
+     * 채팅 기록 검색 필드
+     */
+    private JTextField txtSearch;
 
     /**
      * 플레이어 수 표시 레이블
@@ -130,12 +174,67 @@ public class MafiaGameClientView extends JFrame {
     /**
      * 데이터 입력 스트림
      */
-    private DataInputStream dis;
+    private volatile DataInputStream dis;
+
+    /**
+     * 데이터 출력 스트림 (재접속하면 새 연결의 스트림으로 교체)
+     */
+    private volatile DataOutputStream dos;
+
+    /**
+     * 서버 주소 (재접속용)
+     */
+    private String serverHost;
+    private int serverPort;
+
+    /**
+     * 서버가 발급한 재접속 토큰 (없으면 재접속하지 않음)
+     */
+    private volatile String sessionToken;
+
+    /**
+     * 이 세션에서 마지막으로 받은 메시지 순번 (수신 스레드 전용)
+     */
+    private long receivedSeq;
 
     /**
-     * 데이터 출력 스트림
+     * 재접속 시도 중 여부 (전송 실패 시 새 연결을 닫지 않도록)
      */
-    private DataOutputStream dos;
+    private volatile boolean reconnecting;
+
+    /**
+     * 연속으로 받은 RESUME_RETRY 수 (수신 스레드 전용, 세션이 이어지면 0)
+     */
+    private int resumeRetries;
+
+    // ========================================
+    // 재접속 설정 상수
+    // ========================================
+
+    /**
+     * 첫 재접속 대기 시간 (밀리초, 시도마다 두 배)
+     */
+    private static final long RECONNECT_BASE_MILLIS = 250;
+
+    /**
+     * 재접속 대기 시간 상한 (밀리초)
+     */
+    private static final long RECONNECT_MAX_MILLIS = 4000;
+
+    /**
+     * 재접속을 시도하는 전체 시간 (서버의 재접속 대기 시간과 같음)
+     */
+    private static final long RECONNECT_WINDOW_MILLIS = 30_000;
+
+    /**
+     * 연결 시도 제한 시간 (밀리초)
+     */
+    private static final int CONNECT_TIMEOUT_MILLIS = 3000;
+
+    /**
+     * 서버가 RESUME_RETRY로 다시 시도하라고 한 횟수 상한 (넘으면 이전 세션을 포기)
+     */
+    private static final int MAX_RESUME_RETRIES = 5;
 
     // ========================================
     // 게임 상태 변수
@@ -185,14 +284,10 @@ public class MafiaGameClientView extends JFrame {
      */
     private Map<String, String> roleImageMap;
 
-    // ========================================
-    // 사운드 관련 변수
-    // ========================================
-
     /**
-     * 현재 재생 중인 사운드 클립
+     * 화면 갱신 큐 (네트워크 스레드 -> EDT, 프레임 단위 일괄 적용)
      */
-    private Clip currentClip;
+    private UiUpdateQueue uiQueue;
 
     // ========================================
     // 생성자 및 초기화
@@ -200,7 +295,7 @@ public class MafiaGameClientView extends JFrame {
 
     /**
      * 게임 뷰 생성자
-     * 서버에 연결하고 UI를 초기화합니다.
+     * UI를 초기화하고 백그라운드에서 서버에 연결합니다.
      *
      * @param username 사용자 이름
      * @param ip_addr  서버 IP 주소
@@ -223,6 +318,7 @@ public class MafiaGameClientView extends JFrame {
     private void initializeDataStructures() {
         roleImageMap = new HashMap<>();
         playerMap = new HashMap<>();
+        uiQueue = new UiUpdateQueue(this::appendToChat);
         initializeRoleImageMap();
     }
 
@@ -281,29 +377,89 @@ public class MafiaGameClientView extends JFrame {
         AppendText("Connecting to " + ip_addr + ":" + port_no + "...\n");
         UserName = username;
 
-        try {
-            // 소켓 연결
-            socket = new Socket(ip_addr, Integer.parseInt(port_no));
-            is = socket.getInputStream();
-            dis = new DataInputStream(is);
-            os = socket.getOutputStream();
-            dos = new DataOutputStream(os);
+        // 연결은 EDT 밖에서 수행 (연결을 기다리는 동안에도 화면이 그려짐)
+        new Thread(() -> {
+            try {
+                // 소켓 연결 및 로그인 메시지 전송
+                serverHost = ip_addr;
+                serverPort = Integer.parseInt(port_no);
+                openConnection("/login " + UserName);
 
-            // 로그인 메시지 전송
-            SendMessage("/login " + UserName);
+                // 네트워크 리스너 시작
+                ListenNetwork net = new ListenNetwork();
+                net.start();
 
-            // 네트워크 리스너 시작
-            ListenNetwork net = new ListenNetwork();
-            net.start();
+                // 액션 리스너 설정 (연결된 뒤에만 전송 가능)
+                SwingUtilities.invokeLater(() -> {
+                    setupActionListeners();
+                    txtInput.requestFocus();
+                });
 
-            // 액션 리스너 설정
-            setupActionListeners();
+            } catch (NumberFormatException | IOException e) {
+                e.printStackTrace();
+                AppendText("Connection error!\n");
+            }
+        }, "connect").start();
+    }
 
-            txtInput.requestFocus();
+    /**
+     * 서버에 연결하고 첫 메시지 전송
+     * 첫 메시지를 보낸 뒤에 스트림을 공개하므로, 다른 스레드의 전송이 로그인/재접속 메시지보다 앞서지 않습니다.
+     *
+     * @param firstMessage 첫 메시지 (/login 또는 /resume)
+     * @throws IOException 연결 또는 전송 실패 시
+     */
+    private void openConnection(String firstMessage) throws IOException {
+        Socket newSocket = new Socket();
+        try {
+            newSocket.connect(new java.net.InetSocketAddress(serverHost, serverPort), CONNECT_TIMEOUT_MILLIS);
+            DataOutputStream newDos = new DataOutputStream(newSocket.getOutputStream());
+            newDos.writeUTF(firstMessage);
 
-        } catch (NumberFormatException | IOException e) {
-            e.printStackTrace();
-            AppendText("Connection error!\n");
+            socket = newSocket;
+            is = newSocket.getInputStream();
+            dis = new DataInputStream(is);
+            os = newSocket.getOutputStream();
+            dos = newDos;
+        } catch (IOException e) {
+            newSocket.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 지터를 준 지수 백오프로 재접속 (수신 스레드)
+     * 대기 시간은 매번 두 배(상한 RECONNECT_MAX_MILLIS)로 늘리되 그 절반~전체 사이에서 무작위로 골라,
+     * 서버가 다시 뜰 때 여러 클라이언트가 한꺼번에 몰리지 않게 합니다.
+     * 연결되면 토큰과 마지막으로 받은 순번을 보내고, 결과(RESUMED/RESUME_RETRY/RESUME_FAILED)는 수신 루프가 처리합니다.
+     *
+     * @return 새 연결로 수신을 계속하면 true, 시간 안에 연결하지 못하면 false
+     */
+    private boolean reconnect() {
+        reconnecting = true;
+        try {
+            long deadline = System.currentTimeMillis() + RECONNECT_WINDOW_MILLIS;
+            long backoff = RECONNECT_BASE_MILLIS;
+            for (int attempt = 1; System.currentTimeMillis() < deadline; attempt++) {
+                try {
+                    Thread.sleep(backoff / 2 + java.util.concurrent.ThreadLocalRandom.current().nextLong(backoff / 2 + 1));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+
+                AppendText("재접속 시도 중... (" + attempt + ")\n");
+                try {
+                    openConnection("/resume " + UserName + " " + sessionToken + " " + receivedSeq);
+                    return true;
+                } catch (IOException e) {
+                    backoff = Math.min(RECONNECT_MAX_MILLIS, backoff * 2);
+                }
+            }
+            AppendText("재접속하지 못했습니다.\n");
+            return false;
+        } finally {
+            reconnecting = false;
         }
     }
 
@@ -375,6 +531,9 @@ public class MafiaGameClientView extends JFrame {
         chatTitle.setBounds(15, 10, 200, 25);
         chatPanel.add(chatTitle);
 
+        // 기록 검색 필드
+        createSearchField(chatPanel);
+
         // 채팅 로그 영역
         createChatArea(chatPanel);
 
@@ -393,13 +552,132 @@ public class MafiaGameClientView extends JFrame {
         scrollPane.setBorder(null);
         chatPanel.add(scrollPane);
 
-        textArea = new JTextArea();
-        textArea.setEditable(false);
-        textArea.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
-        textArea.setBackground(new Color(25, 25, 25));
-        textArea.setForeground(new Color(220, 220, 220));
-        textArea.setCaretColor(Color.WHITE);
-        scrollPane.setViewportView(textArea);
+        chatModel = new BoundedChatModel(CHAT_HISTORY_LINES);
+        chatList = new JList<>(chatModel);
+        chatList.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        chatList.setBackground(new Color(25, 25, 25));
+        chatList.setForeground(new Color(220, 220, 220));
+        chatList.setSelectionBackground(new Color(90, 80, 30));
+        chatList.setSelectionForeground(Color.WHITE);
+        chatList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        // 고정 크기 셀: 줄마다 크기를 재지 않으므로 기록 길이와 무관하게 갱신 비용이 일정
+        chatList.setFixedCellHeight(CHAT_LINE_HEIGHT);
+        chatList.setFixedCellWidth(scrollPane.getWidth() - scrollPane.getVerticalScrollBar().getPreferredSize().width);
+        scrollPane.setHorizontalScrollBarPolicy(ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER);
+        scrollPane.setViewportView(chatList);
+    }
+
+    /**
+     * 채팅 기록 검색 필드 생성
+     * Enter는 이전(오래된 쪽) 결과, Shift+Enter는 다음 결과, Esc는 검색 해제입니다.
+     *
+     * @param chatPanel 채팅 패널
+     */
+    private void createSearchField(JPanel chatPanel) {
+        txtSearch = new JTextField();
+        txtSearch.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        txtSearch.setBackground(new Color(45, 45, 45));
+        txtSearch.setForeground(Color.WHITE);
+        txtSearch.setCaretColor(Color.WHITE);
+        txtSearch.setBorder(BorderFactory.createCompoundBorder(
+                new LineBorder(new Color(80, 80, 80), 1),
+                new EmptyBorder(2, 6, 2, 6)));
+        txtSearch.setToolTipText("채팅 기록 검색 (Enter: 이전, Shift+Enter: 다음, Esc: 해제)");
+        txtSearch.setBounds(330, 10, 200, 25);
+        chatPanel.add(txtSearch);
+
+        txtSearch.addKeyListener(new KeyAdapter() {
+            @Override
+            public void keyPressed(KeyEvent e) {
+                if (e.getKeyCode() == KeyEvent.VK_ENTER) {
+                    searchChat(!e.isShiftDown());
+                } else if (e.getKeyCode() == KeyEvent.VK_ESCAPE) {
+                    txtSearch.setText("");
+                    txtSearch.setBackground(new Color(45, 45, 45));
+                    chatList.clearSelection();
+                    scrollChatToEnd();
+                }
+            }
+        });
+    }
+
+    /**
+     * 채팅 기록 검색 후 찾은 줄을 선택 (끝에 닿으면 반대쪽 끝부터 다시 검색)
+     *
+     * @param backward true면 오래된 쪽으로 검색
+     */
+    private void searchChat(boolean backward) {
+        String query = txtSearch.getText().trim();
+        if (query.isEmpty()) {
+            return;
+        }
+        int from = chatList.getSelectedIndex();
+        if (from < 0) {
+            from = backward ? chatModel.getSize() : -1;
+        }
+        int found = chatModel.find(query, from, backward);
+        if (found < 0) {
+            found = chatModel.find(query, backward ? chatModel.getSize() : -1, backward);
+        }
+
+        if (found >= 0) {
+            txtSearch.setBackground(new Color(45, 45, 45));
+            chatList.setSelectedIndex(found);
+            chatList.ensureIndexIsVisible(found);
+        } else {
+            txtSearch.setBackground(new Color(90, 40, 40));
+            chatList.clearSelection();
+        }
+    }
+
+    /**
+     * 채팅 로그를 마지막 줄로 스크롤
+     */
+    private void scrollChatToEnd() {
+        int size = chatModel.getSize();
+        if (size > 0) {
+            chatList.ensureIndexIsVisible(size - 1);
+        }
+    }
+
+    /**
+     * 긴 줄을 채팅 목록 폭에 맞게 여러 줄로 나눔 (셀 높이가 고정이므로 추가 시점에 줄바꿈)
+     * 코드 포인트 단위로 재므로 이모지 같은 서로게이트 쌍을 가르지 않고,
+     * 이전 추가분이 줄바꿈 없이 끝났으면 그 줄의 폭에 이어서 계산합니다.
+     *
+     * @param text 원본 텍스트
+     * @return 폭을 넘는 줄마다 줄바꿈을 넣은 텍스트
+     */
+    private String wrapChatText(String text) {
+        FontMetrics fm = chatList.getFontMetrics(chatList.getFont());
+        // 렌더러 좌우 여백 제외
+        int maxWidth = chatList.getFixedCellWidth() - 8;
+        StringBuilder sb = null;
+        int width = chatLineWidth;
+        int i = 0;
+        while (i < text.length()) {
+            int codePoint = text.codePointAt(i);
+            int next = i + Character.charCount(codePoint);
+            if (codePoint == '\n') {
+                width = 0;
+            } else {
+                int charWidth = fm.charWidth(codePoint);
+                if (width + charWidth > maxWidth && width > 0) {
+                    if (sb == null) {
+                        sb = new StringBuilder(text.length() + 16).append(text, 0, i);
+                    }
+                    sb.append('\n');
+                    width = 0;
+                }
+                width += charWidth;
+            }
+            if (sb != null) {
+                sb.append(text, i, next);
+            }
+            i = next;
+        }
+        chatLineWidth = width;
+        return sb == null ? text : sb.toString();
     }
 
     /**
@@ -613,9 +891,15 @@ public class MafiaGameClientView extends JFrame {
                 @Override
                 protected void paintComponent(Graphics g) {
                     super.paintComponent(g);
-                    Graphics2D g2d = (Graphics2D) g;
+                    Graphics2D g2d = (Graphics2D) g.create();
                     g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
+                    // 페이드 인 진행률
+                    Object alpha = getClientProperty("mafia.alpha");
+                    if (alpha instanceof Float) {
+                        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (Float) alpha));
+                    }
+
                     // 그라데이션 배경
                     GradientPaint gradient = new GradientPaint(
                         0, 0, new Color(45, 45, 45),
@@ -628,6 +912,7 @@ public class MafiaGameClientView extends JFrame {
                     g2d.setColor(new Color(100, 100, 100, 150));
                     g2d.setStroke(new BasicStroke(2));
                     g2d.drawRoundRect(1, 1, getWidth() - 2, getHeight() - 2, 20, 20);
+                    g2d.dispose();
                 }
             };
             agreeDisagreePanel.setOpaque(false);
@@ -654,15 +939,12 @@ public class MafiaGameClientView extends JFrame {
             btnAgree.setBounds(30, 60, 145, 55);
             btnAgree.addActionListener(e -> {
                 animateButtonClick(btnAgree);
-                new Thread(() -> {
-                    try {
-                        Thread.sleep(200);
-                        SendMessage("AGREE_DISAGREE:AGREE");
-                        hideAgreeDisagreeButtons();
-                    } catch (InterruptedException ex) {
-                        ex.printStackTrace();
-                    }
-                }).start();
+                // 눌림 효과가 끝난 뒤 전송 (중복 클릭은 마지막 한 번만)
+                AnimationScheduler.getInstance().schedule(AnimationScheduler.key(agreeDisagreePanel, "vote"),
+                    BUTTON_CLICK_MILLIS, () -> {
+                    SendMessage("AGREE_DISAGREE:AGREE");
+                    hideAgreeDisagreeButtons();
+                });
             });
             agreeDisagreePanel.add(btnAgree);
 
@@ -671,15 +953,12 @@ public class MafiaGameClientView extends JFrame {
             btnDisagree.setBounds(185, 60, 145, 55);
             btnDisagree.addActionListener(e -> {
                 animateButtonClick(btnDisagree);
-                new Thread(() -> {
-                    try {
-                        Thread.sleep(200);
-                        SendMessage("AGREE_DISAGREE:DISAGREE");
-                        hideAgreeDisagreeButtons();
-                    } catch (InterruptedException ex) {
-                        ex.printStackTrace();
-                    }
-                }).start();
+                // 눌림 효과가 끝난 뒤 전송 (중복 클릭은 마지막 한 번만)
+                AnimationScheduler.getInstance().schedule(AnimationScheduler.key(agreeDisagreePanel, "vote"),
+                    BUTTON_CLICK_MILLIS, () -> {
+                    SendMessage("AGREE_DISAGREE:DISAGREE");
+                    hideAgreeDisagreeButtons();
+                });
             });
             agreeDisagreePanel.add(btnDisagree);
         }
@@ -753,90 +1032,48 @@ public class MafiaGameClientView extends JFrame {
     }
 
     /**
-     * 색상 변화 애니메이션
+     * 색상 변화 애니메이션 (진행 중인 색 변화는 현재 색에서 이어서 대체)
      */
     private void animateColorChange(JButton button, Color from, Color to, int duration) {
-        new Thread(() -> {
-            int steps = 20;
-            int delay = duration / steps;
-
-            for (int i = 0; i <= steps; i++) {
-                float ratio = (float) i / steps;
+        AnimationScheduler.getInstance().animate(AnimationScheduler.key(button, "color"), duration,
+            ratio -> {
                 int r = (int) (from.getRed() + (to.getRed() - from.getRed()) * ratio);
                 int g = (int) (from.getGreen() + (to.getGreen() - from.getGreen()) * ratio);
                 int b = (int) (from.getBlue() + (to.getBlue() - from.getBlue()) * ratio);
-
-                Color newColor = new Color(r, g, b);
-                SwingUtilities.invokeLater(() -> {
-                    button.setBackground(newColor);
-                    button.repaint();
-                });
-
-                try {
-                    Thread.sleep(delay);
-                } catch (InterruptedException e) {
-                    break;
-                }
-            }
-        }).start();
+                button.setBackground(new Color(r, g, b));
+            }, null);
     }
 
     /**
-     * 버튼 클릭 애니메이션
+     * 버튼 클릭 애니메이션 (절반 동안 축소, 나머지 절반 동안 원래 크기로 복귀)
      */
     private void animateButtonClick(JButton button) {
-        new Thread(() -> {
-            try {
-                // 축소
-                for (int i = 0; i < 5; i++) {
-                    int offset = i * 2;
-                    int finalOffset = offset;
-                    SwingUtilities.invokeLater(() -> {
-                        button.setBounds(
-                            button.getX() + finalOffset,
-                            button.getY() + finalOffset,
-                            button.getWidth() - finalOffset * 2,
-                            button.getHeight() - finalOffset * 2
-                        );
-                    });
-                    Thread.sleep(20);
-                }
-
-                // 확대
-                for (int i = 5; i >= 0; i--) {
-                    int offset = i * 2;
-                    int finalOffset = offset;
-                    SwingUtilities.invokeLater(() -> {
-                        button.setBounds(
-                            button.getX() - finalOffset,
-                            button.getY() - finalOffset,
-                            button.getWidth() + finalOffset * 2,
-                            button.getHeight() + finalOffset * 2
-                        );
-                    });
-                    Thread.sleep(20);
-                }
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }).start();
+        // 연속 클릭 시에도 원래 크기를 기준으로 계산
+        Rectangle base = (Rectangle) button.getClientProperty("mafia.baseBounds");
+        if (base == null) {
+            base = button.getBounds();
+            button.putClientProperty("mafia.baseBounds", base);
+        }
+        Rectangle bounds = base;
+        AnimationScheduler.getInstance().animate(AnimationScheduler.key(button, "click"), BUTTON_CLICK_MILLIS,
+            progress -> {
+                int inset = (int) Math.round(BUTTON_CLICK_INSET * (1 - Math.abs(2 * progress - 1)));
+                button.setBounds(bounds.x + inset, bounds.y + inset,
+                    bounds.width - inset * 2, bounds.height - inset * 2);
+            }, null);
     }
 
     /**
-     * 패널 페이드 인 애니메이션
+     * 패널 페이드 인 애니메이션 (패널 배경이 "mafia.alpha" 값으로 그려짐)
      */
     private void fadeInPanel(JPanel panel) {
         panel.setOpaque(false);
-        new Thread(() -> {
-            for (int i = 0; i <= 10; i++) {
-                try {
-                    Thread.sleep(30);
-                    panel.repaint();
-                } catch (InterruptedException e) {
-                    break;
-                }
-            }
-        }).start();
+        panel.putClientProperty("mafia.alpha", 0f);
+        AnimationScheduler.getInstance().animate(AnimationScheduler.key(panel, "alpha"), FADE_IN_MILLIS,
+            progress -> {
+                panel.putClientProperty("mafia.alpha", (float) progress);
+                panel.repaint();
+            }, null);
     }
 
     /**
@@ -852,38 +1089,60 @@ public class MafiaGameClientView extends JFrame {
     /**
      * 플레이어 카드 업데이트
      *
+     * 목록 파싱은 호출 스레드(네트워크 수신)에서 하고, 이름/역할/생존 여부가 바뀐 카드만
+     * 다음 프레임에 EDT에서 한 번에 갱신합니다 (한 프레임에 목록이 여러 번 오면 마지막 목록만 적용).
+     * 바뀌지 않은 카드는 다시 그리지 않으므로 깜빡임이 없습니다.
+     *
      * @param players 플레이어 목록 문자열
      */
     private void updatePlayerCards(String players) {
-        // 모든 카드 초기화
-        for (PlayerCard card : playerCards) {
-            card.clearPlayer();
-        }
+        String[] playerArray = players.isEmpty() ? new String[0] : players.split(",");
+        PlayerInfo[] slots = new PlayerInfo[maxPlayers];
 
-        playerMap.clear();
+        for (int i = 0; i < playerArray.length && i < maxPlayers; i++) {
+            String playerInfo = playerArray[i].trim();
+            if (!playerInfo.isEmpty()) {
+                boolean isDead = playerInfo.startsWith("[DEAD]");
+                String playerName = isDead ? playerInfo.substring(6) : playerInfo;
 
-        if (!players.isEmpty()) {
-            String[] playerArray = players.split(",");
-            lblPlayerCount.setText(playerArray.length + "/" + maxPlayers);
+                // 다른 플레이어의 역할은 알 수 없으므로 DEFAULT 사용
+                String displayRole = playerName.equals(UserName) ? myRole : "DEFAULT";
 
-            for (int i = 0; i < playerArray.length && i < maxPlayers; i++) {
-                String playerInfo = playerArray[i].trim();
-                if (!playerInfo.isEmpty()) {
-                    boolean isDead = playerInfo.startsWith("[DEAD]");
-                    String playerName = isDead ? playerInfo.substring(6) : playerInfo;
+                slots[i] = new PlayerInfo(playerName, displayRole, !isDead);
+            }
+        }
 
-                    // 다른 플레이어의 역할은 알 수 없으므로 DEFAULT 사용
-                    String displayRole = playerName.equals(UserName) ? myRole : "DEFAULT";
+        int playerCount = playerArray.length;
+        uiQueue.putState("players", () -> applyPlayerCards(slots, playerCount));
+    }
 
-                    playerCards[i].setPlayer(playerName, displayRole, !isDead);
+    /**
+     * 플레이어 카드 변경분 적용 (EDT)
+     *
+     * @param slots 카드별 목표 상태 (null이면 빈 카드)
+     * @param playerCount 표시할 플레이어 수
+     */
+    private void applyPlayerCards(PlayerInfo[] slots, int playerCount) {
+        playerMap.clear();
 
-                    PlayerInfo info = new PlayerInfo(playerName, displayRole, !isDead);
-                    playerMap.put(playerName, info);
+        for (int i = 0; i < playerCards.length; i++) {
+            PlayerCard card = playerCards[i];
+            PlayerInfo info = i < slots.length ? slots[i] : null;
+
+            if (info == null) {
+                if (!card.isEmpty()) {
+                    card.clearPlayer();
                 }
+                continue;
             }
-        } else {
-            lblPlayerCount.setText("0/" + maxPlayers);
+
+            if (!card.shows(info.name, info.role, info.alive)) {
+                card.setPlayer(info.name, info.role, info.alive);
+            }
+            playerMap.put(info.name, info);
         }
+
+        lblPlayerCount.setText(playerCount + "/" + maxPlayers);
     }
 
     /**
@@ -931,12 +1190,29 @@ public class MafiaGameClientView extends JFrame {
 
     /**
      * 채팅 메시지 추가
+     * 어느 스레드에서든 호출할 수 있으며, 다음 프레임에 다른 줄과 함께 EDT에서 표시됩니다.
      *
      * @param msg 메시지
      */
     public void AppendText(String msg) {
-        textArea.append(msg);
-        textArea.setCaretPosition(textArea.getText().length());
+        uiQueue.appendText(msg);
+    }
+
+    /**
+     * 프레임 동안 모인 텍스트를 채팅 목록에 한 번에 추가 (EDT)
+     *
+     * @param text 모인 텍스트
+     */
+    private void appendToChat(String text) {
+        // 검색 결과를 보는 중이거나 위로 스크롤한 상태면 위치 유지
+        JScrollBar bar = ((JScrollPane) SwingUtilities.getAncestorOfClass(JScrollPane.class, chatList))
+                .getVerticalScrollBar();
+        boolean atEnd = bar.getValue() + bar.getVisibleAmount() >= bar.getMaximum() - CHAT_LINE_HEIGHT;
+
+        chatModel.append(wrapChatText(text));
+        if (atEnd && chatList.isSelectionEmpty()) {
+            scrollChatToEnd();
+        }
     }
 
     /**
@@ -949,7 +1225,10 @@ public class MafiaGameClientView extends JFrame {
             dos.writeUTF(msg);
         } catch (IOException e) {
             AppendText("메시지 전송 실패.\n");
-            closeConnection();
+            if (!reconnecting) {
+                // 소켓을 닫으면 수신 스레드가 끊김을 감지해 재접속
+                closeConnection();
+            }
         }
     }
 
@@ -973,60 +1252,12 @@ public class MafiaGameClientView extends JFrame {
 
     /**
      * 서버로부터 받은 사운드 재생
+     * 미리 디코딩된 PCM을 오디오 스레드가 재생하며, 이전 사운드는 중지됩니다.
      *
      * @param filePath 사운드 파일 경로
      */
     private void playServerSound(String filePath) {
-        if (filePath == null || filePath.isEmpty()) {
-            return;
-        }
-
-        // 이전 사운드 중지
-        stopCurrentSound();
-
-        new Thread(() -> {
-            try {
-                InputStream soundStream = getClass().getResourceAsStream(filePath);
-                if (soundStream == null) {
-                    System.err.println("Sound file not found: " + filePath);
-                    return;
-                }
-
-                AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(soundStream);
-                currentClip = AudioSystem.getClip();
-                currentClip.open(audioInputStream);
-                currentClip.start();
-
-                System.out.println("Playing sound: " + filePath);
-
-                // 사운드 종료 리스너
-                currentClip.addLineListener(event -> {
-                    if (event.getType() == LineEvent.Type.STOP) {
-                        currentClip.close();
-                        try {
-                            audioInputStream.close();
-                        } catch (IOException e) {
-                            e.printStackTrace();
-                        }
-                    }
-                });
-            } catch (UnsupportedAudioFileException e) {
-                System.err.println("Audio format not supported: " + filePath);
-            } catch (Exception e) {
-                System.err.println("Error playing sound: " + filePath + " - " + e.getMessage());
-            }
-        }).start();
-    }
-
-    /**
-     * 현재 사운드 중지
-     */
-    private void stopCurrentSound() {
-        if (currentClip != null && currentClip.isRunning()) {
-            currentClip.stop();
-            currentClip.close();
-            currentClip = null;
-        }
+        SoundEngine.getInstance().play(filePath);
     }
 
     // ========================================
@@ -1037,6 +1268,12 @@ public class MafiaGameClientView extends JFrame {
      * 개별 플레이어를 표시하는 카드 컴포넌트
      */
     class PlayerCard extends JPanel {
+        /**
+         * 역할 이미지 크기
+         */
+        private static final int CARD_IMAGE_WIDTH = AssetPreloader.CARD_IMAGE_WIDTH;
+        private static final int CARD_IMAGE_HEIGHT = AssetPreloader.CARD_IMAGE_HEIGHT;
+
         /**
          * 카드 인덱스
          */
@@ -1077,10 +1314,6 @@ public class MafiaGameClientView extends JFrame {
          */
         private boolean isEmpty = true;
 
-        /**
-         * 역할 이미지
-         */
-        private Image roleImage;
 
         /**
          * 플레이어 카드 생성자
@@ -1104,7 +1337,7 @@ public class MafiaGameClientView extends JFrame {
 
             // 이미지 영역
             imageLabel = new JLabel();
-            imageLabel.setBounds(5, 5, 130, 180);
+            imageLabel.setBounds(5, 5, CARD_IMAGE_WIDTH, CARD_IMAGE_HEIGHT);
             imageLabel.setHorizontalAlignment(SwingConstants.CENTER);
             imageLabel.setVerticalAlignment(SwingConstants.CENTER);
             add(imageLabel);
@@ -1190,6 +1423,27 @@ public class MafiaGameClientView extends JFrame {
             return playerName;
         }
 
+        /**
+         * 빈 카드 여부
+         *
+         * @return 빈 카드이면 true
+         */
+        public boolean isEmpty() {
+            return isEmpty;
+        }
+
+        /**
+         * 현재 표시 중인 상태와 같은지 확인
+         *
+         * @param name  이름
+         * @param role  역할
+         * @param alive 생존 여부
+         * @return 같으면 true (다시 그릴 필요 없음)
+         */
+        public boolean shows(String name, String role, boolean alive) {
+            return !isEmpty && name.equals(playerName) && Objects.equals(role, this.role) && alive == isAlive;
+        }
+
         /**
          * 플레이어 설정
          *
@@ -1205,15 +1459,14 @@ public class MafiaGameClientView extends JFrame {
 
             nameLabel.setText(name);
 
-            // 역할 이미지 로드
-            loadRoleImage(role);
+            // 역할 이미지 (사망 시 그레이스케일)
+            loadRoleImage(role, alive);
 
             // 상태 업데이트
             if (!alive) {
                 statusIcon.setText("💀");
                 statusIcon.setForeground(Color.RED);
                 setBackground(new Color(60, 40, 40));
-                applyGrayscale();
             } else {
                 statusIcon.setText("");
                 setBackground(new Color(45, 45, 45));
@@ -1246,69 +1499,26 @@ public class MafiaGameClientView extends JFrame {
         }
 
         /**
-         * 역할 이미지 로드
+         * 역할 이미지 표시 (공유 캐시에서 조회)
          *
-         * @param role 역할
+         * @param role  역할
+         * @param alive 생존 여부 (사망 시 그레이스케일 이미지)
          */
-        private void loadRoleImage(String role) {
-            try {
-                String imageName = roleImageMap.getOrDefault(role, "default.png");
-                String imagePath = "/info/" + imageName;
-
-                InputStream imgStream = getClass().getResourceAsStream(imagePath);
-                if (imgStream != null) {
-                    BufferedImage img = ImageIO.read(imgStream);
-                    Image scaledImg = img.getScaledInstance(130, 180, Image.SCALE_SMOOTH);
-                    roleImage = scaledImg;
-                    imageLabel.setIcon(new ImageIcon(scaledImg));
-                    imageLabel.setText("");
-                    imgStream.close();
-                } else {
-                    imageLabel.setText("?");
-                    imageLabel.setFont(new Font("Arial", Font.BOLD, 48));
-                    imageLabel.setForeground(Color.GRAY);
-                }
-            } catch (IOException e) {
+        private void loadRoleImage(String role, boolean alive) {
+            String imageName = roleImageMap.getOrDefault(role, "default.png");
+            ImageIcon icon = RoleImageCache.getInstance()
+                    .getIcon("/info/" + imageName, CARD_IMAGE_WIDTH, CARD_IMAGE_HEIGHT, !alive);
+
+            if (icon != null) {
+                imageLabel.setIcon(icon);
+                imageLabel.setText("");
+            } else {
+                imageLabel.setIcon(null);
                 imageLabel.setText("?");
                 imageLabel.setFont(new Font("Arial", Font.BOLD, 48));
                 imageLabel.setForeground(Color.GRAY);
             }
         }
-
-        /**
-         * 그레이스케일 효과 적용 (사망 시)
-         */
-        private void applyGrayscale() {
-            if (roleImage != null) {
-                BufferedImage buffered = new BufferedImage(
-                        roleImage.getWidth(null),
-                        roleImage.getHeight(null),
-                        BufferedImage.TYPE_INT_ARGB);
-
-                Graphics2D g2d = buffered.createGraphics();
-                g2d.drawImage(roleImage, 0, 0, null);
-                g2d.dispose();
-
-                // 그레이스케일 변환
-                for (int y = 0; y < buffered.getHeight(); y++) {
-                    for (int x = 0; x < buffered.getWidth(); x++) {
-                        int rgb = buffered.getRGB(x, y);
-                        int alpha = (rgb >> 24) & 0xff;
-                        int r = (rgb >> 16) & 0xff;
-                        int g = (rgb >> 8) & 0xff;
-                        int b = rgb & 0xff;
-
-                        int gray = (r + g + b) / 3;
-                        gray = (int) (gray * 0.5); // 어둡게
-
-                        int newRgb = (alpha << 24) | (gray << 16) | (gray << 8) | gray;
-                        buffered.setRGB(x, y, newRgb);
-                    }
-                }
-
-                imageLabel.setIcon(new ImageIcon(buffered));
-            }
-        }
     }
 
     // ========================================
@@ -1326,8 +1536,37 @@ public class MafiaGameClientView extends JFrame {
         public void run() {
             while (true) {
                 try {
+                    // 프레임: [순번 long][writeUTF 본문]
+                    long seq = dis.readLong();
                     String msg = dis.readUTF();
 
+                    // 세션 제어 메시지 (순번 0)
+                    if (seq == 0) {
+                        if (msg.startsWith("SESSION:")) {
+                            sessionToken = msg.substring(8).trim();
+                            receivedSeq = 0;
+                            resumeRetries = 0;
+                        } else if (msg.startsWith("RESUMED:")) {
+                            resumeRetries = 0;
+                            AppendText("서버에 다시 연결되었습니다.\n");
+                        } else if (msg.startsWith("RESUME_RETRY:")) {
+                            // 세션은 아직 있으나 지금은 이어갈 수 없음: 토큰을 유지하고 연결이 닫히면 다시 시도
+                            if (++resumeRetries > MAX_RESUME_RETRIES) {
+                                sessionToken = null;
+                                AppendText("이전 세션을 이어갈 수 없습니다: " + msg.substring(13).trim() + "\n");
+                            }
+                        } else if (msg.startsWith("RESUME_FAILED:")) {
+                            sessionToken = null;
+                            AppendText("이전 세션을 이어갈 수 없습니다: " + msg.substring(14).trim() + "\n");
+                        }
+                        continue;
+                    }
+                    if (seq <= receivedSeq) {
+                        // 이미 받은 메시지 (재전송 중복)
+                        continue;
+                    }
+                    receivedSeq = seq;
+
                     // 메시지 타입별 처리
                     if (msg.startsWith("ROLE:")) {
                         handleRoleMessage(msg);
@@ -1348,7 +1587,9 @@ public class MafiaGameClientView extends JFrame {
                 } catch (IOException e) {
                     AppendText("연결이 끊어졌습니다!\n");
                     closeConnection();
-                    break;
+                    if (sessionToken == null || !reconnect()) {
+                        break;
+                    }
                 }
             }
         }
@@ -1372,7 +1613,7 @@ public class MafiaGameClientView extends JFrame {
         private void handlePhaseMessage(String msg) {
             String phase = msg.substring(6).trim();
             currentPhase = phase;
-            updatePhaseDisplay(phase);
+            uiQueue.putState("phase", () -> updatePhaseDisplay(phase));
         }
 
         /**
@@ -1424,13 +1665,15 @@ public class MafiaGameClientView extends JFrame {
                 String playerName = parts[0];
                 String role = parts[1].trim();
 
-                // 해당 플레이어 카드 찾아서 이미지 업데이트
-                for (PlayerCard card : playerCards) {
-                    if (playerName.equals(card.getPlayerName())) {
-                        card.setPlayer(playerName, role, true);
-                        break;
+                // 해당 플레이어 카드 찾아서 이미지 업데이트 (같은 프레임의 카드 목록 갱신 이후)
+                uiQueue.post(() -> {
+                    for (PlayerCard card : playerCards) {
+                        if (playerName.equals(card.getPlayerName())) {
+                            card.setPlayer(playerName, role, true);
+                            break;
+                        }
                     }
-                }
+                });
             }
         }
     }
@@ -1510,44 +1753,18 @@ public class MafiaGameClientView extends JFrame {
      * 게임 배경 이미지를 표시하는 커스텀 패널입니다.
      */
     class GameBackgroundPanel extends JPanel {
-        private Image backgroundImage;
-
         /**
-         * 게임 배경 패널 생성자
-         *
-         * /info/game_background.png 또는 .jpg 파일을 로드합니다.
-         * 파일이 없으면 기본 배경색으로 표시됩니다.
+         * 패널 크기로 미리 그려 둔 배경
+         * /info/game_background.png, .jpg, /info/background.png 순서로 찾고,
+         * 모두 없으면 기본 배경색으로 표시됩니다.
          */
-        public GameBackgroundPanel() {
-            try {
-                // 게임 배경 이미지 우선 시도
-                java.net.URL bgURL = getClass().getResource("/info/game_background.png");
-
-                // PNG가 없으면 JPG 시도
-                if (bgURL == null) {
-                    bgURL = getClass().getResource("/info/game_background.jpg");
-                }
-
-                // 게임 배경이 없으면 기본 배경 사용
-                if (bgURL == null) {
-                    bgURL = getClass().getResource("/info/background.png");
-                }
-
-                if (bgURL != null) {
-                    backgroundImage = new javax.swing.ImageIcon(bgURL).getImage();
-                }
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-        }
+        private final CachedBackground background = new CachedBackground(CachedBackground.Fit.STRETCH,
+                "/info/game_background.png", "/info/game_background.jpg", "/info/background.png");
 
         @Override
         protected void paintComponent(Graphics g) {
             super.paintComponent(g);
-            if (backgroundImage != null) {
-                // 배경 이미지를 패널 크기에 맞게 그리기
-                g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
-            }
+            background.paint(this, g);
         }
     }
 
@@ -1557,34 +1774,23 @@ public class MafiaGameClientView extends JFrame {
      * 게임 화면 상단에 background.png를 표시하는 커스텀 패널입니다.
      */
     class TopImagePanel extends JPanel {
-        private Image topImage;
+        /**
+         * 원본 크기로 가운데 배치해 미리 그려 둔 /info/background.png
+         */
+        private final CachedBackground topImage = new CachedBackground(CachedBackground.Fit.CENTER,
+                "/info/background.png");
 
         /**
          * 상단 이미지 패널 생성자
-         *
-         * /info/background.png 파일을 로드합니다.
          */
         public TopImagePanel() {
             setOpaque(false);
-            try {
-                java.net.URL imageURL = getClass().getResource("/info/background.png");
-                if (imageURL != null) {
-                    topImage = new javax.swing.ImageIcon(imageURL).getImage();
-                }
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
         }
 
         @Override
         protected void paintComponent(Graphics g) {
             super.paintComponent(g);
-            if (topImage != null) {
-                // 이미지를 원본 크기 그대로 표시 (중앙 정렬)
-                int x = (getWidth() - topImage.getWidth(this)) / 2;
-                int y = (getHeight() - topImage.getHeight(this)) / 2;
-                g.drawImage(topImage, x, y, this);
-            }
+            topImage.paint(this, g);
         }
     }
 }
@@ -19,9 +19,9 @@ package mafia.game;
 
 // 표준 라이브러리 임포트
 import java.awt.EventQueue;
+import java.awt.GraphicsEnvironment;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -29,19 +29,16 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.Set;
 import java.util.Vector;
 
-// 사운드 관련 라이브러리
-import javax.sound.sampled.*;
-
 // Swing UI 관련 라이브러리
 import javax.swing.JButton;
 import javax.swing.JFrame;
@@ -51,12 +48,41 @@ import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
 import javax.swing.JTextField;
 import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
 import javax.swing.border.EmptyBorder;
 
 // 신규 기능 매니저 임포트
 import mafia.game.features.*;
 import mafia.game.models.*;
 import mafia.game.events.*;
+import mafia.game.audio.SoundEngine;
+import mafia.game.config.ServerConfig;
+import mafia.game.engine.ChatCommandParser;
+import mafia.game.engine.GameRandom;
+import mafia.game.engine.GameRules;
+import mafia.game.engine.GameView;
+import mafia.game.engine.RoleComposer;
+import mafia.game.jfr.BroadcastEvent;
+import mafia.game.journal.GameJournal;
+import mafia.game.journal.JournalEventType;
+import mafia.game.jfr.NightResolutionEvent;
+import mafia.game.jfr.PhaseTransitionEvent;
+import mafia.game.jfr.VoteResolutionEvent;
+import mafia.game.logging.AsyncLogger;
+import mafia.game.logging.BoundedLogConsole;
+import mafia.game.logging.LogCategory;
+import mafia.game.logging.LogLevel;
+import mafia.game.logging.StreamLogSink;
+import mafia.game.metrics.MessageLatencyTracker;
+import mafia.game.metrics.MetricsRegistry;
+import mafia.game.time.GameClock;
+import mafia.game.time.GameClocks;
+import mafia.game.time.ScheduledTask;
+import mafia.game.metrics.Opcode;
+import mafia.game.metrics.PhaseHandler;
+import mafia.game.recovery.RoomSnapshotStore;
+import mafia.game.replay.ReplayEngine;
+import mafia.game.replay.SpectatorFeed;
 import mafia.game.features.WhisperManager.WhisperResult;
 import mafia.game.features.EmotionManager.EmotionResult;
 import mafia.game.features.VoteTracker.VoteMode;
@@ -65,19 +91,15 @@ import mafia.game.features.ReconnectionManager.ReconnectionResult;
 
 /**
  * MafiaGameServer 메인 클래스
- * JFrame을 상속받아 GUI 서버 인터페이스를 제공합니다.
+ * GUI 모드에서는 JFrame 서버 인터페이스를 제공하고,
+ * 헤드리스 모드(--headless)에서는 Swing 없이 바로 서버를 시작합니다.
  */
-public class MafiaGameServer extends JFrame {
+public class MafiaGameServer {
 
     // ========================================
     // 상수 정의
     // ========================================
 
-    /**
-     * 직렬화 버전 UID
-     */
-    private static final long serialVersionUID = 1L;
-
     /**
      * 테스트 모드 활성화 여부
      * true: 8명 접속 시 자동 게임 시작
@@ -92,10 +114,39 @@ public class MafiaGameServer extends JFrame {
      */
     private static final int AUTO_START_PLAYER_COUNT = 8;
 
+    /**
+     * 서버 로그 화면에 유지하는 최대 줄 수
+     */
+    private static final int MAX_LOG_LINES = 5000;
+
+    // ========================================
+    // 실행 설정 및 로깅
+    // ========================================
+
+    /**
+     * 서버 실행 설정
+     */
+    private final ServerConfig config;
+
+    /**
+     * 비동기 로거
+     */
+    private final AsyncLogger logger = AsyncLogger.getInstance();
+
+    /**
+     * 게임 시계 (페이즈 타이머와 마감 시각, 테스트에서는 가상 시간)
+     */
+    private final GameClock clock = GameClocks.get();
+
     // ========================================
-    // UI 컴포넌트
+    // UI 컴포넌트 (헤드리스 모드에서는 모두 null)
     // ========================================
 
+    /**
+     * 서버 프레임
+     */
+    private JFrame frame;
+
     /**
      * 메인 컨텐츠 패널
      */
@@ -106,6 +157,11 @@ public class MafiaGameServer extends JFrame {
      */
     JTextArea textArea;
 
+    /**
+     * 로그 텍스트 영역에 프레임 단위로 반영하는 콘솔
+     */
+    private BoundedLogConsole logConsole;
+
     /**
      * 포트 번호 입력 필드
      */
@@ -333,15 +389,6 @@ public class MafiaGameServer extends JFrame {
      */
     private String priestTarget = "";
 
-    // ========================================
-    // 사운드 관련 변수
-    // ========================================
-
-    /**
-     * 현재 재생 중인 사운드 클립
-     */
-    private Clip currentClip;
-
     // ========================================
     // 신규 기능 매니저 인스턴스
     // ========================================
@@ -386,6 +433,130 @@ public class MafiaGameServer extends JFrame {
      */
     private EventModeManager eventModeManager;
 
+    /**
+     * 서버 메트릭 레지스트리
+     */
+    private MetricsRegistry metrics;
+
+    /**
+     * 메시지 종단 간 지연 추적기
+     */
+    private MessageLatencyTracker latencyTracker;
+
+    /**
+     * 현재 게임의 이벤트 저널 (게임 중이 아니면 null)
+     */
+    private volatile GameJournal journal;
+
+    /**
+     * 역할 구성/배정용 난수 (게임 시드의 하위 스트림)
+     */
+    private GameRandom roleRandom;
+
+    /**
+     * 이벤트 모드용 난수 (게임 시드의 하위 스트림)
+     */
+    private GameRandom eventRandom;
+
+    /**
+     * 인원별 역할 구성기
+     */
+    private final RoleComposer roleComposer = new RoleComposer();
+
+    // ========================================
+    // 방 스냅샷 및 재시작 복구
+    // ========================================
+
+    /**
+     * 이 서버가 운영하는 방 ID (단일 방)
+     */
+    private static final String ROOM_ID = "main";
+
+    /**
+     * 복구 대상 스냅샷의 최대 유효 기간
+     */
+    private static final long RECOVERY_MAX_AGE_MILLIS = 10 * 60 * 1000;
+
+    /**
+     * 방 스냅샷 저장소
+     */
+    private RoomSnapshotStore roomSnapshots;
+
+    /**
+     * 게임 상태 잠금
+     * 페이즈 단계, 게임 입력(밤 행동/투표/찬반) 처리, 방 스냅샷 캡처가 함께 잡아
+     * 저장 스레드가 처리 도중의 반쯤 바뀐 상태를 복사하지 않게 합니다.
+     * 잠금 안의 WriteAll/WriteOne은 세션 버퍼에 기록만 하므로 소켓 쓰기를 기다리지 않습니다.
+     * 잠금 순서: gameStateLock → 서버(this) → 세션
+     */
+    private final Object gameStateLock = new Object();
+
+    /**
+     * 다음에 실행될 페이즈 단계 (없으면 null)
+     */
+    private volatile PhaseHandler pendingStep;
+
+    /**
+     * 다음 페이즈 단계 실행 시각
+     */
+    private volatile long pendingStepDeadline;
+
+    /**
+     * 다음 페이즈 단계 타이머 (조기 진행 시 취소)
+     */
+    private ScheduledTask pendingTask;
+
+    /**
+     * 페이즈 단계 예약 세대 (새로 예약하거나 게임이 초기화되면 증가, 이전 타이머는 실행되지 않음)
+     */
+    private long phaseGeneration;
+
+    /**
+     * 필요한 입력이 모두 모인 뒤 다음 단계까지의 유예 시간 기본값
+     */
+    private static final long DEFAULT_PHASE_GRACE_MILLIS = 2000;
+
+    /**
+     * 필요한 입력이 모두 모인 뒤 다음 단계까지의 유예 시간 (phase.graceMillis, 음수면 조기 진행 끔)
+     */
+    private final long phaseGraceMillis;
+
+    /**
+     * 규칙 판정용 방 상태 조회
+     */
+    private final RoomView roomView = new RoomView();
+
+    /**
+     * 재시작 복구 후 아직 돌아오지 않은 플레이어
+     */
+    private final Set<String> recoveryAwaiting = java.util.concurrent.ConcurrentHashMap.newKeySet();
+
+    /**
+     * 복구 후 재개할 페이즈 단계와 남은 시간
+     */
+    private PhaseHandler recoveryStep;
+    private long recoveryRemainingMillis;
+
+    /**
+     * 복구된 플레이어 역할 (재접속 시 역할 복원용)
+     */
+    private final Map<String, String> recoveredRoles = new java.util.concurrent.ConcurrentHashMap<>();
+
+    /**
+     * 복구된 플레이어의 이전 세션 토큰 해시 (재접속 시 본인 확인용)
+     */
+    private final Map<String, String> recoveredTokenHashes = new java.util.concurrent.ConcurrentHashMap<>();
+
+    /**
+     * 복구 시작 시각 (System.nanoTime, 복구 중이 아니면 0)
+     */
+    private long recoveryStartNanos;
+
+    /**
+     * 마지막 복구 소요 시간 (스냅샷 읽기부터 게임 재개까지)
+     */
+    private volatile long lastRecoveryMillis = -1;
+
     // ========================================
     // 메인 메소드
     // ========================================
@@ -396,12 +567,33 @@ public class MafiaGameServer extends JFrame {
      * @param args 커맨드 라인 인자
      */
     public static void main(String[] args) {
+        ServerConfig config;
+        try {
+            config = ServerConfig.fromArgs(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("사용법: MafiaGameServer [--headless] [--port=30000] [--config=server.properties] [--log-level=INFO]");
+            System.exit(1);
+            return;
+        }
+
+        // 디스플레이가 없는 환경에서는 자동으로 헤드리스 모드
+        if (GraphicsEnvironment.isHeadless()) {
+            config.forceHeadless();
+        }
+
+        if (config.isHeadless()) {
+            MafiaGameServer server = new MafiaGameServer(config);
+            server.startServer(config.getPort());
+            return;
+        }
+
         EventQueue.invokeLater(new Runnable() {
             public void run() {
                 try {
                     // 서버 프레임 생성 및 표시
-                    MafiaGameServer frame = new MafiaGameServer();
-                    frame.setVisible(true);
+                    MafiaGameServer server = new MafiaGameServer(config);
+                    server.frame.setVisible(true);
                 } catch (Exception e) {
                     e.printStackTrace();
                 }
@@ -414,17 +606,47 @@ public class MafiaGameServer extends JFrame {
     // ========================================
 
     /**
-     * 서버 GUI를 초기화하는 생성자
+     * 기본 설정(GUI 모드)으로 서버 생성
      */
     public MafiaGameServer() {
-        initializeFrame();
-        initializeTheme();
-        createHeaderPanel();
-        createCenterPanel();
-        createControlPanel();
+        this(new ServerConfig());
+    }
+
+    /**
+     * 서버를 초기화하는 생성자
+     * 헤드리스 모드에서는 Swing 컴포넌트를 만들지 않습니다.
+     *
+     * @param config 서버 실행 설정
+     */
+    public MafiaGameServer(ServerConfig config) {
+        this.config = config;
+        this.phaseGraceMillis = config.getInt("phase.graceMillis", (int) DEFAULT_PHASE_GRACE_MILLIS);
+        initializeLogging();
+        if (!config.isHeadless()) {
+            initializeFrame();
+            initializeTheme();
+            createHeaderPanel();
+            createCenterPanel();
+            createControlPanel();
+            SoundEngine.getInstance().preload(SoundEngine.GAME_SOUNDS);
+        }
         initializeManagers();
     }
 
+    /**
+     * 로거 설정 및 출력 대상 연결
+     * 헤드리스 모드는 표준 출력으로 출력합니다. (GUI 로그 콘솔은 createCenterPanel에서 연결)
+     */
+    private void initializeLogging() {
+        logger.setLevel(config.getLogLevel());
+        logger.setSampleRate(LogCategory.CHAT, config.getChatSampleRate());
+
+        if (config.isHeadless() || config.isConsoleLog()) {
+            logger.addSink(new StreamLogSink(System.out));
+        }
+        logger.start();
+    }
+
     /**
      * 신규 기능 매니저들을 초기화합니다.
      * Singleton 인스턴스를 가져와 이벤트 리스너를 설정합니다.
@@ -439,6 +661,8 @@ public class MafiaGameServer extends JFrame {
         emotionManager = EmotionManager.getInstance();
         reconnectionManager = ReconnectionManager.getInstance();
         eventModeManager = EventModeManager.getInstance();
+        initializeMetrics();
+        initializeRecovery();
 
         AppendText("[System] 신규 기능 매니저 초기화 완료\n");
         AppendText("[System] - 쪽지 시스템\n");
@@ -451,13 +675,822 @@ public class MafiaGameServer extends JFrame {
         AppendText("[System] - 이벤트 모드\n");
     }
 
+    /**
+     * 메트릭 레지스트리를 초기화하고 서버 게이지를 등록합니다.
+     * JMX는 항상, HTTP 엔드포인트는 mafia.metrics.port 프로퍼티가 있을 때만 열립니다.
+     */
+    private void initializeMetrics() {
+        metrics = MetricsRegistry.getInstance();
+        latencyTracker = MessageLatencyTracker.getInstance();
+        latencyTracker.setSlowMessageSink(line -> logger.warn(LogCategory.NETWORK, line));
+        metrics.registerGauge("connected_sessions", "Connected client sessions", () -> UserVec.size());
+        metrics.registerGauge("active_rooms", "Rooms with a game in progress", () -> gameStarted ? 1 : 0);
+
+        AppendText("[System] 메트릭 내보내기: " + metrics.startExporters() + "\n");
+    }
+
+    /**
+     * 페이즈 핸들러를 실행하고 처리 시간을 기록합니다.
+     * 메트릭 히스토그램과 함께 JFR PhaseTransition 이벤트를 남깁니다.
+     *
+     * @param handler 측정 대상 핸들러
+     * @param body 핸들러 본문
+     */
+    private void runPhaseHandler(PhaseHandler handler, Runnable body) {
+        PhaseTransitionEvent event = new PhaseTransitionEvent();
+        String phaseBefore = gamePhase;
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            synchronized (gameStateLock) {
+                body.run();
+            }
+        } finally {
+            metrics.recordPhaseHandler(handler, System.nanoTime() - start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.handler = handler.getHandlerName();
+                event.phaseBefore = phaseBefore;
+                event.phaseAfter = gamePhase;
+                event.day = dayCount;
+                event.night = nightCount;
+                event.alivePlayers = countAlivePlayers();
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * 생존 플레이어 수
+     *
+     * @return 생존자 수
+     */
+    private int countAlivePlayers() {
+        int alive = 0;
+        for (Boolean status : aliveStatus.values()) {
+            if (status != null && status) {
+                alive++;
+            }
+        }
+        return alive;
+    }
+
+    // ========================================
+    // 게임 이벤트 저널
+    // ========================================
+
+    /**
+     * 새 게임 저널 열기
+     * 열기에 실패해도 게임은 진행하며, 이후 이벤트는 기록되지 않습니다.
+     */
+    private void openJournal() {
+        String gameId = "game-" + new java.text.SimpleDateFormat("yyyyMMdd-HHmmss-SSS").format(new java.util.Date());
+        try {
+            journal = GameJournal.open(gameId);
+            AppendText("[Journal] " + journal.getDirectory());
+        } catch (IOException e) {
+            journal = null;
+            logger.error(LogCategory.SYSTEM, "[Journal] 저널 생성 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 게임 저널 닫기 (남은 이벤트 기록 후)
+     */
+    private void closeJournal() {
+        GameJournal current = journal;
+        journal = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    /**
+     * 게임 이벤트를 저널에 기록 (큐에 넣고 즉시 반환)
+     *
+     * @param type 이벤트 종류
+     * @param actor 행위자 (없으면 null)
+     * @param target 대상 (없으면 null)
+     * @param payload 추가 데이터 (없으면 null)
+     */
+    private void journal(JournalEventType type, String actor, String target, String payload) {
+        GameJournal current = journal;
+        if (current != null) {
+            current.append(type, actor, target, payload);
+        }
+        markRoomDirty();
+    }
+
+    /**
+     * 페이즈 진입 (상태 변경 및 저널 기록)
+     * 페이즈마다 상태 스냅샷을 키프레임으로 남겨 리플레이가 바로 이동할 수 있게 합니다.
+     *
+     * @param phase 새 페이즈
+     */
+    private void enterPhase(String phase) {
+        gamePhase = phase;
+        journal(JournalEventType.PHASE, null, null, phase + " day=" + dayCount + " night=" + nightCount);
+
+        GameJournal current = journal;
+        if (current != null) {
+            current.append(JournalEventType.SNAPSHOT, null, null, captureSnapshot().encode());
+        }
+        markRoomDirty();
+    }
+
+    /**
+     * 현재 게임 상태 스냅샷
+     *
+     * @return 스냅샷
+     */
+    private GameStateSnapshot captureSnapshot() {
+        GameStateSnapshot snapshot = new GameStateSnapshot();
+        snapshot.setDay(dayCount);
+        snapshot.setNight(nightCount);
+        snapshot.setPhase(gamePhase);
+
+        for (UserService user : new ArrayList<>(UserVec)) {
+            String name = user.UserName;
+            snapshot.setRole(name, user.role);
+            snapshot.setFlag(name, GameStateSnapshot.FLAG_ALIVE, Boolean.TRUE.equals(aliveStatus.get(name)));
+            snapshot.setFlag(name, GameStateSnapshot.FLAG_SHIELD, Boolean.TRUE.equals(soldierShield.get(name)));
+            snapshot.setFlag(name, GameStateSnapshot.FLAG_BLESSED, Boolean.TRUE.equals(blessedStatus.get(name)));
+            snapshot.setFlag(name, GameStateSnapshot.FLAG_VOTE_BANNED, Boolean.TRUE.equals(voteBanned.get(name)));
+            snapshot.setFlag(name, GameStateSnapshot.FLAG_SEDUCED, Boolean.TRUE.equals(seduced.get(name)));
+        }
+
+        // 복구 후 아직 돌아오지 않은 플레이어 (UserVec에 없음)
+        for (Map.Entry<String, String> entry : recoveredRoles.entrySet()) {
+            String name = entry.getKey();
+            if (snapshot.getRole(name) == null) {
+                snapshot.setRole(name, entry.getValue());
+                snapshot.setFlag(name, GameStateSnapshot.FLAG_ALIVE, Boolean.TRUE.equals(aliveStatus.get(name)));
+                snapshot.setFlag(name, GameStateSnapshot.FLAG_SHIELD, Boolean.TRUE.equals(soldierShield.get(name)));
+                snapshot.setFlag(name, GameStateSnapshot.FLAG_BLESSED, Boolean.TRUE.equals(blessedStatus.get(name)));
+                snapshot.setFlag(name, GameStateSnapshot.FLAG_VOTE_BANNED, Boolean.TRUE.equals(voteBanned.get(name)));
+                snapshot.setFlag(name, GameStateSnapshot.FLAG_SEDUCED, Boolean.TRUE.equals(seduced.get(name)));
+            }
+        }
+
+        snapshot.setGhoulName(ghoulName);
+        snapshot.setGhoulTransformed(ghoulTransformed);
+        snapshot.setGhoulVictim(ghoulVictim);
+        snapshot.setPriestUsed(priestUsed);
+        snapshot.setPriestTarget(priestTarget);
+        snapshot.setReporterTarget(reporterTarget);
+        snapshot.setSantaGiftReceiver(santaGiftReceiver);
+        snapshot.setMadameContacted(madameContactedMafia);
+        return snapshot;
+    }
+
+    // ========================================
+    // 방 스냅샷 및 재시작 복구
+    // ========================================
+
+    /**
+     * 방 스냅샷 저장소 등록 및 재접속 리스너 설정
+     * 종료 시에도 마지막 상태를 저장하여 배포 재시작 후 게임을 이어갈 수 있게 합니다.
+     */
+    private void initializeRecovery() {
+        roomSnapshots = RoomSnapshotStore.getInstance();
+        roomSnapshots.setErrorSink(line -> logger.warn(LogCategory.SYSTEM, line));
+        roomSnapshots.register(ROOM_ID, this::captureRoomSnapshot);
+        Runtime.getRuntime().addShutdownHook(new Thread(roomSnapshots::flushNow, "room-snapshot-flush"));
+
+        metrics.registerGauge("room_snapshot_writes", "Room snapshots written", roomSnapshots::getWriteCount);
+        metrics.registerGauge("room_snapshot_bytes", "Size of the last room snapshot", roomSnapshots::getLastWriteBytes);
+        metrics.registerGauge("room_snapshot_write_micros", "Duration of the last room snapshot write",
+                roomSnapshots::getLastWriteMicros);
+        metrics.registerGauge("recovery_millis", "Duration of the last restart recovery (-1 if none)",
+                () -> lastRecoveryMillis);
+
+        reconnectionManager.addReconnectionListener(new ReconnectionManager.ReconnectionListener() {
+            @Override
+            public void onPlayerDisconnected(String playerName) {
+            }
+
+            @Override
+            public void onPlayerReconnected(String playerName, PlayerGameState state) {
+            }
+
+            @Override
+            public void onReconnectionTimeout(String playerName) {
+                forfeitRecoveredPlayer(playerName);
+                UserService user = findUser(playerName);
+                if (user != null) {
+                    user.expireReconnection();
+                }
+            }
+        });
+    }
+
+    /**
+     * 방 상태 변경 통지 (다음 저장 주기에 스냅샷 기록)
+     */
+    private void markRoomDirty() {
+        if (roomSnapshots != null) {
+            roomSnapshots.markDirty(ROOM_ID);
+        }
+    }
+
+    /**
+     * 방 스냅샷 캡처 (스냅샷 저장 스레드에서 호출)
+     * 게임 상태 잠금 안에서 복사하므로 페이즈 처리나 입력 처리 도중의 상태는 저장되지 않습니다.
+     *
+     * @return 방 스냅샷 (게임 중이 아니면 null)
+     */
+    private RoomSnapshot captureRoomSnapshot() {
+        synchronized (gameStateLock) {
+            return buildRoomSnapshot();
+        }
+    }
+
+    /**
+     * 방 스냅샷 생성 (gameStateLock 보유 상태에서 호출)
+     *
+     * @return 방 스냅샷 (게임 중이 아니면 null)
+     */
+    private RoomSnapshot buildRoomSnapshot() {
+        if (!gameStarted) {
+            return null;
+        }
+
+        RoomSnapshot room = new RoomSnapshot();
+        long now = clock.currentTimeMillis();
+        GameJournal current = journal;
+        room.setGameId(current != null ? current.getGameId() : "");
+        // 저장 시각은 재시작 후 실제 경과 시간과 비교하므로 실제 시간 사용
+        room.setSavedAtMillis(System.currentTimeMillis());
+        room.setState(captureSnapshot());
+
+        // 복구 대기 중에는 아직 재개하지 않은 단계를 그대로 저장
+        PhaseHandler step = recoveryStep != null ? recoveryStep : pendingStep;
+        if (step != null) {
+            room.setPendingStep(step.name());
+            room.setRemainingMillis(recoveryStep != null ? recoveryRemainingMillis : pendingStepDeadline - now);
+        }
+
+        // 재시작 후 자리를 되찾을 수 있도록 세션 토큰 해시 저장 (아직 돌아오지 않은 플레이어는 이전 해시 유지)
+        room.getTokenHashes().putAll(recoveredTokenHashes);
+        for (UserService user : new ArrayList<>(UserVec)) {
+            if (user.session != null) {
+                room.getTokenHashes().put(user.UserName, user.session.getTokenHash());
+            }
+        }
+
+        room.getNightActions().putAll(nightActions);
+        room.getVoteCounts().putAll(voteCount);
+        room.getVotedThisRound().addAll(hasVotedThisRound);
+        room.getVotedFinalDecision().addAll(hasVotedFinalDecision);
+
+        room.setAttribute("finalDefensePlayer", finalDefensePlayer);
+        room.setAttribute("agreeVotes", agreeVotes);
+        room.setAttribute("disagreeVotes", disagreeVotes);
+        room.setAttribute("christmasEventActive", christmasEventActive);
+        room.setAttribute("spyContactedMafia", spyContactedMafia);
+        room.setAttribute("reporterTargetRole", reporterTargetRole);
+        room.setAttribute("reporterUsedAbility", reporterUsedAbility);
+        room.setAttribute("policeUsedThisNight", policeUsedThisNight);
+        room.setAttribute("gangsterUsedThisNight", gangsterUsedThisNight);
+        room.setAttribute("shamanUsedThisNight", shamanUsedThisNight);
+        room.setAttribute("spyUsedThisNight", spyUsedThisNight);
+        room.setAttribute("doctorUsedThisNight", doctorUsedThisNight);
+        return room;
+    }
+
+    /**
+     * 저장된 방 스냅샷에서 진행 중이던 게임 복구 (서버 시작 시, 수락 스레드 시작 전)
+     * 모든 플레이어를 재접속 대기로 등록하고, 전원이 돌아오거나 재접속 시간이 지나면 페이즈를 재개합니다.
+     */
+    private void recoverRoom() {
+        long start = System.nanoTime();
+        RoomSnapshot room = roomSnapshots.load(ROOM_ID);
+        if (room == null) {
+            return;
+        }
+
+        long age = System.currentTimeMillis() - room.getSavedAtMillis();
+        if (age > RECOVERY_MAX_AGE_MILLIS || room.getState().getRoles().isEmpty()) {
+            AppendText("[Recovery] 오래되었거나 비어 있는 방 스냅샷을 무시합니다. (" + age / 1000 + "초 전)");
+            roomSnapshots.delete(ROOM_ID);
+            return;
+        }
+
+        recoveryStartNanos = start;
+        restoreRoomState(room);
+
+        // 저널은 같은 게임 ID로 이어서 기록
+        if (!room.getGameId().isEmpty()) {
+            try {
+                journal = GameJournal.reopen(room.getGameId());
+            } catch (IOException e) {
+                logger.error(LogCategory.SYSTEM, "[Journal] 저널 복구 실패: " + e.getMessage());
+            }
+        }
+
+        recoveryStep = room.getPendingStep().isEmpty() ? null : PhaseHandler.valueOf(room.getPendingStep());
+        recoveryRemainingMillis = room.getRemainingMillis();
+
+        for (Map.Entry<String, String> entry : room.getState().getRoles().entrySet()) {
+            String name = entry.getKey();
+            recoveryAwaiting.add(name);
+            // 재시작 전 세션의 재전송 버퍼는 없으므로 위치 0 (복귀 시 상태 요약 전송)
+            reconnectionManager.handleDisconnection(name,
+                    new PlayerGameState(entry.getValue(), Boolean.TRUE.equals(aliveStatus.get(name)), 0));
+        }
+
+        setGameStartEnabled(false);
+        markRoomDirty();
+        AppendText("[Recovery] 게임 복구: " + room.getGameId() + " " + dayCount + "일차 " + gamePhase
+                + ", 플레이어 " + recoveryAwaiting.size() + "명 재접속 대기, 다음 단계 " + recoveryStep
+                + " (" + recoveryRemainingMillis + "ms 남음), 읽기/적용 "
+                + (System.nanoTime() - start) / 1_000_000 + "ms");
+    }
+
+    /**
+     * 방 스냅샷을 게임 상태 필드에 적용
+     *
+     * @param room 방 스냅샷
+     */
+    private void restoreRoomState(RoomSnapshot room) {
+        GameStateSnapshot state = room.getState();
+        gameStarted = true;
+        dayCount = state.getDay();
+        nightCount = state.getNight();
+        gamePhase = state.getPhase();
+
+        aliveStatus.clear();
+        soldierShield.clear();
+        blessedStatus.clear();
+        voteBanned.clear();
+        seduced.clear();
+        for (Map.Entry<String, String> entry : state.getRoles().entrySet()) {
+            String name = entry.getKey();
+            String role = entry.getValue();
+            recoveredRoles.put(name, role);
+            aliveStatus.put(name, state.isAlive(name));
+            restoreFlag(soldierShield, state, name, GameStateSnapshot.FLAG_SHIELD);
+            restoreFlag(blessedStatus, state, name, GameStateSnapshot.FLAG_BLESSED);
+            restoreFlag(voteBanned, state, name, GameStateSnapshot.FLAG_VOTE_BANNED);
+            restoreFlag(seduced, state, name, GameStateSnapshot.FLAG_SEDUCED);
+
+            switch (role) {
+                case "MAFIA":
+                    mafiaName = name;
+                    break;
+                case "MADAME":
+                    madameName = name;
+                    break;
+                case "SPY":
+                    spyName = name;
+                    break;
+                case "SHAMAN":
+                    shamanName = name;
+                    break;
+            }
+        }
+
+        ghoulName = state.getGhoulName();
+        ghoulTransformed = state.isGhoulTransformed();
+        ghoulVictim = state.getGhoulVictim();
+        priestUsed = state.isPriestUsed();
+        priestTarget = state.getPriestTarget();
+        reporterTarget = state.getReporterTarget();
+        santaGiftReceiver = state.getSantaGiftReceiver().isEmpty() ? null : state.getSantaGiftReceiver();
+        madameContactedMafia = state.isMadameContacted();
+
+        recoveredTokenHashes.clear();
+        recoveredTokenHashes.putAll(room.getTokenHashes());
+
+        nightActions.clear();
+        nightActions.putAll(room.getNightActions());
+        voteCount.clear();
+        voteCount.putAll(room.getVoteCounts());
+        hasVotedThisRound.clear();
+        hasVotedThisRound.addAll(room.getVotedThisRound());
+        hasVotedFinalDecision.clear();
+        hasVotedFinalDecision.addAll(room.getVotedFinalDecision());
+
+        finalDefensePlayer = room.getAttribute("finalDefensePlayer");
+        agreeVotes = room.getIntAttribute("agreeVotes");
+        disagreeVotes = room.getIntAttribute("disagreeVotes");
+        christmasEventActive = room.getBooleanAttribute("christmasEventActive");
+        spyContactedMafia = room.getBooleanAttribute("spyContactedMafia");
+        reporterTargetRole = room.getAttribute("reporterTargetRole");
+        reporterUsedAbility = room.getBooleanAttribute("reporterUsedAbility");
+        policeUsedThisNight = room.getBooleanAttribute("policeUsedThisNight");
+        gangsterUsedThisNight = room.getBooleanAttribute("gangsterUsedThisNight");
+        shamanUsedThisNight = room.getBooleanAttribute("shamanUsedThisNight");
+        spyUsedThisNight = room.getBooleanAttribute("spyUsedThisNight");
+        doctorUsedThisNight = room.getBooleanAttribute("doctorUsedThisNight");
+    }
+
+    /**
+     * 상태 플래그를 맵에 복원 (설정된 경우에만 true로 기록)
+     */
+    private static void restoreFlag(Map<String, Boolean> target, GameStateSnapshot state, String name, int flag) {
+        if (state.hasFlag(name, flag)) {
+            target.put(name, true);
+        }
+    }
+
+    /**
+     * 복구된 자리에 접속하려는 연결 확인
+     * 재시작 전 세션의 토큰을 /resume으로 보낸 경우에만 자리를 되찾을 수 있습니다 (같은 이름의 /login은 거절).
+     *
+     * @param handshake 접속 요청 연결
+     * @return 거절 사유 (복구 대기 중인 자리가 아니거나 토큰이 맞으면 null)
+     */
+    private String recoveredSeatFailure(UserService handshake) {
+        if (!recoveryAwaiting.contains(handshake.UserName)) {
+            return null;
+        }
+        if (!ClientSession.matchesHash(recoveredTokenHashes.get(handshake.UserName), handshake.resumeToken)) {
+            return "복구 중인 게임의 자리입니다. 이전 세션으로만 재접속할 수 있습니다.";
+        }
+        return null;
+    }
+
+    /**
+     * 복구된 게임의 플레이어 재접속 처리 (AcceptServer에서 UserVec 등록 후 호출)
+     *
+     * @param user 새로 접속한 사용자 (recoveredSeatFailure 확인을 통과한 연결)
+     */
+    private void reattachRecoveredPlayer(UserService user) {
+        if (!recoveryAwaiting.contains(user.UserName) || recoveredSeatFailure(user) != null) {
+            return;
+        }
+
+        ReconnectionResult result = reconnectionManager.attemptReconnection(user.UserName);
+        if (!result.isSuccess()) {
+            user.WriteOne("SYSTEM: " + result.getMessage() + "\n");
+            return;
+        }
+
+        PlayerGameState state = result.getState();
+        user.setRole(state.getRole());
+        recoveredRoles.remove(user.UserName);
+        recoveredTokenHashes.remove(user.UserName);
+        AppendText("[Recovery] " + user.UserName + " 재접속 (" + state.getRole() + ")");
+
+        user.WriteOne("SYSTEM: 서버가 재시작되어 진행 중이던 게임으로 복귀했습니다.\n");
+        sendGameStateSummary(user, state.isAlive());
+
+        recoveryAwaiting.remove(user.UserName);
+        if (recoveryAwaiting.isEmpty()) {
+            resumeRecoveredGame();
+        }
+    }
+
+    /**
+     * 복귀한 플레이어에게 현재 게임 상태 요약 전송 (역할, 페이즈, 생존 목록)
+     *
+     * @param user 복귀한 사용자
+     * @param alive 생존 여부
+     */
+    private void sendGameStateSummary(UserService user, boolean alive) {
+        sendRoleInfo(user, user.role);
+        if (gamePhase.equals("FINAL_DEFENSE")) {
+            user.WriteOne("PHASE:FINAL_DEFENSE:" + finalDefensePlayer + "\n");
+        } else if (!gamePhase.equals("WAITING")) {
+            user.WriteOne("PHASE:" + gamePhase + "\n");
+        }
+        if (!alive) {
+            user.WriteOne("SYSTEM: 당신은 이미 사망한 상태입니다.\n");
+        }
+        sendAlivePlayerList();
+    }
+
+    // ========================================
+    // 연결 끊김 후 세션 재개
+    // ========================================
+
+    /**
+     * 접속 중인 사용자 조회 (재접속 대기 포함)
+     *
+     * @param playerName 플레이어 이름
+     * @return 사용자 (없으면 null)
+     */
+    private UserService findUser(String playerName) {
+        for (int i = 0; i < UserVec.size(); i++) {
+            UserService user = UserVec.get(i);
+            if (user.UserName.equals(playerName)) {
+                return user;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * /resume 요청 처리 (AcceptServer에서 호출)
+     * 토큰이 맞으면 기존 UserService가 새 연결을 넘겨받아 클라이언트가 마지막으로 받은 순번 이후의 메시지만 다시 보냅니다.
+     * - 서버가 이미 끊김을 알아챈 경우: ReconnectionManager의 대기 시간 안이어야 함
+     * - 클라이언트가 먼저 끊김을 알아챈 경우 (와이파이 순단 등으로 서버 쪽 이전 소켓이 아직 반쯤 열려 있음):
+     *   이전 연결을 닫고 바로 넘겨받음
+     * 판단과 인계는 세션 잠금 안에서 한 번에 하므로, 이전 연결의 수신 스레드가 동시에 끊김을 처리해도 어긋나지 않습니다.
+     *
+     * @param handshake /resume 요청을 받은 연결
+     * @return 실패 사유 (성공하면 null)
+     */
+    private String resumeSession(UserService handshake) {
+        UserService user = findUser(handshake.UserName);
+        if (user == null || user.session == null) {
+            return "이어갈 세션이 없습니다.";
+        }
+        if (!user.session.matches(handshake.resumeToken)) {
+            return "세션 토큰이 일치하지 않습니다.";
+        }
+
+        int replayed;
+        boolean takeover;
+        synchronized (user.session) {
+            if (user.session.isClosed()) {
+                return "세션이 종료되는 중입니다.";
+            }
+            long replayCursor;
+            takeover = !user.detached;
+            if (takeover) {
+                user.closeConnection();
+                replayCursor = user.session.getLastSeq();
+            } else {
+                ReconnectionResult result = reconnectionManager.attemptReconnection(user.UserName);
+                if (!result.isSuccess()) {
+                    return result.getMessage();
+                }
+                replayCursor = result.getState().getReplayCursor();
+            }
+            replayed = user.resume(handshake, replayCursor);
+        }
+
+        if (replayed < 0 && gameStarted) {
+            // 놓친 메시지가 보관 범위를 넘음: 상태 요약으로 대신함
+            sendGameStateSummary(user, Boolean.TRUE.equals(aliveStatus.get(user.UserName)));
+        }
+        AppendText("[Session] " + user.UserName + (takeover ? " 이전 연결을 넘겨받아" : "") + " 재접속, 놓친 메시지 "
+                + (replayed < 0 ? "보관 범위 초과 (상태 요약 전송)" : replayed + "개 재전송"));
+        if (!takeover) {
+            WriteAll("SYSTEM: [" + user.UserName + "]님이 다시 연결되었습니다.\n");
+        }
+        return null;
+    }
+
+    /**
+     * 재접속 실패가 다시 시도할 만한지 (같은 이름의 세션이 있고 토큰도 맞음)
+     * 세션이 정리되는 중이거나 대기 시간이 막 지난 경우로, 다음 시도에서는 재개되거나 새 세션으로 입장합니다.
+     *
+     * @param handshake /resume 요청을 받은 연결
+     * @return 다시 시도할 수 있으면 true
+     */
+    private boolean isResumeRetryable(UserService handshake) {
+        UserService user = findUser(handshake.UserName);
+        return user != null && user.session != null && user.session.matches(handshake.resumeToken);
+    }
+
+    /**
+     * 재접속 시간 안에 돌아오지 않은 복구 플레이어 처리 (사망 처리 후 재개 조건 확인)
+     *
+     * @param playerName 플레이어 이름
+     */
+    private void forfeitRecoveredPlayer(String playerName) {
+        synchronized (gameStateLock) {
+            if (!recoveryAwaiting.remove(playerName)) {
+                return;
+            }
+
+            if (Boolean.TRUE.equals(aliveStatus.get(playerName))) {
+                aliveStatus.put(playerName, false);
+                journal(JournalEventType.DEATH, playerName, null, "DISCONNECT");
+                WriteAll("SYSTEM: [" + playerName + "]님이 재접속하지 않아 탈락했습니다.\n");
+            }
+            AppendText("[Recovery] " + playerName + " 재접속 시간 초과");
+
+            if (recoveryAwaiting.isEmpty()) {
+                resumeRecoveredGame();
+            }
+        }
+    }
+
+    /**
+     * 복구된 게임의 페이즈 재개 (남은 시간만큼 대기 후 다음 단계 실행)
+     * 복구 단계와 예약 단계를 게임 상태 잠금 안에서 넘겨, 그 사이 스냅샷에 둘 다 빠지지 않게 합니다.
+     */
+    private void resumeRecoveredGame() {
+        synchronized (gameStateLock) {
+            if (recoveryStartNanos == 0) {
+                return;
+            }
+
+            PhaseHandler step = recoveryStep;
+            long remaining = recoveryRemainingMillis;
+            recoveryStep = null;
+            lastRecoveryMillis = (System.nanoTime() - recoveryStartNanos) / 1_000_000;
+            recoveryStartNanos = 0;
+
+            AppendText("[Recovery] 게임 재개 (복구 소요 " + lastRecoveryMillis + "ms)");
+            WriteAll("SYSTEM: 게임을 재개합니다.\n");
+
+            if (step == PhaseHandler.PROCESS_VOTE) {
+                // 실시간 투표 표시는 다시 시작 (득표 집계는 스냅샷에서 복원됨)
+                Set<String> alive = new HashSet<>();
+                for (Map.Entry<String, Boolean> entry : aliveStatus.entrySet()) {
+                    if (entry.getValue()) {
+                        alive.add(entry.getKey());
+                    }
+                }
+                voteTracker.startVoting(alive, new HashSet<>(alive), (int) Math.max(1, remaining / 1000),
+                        mafia.game.features.VoteTracker.VoteMode.PUBLIC);
+                startVoteProgressUpdates();
+            }
+
+            if (step != null) {
+                schedulePhaseStep(step, remaining);
+            } else if (!checkGameEnd()) {
+                // 예약된 단계 없이 저장된 경우 (페이즈 처리 도중) 다음 밤부터 이어감
+                schedulePhaseStep(PhaseHandler.START_NIGHT, 0);
+            }
+        }
+    }
+
+    // ========================================
+    // 페이즈 단계 예약
+    // ========================================
+
+    /**
+     * 페이즈 단계 예약
+     * 다음 단계와 실행 시각을 기록해 두어, 스냅샷에 남은 시간을 저장하고 복구 시 이어갈 수 있게 합니다.
+     *
+     * @param step 실행할 단계
+     * @param delayMillis 대기 시간
+     */
+    private synchronized void schedulePhaseStep(PhaseHandler step, long delayMillis) {
+        long generation = ++phaseGeneration;
+        pendingStep = step;
+        pendingStepDeadline = clock.currentTimeMillis() + delayMillis;
+        markRoomDirty();
+
+        Runnable body = phaseStepBody(step);
+        pendingTask = clock.schedule(() -> runScheduledStep(generation, step, body), delayMillis);
+    }
+
+    /**
+     * 예약된 단계 실행 (그 사이 다시 예약되었거나 게임이 초기화되었으면 무시)
+     *
+     * @param generation 예약 당시 세대
+     * @param step 단계
+     * @param body 실행 본문
+     */
+    private void runScheduledStep(long generation, PhaseHandler step, Runnable body) {
+        synchronized (this) {
+            if (generation != phaseGeneration) {
+                return;
+            }
+            pendingStep = null;
+            pendingTask = null;
+        }
+        runPhaseHandler(step, body);
+    }
+
+    /**
+     * 예약된 단계 취소 (게임 종료/초기화 시)
+     */
+    private synchronized void cancelPendingStep() {
+        phaseGeneration++;
+        pendingStep = null;
+        if (pendingTask != null) {
+            pendingTask.cancel();
+            pendingTask = null;
+        }
+    }
+
+    // ========================================
+    // 조기 진행
+    // ========================================
+
+    /**
+     * 현재 페이즈에 필요한 입력이 모두 모였으면 유예 시간 뒤로 다음 단계를 당김
+     * 입력이 모자라면 기존 타이머가 그대로 다음 단계를 실행합니다.
+     */
+    private void checkPhaseInputsComplete() {
+        PhaseHandler step = pendingStep;
+        if (phaseGraceMillis < 0 || step == null || !requiredInputsComplete(step)) {
+            return;
+        }
+
+        synchronized (this) {
+            // 그 사이 다른 단계로 넘어갔거나 이미 유예 시간 안이면 그대로 둠
+            if (pendingStep != step || pendingStepDeadline - clock.currentTimeMillis() <= phaseGraceMillis) {
+                return;
+            }
+            if (pendingTask != null && !pendingTask.cancel()) {
+                return;
+            }
+            schedulePhaseStep(step, phaseGraceMillis);
+        }
+
+        AppendText("[Phase] " + step.getHandlerName() + " 입력 완료 - " + phaseGraceMillis + "ms 후 진행");
+        WriteAll("SYSTEM: 모두 선택을 마쳤습니다. 곧 다음 단계로 넘어갑니다.\n");
+    }
+
+    /**
+     * 단계 실행 전에 받아야 할 입력이 모두 모였는지
+     * - 밤 처리: 능력을 쓸 수 있는 생존자(유혹당하지 않은)의 역할별 밤 행동
+     * - 투표 처리: 투표 금지되지 않은 생존자 전원의 투표
+     * - 찬반 처리: 최후의 반론 대상자를 제외한 생존자 전원의 찬반 투표
+     *
+     * @param step 대기 중인 단계
+     * @return 모두 모였으면 true (입력을 기다리지 않는 단계는 false)
+     */
+    private boolean requiredInputsComplete(PhaseHandler step) {
+        switch (step) {
+            case PROCESS_NIGHT:
+                boolean unblessedDead = false;
+                for (Map.Entry<String, Boolean> entry : aliveStatus.entrySet()) {
+                    if (!entry.getValue() && !Boolean.TRUE.equals(blessedStatus.get(entry.getKey()))) {
+                        unblessedDead = true;
+                        break;
+                    }
+                }
+                for (UserService user : UserVec) {
+                    if (isAliveParticipant(user.UserName) && !Boolean.TRUE.equals(seduced.get(user.UserName))
+                            && GameRules.requiresNightAction(user.role, nightCount, priestUsed, unblessedDead)
+                            && !nightActions.containsKey(user.role)) {
+                        return false;
+                    }
+                }
+                return true;
+            case PROCESS_VOTE:
+                for (UserService user : UserVec) {
+                    if (isAliveParticipant(user.UserName) && !Boolean.TRUE.equals(voteBanned.get(user.UserName))
+                            && !hasVotedThisRound.contains(user.UserName)) {
+                        return false;
+                    }
+                }
+                return true;
+            case PROCESS_FINAL_DECISION:
+                for (UserService user : UserVec) {
+                    if (isAliveParticipant(user.UserName) && !user.UserName.equals(finalDefensePlayer)
+                            && !hasVotedFinalDecision.contains(user.UserName)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 게임에 참가 중인 생존 플레이어 여부
+     *
+     * @param name 플레이어 이름
+     * @return 생존 여부
+     */
+    private boolean isAliveParticipant(String name) {
+        return Boolean.TRUE.equals(aliveStatus.get(name));
+    }
+
+    /**
+     * 단계별 실행 본문
+     *
+     * @param step 단계
+     * @return 실행 본문
+     */
+    private Runnable phaseStepBody(PhaseHandler step) {
+        switch (step) {
+            case START_GAME:
+                return this::startGame;
+            case START_NIGHT:
+                return this::startNightPhase;
+            case PROCESS_NIGHT:
+                return () -> {
+                    processNightActions();
+                    schedulePhaseStep(PhaseHandler.START_DAY, 1000);
+                };
+            case START_DAY:
+                return this::startDayPhase;
+            case START_VOTE:
+                return this::startVotePhase;
+            case PROCESS_VOTE:
+                return this::processVoteResult;
+            case START_FINAL_DEFENSE:
+                return () -> startFinalDefensePhase(finalDefensePlayer);
+            case START_AGREE_DISAGREE:
+                return this::startAgreeDisagreeVote;
+            case PROCESS_FINAL_DECISION:
+                return this::processFinalDecision;
+            default:
+                throw new IllegalArgumentException("알 수 없는 단계: " + step);
+        }
+    }
+
     /**
      * 프레임 기본 설정 초기화
      */
     private void initializeFrame() {
-        setTitle("Mafia Game Server");
-        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        setBounds(100, 100, 600, 500);
+        frame = new JFrame();
+        frame.setTitle("Mafia Game Server");
+        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        frame.setBounds(100, 100, 600, 500);
     }
 
     /**
@@ -468,7 +1501,7 @@ public class MafiaGameServer extends JFrame {
         contentPane = new BackgroundPanel();
         contentPane.setBorder(new EmptyBorder(0, 0, 0, 0));
         contentPane.setLayout(new java.awt.BorderLayout());
-        setContentPane(contentPane);
+        frame.setContentPane(contentPane);
     }
 
     /**
@@ -562,6 +1595,10 @@ public class MafiaGameServer extends JFrame {
 
         centerPanel.add(scrollPane, java.awt.BorderLayout.CENTER);
 
+        // 최근 N줄만 유지하는 로그 콘솔을 로거 출력 대상으로 연결
+        logConsole = new BoundedLogConsole(textArea, config.getInt("log.console.maxLines", MAX_LOG_LINES));
+        logger.addSink(logConsole);
+
         // 로그 제목
         JLabel logLabel = new JLabel("Server Logs");
         logLabel.setFont(new java.awt.Font("SansSerif", java.awt.Font.BOLD, 14));
@@ -649,9 +1686,28 @@ public class MafiaGameServer extends JFrame {
         JButton btnServerStart = new JButton("Start Server");
         styleButton(btnServerStart, accentColor, textColor);
 
-        btnServerStart.addActionListener(new ActionListener() {
-            public void actionPerformed(ActionEvent e) {
-                startServer(btnServerStart);
+        btnServerStart.addActionListener(new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                int port;
+                try {
+                    port = Integer.parseInt(txtPortNumber.getText().trim());
+                } catch (NumberFormatException ex) {
+                    AppendText("[Error] Invalid port number.");
+                    return;
+                }
+                if (!startServer(port)) {
+                    return;
+                }
+
+                // UI 업데이트
+                btnServerStart.setText("Server Running");
+                btnServerStart.setEnabled(false);
+                btnServerStart.setBackground(new java.awt.Color(39, 174, 96));
+                txtPortNumber.setEnabled(false);
+
+                // 서버 상태를 Online으로 변경
+                statusLabel.setText("● Online");
+                statusLabel.setForeground(new java.awt.Color(0, 255, 0));
             }
         });
 
@@ -660,34 +1716,60 @@ public class MafiaGameServer extends JFrame {
 
     /**
      * 서버 시작 로직
+     * 포트를 바인딩하고 클라이언트 수락 스레드를 시작합니다.
      *
-     * @param btnServerStart 서버 시작 버튼
+     * @param port 포트 번호
+     * @return 시작 성공 여부
      */
-    private void startServer(JButton btnServerStart) {
+    private boolean startServer(int port) {
         try {
             // 포트 번호로 서버 소켓 생성
-            socket = new ServerSocket(Integer.parseInt(txtPortNumber.getText()));
-        } catch (NumberFormatException | IOException e1) {
-            e1.printStackTrace();
-            AppendText("[Error] Port binding failed.");
-            return;
+            socket = new ServerSocket(port);
+        } catch (IOException e1) {
+            logger.error(LogCategory.SYSTEM, "[Error] Port binding failed: " + port + " (" + e1.getMessage() + ")");
+            return false;
         }
 
-        // UI 업데이트
-        AppendText("Mafia Game Server Running...");
-        btnServerStart.setText("Server Running");
-        btnServerStart.setEnabled(false);
-        btnServerStart.setBackground(new java.awt.Color(39, 174, 96));
-        txtPortNumber.setEnabled(false);
-        btnGameStart.setEnabled(true);
+        logger.info(LogCategory.SYSTEM, "Mafia Game Server Running... port=" + port
+                + (config.isHeadless() ? " mode=headless" : " mode=gui"));
+        setGameStartEnabled(true);
 
-        // 서버 상태를 Online으로 변경
-        statusLabel.setText("● Online");
-        statusLabel.setForeground(new java.awt.Color(0, 255, 0));
+        // 밸런스 도구가 내보낸 역할 구성 적용
+        loadRoleCompositions();
+
+        // 재시작 전 진행 중이던 게임 복구
+        recoverRoom();
 
         // 클라이언트 수락 스레드 시작
         AcceptServer accept_server = new AcceptServer();
         accept_server.start();
+        return true;
+    }
+
+    /**
+     * 역할 구성 파일 로드 (roles.file, 없으면 기본 구성 유지)
+     */
+    private void loadRoleCompositions() {
+        Path file = Paths.get(config.getString("roles.file", RoleComposer.DEFAULT_COMPOSITION_FILE));
+        try {
+            int loaded = roleComposer.loadCompositions(file);
+            if (loaded > 0) {
+                logger.info(LogCategory.SYSTEM, "[Balance] 역할 구성 " + loaded + "개 적용: " + file);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn(LogCategory.SYSTEM, "[Balance] 역할 구성 파일 무시, 기본 구성 사용 (" + file + "): " + e.getMessage());
+        }
+    }
+
+    /**
+     * 게임 시작 버튼 활성화 상태 변경 (헤드리스 모드에서는 무시)
+     *
+     * @param enabled 활성화 여부
+     */
+    private void setGameStartEnabled(boolean enabled) {
+        if (btnGameStart != null) {
+            SwingUtilities.invokeLater(() -> btnGameStart.setEnabled(enabled));
+        }
     }
 
     /**
@@ -708,7 +1790,7 @@ public class MafiaGameServer extends JFrame {
                     WriteAll("SYSTEM: 최소 4명 이상 필요합니다.\n");
                     return;
                 }
-                startGame();
+                runPhaseHandler(PhaseHandler.START_GAME, () -> startGame());
             }
         });
 
@@ -793,7 +1875,23 @@ public class MafiaGameServer extends JFrame {
         // 게임 상태 초기화
         gameStarted = true;
         dayCount = 0;
-        btnGameStart.setEnabled(false);
+
+        // 지난 게임 리플레이가 새 게임 채팅에 섞이지 않도록 중지
+        for (int i = 0; i < UserVec.size(); i++) {
+            UserVec.get(i).stopReplay();
+        }
+        setGameStartEnabled(false);
+
+        // 게임 시드 결정 (용도별 하위 스트림은 항상 같은 순서로 분리)
+        GameRandom gameRandom = GameRandom.newGame();
+        roleRandom = gameRandom.split();
+        eventRandom = gameRandom.split();
+
+        // 게임 저널 시작 (시드를 함께 기록하여 재현 가능)
+        openJournal();
+        journal(JournalEventType.GAME_START, null, null,
+                "players=" + UserVec.size() + " seed=" + gameRandom.getSeed());
+        AppendText("게임 시드: " + gameRandom.getSeed());
 
         AppendText("===== 게임 시작! =====");
         AppendText("참가자 수: " + UserVec.size());
@@ -870,14 +1968,7 @@ public class MafiaGameServer extends JFrame {
         WriteAll("SYSTEM: \n");
 
         // 3초 후 산타의 선물 발표
-        new Thread(() -> {
-            try {
-                Thread.sleep(3000);
-                giveSantaGift();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }).start();
+        clock.schedule(this::giveSantaGift, 3000);
     }
 
     /**
@@ -889,8 +1980,7 @@ public class MafiaGameServer extends JFrame {
         }
 
         // 랜덤 플레이어 선택
-        Random rand = new Random();
-        UserService luckyPlayer = UserVec.get(rand.nextInt(UserVec.size()));
+        UserService luckyPlayer = UserVec.get(eventRandom.nextInt(UserVec.size()));
         santaGiftReceiver = luckyPlayer.UserName;
 
         AppendText("🎁 산타가 " + santaGiftReceiver + "님에게 선물을 주었습니다! (2표 스킬)");
@@ -925,14 +2015,7 @@ public class MafiaGameServer extends JFrame {
      * 밤 페이즈 시작 예약
      */
     private void scheduleNightPhaseStart() {
-        new Thread(() -> {
-            try {
-                Thread.sleep(2000);
-                startNightPhase();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }).start();
+        schedulePhaseStep(PhaseHandler.START_NIGHT, 2000);
     }
 
     /**
@@ -943,16 +2026,16 @@ public class MafiaGameServer extends JFrame {
         int playerCount = UserVec.size();
 
         // 플레이어 수 제한 확인
-        if (playerCount > 8) {
+        if (playerCount > RoleComposer.MAX_PLAYERS) {
             handleTooManyPlayers();
             return;
         }
 
         // 역할 리스트 생성
-        List<String> roles = createRoleList(playerCount);
+        List<String> roles = roleComposer.compose(playerCount, roleRandom);
 
         // 역할 섞기
-        Collections.shuffle(roles);
+        roleRandom.shuffle(roles);
 
         // 역할 배정 및 전송
         distributeRoles(roles);
@@ -965,177 +2048,7 @@ public class MafiaGameServer extends JFrame {
         AppendText("최대 8명까지만 게임 가능합니다!");
         WriteAll("SYSTEM: 최대 8명까지만 게임 가능합니다.\n");
         gameStarted = false;
-        btnGameStart.setEnabled(true);
-    }
-
-    /**
-     * 플레이어 수에 따른 역할 리스트 생성
-     *
-     * @param playerCount 플레이어 수
-     * @return 역할 리스트
-     */
-    private List<String> createRoleList(int playerCount) {
-        List<String> roles = new ArrayList<>();
-
-        switch (playerCount) {
-            case 4:
-                roles = createRolesFor4Players();
-                break;
-            case 5:
-                roles = createRolesFor5Players();
-                break;
-            case 6:
-                roles = createRolesFor6Players();
-                break;
-            case 7:
-                roles = createRolesFor7Players();
-                break;
-            case 8:
-                roles = createRolesFor8Players();
-                break;
-        }
-
-        return roles;
-    }
-
-    /**
-     * 4명용 역할 구성
-     * 마피아1, 의사1, 경찰1, 시민1
-     *
-     * @return 역할 리스트
-     */
-    private List<String> createRolesFor4Players() {
-        List<String> roles = new ArrayList<>();
-        roles.add("MAFIA");
-        roles.add("DOCTOR");
-        roles.add("POLICE");
-        roles.add("CITIZEN");
-        return roles;
-    }
-
-    /**
-     * 5명용 역할 구성
-     * 마피아2, 의사1, 경찰1, 정치인 또는 군인 1 (랜덤)
-     *
-     * @return 역할 리스트
-     */
-    private List<String> createRolesFor5Players() {
-        List<String> roles = new ArrayList<>();
-        roles.add("MAFIA");
-        roles.add("MAFIA");
-        roles.add("DOCTOR");
-        roles.add("POLICE");
-
-        // 정치인 또는 군인 중 랜덤 선택
-        if (Math.random() < 0.5) {
-            roles.add("POLITICIAN");
-        } else {
-            roles.add("SOLDIER");
-        }
-
-        return roles;
-    }
-
-    /**
-     * 6명용 역할 구성
-     * 마피아1, 보조1(스파이 또는 마담), 의사1, 경찰1, 특�� 2명
-     *
-     * @return 역할 리스트
-     */
-    private List<String> createRolesFor6Players() {
-        List<String> roles = new ArrayList<>();
-        roles.add("MAFIA");
-
-        // 마피아 보조 직업 중 하나 랜덤 선택
-        addRandomMafiaSupporter(roles);
-
-        roles.add("DOCTOR");
-        roles.add("POLICE");
-        roles.add("POLITICIAN");
-        roles.add("SOLDIER");
-
-        return roles;
-    }
-
-    /**
-     * 7명용 역할 구성
-     * 마피아1, 보조1(스파이 또는 마담), 의사1, 경찰1, 특직 3명
-     *
-     * @return 역할 리스트
-     */
-    private List<String> createRolesFor7Players() {
-        List<String> roles = new ArrayList<>();
-        roles.add("MAFIA");
-
-        // 마피아 보조 직업 중 하나 랜덤 선택
-        addRandomMafiaSupporter(roles);
-
-        roles.add("DOCTOR");
-        roles.add("POLICE");
-        roles.add("POLITICIAN");
-        roles.add("SOLDIER");
-        roles.add("SHAMAN");
-
-        return roles;
-    }
-
-    /**
-     * 8명용 역할 구성
-     * 마피아2, 보조1(스파이 또는 마담), 의사1, 경찰1, 특직 3명
-     *
-     * @return 역할 리스트
-     */
-    private List<String> createRolesFor8Players() {
-        List<String> roles = new ArrayList<>();
-        roles.add("MAFIA");
-        roles.add("MAFIA");
-
-        // 마피아 보조 직업 중 하나 랜덤 선택
-        addRandomMafiaSupporter(roles);
-
-        roles.add("DOCTOR");
-        roles.add("POLICE");
-
-        // 특수 직업 7개 중 3개 랜덤 선택
-        addRandomSpecialRoles(roles, 3);
-
-        return roles;
-    }
-
-    /**
-     * 마피아 보조 직업 랜덤 추가 (스파이 또는 마담)
-     *
-     * @param roles 역할 리스트
-     */
-    private void addRandomMafiaSupporter(List<String> roles) {
-        if (Math.random() < 0.5) {
-            roles.add("SPY");
-        } else {
-            roles.add("MADAME");
-        }
-    }
-
-    /**
-     * 특수 직업 랜덤 추가
-     *
-     * @param roles 역할 리스트
-     * @param count 추가할 개수
-     */
-    private void addRandomSpecialRoles(List<String> roles, int count) {
-        List<String> specialRoles = new ArrayList<>();
-        specialRoles.add("POLITICIAN");
-        specialRoles.add("REPORTER");
-        specialRoles.add("SOLDIER");
-        specialRoles.add("SHAMAN");
-        specialRoles.add("GHOUL");
-        specialRoles.add("GANGSTER");
-        specialRoles.add("PRIEST");
-
-        Collections.shuffle(specialRoles);
-
-        for (int i = 0; i < count && i < specialRoles.size(); i++) {
-            roles.add(specialRoles.get(i));
-        }
+        setGameStartEnabled(true);
     }
 
     /**
@@ -1150,6 +2063,7 @@ public class MafiaGameServer extends JFrame {
 
             // 역할 설정
             user.setRole(role);
+            journal(JournalEventType.ROLE_ASSIGNED, user.UserName, null, role);
 
             // 역할별 초기화 처리
             initializeRoleSpecificData(user, role);
@@ -1291,7 +2205,7 @@ public class MafiaGameServer extends JFrame {
         // 날짜 및 밤 카운트 증가
         dayCount++;
         nightCount++;
-        gamePhase = "NIGHT";
+        enterPhase("NIGHT");
 
         // 상태 초기화
         resetNightPhaseStatus();
@@ -1332,17 +2246,8 @@ public class MafiaGameServer extends JFrame {
      * 밤 페이즈 종료 예약
      */
     private void scheduleNightPhaseEnd() {
-        new Thread(() -> {
-            try {
-                // 30초 대기
-                Thread.sleep(30000);
-                processNightActions();
-                Thread.sleep(1000);
-                startDayPhase();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }).start();
+        // 30초 후 밤 행동 처리, 1초 뒤 낮 시작
+        schedulePhaseStep(PhaseHandler.PROCESS_NIGHT, 30000);
     }
 
 
@@ -1352,6 +2257,10 @@ public class MafiaGameServer extends JFrame {
      * 마피아의 공격, 의사의 보호, 경찰의 조사 등을 처리합니다.
      */
     private void processNightActions() {
+        NightResolutionEvent event = new NightResolutionEvent();
+        int aliveBefore = event.isEnabled() ? countAlivePlayers() : 0;
+        event.begin();
+
         // 행동 데이터 수집
         String mafiaTarget = nightActions.get("MAFIA");
         String doctorTarget = nightActions.get("DOCTOR");
@@ -1362,14 +2271,28 @@ public class MafiaGameServer extends JFrame {
         // 로그 출력
         logNightActions(mafiaTarget, doctorTarget, policeTarget, spyTarget, gangsterTarget);
 
+        // 판정은 시뮬레이터와 같은 GameRules.resolveNight 사용, 여기서는 결과만 적용
+        GameRules.NightResult<String> result = GameRules.resolveNight(roomView, nightActions);
+
         // 건달의 투표 금지 처리
-        processGangsterAction(gangsterTarget);
+        processGangsterAction(result.getVoteBanned());
 
         // 마피아의 공격 처리
-        processMafiaAttack(mafiaTarget, doctorTarget);
+        processMafiaAttack(result);
 
         // 도굴꾼 능력 처리 (첫날 밤)
         processGhoulAbility();
+
+        event.end();
+        if (event.shouldCommit()) {
+            int aliveAfter = countAlivePlayers();
+            event.night = nightCount;
+            event.actions = nightActions.size();
+            event.mafiaAttacked = mafiaTarget != null;
+            event.deaths = Math.max(0, aliveBefore - aliveAfter);
+            event.alivePlayers = aliveAfter;
+            event.commit();
+        }
     }
 
     /**
@@ -1393,6 +2316,7 @@ public class MafiaGameServer extends JFrame {
     private void processGangsterAction(String gangsterTarget) {
         if (gangsterTarget != null) {
             voteBanned.put(gangsterTarget, true);
+            journal(JournalEventType.VOTE_BAN, null, gangsterTarget, null);
             AppendText(gangsterTarget + " 다음 투표 금지됨");
         }
     }
@@ -1400,48 +2324,32 @@ public class MafiaGameServer extends JFrame {
     /**
      * 마피아의 공격 처리
      *
-     * @param mafiaTarget  마피아의 타겟
-     * @param doctorTarget 의사가 보호한 타겟
+     * @param result 밤 행동 판정 결과
      */
-    private void processMafiaAttack(String mafiaTarget, String doctorTarget) {
+    private void processMafiaAttack(GameRules.NightResult<String> result) {
+        String mafiaTarget = result.getAttackTarget();
         if (mafiaTarget == null) {
             return;
         }
 
-        // 의사의 보호 확인
-        boolean savedByDoctor = mafiaTarget.equals(doctorTarget);
-
-        // 군인의 방어막 확인
-        boolean savedBySoldier = checkSoldierDefense(mafiaTarget);
-
-        if (savedByDoctor) {
-            handleDoctorSave(mafiaTarget);
-        } else if (savedBySoldier) {
-            handleSoldierDefense(mafiaTarget);
-        } else {
-            handlePlayerDeath(mafiaTarget);
+        // 군인의 방어막은 공격받으면 소모
+        if (result.isShieldConsumed()) {
+            soldierShield.put(mafiaTarget, false);
+            if (Boolean.TRUE.equals(seduced.get(mafiaTarget))) {
+                AppendText(mafiaTarget + " 군인이지만 유혹당해 방어막 무효화");
+            }
         }
-    }
-
-    /**
-     * 군인의 방어막 확인
-     *
-     * @param target 대상 플레이어
-     * @return 방어막으로 보호되었는지 여부
-     */
-    private boolean checkSoldierDefense(String target) {
-        // 유혹당한 경우 확인
-        boolean soldierSeduced = seduced.get(target) != null && seduced.get(target);
 
-        if (soldierShield.containsKey(target) && soldierShield.get(target) && !soldierSeduced) {
-            soldierShield.put(target, false);
-            return true;
-        } else if (soldierShield.containsKey(target) && soldierShield.get(target) && soldierSeduced) {
-            soldierShield.put(target, false);
-            AppendText(target + " 군인이지만 유혹당해 방어막 무효화");
+        switch (result.getOutcome()) {
+            case SAVED_BY_DOCTOR:
+                handleDoctorSave(mafiaTarget);
+                break;
+            case SAVED_BY_SOLDIER:
+                handleSoldierDefense(mafiaTarget);
+                break;
+            default:
+                handlePlayerDeath(mafiaTarget, result.isGhoulTransforming());
         }
-
-        return false;
     }
 
     /**
@@ -1468,9 +2376,11 @@ public class MafiaGameServer extends JFrame {
      * 플레이어 사망 처리
      *
      * @param target 사망한 플레이어
+     * @param ghoulTransforming 도굴꾼이 사망자의 직업을 얻는지
      */
-    private void handlePlayerDeath(String target) {
+    private void handlePlayerDeath(String target, boolean ghoulTransforming) {
         aliveStatus.put(target, false);
+        journal(JournalEventType.DEATH, target, null, "MAFIA");
         WriteAll("SYSTEM: [" + target + "]님이 마피아에게 제거되었습니다.\n");
         playSound("/GameSound/Mafia_team/Mafia.wav");
         AppendText(target + " 사망");
@@ -1479,7 +2389,7 @@ public class MafiaGameServer extends JFrame {
         notifyPlayerDeath(target);
 
         // 도굴꾼 능력 처리 (아직 변신하지 않은 경우 언제든 가능)
-        if (!ghoulTransformed && !ghoulName.isEmpty()) {
+        if (ghoulTransforming) {
             processGhoulTransformation(target);
         }
     }
@@ -1511,6 +2421,7 @@ public class MafiaGameServer extends JFrame {
                     if (ghoulUser.UserName.equals(ghoulName)) {
                         ghoulUser.setRole(victimRole);
                         ghoulVictim = victim;
+                        journal(JournalEventType.ROLE_CHANGE, ghoulName, victim, victimRole);
 
                         // 클라이언트에 역할 변경 알림
                         ghoulUser.WriteOne("ROLE:" + victimRole + "\n");
@@ -1539,7 +2450,7 @@ public class MafiaGameServer extends JFrame {
      * 플레이어들이 토론하고 의견을 나누는 시간입니다.
      */
     private void startDayPhase() {
-        gamePhase = "DAY";
+        enterPhase("DAY");
 
         // 게임 종료 체크
         if (checkGameEnd()) {
@@ -1580,6 +2491,7 @@ public class MafiaGameServer extends JFrame {
         }
 
         aliveStatus.put(priestTarget, true);
+        journal(JournalEventType.REVIVE, priestTarget, null, "PRIEST");
         WriteAll("SYSTEM: [" + priestTarget + "]님이 성직자에 의해 부활했습니다!\n");
         AppendText("성직자가 " + priestTarget + " 부활 성공");
 
@@ -1587,7 +2499,7 @@ public class MafiaGameServer extends JFrame {
         for (UserService targetUser : UserVec) {
             if (targetUser.UserName.equals(priestTarget)) {
                 // 도굴꾼의 희생자인 경우 시민으로 변경 (도굴꾼이 실제로 직업을 가져간 경우만)
-                if (priestTarget.equals(ghoulVictim) && ghoulTransformed) {
+                if (GameRules.revivesAsCitizen(priestTarget.equals(ghoulVictim), ghoulTransformed)) {
                     reviveAsGhoulVictim(targetUser);
                 } else {
                     reviveAsOriginalRole(targetUser);
@@ -1606,6 +2518,7 @@ public class MafiaGameServer extends JFrame {
      */
     private void reviveAsGhoulVictim(UserService targetUser) {
         targetUser.setRole("CITIZEN");
+        journal(JournalEventType.ROLE_CHANGE, targetUser.UserName, null, "CITIZEN");
         targetUser.WriteOne("ROLE:CITIZEN\n");
         targetUser.WriteOne("SYSTEM: 성직자에 의해 부활했습니다!\n");
         targetUser.WriteOne("SYSTEM: 당신의 직업은 도굴꾼에게 빼앗겨 [시민]이 되었습니다.\n");
@@ -1638,14 +2551,7 @@ public class MafiaGameServer extends JFrame {
      * 낮 페이즈 종료 예약
      */
     private void scheduleDayPhaseEnd() {
-        new Thread(() -> {
-            try {
-                Thread.sleep(30000);
-                startVotePhase();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }).start();
+        schedulePhaseStep(PhaseHandler.START_VOTE, 30000);
     }
 
     /**
@@ -1653,7 +2559,7 @@ public class MafiaGameServer extends JFrame {
      * 플레이어들이 제거할 대상을 투표하는 시간입니다.
      */
     private void startVotePhase() {
-        gamePhase = "VOTE";
+        enterPhase("VOTE");
         voteCount.clear();
         hasVotedThisRound.clear();
 
@@ -1703,43 +2609,38 @@ public class MafiaGameServer extends JFrame {
      * 투표 진행 상황 실시간 업데이트
      */
     private void startVoteProgressUpdates() {
-        new Thread(() -> {
-            try {
-                while (voteTracker.isActive() && gamePhase.equals("VOTE")) {
-                    Thread.sleep(5000); // 5초마다 업데이트
-
-                    // 투표 현황 브로드캐스트
-                    String stats = voteTracker.getStatistics();
-
-                    // 투표 바 차트 전송
-                    List<String> barChart = voteTracker.getVoteBarChart(20);
-                    StringBuilder chartMsg = new StringBuilder();
-                    chartMsg.append(stats).append("\n");
-                    chartMsg.append("실시간 투표 현황:\n");
-                    for (String bar : barChart) {
-                        chartMsg.append("  ").append(bar).append("\n");
-                    }
-                    WriteAll("SYSTEM:" + chartMsg.toString());
-                }
-            } catch (InterruptedException e) {
-                // 투표 종료
-            }
-        }).start();
+        clock.schedule(this::broadcastVoteProgress, 5000); // 5초마다 업데이트
+    }
+
+    /**
+     * 투표 현황 브로드캐스트 (투표가 진행 중이면 5초 후 다시 예약)
+     */
+    private void broadcastVoteProgress() {
+        if (!voteTracker.isActive() || !gamePhase.equals("VOTE")) {
+            return;
+        }
+
+        // 투표 현황 브로드캐스트
+        String stats = voteTracker.getStatistics();
+
+        // 투표 바 차트 전송
+        List<String> barChart = voteTracker.getVoteBarChart(20);
+        StringBuilder chartMsg = new StringBuilder();
+        chartMsg.append(stats).append("\n");
+        chartMsg.append("실시간 투표 현황:\n");
+        for (String bar : barChart) {
+            chartMsg.append("  ").append(bar).append("\n");
+        }
+        WriteAll("SYSTEM:" + chartMsg.toString());
+
+        startVoteProgressUpdates();
     }
 
     /**
      * 투표 페이즈 종료 예약
      */
     private void scheduleVotePhaseEnd() {
-        new Thread(() -> {
-            try {
-                // 20초 대기
-                Thread.sleep(20000);
-                processVoteResult();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }).start();
+        schedulePhaseStep(PhaseHandler.PROCESS_VOTE, 20000);
     }
 
 
@@ -1767,13 +2668,24 @@ public class MafiaGameServer extends JFrame {
         WriteAll("SYSTEM:" + finalMsg.toString());
 
         // 최다 득표자 찾기
-        VoteResult result = findMaxVotedPlayer();
+        GameRules.PluralityResult result = GameRules.plurality(voteCount);
+
+        VoteResolutionEvent event = new VoteResolutionEvent();
+        if (event.shouldCommit()) {
+            event.stage = "PLURALITY";
+            event.day = dayCount;
+            event.target = result.getMaxVotedPlayer();
+            event.votesFor = result.getMaxVotes();
+            event.tie = result.isTie();
+            event.eliminated = false;
+            event.commit();
+        }
 
         // 투표 결과 출력
         displayVoteResults();
 
         // 동점 또는 투표 없음 처리
-        if (result.isTie || result.maxVotes == 0) {
+        if (!result.hasCandidate()) {
             handleNoElimination();
             // 게임 종료 체크
             if (checkGameEnd()) {
@@ -1783,46 +2695,8 @@ public class MafiaGameServer extends JFrame {
             scheduleNextNightPhase();
         } else {
             // 최후의 반론 페이즈 시작
-            startFinalDefensePhase(result.maxVotedPlayer);
-        }
-    }
-
-    /**
-     * 투표 결과 데이터 클래스
-     */
-    private class VoteResult {
-        String maxVotedPlayer;
-        int maxVotes;
-        boolean isTie;
-
-        VoteResult(String player, int votes, boolean tie) {
-            this.maxVotedPlayer = player;
-            this.maxVotes = votes;
-            this.isTie = tie;
-        }
-    }
-
-    /**
-     * 최다 득표자 찾기
-     *
-     * @return 투표 결과
-     */
-    private VoteResult findMaxVotedPlayer() {
-        String maxVotedPlayer = null;
-        int maxVotes = 0;
-        boolean tie = false;
-
-        for (Map.Entry<String, Integer> entry : voteCount.entrySet()) {
-            if (entry.getValue() > maxVotes) {
-                maxVotes = entry.getValue();
-                maxVotedPlayer = entry.getKey();
-                tie = false;
-            } else if (entry.getValue() == maxVotes && maxVotes > 0) {
-                tie = true;
-            }
+            runPhaseHandler(PhaseHandler.START_FINAL_DEFENSE, () -> startFinalDefensePhase(result.getMaxVotedPlayer()));
         }
-
-        return new VoteResult(maxVotedPlayer, maxVotes, tie);
     }
 
     /**
@@ -1847,16 +2721,15 @@ public class MafiaGameServer extends JFrame {
      * 플레이어 제거 처리
      *
      * @param eliminatedPlayer 제거될 플레이어
+     * @param verdict 찬반 투표 판정 (SPARED가 아님)
      */
-    private void handleElimination(String eliminatedPlayer) {
+    private void handleElimination(String eliminatedPlayer, GameRules.Verdict verdict) {
         // 역할 확인
         String eliminatedRole = getPlayerRole(eliminatedPlayer);
-        boolean isPolitician = eliminatedRole.equals("POLITICIAN");
-        boolean politicianSeduced = seduced.get(eliminatedPlayer) != null && seduced.get(eliminatedPlayer);
 
-        if (isPolitician && !politicianSeduced) {
+        if (verdict == GameRules.Verdict.SURVIVED_AS_POLITICIAN) {
             handlePoliticianSurvival(eliminatedPlayer);
-        } else if (isPolitician && politicianSeduced) {
+        } else if (eliminatedRole.equals("POLITICIAN")) {
             handlePoliticianElimination(eliminatedPlayer);
         } else {
             handleNormalElimination(eliminatedPlayer, eliminatedRole);
@@ -1895,6 +2768,7 @@ public class MafiaGameServer extends JFrame {
      */
     private void handlePoliticianElimination(String playerName) {
         aliveStatus.put(playerName, false);
+        journal(JournalEventType.DEATH, playerName, null, "VOTE");
 
         for (UserService user : UserVec) {
             if (user.UserName.equals(playerName)) {
@@ -1914,6 +2788,7 @@ public class MafiaGameServer extends JFrame {
      */
     private void handleNormalElimination(String playerName, String role) {
         aliveStatus.put(playerName, false);
+        journal(JournalEventType.DEATH, playerName, null, "VOTE");
 
         // 사망 알림
         for (UserService user : UserVec) {
@@ -1936,7 +2811,7 @@ public class MafiaGameServer extends JFrame {
      * @param targetPlayer 투표로 선택된 플레이어
      */
     private void startFinalDefensePhase(String targetPlayer) {
-        gamePhase = "FINAL_DEFENSE";
+        enterPhase("FINAL_DEFENSE");
         finalDefensePlayer = targetPlayer;
 
         AppendText("===== 최후의 반론 시작 =====");
@@ -1945,21 +2820,14 @@ public class MafiaGameServer extends JFrame {
         WriteAll("SYSTEM: [" + targetPlayer + "]님의 최후의 반론 시간입니다. (15초)\n");
 
         // 15초 후 찬반 투표 시작
-        new Thread(() -> {
-            try {
-                Thread.sleep(15000);
-                startAgreeDisagreeVote();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }).start();
+        schedulePhaseStep(PhaseHandler.START_AGREE_DISAGREE, 15000);
     }
 
     /**
      * 찬반 투표 시작
      */
     private void startAgreeDisagreeVote() {
-        gamePhase = "AGREE_DISAGREE";
+        enterPhase("AGREE_DISAGREE");
         agreeVotes = 0;
         disagreeVotes = 0;
         hasVotedFinalDecision.clear();
@@ -1981,14 +2849,7 @@ public class MafiaGameServer extends JFrame {
         }
 
         // 5초 후 찬반 투표 결과 처리
-        new Thread(() -> {
-            try {
-                Thread.sleep(5000);
-                processFinalDecision();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }).start();
+        schedulePhaseStep(PhaseHandler.PROCESS_FINAL_DECISION, 5000);
     }
 
     /**
@@ -2010,13 +2871,32 @@ public class MafiaGameServer extends JFrame {
 
         AppendText("=== 찬반 투표 결과 ===");
         AppendText("찬성: " + agreeVotes + "표, 반대: " + disagreeVotes + "표");
+
+        // 판정은 시뮬레이터와 같은 GameRules.resolveFinalDecision 사용
+        GameRules.Verdict verdict = GameRules.resolveFinalDecision(roomView, finalDefensePlayer, agreeVotes, disagreeVotes);
+        boolean executed = verdict != GameRules.Verdict.SPARED;
+
+        VoteResolutionEvent event = new VoteResolutionEvent();
+        if (event.shouldCommit()) {
+            event.stage = "FINAL_DECISION";
+            event.day = dayCount;
+            event.target = finalDefensePlayer;
+            event.votesFor = agreeVotes;
+            event.votesAgainst = disagreeVotes;
+            event.tie = agreeVotes == disagreeVotes;
+            event.eliminated = executed;
+            event.commit();
+        }
         WriteAll("SYSTEM: 찬성 " + agreeVotes + "표, 반대 " + disagreeVotes + "표\n");
 
+        journal(JournalEventType.FINAL_DECISION, null, finalDefensePlayer,
+                (executed ? "EXECUTE" : "SPARE") + " agree=" + agreeVotes + " disagree=" + disagreeVotes);
+
         // 찬성이 반대보다 많거나 동점이면 처형
-        if (agreeVotes >= disagreeVotes) {
+        if (executed) {
             WriteAll("SYSTEM: 찬성이 반대와 동점 이상입니다. [" + finalDefensePlayer + "]님이 처형됩니다.\n");
             AppendText(finalDefensePlayer + " 처형됨");
-            handleElimination(finalDefensePlayer);
+            handleElimination(finalDefensePlayer, verdict);
         } else {
             WriteAll("SYSTEM: 반대가 더 많습니다. [" + finalDefensePlayer + "]님이 살아남습니다.\n");
             AppendText(finalDefensePlayer + " 생존");
@@ -2037,14 +2917,7 @@ public class MafiaGameServer extends JFrame {
      * 다음 밤 페이즈 예약
      */
     private void scheduleNextNightPhase() {
-        new Thread(() -> {
-            try {
-                Thread.sleep(5000);
-                startNightPhase();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }).start();
+        schedulePhaseStep(PhaseHandler.START_NIGHT, 5000);
     }
 
     // ========================================
@@ -2057,54 +2930,71 @@ public class MafiaGameServer extends JFrame {
      * @return 게임이 종료되었는지 여부
      */
     private boolean checkGameEnd() {
-        int aliveCount = 0;
-        int mafiaCount = 0;
-        int citizenPower = 0;
+        // 생존자 집계 (시뮬레이터와 같은 GameRules.resolveWinner 사용)
+        GameRules.Standing standing = GameRules.resolveWinner(roomView);
 
-        // 생존자 집계
-        for (UserService user : UserVec) {
-            if (aliveStatus.get(user.UserName)) {
-                aliveCount++;
+        AppendText("생존자: " + standing.getAliveCount() + "명, 마피아: " + standing.getMafiaCount()
+                + "명, 시민팀 파워: " + standing.getCitizenPower());
 
-                if (isMafiaTeam(user)) {
-                    mafiaCount++;
-                } else {
-                    citizenPower += getPoliticianVotePower(user);
-                }
+        // 승리 조건 체크
+        switch (standing.getWinner()) {
+            case CITIZEN:
+                return handleCitizenVictory();
+            case MAFIA:
+                return handleMafiaVictory();
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 규칙 판정용 방 상태 조회 (GameRules의 페이즈 판정에 전달, gameStateLock 보유 상태에서 사용)
+     * 승리 조건은 접속 중인 플레이어(UserVec)만 집계합니다.
+     */
+    private class RoomView implements GameView<String> {
+        @Override
+        public Iterable<String> getPlayers() {
+            List<String> names = new ArrayList<>();
+            for (UserService user : UserVec) {
+                names.add(user.UserName);
             }
+            return names;
         }
 
-        AppendText("생존자: " + aliveCount + "명, 마피아: " + mafiaCount + "명, 시민팀 파워: " + citizenPower);
+        @Override
+        public String getRole(String player) {
+            return getPlayerRole(player);
+        }
 
-        // 승리 조건 체크
-        if (mafiaCount == 0) {
-            return handleCitizenVictory();
-        } else if (mafiaCount >= citizenPower) {
-            return handleMafiaVictory();
+        @Override
+        public boolean isAlive(String player) {
+            return Boolean.TRUE.equals(aliveStatus.get(player));
         }
 
-        return false;
-    }
+        @Override
+        public boolean hasShield(String player) {
+            return Boolean.TRUE.equals(soldierShield.get(player));
+        }
 
-    /**
-     * 마피아 팀 여부 확인
-     *
-     * @param user 사용자
-     * @return 마피아 팀 여부
-     */
-    private boolean isMafiaTeam(UserService user) {
-        return user.role.equals("MAFIA") || user.role.equals("SPY")
-                || (user.role.equals("MADAME") && madameContactedMafia);
-    }
+        @Override
+        public boolean isSeduced(String player) {
+            return Boolean.TRUE.equals(seduced.get(player));
+        }
 
-    /**
-     * 정치인 투표 파워 계산
-     *
-     * @param user 사용자
-     * @return 투표 파워
-     */
-    private int getPoliticianVotePower(UserService user) {
-        return user.role.equals("POLITICIAN") ? 2 : 1;
+        @Override
+        public boolean isMadameContacted() {
+            return madameContactedMafia;
+        }
+
+        @Override
+        public boolean isGhoulPresent() {
+            return !ghoulName.isEmpty();
+        }
+
+        @Override
+        public boolean isGhoulTransformed() {
+            return ghoulTransformed;
+        }
     }
 
     /**
@@ -2113,6 +3003,7 @@ public class MafiaGameServer extends JFrame {
      * @return true (게임 종료)
      */
     private boolean handleCitizenVictory() {
+        journal(JournalEventType.GAME_END, null, null, "CITIZEN");
         WriteAll("PHASE:END\n");
         WriteAll("SYSTEM: ===== 게임 종료 =====\n");
         WriteAll("SYSTEM: 승리 팀: 시민 팀\n");
@@ -2129,6 +3020,7 @@ public class MafiaGameServer extends JFrame {
      * @return true (게임 종료)
      */
     private boolean handleMafiaVictory() {
+        journal(JournalEventType.GAME_END, null, null, "MAFIA");
         WriteAll("PHASE:END\n");
         WriteAll("SYSTEM: ===== 게임 종료! 마피아 팀 승리! =====\n");
         WriteAll("SYSTEM: 마피아가 시민 팀과 같거나 많아졌습니다!\n");
@@ -2143,7 +3035,13 @@ public class MafiaGameServer extends JFrame {
      */
     private void resetGameState() {
         gameStarted = false;
-        btnGameStart.setEnabled(true);
+        cancelPendingStep();
+        recoveredRoles.clear();
+        recoveredTokenHashes.clear();
+        markRoomDirty();
+        closeJournal();
+        setGameStartEnabled(true);
+        AppendText(latencyTracker.formatReport());
     }
 
     /**
@@ -2161,69 +3059,25 @@ public class MafiaGameServer extends JFrame {
     // ========================================
 
     /**
-     * 사운드 재생
+     * 사운드 재생 (미리 디코딩된 PCM을 오디오 스레드가 재생, 이전 사운드는 중지)
      *
      * @param filePath 사운드 파일 경로
      */
     private void playSound(String filePath) {
-        if (filePath == null || filePath.isEmpty()) {
+        // 헤드리스 서버에는 오디오 장치가 없음
+        if (config.isHeadless()) {
             return;
         }
-
-        // 이전 사운드 중지
-        stopCurrentSound();
-
-        new Thread(() -> {
-            try {
-                InputStream soundStream = getClass().getResourceAsStream(filePath);
-                if (soundStream == null) {
-                    System.err.println("Sound file not found: " + filePath);
-                    return;
-                }
-                InputStream bufferedStream = new BufferedInputStream(soundStream);
-
-                AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(bufferedStream);
-                currentClip = AudioSystem.getClip();
-                currentClip.open(audioInputStream);
-                currentClip.start();
-
-                System.out.println("Playing sound: " + filePath);
-
-                // 사운드 종료 리스너
-                currentClip.addLineListener(event -> {
-                    if (event.getType() == LineEvent.Type.STOP) {
-                        currentClip.close();
-                        try {
-                            audioInputStream.close();
-                        } catch (IOException e) {
-                            e.printStackTrace();
-                        }
-                    }
-                });
-            } catch (UnsupportedAudioFileException e) {
-                System.err.println("Audio format not supported: " + filePath);
-            } catch (Exception e) {
-                System.err.println("Error playing sound: " + filePath + " - " + e.getMessage());
-            }
-        }).start();
-    }
-
-    /**
-     * 현재 사운드 중지
-     */
-    private void stopCurrentSound() {
-        if (currentClip != null && currentClip.isRunning()) {
-            currentClip.stop();
-            currentClip.close();
-            currentClip = null;
-        }
+        SoundEngine.getInstance().play(filePath);
     }
 
     /**
      * 사운드 중지 (public 메소드)
      */
     private void stopSound() {
-        stopCurrentSound();
+        if (!config.isHeadless()) {
+            SoundEngine.getInstance().stop();
+        }
     }
 
     // ========================================
@@ -2278,11 +3132,51 @@ public class MafiaGameServer extends JFrame {
 
                     // 클라이언트 연결 대기
                     client_socket = socket.accept();
+                    // 작은 프레임이 Nagle/지연 ACK에 묶이지 않도록 즉시 전송
+                    client_socket.setTcpNoDelay(true);
                     AppendText("새로운 플레이어 from " + client_socket);
 
                     // 사용자 서비스 생성 및 추가
                     UserService new_user = new UserService(client_socket);
+                    if (new_user.handshakeError != null) {
+                        AppendText("[Session] 접속 요청 거절: " + new_user.handshakeError);
+                        new_user.rejectHandshake(new_user.handshakeError, false);
+                        continue;
+                    }
+                    if (new_user.isResumeRequest()) {
+                        String failure = resumeSession(new_user);
+                        if (failure == null) {
+                            continue;
+                        }
+                        AppendText("[Session] " + new_user.UserName + " 세션 재개 실패: " + failure);
+                        if (findUser(new_user.UserName) != null) {
+                            // 토큰 없이 같은 이름의 플레이어 자리를 차지하지 못하도록 거절
+                            // (토큰이 맞는 세션이 정리되는 중이면 클라이언트가 다시 시도)
+                            new_user.rejectHandshake(failure, isResumeRetryable(new_user));
+                            continue;
+                        }
+                        // 이어갈 세션이 없으면 새로 입장 (서버 재시작 후 복구된 자리는 저장된 토큰 해시와 맞아야 함)
+                        String seatFailure = recoveredSeatFailure(new_user);
+                        if (seatFailure != null) {
+                            AppendText("[Recovery] " + new_user.UserName + " 접속 거절: " + seatFailure);
+                            new_user.rejectHandshake(seatFailure, false);
+                            continue;
+                        }
+                        try {
+                            new_user.writeControl("RESUME_FAILED:" + failure);
+                            new_user.beginSession();
+                        } catch (IOException e) {
+                            new_user.closeConnection();
+                            continue;
+                        }
+                    }
+                    if (new_user.session == null) {
+                        // 로그인 메시지를 읽지 못했거나 세션을 시작하지 못함 (스트림이 없을 수 있으므로 소켓을 직접 닫음)
+                        client_socket.close();
+                        continue;
+                    }
                     UserVec.add(new_user);
+                    reattachRecoveredPlayer(new_user);
 
                     // 플레이어 목록 업데이트
                     broadcastPlayerList();
@@ -2291,18 +3185,12 @@ public class MafiaGameServer extends JFrame {
                     // 사용자 서비스 스레드 시작
                     new_user.start();
 
-                    // 테스트 모드: 자동 게임 시작
-                    if (TEST_MODE && UserVec.size() == AUTO_START_PLAYER_COUNT && !gameStarted) {
-                        AppendText("[TEST MODE] " + AUTO_START_PLAYER_COUNT + "명 접속 완료! 자동으로 게임을 시작합니다.");
+                    // 테스트 모드 / 헤드리스 모드: 자동 게임 시작 (헤드리스에는 시작 버튼이 없음)
+                    int autoStartCount = config.isHeadless() ? config.getAutoStartPlayers() : AUTO_START_PLAYER_COUNT;
+                    if ((TEST_MODE || config.isHeadless()) && UserVec.size() == autoStartCount && !gameStarted) {
+                        AppendText("[AUTO START] " + autoStartCount + "명 접속 완료! 자동으로 게임을 시작합니다.");
                         // 약간의 딜레이 후 게임 시작 (플레이어들이 연결을 완료할 시간)
-                        new Thread(() -> {
-                            try {
-                                Thread.sleep(1000);
-                                startGame();
-                            } catch (InterruptedException e) {
-                                e.printStackTrace();
-                            }
-                        }).start();
+                        clock.schedule(() -> runPhaseHandler(PhaseHandler.START_GAME, () -> startGame()), 1000);
                     }
                 } catch (IOException e) {
                     AppendText("accept 에러 발생");
@@ -2317,23 +3205,68 @@ public class MafiaGameServer extends JFrame {
 
     /**
      * 로그 텍스트 추가
+     * 게임 진행 로그(INFO)로 비동기 로거에 전달하며, 호출 스레드는 기다리지 않습니다.
      *
      * @param str 로그 문자열
      */
     public void AppendText(String str) {
-        textArea.append(str + "\n");
-        textArea.setCaretPosition(textArea.getText().length());
+        logger.info(LogCategory.GAME, str);
+    }
+
+    /**
+     * 비공개 채팅 기록 (INFO에는 채널과 발신자/수신자만, 내용은 DEBUG 채팅 로그에만)
+     *
+     * @param header 채널과 발신자/수신자
+     * @param content 채팅 내용
+     */
+    private void logPrivateChat(String header, String content) {
+        AppendText(header + " (" + content.length() + "자)");
+        if (logger.isEnabled(LogLevel.DEBUG, LogCategory.CHAT)) {
+            logger.debug(LogCategory.CHAT, header + ": " + content);
+        }
+    }
+
+
+    /**
+     * 모든 클라이언트에게 메시지 전송
+     * 메시지는 한 번만 인코딩하고, 각 세션은 같은 프레임을 보내고 재전송 버퍼에 보관합니다.
+     *
+     * @param str 전송할 메시지
+     */
+    public void WriteAll(String str) {
+        ClientSession.Frame frame = encodeFrame(str);
+        if (frame == null) {
+            return;
+        }
+        BroadcastEvent event = new BroadcastEvent();
+        event.begin();
+        int recipients = 0;
+        for (int i = 0; i < UserVec.size(); i++) {
+            UserService user = UserVec.get(i);
+            user.writeFrame(frame);
+            recipients++;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.opcode = Opcode.classifyOutbound(str).name();
+            event.recipients = recipients;
+            event.bytes = (long) MetricsRegistry.utfLength(str) * recipients;
+            event.commit();
+        }
     }
 
     /**
-     * 모든 클라이언트에게 메시지 전송
+     * 메시지 인코딩 (writeUTF 한도를 넘는 메시지는 연결을 끊지 않고 버림)
      *
-     * @param str 전송할 메시지
+     * @param str 메시지
+     * @return 프레임 (인코딩할 수 없으면 null)
      */
-    public void WriteAll(String str) {
-        for (int i = 0; i < UserVec.size(); i++) {
-            UserService user = UserVec.get(i);
-            user.WriteOne(str);
+    private ClientSession.Frame encodeFrame(String str) {
+        try {
+            return ClientSession.Frame.encode(str);
+        } catch (IOException e) {
+            logger.warn(LogCategory.SYSTEM, "전송 메시지가 너무 깁니다 (" + str.length() + "자): " + e.getMessage());
+            return null;
         }
     }
 
@@ -2345,7 +3278,7 @@ public class MafiaGameServer extends JFrame {
      * 개별 사용자와의 통신을 담당하는 서비스 클래스
      */
     class UserService extends Thread {
-        // 네트워크 스트림
+        // 네트워크 스트림 (재접속하면 새 소켓의 스트림으로 교체)
         private InputStream is;
         private OutputStream os;
         private DataInputStream dis;
@@ -2361,8 +3294,41 @@ public class MafiaGameServer extends JFrame {
          */
         String role = "";
 
+        /**
+         * 재접속 세션 (순번과 최근 메시지, /resume 요청 연결은 null)
+         */
+        private ClientSession session;
+
+        /**
+         * 연결이 끊겨 재접속을 기다리는 중인지 여부 (session으로 동기화)
+         */
+        private boolean detached;
+
+        /**
+         * 재접속 대기 시간 초과 여부 (session으로 동기화)
+         */
+        private boolean expired;
+
+        /**
+         * 시청 중인 리플레이 (사용자당 하나, 없으면 null)
+         */
+        private volatile SpectatorFeed replayFeed;
+        private volatile Thread replayThread;
+
+        /**
+         * /resume 요청의 토큰과 클라이언트가 마지막으로 받은 순번 (재접속 요청 연결만)
+         */
+        private String resumeToken;
+        private long resumeAck;
+
+        /**
+         * 접속 요청의 거절 사유 (잘못된 /resume 요청, 복구 중인 자리에 대한 /login, 정상 요청이면 null)
+         */
+        private String handshakeError;
+
         /**
          * UserService 생성자
+         * 첫 메시지가 /login이면 새 세션을 시작하고, /resume이면 AcceptServer가 기존 세션에 연결을 넘깁니다.
          *
          * @param client_socket 클라이언트 소켓
          */
@@ -2375,27 +3341,104 @@ public class MafiaGameServer extends JFrame {
                 is = client_socket.getInputStream();
                 dis = new DataInputStream(is);
                 os = client_socket.getOutputStream();
-                dos = new DataOutputStream(os);
+                dos = ClientSession.newOutputStream(os);
 
-                // 사용자 이름 수신
+                // 사용자 이름 수신 (/login 이름 또는 /resume 이름 토큰 순번)
                 String line1 = dis.readUTF();
+                metrics.recordInbound(line1);
                 String[] msg = line1.split(" ");
                 UserName = msg[1].trim();
 
-                // 환영 메시지
-                AppendText("새로운 플레이어: " + UserName);
-                WriteOne("SYSTEM: 마피아 게임 서버에 오신 것을 환영합니다!\n");
-                WriteOne("SYSTEM: [" + UserName + "]님 환영합니다.\n");
-
-                // 입장 알림
-                String br_msg = "SYSTEM: [" + UserName + "]님이 입장하였습니다.\n";
-                WriteAll(br_msg);
+                if (msg[0].equals("/resume")) {
+                    parseResumeRequest(msg);
+                    return;
+                }
+                // 복구 대기 중인 자리는 토큰 없이 이름만으로 차지할 수 없음
+                handshakeError = recoveredSeatFailure(this);
+                if (handshakeError != null) {
+                    return;
+                }
+                beginSession();
 
             } catch (Exception e) {
                 AppendText("UserService 생성 오류");
             }
         }
 
+        /**
+         * /resume 이름 토큰 순번 요청 확인 (형식이 틀리면 handshakeError 설정)
+         *
+         * @param msg 공백으로 나눈 첫 메시지
+         */
+        private void parseResumeRequest(String[] msg) {
+            if (msg.length != 4 || !msg[2].matches("[0-9a-f]{32}") || !msg[3].matches("[0-9]{1,18}")) {
+                handshakeError = "잘못된 재접속 요청입니다.";
+                return;
+            }
+            resumeAck = Long.parseLong(msg[3]);
+            resumeToken = msg[2];
+        }
+
+        /**
+         * 접속 요청 거절 (RESUME_FAILED 또는 RESUME_RETRY 전송 후 연결 종료, UserVec에는 추가하지 않음)
+         *
+         * @param reason 거절 사유
+         * @param retryable 클라이언트가 토큰을 유지하고 다시 시도해도 되면 true (RESUME_RETRY)
+         */
+        void rejectHandshake(String reason, boolean retryable) {
+            try {
+                writeControl((retryable ? "RESUME_RETRY:" : "RESUME_FAILED:") + reason);
+            } catch (IOException e) {
+                // 이미 끊긴 연결
+            }
+            closeConnection();
+        }
+
+        /**
+         * 새 세션 시작 (토큰 발급, 환영 메시지, 입장 알림)
+         *
+         * @throws IOException 토큰 전송 실패 시
+         */
+        void beginSession() throws IOException {
+            session = new ClientSession(ClientSession.DEFAULT_REPLAY_CAPACITY);
+            writeControl("SESSION:" + session.getToken());
+            session.attach(dos, 0);
+            startSender();
+
+            // 환영 메시지
+            AppendText("새로운 플레이어: " + UserName);
+            WriteOne("SYSTEM: 마피아 게임 서버에 오신 것을 환영합니다!\n");
+            WriteOne("SYSTEM: [" + UserName + "]님 환영합니다.\n");
+
+            // 입장 알림
+            String br_msg = "SYSTEM: [" + UserName + "]님이 입장하였습니다.\n";
+            WriteAll(br_msg);
+        }
+
+        /**
+         * 재접속 요청 연결인지 여부
+         *
+         * @return /resume으로 접속했으면 true
+         */
+        boolean isResumeRequest() {
+            return resumeToken != null;
+        }
+
+        /**
+         * 재접속 대기 중인지 여부
+         *
+         * @return 연결이 끊긴 채 재접속을 기다리는 중이면 true
+         */
+        boolean isDetached() {
+            ClientSession s = session;
+            if (s == null) {
+                return false;
+            }
+            synchronized (s) {
+                return detached;
+            }
+        }
+
         /**
          * 역할 설정
          *
@@ -2409,6 +3452,10 @@ public class MafiaGameServer extends JFrame {
          * 로그아웃 처리
          */
         public void logout() {
+            stopReplay();
+            if (session != null) {
+                session.close();
+            }
             user_vc.removeElement(this);
             String br_msg = "SYSTEM: [" + UserName + "]님이 퇴장하였습니다.\n";
             WriteAll(br_msg);
@@ -2422,26 +3469,263 @@ public class MafiaGameServer extends JFrame {
          * @param msg 전송할 메시지
          */
         public void WriteOne(String msg) {
-            try {
-                dos.writeUTF(msg);
-            } catch (IOException e) {
-                AppendText("전송 오류: " + UserName);
-                closeConnection();
-                logout();
+            ClientSession.Frame frame = encodeFrame(msg);
+            if (frame != null) {
+                writeFrame(frame);
+            }
+        }
+
+        /**
+         * 인코딩된 프레임 전송
+         * 세션 순번을 매겨 기록만 하고 바로 반환합니다. 소켓 쓰기는 이 사용자의 전송 스레드(runSender)가 맡으므로
+         * 게임 상태 잠금을 잡은 채 방송해도 느린 클라이언트 때문에 멈추지 않습니다.
+         * 재접속 대기 중이면 기록만 되었다가 재접속하면 놓친 프레임으로 전송됩니다.
+         *
+         * @param frame 프레임 (WriteAll은 모든 사용자에게 같은 프레임 전달)
+         */
+        void writeFrame(ClientSession.Frame frame) {
+            if (session == null) {
+                return;
+            }
+            latencyTracker.onEnqueue();
+            session.record(frame);
+            latencyTracker.onWriteComplete();
+
+            synchronized (session) {
+                if (session.detachIfLagging()) {
+                    AppendText("[Session] " + UserName + " 전송 지연이 재전송 버퍼를 넘어 연결을 끊습니다.");
+                    closeConnection();
+                }
+            }
+        }
+
+        /**
+         * 전송 스레드 시작 (세션 시작 시 한 번)
+         */
+        private void startSender() {
+            Thread sender = new Thread(this::runSender, "session-writer-" + UserName);
+            sender.setDaemon(true);
+            sender.start();
+        }
+
+        /**
+         * 전송 루프 (전송 스레드)
+         * 세션 버퍼에 쌓인 프레임을 묶음으로 꺼내 한 번에 쓰고 flush 합니다.
+         * 전송에 실패하거나 재전송 버퍼보다 많이 밀리면 소켓을 닫고, 정리는 수신 스레드(run)가 맡습니다.
+         */
+        private void runSender() {
+            ClientSession s = session;
+            while (true) {
+                ClientSession.Batch batch;
+                try {
+                    batch = s.awaitBatch();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (batch == null) {
+                    return;
+                }
+
+                List<ClientSession.Frame> frames = batch.getFrames();
+                if (frames == null) {
+                    AppendText("[Session] " + UserName + " 전송 지연이 재전송 버퍼를 넘어 연결을 끊습니다.");
+                    failSend(batch);
+                    continue;
+                }
+
+                metrics.outboundEnqueued(frames.size());
+                try {
+                    long seq = batch.getFirstSeq();
+                    for (ClientSession.Frame frame : frames) {
+                        frame.writeTo(batch.getOut(), seq++);
+                    }
+                    batch.getOut().flush();
+                    s.complete(batch);
+                    for (ClientSession.Frame frame : frames) {
+                        metrics.recordOutbound(frame.getText());
+                    }
+                } catch (IOException e) {
+                    AppendText("전송 오류: " + UserName);
+                    failSend(batch);
+                } finally {
+                    metrics.outboundDequeued(frames.size());
+                }
+            }
+        }
+
+        /**
+         * 전송 실패 처리 (그 연결이 아직 현재 연결이면 소켓을 닫아 수신 스레드가 재접속 대기로 가게 함)
+         *
+         * @param batch 실패한 묶음
+         */
+        private void failSend(ClientSession.Batch batch) {
+            synchronized (session) {
+                if (session.fail(batch)) {
+                    closeConnection();
+                }
             }
         }
 
+        /**
+         * 제어 메시지 전송 (SESSION, RESUMED, RESUME_FAILED - 순번 0, 재전송 버퍼에 기록하지 않음)
+         *
+         * @param msg 제어 메시지
+         * @throws IOException 전송 실패 시
+         */
+        void writeControl(String msg) throws IOException {
+            ClientSession.Frame.encode(msg).writeTo(dos, 0);
+            dos.flush();
+            metrics.recordOutbound(msg);
+        }
+
         /**
          * 연결 종료
+         * 소켓을 먼저 닫아, 다른 스레드가 그 소켓에 쓰거나 읽다가 막혀 있어도 바로 풀리게 합니다.
          */
-        private void closeConnection() {
+        void closeConnection() {
             try {
-                dos.close();
-                dis.close();
                 client_socket.close();
             } catch (IOException e1) {
                 e1.printStackTrace();
             }
+            try {
+                dos.close();
+                dis.close();
+            } catch (IOException e1) {
+                // 소켓이 이미 닫혀 버퍼를 비우지 못한 경우
+            }
+        }
+
+        // ========================================
+        // 재접속 (세션 재개)
+        // ========================================
+
+        /**
+         * 수신하던 연결이 이미 새 연결로 교체되었는지 (클라이언트가 먼저 재접속해 이전 연결을 넘겨받은 경우)
+         *
+         * @param in 수신하던 스트림
+         * @return 교체되었으면 true (새 연결로 수신을 계속)
+         */
+        private boolean connectionReplaced(DataInputStream in) {
+            synchronized (session) {
+                return dis != in;
+            }
+        }
+
+        /**
+         * 연결이 끊긴 게임 참가자를 재접속 대기 상태로 전환하고 돌아올 때까지 대기 (수신 스레드)
+         * 연결 분리와 ReconnectionManager 등록은 세션 잠금 안에서 함께 하여 /resume 처리와 어긋나지 않게 합니다.
+         *
+         * @param in 끊긴 연결의 수신 스트림
+         * @return 재접속하여 새 연결로 수신을 계속하면 true, 대상이 아니거나 시간이 초과되면 false
+         */
+        private boolean awaitReconnection(DataInputStream in) {
+            if (session == null || !gameStarted || !aliveStatus.containsKey(UserName)) {
+                return false;
+            }
+
+            stopReplay();
+            long lastSeq;
+            synchronized (session) {
+                if (dis != in) {
+                    // 그 사이 클라이언트가 재접속하여 이전 연결을 넘겨받음
+                    return true;
+                }
+                detached = true;
+                session.detach();
+                lastSeq = session.getLastSeq();
+                closeConnection();
+
+                // 끊긴 동안의 메시지는 세션 버퍼에 쌓이므로 상태에는 버퍼 위치만 기록
+                reconnectionManager.handleDisconnection(UserName,
+                        new PlayerGameState(role, Boolean.TRUE.equals(aliveStatus.get(UserName)), lastSeq));
+                if (!reconnectionManager.isWaitingForReconnection(UserName)) {
+                    // 재접속 기능이 꺼져 있음
+                    detached = false;
+                    return false;
+                }
+            }
+
+            AppendText("[Session] " + UserName + " 연결 끊김, 재접속 대기 (순번 " + lastSeq + ")");
+            WriteAll("SYSTEM: [" + UserName + "]님의 연결이 끊겼습니다. 잠시 재접속을 기다립니다.\n");
+
+            synchronized (session) {
+                try {
+                    while (detached && !expired) {
+                        session.wait();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+                return !detached;
+            }
+        }
+
+        /**
+         * 재접속 대기 시간 초과 (대기 중인 수신 스레드를 깨워 퇴장 처리)
+         */
+        void expireReconnection() {
+            if (session == null) {
+                return;
+            }
+            synchronized (session) {
+                // 그 사이 재접속했으면 늦게 도착한 시간 초과는 무시
+                if (detached) {
+                    expired = true;
+                    session.notifyAll();
+                }
+            }
+        }
+
+        /**
+         * 재접속한 연결을 넘겨받아 놓친 메시지만 다시 전송
+         * 클라이언트에는 먼저 RESUMED:순번을 보내고, 그 다음 놓친 프레임을 원래 순번 그대로 보냅니다.
+         *
+         * @param handshake /resume 요청을 받은 연결
+         * @param replayCursor 연결이 끊길 때까지 보낸 마지막 순번 (클라이언트가 이보다 많이 받았을 수는 없음)
+         * @return 다시 보낸 메시지 수 (놓친 메시지가 버퍼에서 밀려났으면 -1)
+         */
+        int resume(UserService handshake, long replayCursor) {
+            synchronized (session) {
+                is = handshake.is;
+                dis = handshake.dis;
+                os = handshake.os;
+                dos = handshake.dos;
+                client_socket = handshake.client_socket;
+                detached = false;
+                session.notifyAll();
+
+                // 놓친 프레임은 전송 스레드가 ack 다음 순번부터 새 연결로 보냄
+                long ack = Math.min(handshake.resumeAck, replayCursor);
+                List<ClientSession.Frame> missed = session.since(ack);
+                long resumedAt = missed != null ? ack : session.getLastSeq();
+                try {
+                    writeControl("RESUMED:" + resumedAt);
+                    session.attach(dos, resumedAt);
+                } catch (IOException e) {
+                    // 다시 끊긴 경우 수신 스레드가 재접속 대기로 돌아감
+                    closeConnection();
+                }
+                return missed != null ? missed.size() : -1;
+            }
+        }
+
+        /**
+         * 수신 종료 처리 (세션을 닫아 이후 /resume이 이 세션을 넘겨받지 못하게 함)
+         *
+         * @param in 끊긴 연결의 수신 스트림
+         * @return 종료했으면 true (그 사이 새 연결로 교체되었으면 false)
+         */
+        private boolean retire(DataInputStream in) {
+            synchronized (session) {
+                if (dis != in) {
+                    return false;
+                }
+                session.close();
+                closeConnection();
+                return true;
+            }
         }
 
         /**
@@ -2449,36 +3733,68 @@ public class MafiaGameServer extends JFrame {
          */
         public void run() {
             while (true) {
+                DataInputStream in = dis;
                 try {
-                    String msg = dis.readUTF();
+                    String msg = in.readUTF();
+                    latencyTracker.onDecode(Opcode.classifyInbound(msg));
+                    metrics.recordInbound(msg);
                     msg = msg.trim();
-                    AppendText(msg);
+
+                    // 수신 원문은 대화 내용이 포함되므로 DEBUG에서만 기록
+                    if (logger.isEnabled(LogLevel.DEBUG, LogCategory.CHAT)) {
+                        logger.debug(LogCategory.CHAT, "[" + UserName + "] " + msg);
+                    }
 
                     // 메시지 타입별 처리
                     if (msg.startsWith("NIGHT_ACTION:")) {
-                        handleNightAction(msg);
+                        latencyTracker.onHandlerStart("handleNightAction");
+                        synchronized (gameStateLock) {
+                            handleNightAction(msg);
+                        }
                     } else if (msg.startsWith("VOTE:")) {
-                        handleVote(msg);
+                        latencyTracker.onHandlerStart("handleVote");
+                        synchronized (gameStateLock) {
+                            handleVote(msg);
+                        }
                     } else if (msg.startsWith("AGREE_DISAGREE:")) {
-                        handleAgreeDisagreeVote(msg);
+                        latencyTracker.onHandlerStart("handleAgreeDisagreeVote");
+                        synchronized (gameStateLock) {
+                            handleAgreeDisagreeVote(msg);
+                        }
                     } else if (msg.startsWith("WHISPER:")) {
+                        latencyTracker.onHandlerStart("handleWhisper");
                         handleWhisper(msg);
                     } else if (msg.startsWith("EMOTION:")) {
+                        latencyTracker.onHandlerStart("handleEmotion");
                         handleEmotion(msg);
                     } else if (msg.startsWith("/guide")) {
+                        latencyTracker.onHandlerStart("handleGuideCommand");
                         handleGuideCommand(msg);
                     } else if (msg.startsWith("/stats")) {
+                        latencyTracker.onHandlerStart("handleStatsCommand");
                         handleStatsCommand(msg);
+                    } else if (msg.startsWith("/replay")) {
+                        latencyTracker.onHandlerStart("handleReplayCommand");
+                        handleReplayCommand(msg);
                     } else if (msg.contains("/exit")) {
+                        latencyTracker.onHandlerStart("logout");
                         logout();
+                        latencyTracker.onComplete();
                         return;
                     } else {
+                        latencyTracker.onHandlerStart("handleChatMessage");
                         handleChatMessage(msg);
                     }
+                    latencyTracker.onComplete();
 
                 } catch (IOException e) {
+                    if (connectionReplaced(in)) {
+                        continue;
+                    }
                     AppendText("연결 오류: " + UserName);
-                    closeConnection();
+                    if (awaitReconnection(in) || !retire(in)) {
+                        continue;
+                    }
                     logout();
                     break;
                 }
@@ -2516,10 +3832,14 @@ public class MafiaGameServer extends JFrame {
 
             // 행동 저장
             nightActions.put(actionRole, target);
+            journal(JournalEventType.NIGHT_ACTION, UserName, target, actionRole);
             AppendText(UserName + "(" + role + ") -> " + target);
 
             // 역할별 특수 처리
             processRoleSpecificAction(actionRole, target);
+
+            // 필요한 밤 행동이 모두 모였으면 조기 진행
+            checkPhaseInputsComplete();
         }
 
         /**
@@ -2621,7 +3941,7 @@ public class MafiaGameServer extends JFrame {
             for (UserService targetUser : UserVec) {
                 if (targetUser.UserName.equals(target)) {
                     String targetRole = targetUser.role;
-                    boolean isMafia = targetRole.equals("MAFIA") || targetRole.equals("SPY");
+                    boolean isMafia = GameRules.appearsAsMafiaToPolice(targetRole);
                     String result = isMafia ? "마피아입니다!" : "마피아가 아닙니다.";
 
                     WriteOne("SYSTEM: [" + target + "]님은 " + result + "\n");
@@ -2761,9 +4081,9 @@ public class MafiaGameServer extends JFrame {
                 return;
             }
 
-            if (nightCount == 1) {
+            if (nightCount < GameRules.REPORTER_FIRST_NIGHT) {
                 WriteOne("SYSTEM: 첫 번째 밤에는 기자 능력을 사용할 수 없습니다!\n");
-            } else if (nightCount > 8) {
+            } else if (!GameRules.reporterCanAct(nightCount)) {
                 WriteOne("SYSTEM: 8일차 이후에는 기자 능력을 사용할 수 없습니다!\n");
             } else {
                 for (UserService targetUser : UserVec) {
@@ -2820,19 +4140,25 @@ public class MafiaGameServer extends JFrame {
                 return;
             }
 
-            if (priestUsed) { // priestUsedAbility 대신 priestUsed 사용
-                WriteOne("SYSTEM: 이미 소생 능력을 사용했습니다!\n");
-            } else if (aliveStatus.get(target) == null) {
-                WriteOne("SYSTEM: 해당 플레이어를 찾을 수 없습니다!\n");
-            } else if (aliveStatus.get(target)) {
-                WriteOne("SYSTEM: [" + target + "]님은 살아있습니다! 죽은 사람만 부활시킬 수 있습니다.\n");
-            } else if (blessedStatus.get(target) != null && blessedStatus.get(target)) {
-                WriteOne("SYSTEM: [" + target + "]님은 성불되어 부활할 수 없습니다!\n");
-            } else {
-                priestTarget = target;
-                priestUsed = true;
-                WriteOne("SYSTEM: [" + target + "]님을 부활 대상으로 선택했습니다. 다음 낮에 부활합니다!\n");
-                AppendText("성직자 " + UserName + "이 " + target + " 부활 예약");
+            switch (GameRules.checkRevive(priestUsed, aliveStatus.get(target),
+                    Boolean.TRUE.equals(blessedStatus.get(target)))) {
+                case ALREADY_USED:
+                    WriteOne("SYSTEM: 이미 소생 능력을 사용했습니다!\n");
+                    break;
+                case NOT_FOUND:
+                    WriteOne("SYSTEM: 해당 플레이어를 찾을 수 없습니다!\n");
+                    break;
+                case ALIVE:
+                    WriteOne("SYSTEM: [" + target + "]님은 살아있습니다! 죽은 사람만 부활시킬 수 있습니다.\n");
+                    break;
+                case BLESSED:
+                    WriteOne("SYSTEM: [" + target + "]님은 성불되어 부활할 수 없습니다!\n");
+                    break;
+                default:
+                    priestTarget = target;
+                    priestUsed = true;
+                    WriteOne("SYSTEM: [" + target + "]님을 부활 대상으로 선택했습니다. 다음 낮에 부활합니다!\n");
+                    AppendText("성직자 " + UserName + "이 " + target + " 부활 예약");
             }
         }
 
@@ -2880,7 +4206,8 @@ public class MafiaGameServer extends JFrame {
                     }
                 }
 
-                AppendText("[쪽지] " + UserName + " -> " + receiver + ": " + content);
+                journal(JournalEventType.WHISPER, UserName, receiver, content);
+                logPrivateChat("[쪽지] " + UserName + " -> " + receiver, content);
             } else {
                 WriteOne("SYSTEM: " + result.getMessage() + "\n");
             }
@@ -2927,6 +4254,7 @@ public class MafiaGameServer extends JFrame {
                     }
                 }
 
+                journal(JournalEventType.EMOTION, UserName, target, emotionId);
                 AppendText("[감정] " + UserName + ": " + emotionEmoji + " " + emotionName +
                           (target != null ? " -> " + target : ""));
             } else {
@@ -2990,6 +4318,110 @@ public class MafiaGameServer extends JFrame {
         }
 
 
+        /**
+         * 리플레이 명령어 처리
+         * 프로토콜: /replay (최근 게임 목록), /replay stop (시청 중지) 또는 /replay 게임ID [일차 페이즈] [배속]
+         * 진행 중인 게임은 재생할 수 없고, 리플레이는 사용자당 하나만 시청할 수 있습니다.
+         * 피드에는 게임 중 모두에게 공개된 내용만 나옵니다 (역할, 밤 행동, 비공개 채팅, 쪽지 제외).
+         *
+         * @param msg 메시지
+         */
+        private void handleReplayCommand(String msg) {
+            String[] parts = msg.trim().split("\\s+");
+
+            if (parts.length == 1) {
+                List<String> games = ReplayEngine.listGames(10);
+                StringBuilder sb = new StringBuilder("SYSTEM: [리플레이] 최근 게임 목록\n");
+                for (String id : games) {
+                    sb.append("SYSTEM:   ").append(id).append('\n');
+                }
+                if (games.isEmpty()) {
+                    sb.append("SYSTEM:   기록된 게임이 없습니다.\n");
+                }
+                WriteOne(sb.toString());
+                return;
+            }
+
+            if (parts[1].equals("stop")) {
+                WriteOne(stopReplay() ? "SYSTEM: [리플레이] 시청을 중지했습니다.\n"
+                        : "SYSTEM: 시청 중인 리플레이가 없습니다.\n");
+                return;
+            }
+            SpectatorFeed running = replayFeed;
+            if (running != null && running.isActive()) {
+                WriteOne("SYSTEM: 이미 리플레이를 시청 중입니다. (/replay stop으로 중지)\n");
+                return;
+            }
+
+            String gameId = parts[1];
+            GameJournal current = journal;
+            if (gameStarted || (current != null && current.getGameId().equals(gameId))) {
+                WriteOne("SYSTEM: 게임 진행 중에는 리플레이를 볼 수 없습니다.\n");
+                return;
+            }
+            if (!gameId.matches("[A-Za-z0-9-]+")) {
+                WriteOne("SYSTEM: 잘못된 게임 ID입니다.\n");
+                return;
+            }
+
+            ReplayEngine engine;
+            try {
+                engine = ReplayEngine.load(gameId);
+            } catch (IOException | RuntimeException e) {
+                WriteOne("SYSTEM: 리플레이를 불러올 수 없습니다: " + gameId + "\n");
+                return;
+            }
+
+            int startIndex = 0;
+            double speed = 4.0;
+            try {
+                if (parts.length >= 4) {
+                    startIndex = engine.findPhase(Integer.parseInt(parts[2]), parts[3].toUpperCase());
+                    if (startIndex < 0) {
+                        WriteOne("SYSTEM: 해당 페이즈 기록이 없습니다: " + parts[2] + "일차 " + parts[3] + "\n");
+                        return;
+                    }
+                }
+                if (parts.length >= 5) {
+                    speed = Double.parseDouble(parts[4]);
+                }
+            } catch (NumberFormatException e) {
+                WriteOne("SYSTEM: 사용법: /replay 게임ID [일차 페이즈] [배속]\n");
+                return;
+            }
+
+            SpectatorFeed feed = new SpectatorFeed(engine, startIndex, speed, this::WriteOne);
+            Thread thread = new Thread(feed, "replay-" + UserName);
+            thread.setDaemon(true);
+            replayFeed = feed;
+            replayThread = thread;
+            thread.start();
+            if (gameStarted) {
+                // 확인 직후 게임이 시작된 경우
+                stopReplay();
+                return;
+            }
+            AppendText(UserName + " 리플레이 시청: " + gameId);
+        }
+
+        /**
+         * 시청 중인 리플레이 중지 (게임 시작, 퇴장, 연결 끊김 시에도 호출)
+         *
+         * @return 재생 중이던 리플레이를 중지했으면 true
+         */
+        boolean stopReplay() {
+            SpectatorFeed feed = replayFeed;
+            Thread thread = replayThread;
+            replayFeed = null;
+            replayThread = null;
+            if (feed == null) {
+                return false;
+            }
+            boolean wasActive = feed.isActive();
+            feed.stop();
+            thread.interrupt();
+            return wasActive;
+        }
 
         /**
          * 도움말 명령어 처리
@@ -3011,6 +4443,11 @@ public class MafiaGameServer extends JFrame {
             help.append("  /통계 플레이어이름      - 특정 플레이어 통계 보기\n");
             help.append("  예시: /통계 Player1\n\n");
 
+            help.append("리플레이:\n");
+            help.append("  /replay                 - 최근 게임 목록 보기\n");
+            help.append("  /replay 게임ID 3 VOTE 4 - 3일차 투표부터 4배속 재생\n");
+            help.append("  /replay stop            - 리플레이 시청 중지\n\n");
+
             help.append("감정 표현:\n");
             help.append("  /감정                   - 사용 가능한 감정 목록 보기\n");
             help.append("  /감정 좋아요            - 감정 표현하기\n");
@@ -3070,7 +4507,7 @@ public class MafiaGameServer extends JFrame {
                     }
                 }
 
-                AppendText("[귓속말] " + UserName + " -> " + receiver + ": " + content);
+                logPrivateChat("[귓속말] " + UserName + " -> " + receiver, content);
             } else {
                 WriteOne("SYSTEM: " + result.getMessage() + "\n");
             }
@@ -3126,6 +4563,7 @@ public class MafiaGameServer extends JFrame {
                     }
                 }
 
+                journal(JournalEventType.EMOTION, UserName, target, emotionId);
                 AppendText("[감정] " + UserName + ": " + emotionEmoji + " " + emotionDispName +
                           (target != null ? " -> " + target : ""));
             } else {
@@ -3235,14 +4673,13 @@ public class MafiaGameServer extends JFrame {
             // 투표 처리
             if (voteCount.containsKey(target)) {
                 // 투표 수 계산: 정치인(2표), 산타 선물(2표), 일반(1표)
-                int votes = 1;
+                boolean santaGift = christmasEventActive && UserName.equals(santaGiftReceiver);
+                int votes = GameRules.voteWeight(role, santaGift);
                 String voteReason = "";
 
                 if (role.equals("POLITICIAN")) {
-                    votes = 2;
                     voteReason = " (정치인 - 2표)";
-                } else if (christmasEventActive && UserName.equals(santaGiftReceiver)) {
-                    votes = 2;
+                } else if (santaGift) {
                     voteReason = " 🎁 (산타의 선물 - 2표)";
                 }
 
@@ -3250,6 +4687,7 @@ public class MafiaGameServer extends JFrame {
 
                 // 투표한 플레이어를 기록
                 hasVotedThisRound.add(UserName);
+                journal(JournalEventType.VOTE, UserName, target, String.valueOf(votes));
 
                 // VoteTracker에 등록 (실시간 추적)
                 mafia.game.features.VoteTracker.VoteCastResult voteResult =
@@ -3278,6 +4716,9 @@ public class MafiaGameServer extends JFrame {
                         }
                     }
                 }
+
+                // 투표가 모두 모였으면 조기 진행
+                checkPhaseInputsComplete();
             }
         }
 
@@ -3300,16 +4741,11 @@ public class MafiaGameServer extends JFrame {
             AppendText("마담과 마피아 접선 완료");
 
             // 접선 후 게임 종료 조건 체크
-            new Thread(() -> {
-                try {
-                    Thread.sleep(1000);
-                    if (checkGameEnd()) {
-                        AppendText("마담 접선 후 게임 종료 조건 충족");
-                    }
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
+            clock.schedule(() -> {
+                if (checkGameEnd()) {
+                    AppendText("마담 접선 후 게임 종료 조건 충족");
                 }
-            }).start();
+            }, 1000);
         }
 
         /**
@@ -3320,41 +4756,26 @@ public class MafiaGameServer extends JFrame {
         private void handleChatMessage(String msg) {
             // 명령어 체크 (채팅 메시지에서 명령어 추출)
             // 형식: [Player] /command args
-            String lowerMsg = msg.toLowerCase();
-
-            // 도움말
-            if (lowerMsg.contains("/help") || msg.contains("/도움말") || msg.contains("/명령어")) {
-                handleHelpCommand();
-                return;
-            }
-            // 역할 가이드
-            else if (lowerMsg.contains("/guide") || msg.contains("/가이드") || msg.contains("/역할")) {
-                int cmdIndex = lowerMsg.indexOf("/guide");
-                if (cmdIndex == -1) cmdIndex = msg.indexOf("/가이드");
-                if (cmdIndex == -1) cmdIndex = msg.indexOf("/역할");
-                String command = msg.substring(cmdIndex);
-                handleGuideCommand(command);
-                return;
-            }
-            // 통계
-            else if (lowerMsg.contains("/stats") || msg.contains("/통계") || msg.contains("/전적")) {
-                int cmdIndex = lowerMsg.indexOf("/stats");
-                if (cmdIndex == -1) cmdIndex = msg.indexOf("/통계");
-                if (cmdIndex == -1) cmdIndex = msg.indexOf("/전적");
-                String command = msg.substring(cmdIndex);
-                handleStatsCommand(command);
-                return;
-            }
-            // 감정 표현
-            else if (lowerMsg.contains("/emotion") || msg.contains("/감정") || msg.contains("/이모지")) {
-                int cmdIndex = lowerMsg.indexOf("/emotion");
-                if (cmdIndex == -1) cmdIndex = msg.indexOf("/감정");
-                if (cmdIndex == -1) cmdIndex = msg.indexOf("/이모지");
-                String command = msg.substring(cmdIndex);
-                handleEmotionCommand(command);
-                return;
+            ChatCommandParser.ParsedCommand command = ChatCommandParser.parse(msg);
+            switch (command.getCommand()) {
+                case HELP:
+                    handleHelpCommand();
+                    return;
+                case GUIDE:
+                    handleGuideCommand(command.getText());
+                    return;
+                case STATS:
+                    handleStatsCommand(command.getText());
+                    return;
+                case EMOTION:
+                    handleEmotionCommand(command.getText());
+                    return;
+                default:
+                    break;
             }
 
+            journal(JournalEventType.CHAT, UserName, gamePhase, msg);
+
             if (gamePhase.equals("FINAL_DEFENSE")) {
                 handleFinalDefenseChat(msg);
             } else if (gamePhase.equals("NIGHT")) {
@@ -3425,6 +4846,7 @@ public class MafiaGameServer extends JFrame {
 
             String vote = parts[1];
             hasVotedFinalDecision.add(UserName);
+            journal(JournalEventType.FINAL_VOTE, UserName, finalDefensePlayer, vote);
 
             if (vote.equals("AGREE")) {
                 agreeVotes++;
@@ -3435,6 +4857,9 @@ public class MafiaGameServer extends JFrame {
                 AppendText(UserName + " 반대 투표");
                 WriteOne("SYSTEM: 반대에 투표했습니다.\n");
             }
+
+            // 찬반 투표가 모두 모였으면 조기 진행
+            checkPhaseInputsComplete();
         }
 
         /**
@@ -3500,7 +4925,7 @@ public class MafiaGameServer extends JFrame {
                 }
             }
 
-            AppendText("[DEAD CHAT] " + msg);
+            logPrivateChat("[DEAD CHAT] " + UserName, msg);
         }
 
         /**
@@ -3523,7 +4948,7 @@ public class MafiaGameServer extends JFrame {
                 }
             }
 
-            AppendText("[MAFIA TEAM] " + msg);
+            logPrivateChat("[MAFIA TEAM] " + UserName, msg);
         }
 
         /**
@@ -0,0 +1,409 @@
+package mafia.game.audio;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.DataLine;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * 사운드 엔진
+ *
+ * 효과음을 한 번만 PCM으로 디코딩해 메모리에 두고, 오디오 스레드 하나가
+ * 포맷별로 열어 둔 SourceDataLine에 PCM을 작은 조각으로 씁니다.
+ * 재생 요청마다 스레드 생성, 리소스 열기, 디코딩, Clip 열기를 하지 않으므로
+ * 요청 후 다음 조각(CHUNK_MILLIS)부터 바로 소리가 납니다.
+ *
+ * 설계 원칙:
+ * - Singleton Pattern: 프로세스 전체에서 하나의 엔진 사용
+ * - 한 번에 하나의 소리만 재생 (새 요청은 이전 소리를 끊고 시작)
+ * - 오디오 장치가 없으면 경고를 한 번만 출력하고 요청을 무시
+ *
+ * 사용 예:
+ * <pre>
+ * SoundEngine.getInstance().preload(SoundEngine.GAME_SOUNDS);  // 시작 시 백그라운드 디코딩
+ * SoundEngine.getInstance().play("/GameSound/night.wav");
+ * </pre>
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class SoundEngine {
+
+    // ========================================
+    // Singleton 패턴
+    // ========================================
+
+    private static SoundEngine instance;
+
+    /**
+     * Singleton 인스턴스 조회 (처음 호출 시 오디오 스레드 시작)
+     *
+     * @return SoundEngine 인스턴스
+     */
+    public static synchronized SoundEngine getInstance() {
+        if (instance == null) {
+            instance = new SoundEngine();
+            instance.start();
+        }
+        return instance;
+    }
+
+    // ========================================
+    // 설정 상수
+    // ========================================
+
+    /**
+     * 게임에서 사용하는 효과음 (미리 디코딩 대상, 없는 파일은 건너뜀)
+     */
+    public static final String[] GAME_SOUNDS = {
+        "/GameSound/game_start.wav",
+        "/GameSound/night.wav",
+        "/GameSound/morning.wav",
+        "/GameSound/vote.wav",
+        "/GameSound/Mafia_team/Mafia.wav",
+        "/GameSound/Mafia_team/madam.wav",
+        "/GameSound/Mafia_team/spy_zupsun.wav",
+        "/GameSound/Citizen/doctor.wav",
+        "/GameSound/Citizen/police.wav",
+        "/GameSound/Citizen/politician.wav",
+        "/GameSound/Citizen/soldier.wav",
+        "/GameSound/Citizen/SHAMAN.wav",
+        "/GameSound/Citizen/reporter.wav",
+        "/GameSound/Citizen/gangster.wav",
+        "/GameSound/Citizen/priest.wav",
+        "/GameSound/Citizen/ghoul.wav"
+    };
+
+    /**
+     * 한 번에 쓰는 PCM 조각 길이 (밀리초, 요청 반응 지연의 상한)
+     */
+    private static final int CHUNK_MILLIS = 20;
+
+    /**
+     * 라인 버퍼 길이 (조각 수, 재생 중 스레드 지연을 흡수)
+     */
+    private static final int LINE_BUFFER_CHUNKS = 4;
+
+    /**
+     * 중지 요청 표식
+     */
+    private static final String STOP = "";
+
+    // ========================================
+    // 디코딩된 사운드
+    // ========================================
+
+    /**
+     * 디코딩된 PCM 데이터 (불변)
+     */
+    private static final class PcmSound {
+        final AudioFormat format;
+        final byte[] data;
+
+        PcmSound(AudioFormat format, byte[] data) {
+            this.format = format;
+            this.data = data;
+        }
+    }
+
+    /**
+     * 라인 풀 키 (AudioFormat은 equals/hashCode를 재정의하지 않으므로 값으로 비교)
+     */
+    private static final class FormatKey {
+        final AudioFormat.Encoding encoding;
+        final float sampleRate;
+        final int sampleSizeInBits;
+        final int channels;
+        final boolean bigEndian;
+
+        FormatKey(AudioFormat format) {
+            this.encoding = format.getEncoding();
+            this.sampleRate = format.getSampleRate();
+            this.sampleSizeInBits = format.getSampleSizeInBits();
+            this.channels = format.getChannels();
+            this.bigEndian = format.isBigEndian();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof FormatKey)) {
+                return false;
+            }
+            FormatKey other = (FormatKey) o;
+            return encoding.equals(other.encoding) && Float.compare(sampleRate, other.sampleRate) == 0
+                    && sampleSizeInBits == other.sampleSizeInBits && channels == other.channels
+                    && bigEndian == other.bigEndian;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = encoding.hashCode();
+            hash = hash * 31 + Float.hashCode(sampleRate);
+            hash = hash * 31 + sampleSizeInBits;
+            hash = hash * 31 + channels;
+            return hash * 31 + (bigEndian ? 1 : 0);
+        }
+    }
+
+    /**
+     * 리소스가 없거나 디코딩할 수 없는 경우의 표식
+     */
+    private static final PcmSound MISSING = new PcmSound(null, new byte[0]);
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    /**
+     * 경로 -> 디코딩된 사운드
+     */
+    private final Map<String, PcmSound> sounds = new ConcurrentHashMap<>();
+
+    /**
+     * 재생/중지 요청 (오디오 스레드만 꺼냄)
+     */
+    private final BlockingQueue<String> requests = new LinkedBlockingQueue<>();
+
+    /**
+     * 포맷 -> 열어 둔 라인 (오디오 스레드 전용, 같은 포맷의 사운드는 라인 하나 공유)
+     */
+    private final Map<FormatKey, SourceDataLine> lines = new HashMap<>();
+
+    /**
+     * 오디오 장치 사용 불가 여부 (경고는 한 번만)
+     */
+    private volatile boolean unavailable;
+
+    /**
+     * private 생성자 (Singleton)
+     */
+    private SoundEngine() {
+    }
+
+    private void start() {
+        Thread audioThread = new Thread(this::runAudioLoop, "sound-engine");
+        audioThread.setDaemon(true);
+        audioThread.setPriority(Thread.MAX_PRIORITY);
+        audioThread.start();
+    }
+
+    // ========================================
+    // 요청 (모든 스레드)
+    // ========================================
+
+    /**
+     * 사운드 재생 (이전 소리는 중지)
+     *
+     * @param resourcePath 클래스패스 리소스 경로 (예: /GameSound/night.wav)
+     */
+    public void play(String resourcePath) {
+        if (resourcePath == null || resourcePath.isEmpty() || unavailable) {
+            return;
+        }
+        requests.offer(resourcePath);
+    }
+
+    /**
+     * 재생 중인 사운드 중지
+     */
+    public void stop() {
+        requests.offer(STOP);
+    }
+
+    /**
+     * 백그라운드 스레드에서 미리 디코딩 (오디오 스레드는 막지 않음)
+     *
+     * @param resourcePaths 리소스 경로 목록
+     */
+    public void preload(String... resourcePaths) {
+        Thread loader = new Thread(() -> {
+            for (String path : resourcePaths) {
+                decoded(path);
+            }
+        }, "sound-preload");
+        loader.setDaemon(true);
+        loader.setPriority(Thread.MIN_PRIORITY);
+        loader.start();
+    }
+
+    /**
+     * 디코딩되어 메모리에 있는 사운드 수
+     *
+     * @return 사운드 수 (없는 파일 제외)
+     */
+    public int getLoadedCount() {
+        int count = 0;
+        for (PcmSound sound : sounds.values()) {
+            if (sound != MISSING) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // ========================================
+    // 디코딩
+    // ========================================
+
+    /**
+     * 디코딩된 사운드 조회 (처음이면 이 스레드에서 디코딩)
+     *
+     * @return 사운드 (없으면 null)
+     */
+    private PcmSound decoded(String resourcePath) {
+        PcmSound sound = sounds.computeIfAbsent(resourcePath, SoundEngine::decode);
+        return sound == MISSING ? null : sound;
+    }
+
+    /**
+     * 리소스를 PCM으로 디코딩 (PCM이 아닌 포맷은 16비트 PCM으로 변환)
+     */
+    private static PcmSound decode(String resourcePath) {
+        InputStream resource = SoundEngine.class.getResourceAsStream(resourcePath);
+        if (resource == null) {
+            System.err.println("Sound file not found: " + resourcePath);
+            return MISSING;
+        }
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(new BufferedInputStream(resource))) {
+            AudioFormat format = source.getFormat();
+            AudioInputStream pcm = source;
+            if (format.getEncoding() != AudioFormat.Encoding.PCM_SIGNED
+                    && format.getEncoding() != AudioFormat.Encoding.PCM_UNSIGNED) {
+                format = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, format.getSampleRate(), 16,
+                        format.getChannels(), format.getChannels() * 2, format.getSampleRate(), false);
+                pcm = AudioSystem.getAudioInputStream(format, source);
+            }
+            return new PcmSound(format, pcm.readAllBytes());
+        } catch (UnsupportedAudioFileException e) {
+            System.err.println("Audio format not supported: " + resourcePath);
+            return MISSING;
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Error decoding sound: " + resourcePath + " - " + e.getMessage());
+            return MISSING;
+        }
+    }
+
+    // ========================================
+    // 재생 (오디오 스레드)
+    // ========================================
+
+    /**
+     * 오디오 스레드 루프
+     * 재생 중에는 조각 하나를 쓸 때마다 새 요청을 확인하고, 쉬는 동안은 요청을 기다립니다.
+     */
+    private void runAudioLoop() {
+        SourceDataLine line = null;
+        PcmSound current = null;
+        int position = 0;
+        int chunkBytes = 0;
+
+        while (true) {
+            String request;
+            try {
+                request = current == null ? requests.take() : requests.poll();
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            if (request != null) {
+                // 밀린 요청은 마지막 것만 의미 있음
+                String newer;
+                while ((newer = requests.poll()) != null) {
+                    request = newer;
+                }
+
+                // 이전 소리는 라인 버퍼에 남은 것까지 버림
+                if (line != null) {
+                    line.stop();
+                    line.flush();
+                }
+                current = null;
+
+                if (!request.equals(STOP)) {
+                    PcmSound sound = decoded(request);
+                    SourceDataLine next = sound == null ? null : lineFor(sound.format);
+                    if (next != null) {
+                        line = next;
+                        current = sound;
+                        position = 0;
+                        chunkBytes = chunkBytes(sound.format);
+                        line.start();
+                    }
+                }
+            }
+
+            if (current != null) {
+                int length = Math.min(chunkBytes, current.data.length - position);
+                position += line.write(current.data, position, length);
+                if (position >= current.data.length) {
+                    // 남은 버퍼는 라인이 계속 재생
+                    current = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * 포맷별 라인 조회 (처음이면 열어서 보관)
+     * 여러 라인을 동시에 열 수 없는 장치(믹싱 미지원)에서는 열어 둔 라인을 닫고 한 번 더 시도합니다.
+     *
+     * @return 라인 (오디오 장치를 쓸 수 없으면 null)
+     */
+    private SourceDataLine lineFor(AudioFormat format) {
+        FormatKey key = new FormatKey(format);
+        SourceDataLine line = lines.get(key);
+        if (line != null) {
+            return line;
+        }
+        try {
+            line = openLine(format);
+        } catch (LineUnavailableException | IllegalArgumentException | SecurityException e) {
+            if (lines.isEmpty()) {
+                // 라인을 하나도 열 수 없으면 장치가 없는 것으로 보고 이후 요청을 무시
+                unavailable = true;
+                requests.clear();
+                System.err.println("Audio line unavailable for " + format + " - " + e.getMessage());
+                return null;
+            }
+            // 이전 라인이 장치를 점유 중일 수 있음: 모두 닫고 재시도
+            for (SourceDataLine open : lines.values()) {
+                open.close();
+            }
+            lines.clear();
+            try {
+                line = openLine(format);
+            } catch (LineUnavailableException | IllegalArgumentException | SecurityException retry) {
+                System.err.println("Audio line unavailable for " + format + " - " + retry.getMessage());
+                return null;
+            }
+        }
+        lines.put(key, line);
+        return line;
+    }
+
+    private static SourceDataLine openLine(AudioFormat format) throws LineUnavailableException {
+        SourceDataLine line = (SourceDataLine) AudioSystem.getLine(new DataLine.Info(SourceDataLine.class, format));
+        line.open(format, chunkBytes(format) * LINE_BUFFER_CHUNKS);
+        return line;
+    }
+
+    /**
+     * CHUNK_MILLIS 길이의 바이트 수 (프레임 단위로 맞춤)
+     */
+    private static int chunkBytes(AudioFormat format) {
+        int frameSize = Math.max(1, format.getFrameSize());
+        int frames = Math.max(1, (int) (format.getFrameRate() * CHUNK_MILLIS / 1000));
+        return frames * frameSize;
+    }
+}
@@ -0,0 +1,243 @@
+package mafia.game.client;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleConsumer;
+import javax.swing.Timer;
+
+/**
+ * 애니메이션 스케줄러
+ *
+ * 모든 화면 효과(색 변화, 버튼 눌림, 페이드 인, 지연 실행)를 트윈으로 등록하면
+ * javax.swing.Timer 하나가 프레임마다 진행률(0.0 ~ 1.0)을 계산해 EDT에서 호출합니다.
+ * 효과마다 스레드를 만들고 sleep하며 EDT 밖에서 repaint하던 방식을 대체합니다.
+ *
+ * 설계 원칙:
+ * - Singleton Pattern: 클라이언트 전체에서 타이머 하나 공유
+ * - EDT 전용 (동기화하지 않음)
+ * - 진행 중인 트윈이 없으면 타이머를 멈춤 (유휴 시 타이머 0개)
+ * - 같은 키로 등록하면 이전 트윈을 대체 (예: 호버 진입/이탈이 겹쳐도 색이 싸우지 않음)
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class AnimationScheduler {
+
+    // ========================================
+    // Singleton 패턴
+    // ========================================
+
+    private static AnimationScheduler instance;
+
+    /**
+     * Singleton 인스턴스 조회
+     *
+     * @return AnimationScheduler 인스턴스
+     */
+    public static synchronized AnimationScheduler getInstance() {
+        if (instance == null) {
+            instance = new AnimationScheduler();
+        }
+        return instance;
+    }
+
+    // ========================================
+    // 설정 상수
+    // ========================================
+
+    /**
+     * 프레임 간격 (밀리초, 약 60fps)
+     */
+    private static final int FRAME_MILLIS = 16;
+
+    // ========================================
+    // 트윈
+    // ========================================
+
+    /**
+     * 등록된 애니메이션 하나
+     */
+    private static final class Tween {
+        final long startNanos;
+        final long durationNanos;
+        final DoubleConsumer onFrame;
+        final Runnable onDone;
+
+        Tween(long startNanos, long durationNanos, DoubleConsumer onFrame, Runnable onDone) {
+            this.startNanos = startNanos;
+            this.durationNanos = durationNanos;
+            this.onFrame = onFrame;
+            this.onDone = onDone;
+        }
+    }
+
+    /**
+     * 대상 + 속성 키 (한 대상에 여러 종류의 트윈을 따로 둘 때 사용)
+     */
+    private static final class Key {
+        final Object target;
+        final String property;
+
+        Key(Object target, String property) {
+            this.target = target;
+            this.property = property;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return target == other.target && property.equals(other.property);
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(target) * 31 + property.hashCode();
+        }
+    }
+
+    /**
+     * 트윈 키 생성
+     *
+     * @param target 대상 (동일 객체 기준으로 비교)
+     * @param property 속성 이름 (예: "color", "click")
+     * @return 키
+     */
+    public static Object key(Object target, String property) {
+        return new Key(target, property);
+    }
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    /**
+     * 키 -> 진행 중인 트윈 (등록 순서대로 진행)
+     */
+    private final Map<Object, Tween> tweens = new LinkedHashMap<>();
+
+    /**
+     * 프레임 타이머 (트윈이 있을 때만 동작)
+     */
+    private final Timer frameTimer;
+
+    /**
+     * 이번 프레임에 끝난 트윈 (프레임마다 재사용)
+     */
+    private final List<Tween> finished = new ArrayList<>();
+
+    /**
+     * private 생성자 (Singleton)
+     */
+    private AnimationScheduler() {
+        frameTimer = new Timer(FRAME_MILLIS, e -> tick());
+        frameTimer.setCoalesce(true);
+    }
+
+    // ========================================
+    // 등록 (EDT)
+    // ========================================
+
+    /**
+     * 트윈 등록
+     * 같은 키의 트윈이 진행 중이면 완료 콜백 없이 대체합니다.
+     *
+     * @param key 대상 키 (예: 컴포넌트, key(버튼, "color"))
+     * @param durationMillis 지속 시간 (밀리초)
+     * @param onFrame 프레임마다 진행률(0.0 ~ 1.0)을 받는 함수, 마지막 호출은 항상 1.0
+     *                (이 안에서는 트윈을 등록/취소하지 않음)
+     * @param onDone 끝난 뒤 실행할 작업 (없으면 null, 새 트윈 등록 가능)
+     */
+    public void animate(Object key, int durationMillis, DoubleConsumer onFrame, Runnable onDone) {
+        long durationNanos = Math.max(1, durationMillis) * 1_000_000L;
+        tweens.remove(key);
+        tweens.put(key, new Tween(System.nanoTime(), durationNanos, onFrame, onDone));
+        if (!frameTimer.isRunning()) {
+            frameTimer.start();
+        }
+    }
+
+    /**
+     * 지연 실행 (프레임 타이머 공유, 별도 스레드 없음)
+     *
+     * @param key 대상 키 (같은 키로 다시 등록하면 이전 예약 취소)
+     * @param delayMillis 지연 시간 (밀리초)
+     * @param task 실행할 작업
+     */
+    public void schedule(Object key, int delayMillis, Runnable task) {
+        animate(key, delayMillis, progress -> { }, task);
+    }
+
+    /**
+     * 트윈 진행 여부
+     *
+     * @param key 대상 키
+     * @return 진행 중이면 true
+     */
+    public boolean isAnimating(Object key) {
+        return tweens.containsKey(key);
+    }
+
+    /**
+     * 트윈 취소 (완료 콜백 없음)
+     *
+     * @param key 대상 키
+     */
+    public void cancel(Object key) {
+        tweens.remove(key);
+        if (tweens.isEmpty()) {
+            frameTimer.stop();
+        }
+    }
+
+    /**
+     * 진행 중인 트윈 수
+     *
+     * @return 트윈 수
+     */
+    public int getActiveCount() {
+        return tweens.size();
+    }
+
+    // ========================================
+    // 프레임 진행
+    // ========================================
+
+    /**
+     * 한 프레임 진행
+     * 콜백 안에서 새 트윈을 등록해도 되도록, 끝난 트윈의 완료 콜백은 목록 정리 후 실행합니다.
+     */
+    private void tick() {
+        long now = System.nanoTime();
+        finished.clear();
+
+        Iterator<Tween> iterator = tweens.values().iterator();
+        while (iterator.hasNext()) {
+            Tween tween = iterator.next();
+            double progress = Math.min(1.0, (double) (now - tween.startNanos) / tween.durationNanos);
+            if (progress >= 1.0) {
+                iterator.remove();
+                finished.add(tween);
+            } else {
+                tween.onFrame.accept(progress);
+            }
+        }
+
+        for (Tween tween : finished) {
+            tween.onFrame.accept(1.0);
+            if (tween.onDone != null) {
+                tween.onDone.run();
+            }
+        }
+        finished.clear();
+
+        if (tweens.isEmpty()) {
+            frameTimer.stop();
+        }
+    }
+}
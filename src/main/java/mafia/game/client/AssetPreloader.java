@@ -0,0 +1,268 @@
+package mafia.game.client;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+import mafia.game.audio.SoundEngine;
+
+/**
+ * 클라이언트 리소스 미리 읽기
+ *
+ * main에서 바로 시작해 로그인 화면이 떠 있는 동안 백그라운드 스레드 풀에서
+ * 배경/로고/역할 이미지와 효과음을 병렬로 디코딩합니다.
+ * 화면 컴포넌트는 CompletableFuture로 결과를 받으므로 EDT가 디코딩을 기다리지 않습니다.
+ * 아직 준비되지 않은 리소스를 요청하면 그 자리에서 같은 풀에 작업을 넣고 같은 future를 돌려줍니다.
+ *
+ * 설계 원칙:
+ * - Singleton Pattern: 클라이언트 전체에서 하나의 풀과 캐시 공유
+ * - 경로별 future는 한 번만 생성 (중복 디코딩 없음)
+ * - 리소스가 없거나 읽을 수 없으면 future 결과는 null
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class AssetPreloader {
+
+    // ========================================
+    // Singleton 패턴
+    // ========================================
+
+    private static AssetPreloader instance;
+
+    /**
+     * Singleton 인스턴스 조회
+     *
+     * @return AssetPreloader 인스턴스
+     */
+    public static synchronized AssetPreloader getInstance() {
+        if (instance == null) {
+            instance = new AssetPreloader();
+        }
+        return instance;
+    }
+
+    // ========================================
+    // 설정 상수
+    // ========================================
+
+    /**
+     * 로그인 화면 이미지 (가장 먼저 필요)
+     */
+    public static final String[] LOBBY_IMAGES = {
+        "/info/lobby_background.png",
+        "/info/ServerImg.png"
+    };
+
+    /**
+     * 게임 화면 이미지
+     */
+    public static final String[] GAME_IMAGES = {
+        "/info/game_background.png",
+        "/info/background.png"
+    };
+
+    /**
+     * 역할 카드 이미지 (RoleImageCache에 카드 크기로 미리 축소)
+     */
+    public static final String[] ROLE_IMAGES = {
+        "/info/mafia.png", "/info/doctor.png", "/info/police.png", "/info/simin.png",
+        "/info/soldier.png", "/info/jeongchi.png", "/info/geondal.png", "/info/gija.png",
+        "/info/yeongmae.png", "/info/seongzik.png", "/info/madame.png", "/info/dogul.png",
+        "/info/spy.png"
+    };
+
+    /**
+     * 로그인 로고 크기
+     */
+    public static final int LOGO_SIZE = 80;
+
+    /**
+     * 역할 카드 이미지 크기 (PlayerCard와 동일)
+     */
+    public static final int CARD_IMAGE_WIDTH = 130;
+    public static final int CARD_IMAGE_HEIGHT = 180;
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    /**
+     * 디코딩 스레드 풀 (데몬)
+     */
+    private final ExecutorService pool;
+
+    /**
+     * 경로 -> 디코딩 결과
+     */
+    private final Map<String, CompletableFuture<BufferedImage>> images = new ConcurrentHashMap<>();
+
+    /**
+     * 로그인 로고 아이콘
+     */
+    private volatile CompletableFuture<ImageIcon> logoIcon;
+
+    /**
+     * 미리 읽기 시작 여부
+     */
+    private boolean started;
+
+    /**
+     * private 생성자 (Singleton)
+     */
+    private AssetPreloader() {
+        int threads = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadId = new AtomicInteger();
+        this.pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "asset-preload-" + threadId.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+    }
+
+    // ========================================
+    // 미리 읽기
+    // ========================================
+
+    /**
+     * 전체 미리 읽기 시작 (여러 번 호출해도 한 번만 실행)
+     * 로그인 화면 이미지를 먼저 읽고, 끝난 뒤에 게임 화면 이미지, 역할 카드, 효과음 작업을 넣습니다.
+     * (코어가 적은 PC에서도 로그인 화면 리소스가 다른 작업과 경쟁하지 않도록)
+     */
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        long startNanos = System.nanoTime();
+
+        CompletableFuture<?>[] lobby = new CompletableFuture<?>[LOBBY_IMAGES.length + 1];
+        for (int i = 0; i < LOBBY_IMAGES.length; i++) {
+            lobby[i] = getImage(LOBBY_IMAGES[i]);
+        }
+        lobby[LOBBY_IMAGES.length] = getLogoIcon();
+
+        CompletableFuture.allOf(lobby).whenComplete((ignored, error) -> {
+            System.out.printf("[Startup] 로그인 화면 리소스 준비: %.0fms%n", (System.nanoTime() - startNanos) / 1e6);
+            preloadGameAssets(startNanos);
+        });
+    }
+
+    /**
+     * 게임 화면 이미지, 역할 카드, 효과음 미리 읽기
+     */
+    private void preloadGameAssets(long startNanos) {
+        for (String path : GAME_IMAGES) {
+            getImage(path);
+        }
+        CompletableFuture<?>[] roles = new CompletableFuture<?>[ROLE_IMAGES.length];
+        for (int i = 0; i < ROLE_IMAGES.length; i++) {
+            String path = ROLE_IMAGES[i];
+            roles[i] = CompletableFuture.runAsync(() -> RoleImageCache.getInstance()
+                    .getIcon(path, CARD_IMAGE_WIDTH, CARD_IMAGE_HEIGHT, false), pool);
+        }
+        SoundEngine.getInstance().preload(SoundEngine.GAME_SOUNDS);
+
+        CompletableFuture.allOf(roles).whenComplete((ignored, error) -> System.out.printf(
+                "[Startup] 게임 화면 이미지 준비: %.0fms%n", (System.nanoTime() - startNanos) / 1e6));
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    /**
+     * 이미지 조회 (준비 중이면 같은 future, 처음이면 지금 작업을 넣음)
+     *
+     * @param resourcePath 클래스패스 리소스 경로
+     * @return 디코딩된 이미지 future (없으면 결과가 null)
+     */
+    public CompletableFuture<BufferedImage> getImage(String resourcePath) {
+        return images.computeIfAbsent(resourcePath,
+                path -> CompletableFuture.supplyAsync(() -> decode(path), pool));
+    }
+
+    /**
+     * 앞에서부터 처음 존재하는 리소스의 이미지 조회
+     *
+     * @param resourcePaths 후보 경로
+     * @return 디코딩된 이미지 future (모두 없으면 결과가 null)
+     */
+    public CompletableFuture<BufferedImage> getFirstImage(String... resourcePaths) {
+        for (String path : resourcePaths) {
+            // 존재 여부는 디코딩 없이 확인
+            if (AssetPreloader.class.getResource(path) != null) {
+                return getImage(path);
+            }
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * 로그인 로고 아이콘 (LOGO_SIZE로 부드럽게 축소)
+     *
+     * @return 아이콘 future (로고가 없으면 결과가 null)
+     */
+    public CompletableFuture<ImageIcon> getLogoIcon() {
+        CompletableFuture<ImageIcon> icon = logoIcon;
+        if (icon == null) {
+            synchronized (this) {
+                if (logoIcon == null) {
+                    logoIcon = getImage("/info/ServerImg.png")
+                            .thenApply(image -> image == null ? null : scale(image, LOGO_SIZE, LOGO_SIZE));
+                }
+                icon = logoIcon;
+            }
+        }
+        return icon;
+    }
+
+    // ========================================
+    // 시작 시간 측정
+    // ========================================
+
+    /**
+     * JVM 시작 이후 경과 시간
+     *
+     * @return 밀리초
+     */
+    public static long millisSinceLaunch() {
+        return System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+
+    // ========================================
+    // 디코딩
+    // ========================================
+
+    private static BufferedImage decode(String resourcePath) {
+        try (InputStream in = AssetPreloader.class.getResourceAsStream(resourcePath)) {
+            return in == null ? null : ImageIO.read(in);
+        } catch (IOException e) {
+            System.err.println("Image load failed: " + resourcePath + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * SCALE_SMOOTH 축소 후 고정 이미지로 그려 둠 (그릴 때마다 다시 계산하지 않도록)
+     */
+    private static ImageIcon scale(BufferedImage source, int width, int height) {
+        Image scaled = source.getScaledInstance(width, height, Image.SCALE_SMOOTH);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.drawImage(new ImageIcon(scaled).getImage(), 0, 0, null);
+        g2d.dispose();
+        return new ImageIcon(image);
+    }
+}
@@ -0,0 +1,207 @@
+package mafia.game.client;
+
+import java.util.Arrays;
+import javax.swing.AbstractListModel;
+
+/**
+ * 채팅 기록 모델 (최대 줄 수 고정)
+ *
+ * 고정 크기 원형 버퍼에 채팅 줄을 보관하고, 한도를 넘으면 가장 오래된 줄부터 버립니다.
+ * JList(고정 셀 높이)와 함께 쓰면 화면에 보이는 줄만 그리므로,
+ * 세션이 길어져도 메모리와 줄당 추가 비용이 일정합니다.
+ *
+ * 설계 원칙:
+ * - EDT 전용 (Swing 모델이므로 동기화하지 않음)
+ * - 인덱스 0이 보관 중인 가장 오래된 줄
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class BoundedChatModel extends AbstractListModel<String> {
+    private static final long serialVersionUID = 1L;
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    /**
+     * 원형 버퍼
+     */
+    private final String[] lines;
+
+    /**
+     * 가장 오래된 줄의 버퍼 위치
+     */
+    private int head;
+
+    /**
+     * 보관 중인 줄 수
+     */
+    private int size;
+
+    /**
+     * 마지막 줄이 줄바꿈 없이 끝났는지 여부 (다음 텍스트를 이어 붙임)
+     */
+    private boolean lastLineOpen;
+
+    /**
+     * 생성자
+     *
+     * @param capacity 최대 줄 수
+     * @throws IllegalArgumentException capacity가 1보다 작은 경우
+     */
+    public BoundedChatModel(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다: " + capacity);
+        }
+        this.lines = new String[capacity];
+    }
+
+    // ========================================
+    // ListModel 구현
+    // ========================================
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String getElementAt(int index) {
+        return lines[(head + index) % lines.length];
+    }
+
+    /**
+     * 최대 줄 수
+     *
+     * @return 최대 줄 수
+     */
+    public int getCapacity() {
+        return lines.length;
+    }
+
+    // ========================================
+    // 추가
+    // ========================================
+
+    /**
+     * 텍스트 추가 (여러 줄 가능, '\n' 기준으로 나눔)
+     *
+     * 줄바꿈으로 끝나지 않은 마지막 조각은 다음 호출의 첫 조각과 이어집니다.
+     * 이벤트는 제거 1회, 변경 1회, 추가 1회로 묶어서 보냅니다.
+     *
+     * @param text 추가할 텍스트
+     */
+    public void append(String text) {
+        if (text.isEmpty()) {
+            return;
+        }
+
+        int oldSize = size;
+        int removed = 0;
+        boolean changedLast = false;
+        int start = 0;
+        while (start <= text.length()) {
+            int newline = text.indexOf('\n', start);
+            int end = newline < 0 ? text.length() : newline;
+            String piece = text.substring(start, end);
+
+            if (lastLineOpen && size > 0) {
+                // 이전 호출에서 열린 줄에 이어 붙이기
+                int last = (head + size - 1) % lines.length;
+                lines[last] = lines[last] + piece;
+                changedLast = true;
+            } else if (newline >= 0 || !piece.isEmpty()) {
+                if (size == lines.length) {
+                    head = (head + 1) % lines.length;
+                    size--;
+                    removed++;
+                }
+                lines[(head + size) % lines.length] = piece;
+                size++;
+            }
+
+            lastLineOpen = newline < 0 && !piece.isEmpty();
+            if (newline < 0) {
+                break;
+            }
+            lastLineOpen = false;
+            start = newline + 1;
+        }
+
+        fireChanges(oldSize, removed, changedLast);
+    }
+
+    /**
+     * 모든 줄 삭제
+     */
+    public void clear() {
+        int oldSize = size;
+        Arrays.fill(lines, null);
+        head = 0;
+        size = 0;
+        lastLineOpen = false;
+        if (oldSize > 0) {
+            fireIntervalRemoved(this, 0, oldSize - 1);
+        }
+    }
+
+    /**
+     * 추가 결과를 묶어서 통지
+     *
+     * @param oldSize 추가 전 줄 수
+     * @param removed 한도 때문에 버린 줄 수 (이번에 추가했다가 버린 줄 포함)
+     * @param changedLast 기존 마지막 줄에 이어 붙였는지 여부
+     */
+    private void fireChanges(int oldSize, int removed, boolean changedLast) {
+        int removedOld = Math.min(removed, oldSize);
+        int keptOld = oldSize - removedOld;
+        if (removedOld > 0) {
+            fireIntervalRemoved(this, 0, removedOld - 1);
+        }
+        if (changedLast && keptOld > 0) {
+            fireContentsChanged(this, keptOld - 1, keptOld - 1);
+        }
+        if (size > keptOld) {
+            fireIntervalAdded(this, keptOld, size - 1);
+        }
+    }
+
+    // ========================================
+    // 검색
+    // ========================================
+
+    /**
+     * 보관 중인 기록에서 검색 (대소문자 무시)
+     *
+     * @param query 검색어
+     * @param fromIndex 검색 시작 위치 (이 위치는 제외)
+     * @param backward true면 오래된 쪽으로, false면 최신 쪽으로 검색
+     * @return 찾은 줄의 인덱스 (없으면 -1)
+     */
+    public int find(String query, int fromIndex, boolean backward) {
+        if (query.isEmpty() || size == 0) {
+            return -1;
+        }
+        int step = backward ? -1 : 1;
+        for (int i = fromIndex + step; i >= 0 && i < size; i += step) {
+            if (containsIgnoreCase(getElementAt(i), query)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 부분 문자열 포함 여부 (대소문자 무시, 줄마다 toLowerCase 할당 없음)
+     */
+    private static boolean containsIgnoreCase(String line, String query) {
+        int max = line.length() - query.length();
+        for (int i = 0; i <= max; i++) {
+            if (line.regionMatches(true, i, query, 0, query.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,154 @@
+package mafia.game.client;
+
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.CompletableFuture;
+import javax.swing.SwingUtilities;
+
+/**
+ * 미리 그려 둔 배경 이미지
+ *
+ * 배경을 컴포넌트 크기에 맞춰 화면과 호환되는 이미지에 한 번만 그려 두고,
+ * paintComponent에서는 그 이미지를 그대로 복사합니다.
+ * 컴포넌트 크기나 화면(GraphicsConfiguration)이 바뀌면 다시 그립니다.
+ * 채팅 때문에 자주 일어나는 다시 그리기에서 매번 축소/확대하던 비용이 이미지 복사 한 번으로 줄어듭니다.
+ *
+ * 설계 원칙:
+ * - 컴포넌트마다 하나씩 사용 (EDT 전용, 동기화하지 않음)
+ * - 원본은 AssetPreloader가 백그라운드에서 디코딩 (준비 전에는 배경 없이 그리고, 준비되면 다시 그림)
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class CachedBackground {
+
+    // ========================================
+    // 그리기 방식
+    // ========================================
+
+    /**
+     * 배치 방식
+     */
+    public enum Fit {
+        /**
+         * 컴포넌트 크기에 맞게 늘이거나 줄임
+         */
+        STRETCH,
+
+        /**
+         * 원본 크기 그대로 가운데 배치
+         */
+        CENTER
+    }
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    /**
+     * 디코딩된 원본 (결과가 null이면 배경 없음)
+     */
+    private final CompletableFuture<BufferedImage> source;
+
+    /**
+     * 배치 방식
+     */
+    private final Fit fit;
+
+    /**
+     * 현재 크기로 그려 둔 이미지
+     */
+    private BufferedImage rendered;
+
+    /**
+     * rendered를 만든 화면 설정
+     */
+    private GraphicsConfiguration renderedConfig;
+
+    /**
+     * 원본 준비 후 다시 그리기 예약 여부
+     */
+    private boolean repaintScheduled;
+
+    /**
+     * 생성자
+     *
+     * @param fit 배치 방식
+     * @param resourcePaths 클래스패스 리소스 경로 (앞에서부터 처음 찾은 파일 사용)
+     */
+    public CachedBackground(Fit fit, String... resourcePaths) {
+        this.fit = fit;
+        this.source = AssetPreloader.getInstance().getFirstImage(resourcePaths);
+    }
+
+    // ========================================
+    // 그리기 (EDT)
+    // ========================================
+
+    /**
+     * 배경 그리기 (필요할 때만 다시 그린 뒤 복사)
+     *
+     * @param component 대상 컴포넌트
+     * @param g 그래픽 컨텍스트
+     */
+    public void paint(Component component, Graphics g) {
+        if (!source.isDone()) {
+            // 디코딩이 끝나면 한 번 더 그리기 (EDT는 기다리지 않음)
+            if (!repaintScheduled) {
+                repaintScheduled = true;
+                source.thenRun(() -> SwingUtilities.invokeLater(component::repaint));
+            }
+            return;
+        }
+        BufferedImage image = source.isCompletedExceptionally() ? null : source.getNow(null);
+        if (image == null) {
+            return;
+        }
+        int width = component.getWidth();
+        int height = component.getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+
+        GraphicsConfiguration config = component.getGraphicsConfiguration();
+        if (rendered == null || rendered.getWidth() != width || rendered.getHeight() != height
+                || config != renderedConfig) {
+            rendered = render(image, config, width, height);
+            renderedConfig = config;
+        }
+        g.drawImage(rendered, 0, 0, null);
+    }
+
+    /**
+     * 현재 크기로 배경 그리기 (화면과 같은 픽셀 형식이면 복사가 가장 빠름)
+     */
+    private BufferedImage render(BufferedImage original, GraphicsConfiguration config, int width, int height) {
+        int transparency = fit == Fit.CENTER ? Transparency.TRANSLUCENT : original.getColorModel().getTransparency();
+        BufferedImage image;
+        if (config != null) {
+            image = config.createCompatibleImage(width, height, transparency);
+        } else {
+            // 화면 정보가 없으면 (표시 전, 헤드리스) 알파 없는 형식 우선
+            image = new BufferedImage(width, height, transparency == Transparency.OPAQUE
+                    ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+
+        Graphics2D g2d = image.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        if (fit == Fit.STRETCH) {
+            g2d.drawImage(original, 0, 0, width, height, null);
+        } else {
+            int x = (width - original.getWidth()) / 2;
+            int y = (height - original.getHeight()) / 2;
+            g2d.drawImage(original, x, y, null);
+        }
+        g2d.dispose();
+        return image;
+    }
+}
@@ -0,0 +1,161 @@
+package mafia.game.client;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BandCombineOp;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+
+/**
+ * 역할 이미지 캐시
+ *
+ * 역할 카드 이미지를 (경로, 크기, 생존/사망) 단위로 한 번만 디코딩/축소해서
+ * 모든 플레이어 카드가 같은 ImageIcon을 공유합니다.
+ * 사망 이미지는 생존 이미지에서 BandCombineOp 한 번으로 만듭니다 (픽셀별 getRGB/setRGB 없음).
+ *
+ * 설계 원칙:
+ * - Singleton Pattern: 클라이언트 전체에서 하나의 캐시 공유
+ * - 캐시된 이미지는 수정하지 않음 (여러 카드가 공유)
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class RoleImageCache {
+
+    // ========================================
+    // Singleton 패턴
+    // ========================================
+
+    private static RoleImageCache instance;
+
+    /**
+     * Singleton 인스턴스 조회
+     *
+     * @return RoleImageCache 인스턴스
+     */
+    public static synchronized RoleImageCache getInstance() {
+        if (instance == null) {
+            instance = new RoleImageCache();
+        }
+        return instance;
+    }
+
+    // ========================================
+    // 설정 상수
+    // ========================================
+
+    /**
+     * 사망 이미지 변환 행렬 (R, G, B 평균의 절반 밝기, 알파 유지)
+     */
+    private static final float DEAD_GRAY = 1f / 6f;
+    private static final BandCombineOp DEAD_FILTER = new BandCombineOp(new float[][] {
+        {DEAD_GRAY, DEAD_GRAY, DEAD_GRAY, 0f},
+        {DEAD_GRAY, DEAD_GRAY, DEAD_GRAY, 0f},
+        {DEAD_GRAY, DEAD_GRAY, DEAD_GRAY, 0f},
+        {0f, 0f, 0f, 1f}
+    }, null);
+
+    /**
+     * 리소스가 없는 경우의 표식 (ConcurrentHashMap은 null을 저장할 수 없음)
+     */
+    private static final ImageIcon MISSING = new ImageIcon();
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    /**
+     * "경로@가로x세로" 또는 "경로@가로x세로#dead" -> 아이콘
+     */
+    private final Map<String, ImageIcon> icons = new ConcurrentHashMap<>();
+
+    /**
+     * private 생성자 (Singleton)
+     */
+    private RoleImageCache() {
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    /**
+     * 역할 이미지 조회
+     *
+     * @param resourcePath 클래스패스 리소스 경로 (예: /info/mafia.png)
+     * @param width 가로 크기
+     * @param height 세로 크기
+     * @param dead 사망 이미지 여부
+     * @return 공유 아이콘 (리소스가 없거나 읽을 수 없으면 null)
+     */
+    public ImageIcon getIcon(String resourcePath, int width, int height, boolean dead) {
+        String aliveKey = resourcePath + "@" + width + "x" + height;
+        ImageIcon icon = icons.computeIfAbsent(aliveKey, k -> load(resourcePath, width, height));
+        if (dead && icon != MISSING) {
+            // 사망 이미지는 생존 이미지에서 파생 (computeIfAbsent는 중첩 호출 불가)
+            ImageIcon alive = icon;
+            icon = icons.computeIfAbsent(aliveKey + "#dead", k -> toDead(alive));
+        }
+        return icon == MISSING ? null : icon;
+    }
+
+    /**
+     * 캐시된 이미지 수 (사망 변형 포함)
+     *
+     * @return 항목 수
+     */
+    public int size() {
+        return icons.size();
+    }
+
+    /**
+     * 캐시 비우기
+     */
+    public void clear() {
+        icons.clear();
+    }
+
+    // ========================================
+    // 이미지 생성
+    // ========================================
+
+    /**
+     * 디코딩 후 축소 (기존 카드와 같은 SCALE_SMOOTH 품질)
+     */
+    private ImageIcon load(String resourcePath, int width, int height) {
+        try (InputStream in = RoleImageCache.class.getResourceAsStream(resourcePath)) {
+            if (in == null) {
+                return MISSING;
+            }
+            BufferedImage source = ImageIO.read(in);
+            if (source == null) {
+                return MISSING;
+            }
+
+            // getScaledInstance는 그릴 때마다 계산하는 지연 이미지이므로 한 번 그려서 고정
+            Image scaled = source.getScaledInstance(width, height, Image.SCALE_SMOOTH);
+            BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2d = image.createGraphics();
+            g2d.drawImage(new ImageIcon(scaled).getImage(), 0, 0, null);
+            g2d.dispose();
+            return new ImageIcon(image);
+        } catch (IOException e) {
+            return MISSING;
+        }
+    }
+
+    /**
+     * 사망 이미지 생성 (그레이스케일 + 어둡게)
+     */
+    private ImageIcon toDead(ImageIcon alive) {
+        BufferedImage source = (BufferedImage) alive.getImage();
+        BufferedImage dead = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        DEAD_FILTER.filter(source.getRaster(), dead.getRaster());
+        return new ImageIcon(dead);
+    }
+}
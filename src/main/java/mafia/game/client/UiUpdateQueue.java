@@ -0,0 +1,217 @@
+package mafia.game.client;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * 화면 갱신 큐
+ *
+ * 네트워크 수신 스레드가 넣은 화면 변경을 EDT가 프레임(약 16ms)마다 한 번에 처리합니다.
+ * 변경은 도착 순서대로 하나의 큐에 쌓이고 그 순서대로 적용되므로, 사용자가 보는 순서가 서버가 보낸 순서와 같습니다.
+ * <pre>
+ * 텍스트   연달아 도착한 텍스트는 이어 붙여 한 번에 삽입 (상태/이벤트 사이에서는 나뉨)
+ * 상태     같은 키(페이즈, 플레이어 목록 등)는 마지막 값만, 마지막으로 도착한 위치에서 적용
+ * 이벤트   도착한 위치에서 모두 적용
+ * </pre>
+ * EDT가 밀려 대기 중인 텍스트나 이벤트가 한도를 넘으면, 넣는 쪽(EDT 제외)이 비워질 때까지 기다립니다.
+ * 수신 스레드가 멈추면 소켓 수신 버퍼가 차서 서버 쪽 전송도 느려집니다.
+ * 대기는 최대 MAX_BLOCK_MILLIS까지만 하므로 EDT가 멈춰도 수신 스레드가 영구히 막히지 않습니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class UiUpdateQueue {
+
+    // ========================================
+    // 설정 상수
+    // ========================================
+
+    /**
+     * 프레임 간격 (밀리초)
+     */
+    private static final int FRAME_MILLIS = 16;
+
+    /**
+     * 대기 텍스트 한도 (문자 수)
+     */
+    private static final int MAX_PENDING_CHARS = 64 * 1024;
+
+    /**
+     * 대기 이벤트 한도
+     */
+    private static final int MAX_PENDING_EVENTS = 256;
+
+    /**
+     * 한도 초과 시 최대 대기 시간 (밀리초)
+     */
+    private static final long MAX_BLOCK_MILLIS = 2000;
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    /**
+     * 모인 텍스트를 받는 함수 (EDT에서 호출)
+     */
+    private final Consumer<String> textSink;
+
+    /**
+     * 프레임 타이머 (대기 중인 변경이 있을 때만 동작)
+     */
+    private final Timer frameTimer;
+
+    /**
+     * 상태 변경 (같은 키의 새 값이 들어오면 이전 항목은 update를 비워 건너뜀)
+     */
+    private static final class StateUpdate {
+        Runnable update;
+
+        StateUpdate(Runnable update) {
+            this.update = update;
+        }
+    }
+
+    // 아래 필드는 this로 동기화
+    /**
+     * 도착 순서대로 쌓인 변경 (StringBuilder: 텍스트, StateUpdate: 상태, Runnable: 이벤트)
+     */
+    private List<Object> pending = new ArrayList<>();
+    private final Map<String, StateUpdate> pendingStates = new HashMap<>();
+    private int pendingChars;
+    private int pendingEvents;
+    private boolean scheduled;
+
+    /**
+     * 생성자
+     *
+     * @param textSink 프레임마다 모인 텍스트를 받는 함수 (EDT에서 호출)
+     */
+    public UiUpdateQueue(Consumer<String> textSink) {
+        this.textSink = textSink;
+        this.frameTimer = new Timer(FRAME_MILLIS, e -> drain());
+        this.frameTimer.setRepeats(false);
+    }
+
+    // ========================================
+    // 변경 등록 (모든 스레드)
+    // ========================================
+
+    /**
+     * 텍스트 추가
+     *
+     * @param text 추가할 텍스트 (줄바꿈 포함)
+     */
+    public synchronized void appendText(String text) {
+        awaitCapacity(() -> pendingChars < MAX_PENDING_CHARS);
+        // 바로 앞 항목도 텍스트면 이어 붙임
+        Object last = pending.isEmpty() ? null : pending.get(pending.size() - 1);
+        if (last instanceof StringBuilder) {
+            ((StringBuilder) last).append(text);
+        } else {
+            pending.add(new StringBuilder(text));
+        }
+        pendingChars += text.length();
+        schedule();
+    }
+
+    /**
+     * 상태 변경 등록 (같은 키는 마지막 값만 적용)
+     *
+     * @param key 상태 키
+     * @param update EDT에서 실행할 변경
+     */
+    public synchronized void putState(String key, Runnable update) {
+        // 이전 값은 건너뛰고 새 값을 도착 위치에 넣음 (앞서 온 텍스트 뒤에 적용)
+        StateUpdate previous = pendingStates.get(key);
+        if (previous != null) {
+            previous.update = null;
+        }
+        StateUpdate state = new StateUpdate(update);
+        pendingStates.put(key, state);
+        pending.add(state);
+        schedule();
+    }
+
+    /**
+     * 이벤트 등록 (순서대로 모두 적용)
+     *
+     * @param event EDT에서 실행할 변경
+     */
+    public synchronized void post(Runnable event) {
+        awaitCapacity(() -> pendingEvents < MAX_PENDING_EVENTS);
+        pending.add(event);
+        pendingEvents++;
+        schedule();
+    }
+
+    /**
+     * 다음 프레임 예약 (this 잠금 상태에서 호출)
+     */
+    private void schedule() {
+        if (!scheduled) {
+            scheduled = true;
+            frameTimer.start();
+        }
+    }
+
+    /**
+     * 한도 초과 시 EDT가 비울 때까지 대기 (this 잠금 상태에서 호출, EDT는 대기하지 않음)
+     */
+    private void awaitCapacity(BooleanSupplier hasCapacity) {
+        if (hasCapacity.getAsBoolean() || SwingUtilities.isEventDispatchThread()) {
+            return;
+        }
+        long deadline = System.currentTimeMillis() + MAX_BLOCK_MILLIS;
+        try {
+            while (!hasCapacity.getAsBoolean()) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return;
+                }
+                wait(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========================================
+    // 적용 (EDT)
+    // ========================================
+
+    /**
+     * 대기 중인 변경을 도착 순서대로 한 번에 적용
+     */
+    private void drain() {
+        List<Object> entries;
+
+        synchronized (this) {
+            scheduled = false;
+            entries = pending;
+            pending = new ArrayList<>();
+            pendingStates.clear();
+            pendingChars = 0;
+            pendingEvents = 0;
+            notifyAll();
+        }
+
+        for (Object entry : entries) {
+            if (entry instanceof StringBuilder) {
+                textSink.accept(entry.toString());
+            } else if (entry instanceof StateUpdate) {
+                Runnable update = ((StateUpdate) entry).update;
+                if (update != null) {
+                    update.run();
+                }
+            } else {
+                ((Runnable) entry).run();
+            }
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package mafia.game.config;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import mafia.game.logging.LogLevel;
+
+/**
+ * 서버 실행 설정
+ *
+ * 커맨드 라인 인자와 properties 파일에서 서버 설정을 읽습니다.
+ * 같은 항목이 둘 다 있으면 커맨드 라인 인자가 우선합니다.
+ *
+ * 커맨드 라인:
+ * - --headless              Swing 없이 실행 (즉시 서버 시작)
+ * - --port=30000            포트 번호
+ * - --config=server.properties  설정 파일 경로
+ * - --log-level=INFO        로그 레벨
+ *
+ * properties 키:
+ * - headless, port, autoStartPlayers, log.level, log.chat.sampleRate, log.console
+ * - roles.file (역할 구성 파일, 기본 game_data/balance/role_compositions.properties)
+ * - phase.graceMillis (필요한 입력이 모두 모인 뒤 다음 단계까지 유예, 기본 2000, 음수면 조기 진행 끔)
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class ServerConfig {
+
+    // ========================================
+    // 기본값
+    // ========================================
+
+    /**
+     * 기본 포트
+     */
+    public static final int DEFAULT_PORT = 30000;
+
+    /**
+     * 헤드리스 모드 자동 시작 기본 인원
+     */
+    public static final int DEFAULT_AUTO_START_PLAYERS = 8;
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    private boolean headless = false;
+    private int port = DEFAULT_PORT;
+    private int autoStartPlayers = DEFAULT_AUTO_START_PLAYERS;
+    private LogLevel logLevel = LogLevel.INFO;
+    private int chatSampleRate = 1;
+    private boolean consoleLog = false;
+
+    /**
+     * 원본 설정 (확장 항목 조회용)
+     */
+    private final Properties properties = new Properties();
+
+    /**
+     * 기본 설정 생성
+     */
+    public ServerConfig() {
+    }
+
+    // ========================================
+    // 파싱
+    // ========================================
+
+    /**
+     * 커맨드 라인 인자에서 설정 생성
+     * --config 가 있으면 파일을 먼저 읽고, 나머지 인자로 덮어씁니다.
+     *
+     * @param args 커맨드 라인 인자
+     * @return 서버 설정
+     * @throws IllegalArgumentException 잘못된 인자 또는 설정 파일 읽기 실패 시
+     */
+    public static ServerConfig fromArgs(String[] args) {
+        Properties cli = new Properties();
+        String configPath = null;
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("알 수 없는 인자: " + arg);
+            }
+
+            String key = arg.substring(2);
+            String value;
+            int eq = key.indexOf('=');
+            if (eq >= 0) {
+                value = key.substring(eq + 1);
+                key = key.substring(0, eq);
+            } else if (key.equals("headless")) {
+                value = "true";
+            } else if (i + 1 < args.length) {
+                value = args[++i];
+            } else {
+                throw new IllegalArgumentException("값이 필요합니다: " + arg);
+            }
+
+            if (key.equals("config")) {
+                configPath = value;
+            } else {
+                cli.setProperty(toPropertyKey(key), value);
+            }
+        }
+
+        ServerConfig config = new ServerConfig();
+        if (configPath != null) {
+            try (InputStream in = new FileInputStream(configPath)) {
+                config.properties.load(in);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("설정 파일을 읽을 수 없습니다: " + configPath, e);
+            }
+        }
+        config.properties.putAll(cli);
+        config.apply();
+        return config;
+    }
+
+    /**
+     * 커맨드 라인 키를 properties 키로 변환 (log-level -> log.level)
+     *
+     * @param cliKey 커맨드 라인 키
+     * @return properties 키
+     */
+    private static String toPropertyKey(String cliKey) {
+        switch (cliKey) {
+            case "log-level":
+                return "log.level";
+            case "auto-start":
+                return "autoStartPlayers";
+            default:
+                return cliKey;
+        }
+    }
+
+    /**
+     * properties 값을 필드에 반영
+     */
+    private void apply() {
+        headless = Boolean.parseBoolean(properties.getProperty("headless", String.valueOf(headless)));
+        port = getInt("port", port);
+        autoStartPlayers = getInt("autoStartPlayers", autoStartPlayers);
+        logLevel = LogLevel.parse(properties.getProperty("log.level"), logLevel);
+        chatSampleRate = Math.max(1, getInt("log.chat.sampleRate", chatSampleRate));
+        consoleLog = Boolean.parseBoolean(properties.getProperty("log.console", String.valueOf(consoleLog)));
+    }
+
+    /**
+     * 정수 설정 조회
+     *
+     * @param key 키
+     * @param defaultValue 기본값
+     * @return 값
+     * @throws IllegalArgumentException 숫자가 아닌 경우
+     */
+    public int getInt(String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("숫자가 아닙니다: " + key + "=" + value);
+        }
+    }
+
+    /**
+     * 문자열 설정 조회
+     *
+     * @param key 키
+     * @param defaultValue 기본값
+     * @return 값
+     */
+    public String getString(String key, String defaultValue) {
+        return properties.getProperty(key, defaultValue);
+    }
+
+    // ========================================
+    // Getter
+    // ========================================
+
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public int getAutoStartPlayers() {
+        return autoStartPlayers;
+    }
+
+    public LogLevel getLogLevel() {
+        return logLevel;
+    }
+
+    public int getChatSampleRate() {
+        return chatSampleRate;
+    }
+
+    /**
+     * GUI 모드에서도 표준 출력으로 로그를 낼지 여부 (헤드리스는 항상 출력)
+     *
+     * @return 콘솔 출력 여부
+     */
+    public boolean isConsoleLog() {
+        return consoleLog;
+    }
+
+    /**
+     * 헤드리스 모드 강제 (디스플레이가 없는 환경)
+     */
+    public void forceHeadless() {
+        this.headless = true;
+    }
+}
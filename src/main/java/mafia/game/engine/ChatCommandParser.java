@@ -0,0 +1,140 @@
+package mafia.game.engine;
+
+/**
+ * 채팅 명령어 파서
+ *
+ * 채팅 메시지 안에 섞인 명령어(/help, /guide, /stats, /emotion 및 한글 별칭)를 찾습니다.
+ * 클라이언트는 "[이름] /명령어 인자" 형식으로 보내므로 접두사가 아닌 포함 여부로 판별합니다.
+ *
+ * 영문 명령어는 대소문자를 구분하지 않으며, 일반 채팅(명령어 없음)은 할당 없이 판별합니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public final class ChatCommandParser {
+
+    // ========================================
+    // 명령어 종류
+    // ========================================
+
+    /**
+     * 채팅 명령어 종류
+     */
+    public enum Command {
+        NONE,       // 일반 채팅
+        HELP,       // 도움말
+        GUIDE,      // 역할 가이드
+        STATS,      // 통계
+        EMOTION     // 감정 표현
+    }
+
+    /**
+     * 명령어가 없는 메시지의 결과 (공유 인스턴스)
+     */
+    private static final ParsedCommand NO_COMMAND = new ParsedCommand(Command.NONE, null);
+
+    private ChatCommandParser() {
+    }
+
+    // ========================================
+    // 파싱
+    // ========================================
+
+    /**
+     * 채팅 메시지에서 명령어 찾기
+     *
+     * 우선순위는 도움말, 가이드, 통계, 감정 표현 순입니다.
+     *
+     * @param msg 채팅 메시지
+     * @return 파싱 결과 (명령어가 없으면 Command.NONE)
+     */
+    public static ParsedCommand parse(String msg) {
+        // 빠른 경로: '/'가 없으면 명령어가 아님
+        if (msg.indexOf('/') < 0) {
+            return NO_COMMAND;
+        }
+
+        if (indexOfIgnoreCase(msg, "/help") >= 0 || msg.contains("/도움말") || msg.contains("/명령어")) {
+            return new ParsedCommand(Command.HELP, null);
+        }
+
+        int index = find(msg, "/guide", "/가이드", "/역할");
+        if (index >= 0) {
+            return new ParsedCommand(Command.GUIDE, msg.substring(index));
+        }
+
+        index = find(msg, "/stats", "/통계", "/전적");
+        if (index >= 0) {
+            return new ParsedCommand(Command.STATS, msg.substring(index));
+        }
+
+        index = find(msg, "/emotion", "/감정", "/이모지");
+        if (index >= 0) {
+            return new ParsedCommand(Command.EMOTION, msg.substring(index));
+        }
+
+        return NO_COMMAND;
+    }
+
+    /**
+     * 영문 명령어(대소문자 무시), 한글 별칭 순으로 위치 찾기
+     */
+    private static int find(String msg, String english, String alias1, String alias2) {
+        int index = indexOfIgnoreCase(msg, english);
+        if (index == -1) index = msg.indexOf(alias1);
+        if (index == -1) index = msg.indexOf(alias2);
+        return index;
+    }
+
+    /**
+     * 대소문자를 무시한 indexOf (toLowerCase 복사 없이)
+     */
+    private static int indexOfIgnoreCase(String msg, String word) {
+        int last = msg.length() - word.length();
+        for (int i = msg.indexOf('/'); i >= 0 && i <= last; i = msg.indexOf('/', i + 1)) {
+            if (msg.regionMatches(true, i, word, 0, word.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // ========================================
+    // 내부 클래스 - ParsedCommand
+    // ========================================
+
+    /**
+     * 파싱 결과
+     */
+    public static class ParsedCommand {
+        private final Command command;
+        private final String text;
+
+        private ParsedCommand(Command command, String text) {
+            this.command = command;
+            this.text = text;
+        }
+
+        /**
+         * 명령어 종류
+         *
+         * @return 명령어 (없으면 Command.NONE)
+         */
+        public Command getCommand() {
+            return command;
+        }
+
+        /**
+         * 명령어부터 끝까지의 문자열 (예: "/stats 홍길동")
+         *
+         * @return 명령어 문자열 (HELP, NONE이면 null)
+         */
+        public String getText() {
+            return text;
+        }
+
+        public boolean isCommand() {
+            return command != Command.NONE;
+        }
+    }
+}
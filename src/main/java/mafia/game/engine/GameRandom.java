@@ -0,0 +1,127 @@
+package mafia.game.engine;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 게임별 시드 기반 난수 생성기
+ *
+ * 한 게임(방)의 모든 무작위 결정은 이 객체에서만 나옵니다.
+ * 시드를 기록해 두면 같은 입력으로 같은 결과를 재현할 수 있습니다.
+ *
+ * 설계 원칙:
+ * - 방마다 독립된 SplittableRandom (공유 Random의 경합 없음)
+ * - 용도별 하위 스트림(split): 역할 배정과 이벤트가 서로의 호출 순서에 영향을 주지 않음
+ * - Collections.shuffle 대신 자체 Fisher-Yates 사용 (JDK 구현 변경에 영향받지 않음)
+ *
+ * 시드는 mafia.game.seed 시스템 프로퍼티로 고정할 수 있습니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public final class GameRandom {
+
+    /**
+     * 시드 고정 시스템 프로퍼티
+     */
+    public static final String SEED_PROPERTY = "mafia.game.seed";
+
+    /**
+     * 시드 (하위 스트림은 부모 시드를 그대로 보고)
+     */
+    private final long seed;
+
+    /**
+     * 내부 난수 생성기
+     */
+    private final SplittableRandom random;
+
+    /**
+     * 생성자
+     *
+     * @param seed 시드
+     */
+    public GameRandom(long seed) {
+        this(seed, new SplittableRandom(seed));
+    }
+
+    private GameRandom(long seed, SplittableRandom random) {
+        this.seed = seed;
+        this.random = random;
+    }
+
+    /**
+     * 새 게임용 난수 생성기
+     * mafia.game.seed 프로퍼티가 있으면 그 값을, 없으면 새 시드를 사용합니다.
+     *
+     * @return 난수 생성기
+     */
+    public static GameRandom newGame() {
+        Long fixed = Long.getLong(SEED_PROPERTY);
+        return new GameRandom(fixed != null ? fixed : new SplittableRandom().nextLong());
+    }
+
+    /**
+     * 용도별 하위 스트림 생성
+     * 부모에서 split하는 순서만 같으면 결과가 같습니다.
+     *
+     * @return 독립된 하위 난수 생성기
+     */
+    public synchronized GameRandom split() {
+        return new GameRandom(seed, random.split());
+    }
+
+    /**
+     * 게임 시드 조회 (하위 스트림은 부모와 같은 시드를 보고)
+     *
+     * @return 시드
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * 0 이상 bound 미만 정수
+     *
+     * @param bound 상한 (양수)
+     * @return 난수
+     */
+    public synchronized int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * 50% 확률 선택
+     *
+     * @return true 또는 false
+     */
+    public synchronized boolean nextBoolean() {
+        return random.nextBoolean();
+    }
+
+    /**
+     * 리스트를 제자리에서 섞기 (Fisher-Yates)
+     *
+     * @param list 섞을 리스트
+     * @param <T> 원소 타입
+     */
+    public synchronized <T> void shuffle(List<T> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            if (i != j) {
+                list.set(i, list.set(j, list.get(i)));
+            }
+        }
+    }
+
+    /**
+     * 리스트에서 하나 선택
+     *
+     * @param list 후보 리스트 (비어 있지 않아야 함)
+     * @param <T> 원소 타입
+     * @return 선택된 원소
+     */
+    public <T> T pick(List<T> list) {
+        return list.get(nextInt(list.size()));
+    }
+}
@@ -0,0 +1,506 @@
+package mafia.game.engine;
+
+import java.util.Map;
+
+/**
+ * 게임 규칙 판정
+ *
+ * 소켓, Swing, 타이머와 무관한 순수 규칙만 모아 둡니다.
+ * 서버(MafiaGameServer)와 시뮬레이터(GameSimulator)가 같은 판정을 사용하므로,
+ * 규칙을 바꿀 때는 이 클래스만 고치면 양쪽에 함께 반영됩니다.
+ * 밤 행동, 찬반 투표, 승리 조건 같은 페이즈 판정은 GameView로 상태를 읽어 결과만 돌려주고,
+ * 결과 적용(상태 변경, 메시지, 저널)은 호출하는 쪽이 합니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public final class GameRules {
+
+    // ========================================
+    // 설정 상수
+    // ========================================
+
+    /**
+     * 기자 능력 사용 가능 첫 밤
+     */
+    public static final int REPORTER_FIRST_NIGHT = 2;
+
+    /**
+     * 기자 능력 사용 가능 마지막 밤
+     */
+    public static final int REPORTER_LAST_NIGHT = 8;
+
+    private GameRules() {
+    }
+
+    // ========================================
+    // 진영 및 승리 조건
+    // ========================================
+
+    /**
+     * 승리 팀
+     */
+    public enum Winner {
+        NONE, CITIZEN, MAFIA
+    }
+
+    /**
+     * 마피아 팀 여부 (마담은 마피아와 접선한 뒤에만 마피아 팀으로 집계)
+     *
+     * @param role 역할
+     * @param madameContacted 마담 접선 여부
+     * @return 마피아 팀 여부
+     */
+    public static boolean isMafiaTeam(String role, boolean madameContacted) {
+        return role.equals("MAFIA") || role.equals("SPY") || (role.equals("MADAME") && madameContacted);
+    }
+
+    /**
+     * 승리 조건 판정에서 시민 한 명의 힘 (정치인은 2)
+     *
+     * @param role 역할
+     * @return 시민 팀 파워
+     */
+    public static int citizenPower(String role) {
+        return role.equals("POLITICIAN") ? 2 : 1;
+    }
+
+    /**
+     * 승리 조건 판정
+     * 마피아 팀이 없으면 시민 승리, 마피아 팀 수가 시민 팀 파워 이상이면 마피아 승리입니다.
+     *
+     * @param mafiaCount 생존 마피아 팀 수
+     * @param citizenPower 생존 시민 팀 파워 합
+     * @return 승리 팀 (NONE이면 계속)
+     */
+    public static Winner checkWinner(int mafiaCount, int citizenPower) {
+        if (mafiaCount == 0) {
+            return Winner.CITIZEN;
+        } else if (mafiaCount >= citizenPower) {
+            return Winner.MAFIA;
+        }
+        return Winner.NONE;
+    }
+
+    // ========================================
+    // 밤 행동
+    // ========================================
+
+    /**
+     * 마피아 공격 결과
+     */
+    public enum AttackOutcome {
+        SAVED_BY_DOCTOR, SAVED_BY_SOLDIER, KILLED
+    }
+
+    /**
+     * 마피아 공격 판정
+     * 군인의 방어막은 공격을 받으면 결과와 관계없이 소모되며, 유혹당한 군인은 방어막으로 막지 못합니다.
+     *
+     * @param doctorProtected 의사가 타겟을 보호했는지
+     * @param shielded 타겟의 방어막 보유 여부
+     * @param seduced 타겟의 유혹 여부
+     * @return 공격 결과
+     */
+    public static AttackOutcome resolveMafiaAttack(boolean doctorProtected, boolean shielded, boolean seduced) {
+        if (doctorProtected) {
+            return AttackOutcome.SAVED_BY_DOCTOR;
+        }
+        if (shielded && !seduced) {
+            return AttackOutcome.SAVED_BY_SOLDIER;
+        }
+        return AttackOutcome.KILLED;
+    }
+
+    /**
+     * 밤마다 행동을 기다려야 하는 역할인지 (조기 진행 판정용)
+     * 영매와 성직자는 대상이 될 사망자가 있을 때만, 기자는 사용 가능한 밤에만, 성직자는 능력을 쓰기 전에만 기다립니다.
+     *
+     * @param role 역할
+     * @param nightCount 현재 밤 차수
+     * @param priestUsed 성직자 능력 사용 여부
+     * @param unblessedDeadExists 성불되지 않은 사망자 존재 여부
+     * @return 행동을 기다려야 하면 true
+     */
+    public static boolean requiresNightAction(String role, int nightCount, boolean priestUsed,
+                                              boolean unblessedDeadExists) {
+        switch (role) {
+            case "MAFIA":
+            case "DOCTOR":
+            case "POLICE":
+            case "SPY":
+            case "GANGSTER":
+                return true;
+            case "REPORTER":
+                return reporterCanAct(nightCount);
+            case "SHAMAN":
+                return unblessedDeadExists;
+            case "PRIEST":
+                return !priestUsed && unblessedDeadExists;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 경찰 조사에서 마피아로 판정되는 역할
+     *
+     * @param role 대상 역할
+     * @return 마피아 판정 여부
+     */
+    public static boolean appearsAsMafiaToPolice(String role) {
+        return role.equals("MAFIA") || role.equals("SPY");
+    }
+
+    /**
+     * 기자 능력 사용 가능 여부 (2번째 밤부터 8번째 밤까지)
+     *
+     * @param nightCount 현재 밤 차수
+     * @return 사용 가능 여부
+     */
+    public static boolean reporterCanAct(int nightCount) {
+        return nightCount >= REPORTER_FIRST_NIGHT && nightCount <= REPORTER_LAST_NIGHT;
+    }
+
+    /**
+     * 도굴꾼 변신 가능 여부 (도굴꾼이 있고 아직 변신하지 않았으면 마피아에게 죽은 사람의 직업을 얻음)
+     *
+     * @param ghoulExists 도굴꾼 존재 여부
+     * @param ghoulTransformed 변신 완료 여부
+     * @return 변신 가능 여부
+     */
+    public static boolean ghoulCanTransform(boolean ghoulExists, boolean ghoulTransformed) {
+        return ghoulExists && !ghoulTransformed;
+    }
+
+    /**
+     * 성직자 부활 가능 판정 결과
+     */
+    public enum ReviveCheck {
+        OK, ALREADY_USED, NOT_FOUND, ALIVE, BLESSED
+    }
+
+    /**
+     * 성직자 부활 가능 판정
+     *
+     * @param priestUsed 능력 사용 여부
+     * @param targetAlive 대상 생존 여부 (없는 플레이어면 null)
+     * @param targetBlessed 대상 성불 여부
+     * @return 판정 결과
+     */
+    public static ReviveCheck checkRevive(boolean priestUsed, Boolean targetAlive, boolean targetBlessed) {
+        if (priestUsed) {
+            return ReviveCheck.ALREADY_USED;
+        } else if (targetAlive == null) {
+            return ReviveCheck.NOT_FOUND;
+        } else if (targetAlive) {
+            return ReviveCheck.ALIVE;
+        } else if (targetBlessed) {
+            return ReviveCheck.BLESSED;
+        }
+        return ReviveCheck.OK;
+    }
+
+    /**
+     * 부활한 플레이어가 도굴꾼에게 직업을 빼앗겨 시민이 되는지 여부
+     *
+     * @param ghoulVictim 부활 대상이 도굴 희생자인지
+     * @param ghoulTransformed 도굴꾼 변신 여부
+     * @return 시민으로 부활하면 true
+     */
+    public static boolean revivesAsCitizen(boolean ghoulVictim, boolean ghoulTransformed) {
+        return ghoulTransformed && ghoulVictim;
+    }
+
+    // ========================================
+    // 투표
+    // ========================================
+
+    /**
+     * 투표 가중치 (정치인 2표, 산타 선물 2표, 일반 1표)
+     *
+     * @param role 투표자 역할
+     * @param santaGift 산타 선물 보유 여부 (크리스마스 이벤트 중)
+     * @return 투표 수
+     */
+    public static int voteWeight(String role, boolean santaGift) {
+        return role.equals("POLITICIAN") || santaGift ? 2 : 1;
+    }
+
+    /**
+     * 최다 득표 집계 결과
+     */
+    public static class PluralityResult {
+        private final String maxVotedPlayer;
+        private final int maxVotes;
+        private final boolean tie;
+
+        public PluralityResult(String maxVotedPlayer, int maxVotes, boolean tie) {
+            this.maxVotedPlayer = maxVotedPlayer;
+            this.maxVotes = maxVotes;
+            this.tie = tie;
+        }
+
+        public String getMaxVotedPlayer() {
+            return maxVotedPlayer;
+        }
+
+        public int getMaxVotes() {
+            return maxVotes;
+        }
+
+        public boolean isTie() {
+            return tie;
+        }
+
+        /**
+         * 최후의 반론으로 넘어갈 후보가 있는지 (동점이 아니고 1표 이상)
+         *
+         * @return 후보 존재 여부
+         */
+        public boolean hasCandidate() {
+            return !tie && maxVotes > 0;
+        }
+    }
+
+    /**
+     * 최다 득표자 찾기
+     *
+     * @param voteCounts 후보 -> 득표 수
+     * @return 집계 결과
+     */
+    public static PluralityResult plurality(Map<String, Integer> voteCounts) {
+        String maxVotedPlayer = null;
+        int maxVotes = 0;
+        boolean tie = false;
+
+        for (Map.Entry<String, Integer> entry : voteCounts.entrySet()) {
+            if (entry.getValue() > maxVotes) {
+                maxVotes = entry.getValue();
+                maxVotedPlayer = entry.getKey();
+                tie = false;
+            } else if (entry.getValue() == maxVotes && maxVotes > 0) {
+                tie = true;
+            }
+        }
+
+        return new PluralityResult(maxVotedPlayer, maxVotes, tie);
+    }
+
+    /**
+     * 최다 득표자 찾기 (좌석 번호 배열용, 시뮬레이터에서 사용)
+     *
+     * @param votes 좌석 -> 득표 수
+     * @return 최다 득표 좌석 (동점이거나 득표가 없으면 -1)
+     */
+    public static int plurality(int[] votes) {
+        int maxVoted = -1;
+        int maxVotes = 0;
+        boolean tie = false;
+
+        for (int i = 0; i < votes.length; i++) {
+            if (votes[i] > maxVotes) {
+                maxVotes = votes[i];
+                maxVoted = i;
+                tie = false;
+            } else if (votes[i] == maxVotes && maxVotes > 0) {
+                tie = true;
+            }
+        }
+
+        return tie ? -1 : maxVoted;
+    }
+
+    /**
+     * 찬반 투표 처형 여부 (찬성이 반대와 같거나 많으면 처형, 투표하지 않은 사람은 반대)
+     *
+     * @param agreeVotes 찬성 수
+     * @param disagreeVotes 반대 수
+     * @return 처형 여부
+     */
+    public static boolean executes(int agreeVotes, int disagreeVotes) {
+        return agreeVotes >= disagreeVotes;
+    }
+
+    /**
+     * 처형 대상이 정치인 능력으로 살아남는지 (유혹당한 정치인은 제거됨)
+     *
+     * @param role 처형 대상 역할
+     * @param seduced 유혹 여부
+     * @return 생존 여부
+     */
+    public static boolean survivesExecution(String role, boolean seduced) {
+        return role.equals("POLITICIAN") && !seduced;
+    }
+
+    // ========================================
+    // 페이즈 판정
+    // ========================================
+
+    /**
+     * 밤 행동 처리 결과
+     *
+     * @param <P> 플레이어 식별자
+     */
+    public static final class NightResult<P> {
+        private final P voteBanned;
+        private final P attackTarget;
+        private final AttackOutcome outcome;
+        private final boolean shieldConsumed;
+        private final boolean ghoulTransforming;
+
+        NightResult(P voteBanned, P attackTarget, AttackOutcome outcome, boolean shieldConsumed,
+                    boolean ghoulTransforming) {
+            this.voteBanned = voteBanned;
+            this.attackTarget = attackTarget;
+            this.outcome = outcome;
+            this.shieldConsumed = shieldConsumed;
+            this.ghoulTransforming = ghoulTransforming;
+        }
+
+        /**
+         * 건달이 다음 투표를 금지한 플레이어 (없으면 null)
+         */
+        public P getVoteBanned() {
+            return voteBanned;
+        }
+
+        /**
+         * 마피아의 공격 대상 (공격이 없으면 null)
+         */
+        public P getAttackTarget() {
+            return attackTarget;
+        }
+
+        /**
+         * 공격 결과 (공격이 없으면 null)
+         */
+        public AttackOutcome getOutcome() {
+            return outcome;
+        }
+
+        /**
+         * 공격 대상의 군인 방어막이 소모되었는지
+         */
+        public boolean isShieldConsumed() {
+            return shieldConsumed;
+        }
+
+        /**
+         * 도굴꾼이 사망자의 직업을 얻는지
+         */
+        public boolean isGhoulTransforming() {
+            return ghoulTransforming;
+        }
+    }
+
+    /**
+     * 밤 행동 판정 (건달의 투표 금지, 마피아 공격, 도굴꾼 변신)
+     * 경찰/스파이/영매/기자/성직자 능력은 행동을 고를 때 바로 처리되므로 여기서는 다루지 않습니다.
+     *
+     * @param state 게임 상태
+     * @param actions 역할 -> 밤 행동 대상
+     * @param <P> 플레이어 식별자
+     * @return 판정 결과
+     */
+    public static <P> NightResult<P> resolveNight(GameView<P> state, Map<String, P> actions) {
+        P voteBanned = actions.get("GANGSTER");
+        P mafiaTarget = actions.get("MAFIA");
+        if (mafiaTarget == null) {
+            return new NightResult<>(voteBanned, null, null, false, false);
+        }
+
+        boolean shielded = state.hasShield(mafiaTarget);
+        AttackOutcome outcome = resolveMafiaAttack(mafiaTarget.equals(actions.get("DOCTOR")), shielded,
+                state.isSeduced(mafiaTarget));
+        boolean ghoulTransforming = outcome == AttackOutcome.KILLED
+                && ghoulCanTransform(state.isGhoulPresent(), state.isGhoulTransformed());
+        return new NightResult<>(voteBanned, mafiaTarget, outcome, shielded, ghoulTransforming);
+    }
+
+    /**
+     * 찬반 투표 결과
+     */
+    public enum Verdict {
+        SPARED, SURVIVED_AS_POLITICIAN, EXECUTED
+    }
+
+    /**
+     * 찬반 투표 판정
+     *
+     * @param state 게임 상태
+     * @param defendant 최후의 반론 대상
+     * @param agreeVotes 찬성 수
+     * @param disagreeVotes 반대 수 (투표하지 않은 사람 포함)
+     * @param <P> 플레이어 식별자
+     * @return 판정 결과
+     */
+    public static <P> Verdict resolveFinalDecision(GameView<P> state, P defendant, int agreeVotes, int disagreeVotes) {
+        if (!executes(agreeVotes, disagreeVotes)) {
+            return Verdict.SPARED;
+        }
+        return survivesExecution(state.getRole(defendant), state.isSeduced(defendant))
+                ? Verdict.SURVIVED_AS_POLITICIAN : Verdict.EXECUTED;
+    }
+
+    /**
+     * 생존자 집계와 승리 판정 결과
+     */
+    public static final class Standing {
+        private final int aliveCount;
+        private final int mafiaCount;
+        private final int citizenPower;
+        private final Winner winner;
+
+        Standing(int aliveCount, int mafiaCount, int citizenPower) {
+            this.aliveCount = aliveCount;
+            this.mafiaCount = mafiaCount;
+            this.citizenPower = citizenPower;
+            this.winner = checkWinner(mafiaCount, citizenPower);
+        }
+
+        public int getAliveCount() {
+            return aliveCount;
+        }
+
+        public int getMafiaCount() {
+            return mafiaCount;
+        }
+
+        public int getCitizenPower() {
+            return citizenPower;
+        }
+
+        public Winner getWinner() {
+            return winner;
+        }
+    }
+
+    /**
+     * 승리 조건 판정 (생존한 마피아 팀 수와 시민 팀 파워 집계)
+     *
+     * @param state 게임 상태
+     * @param <P> 플레이어 식별자
+     * @return 집계 및 판정 결과
+     */
+    public static <P> Standing resolveWinner(GameView<P> state) {
+        int aliveCount = 0;
+        int mafiaCount = 0;
+        int citizenPower = 0;
+        boolean madameContacted = state.isMadameContacted();
+
+        for (P player : state.getPlayers()) {
+            if (!state.isAlive(player)) {
+                continue;
+            }
+            aliveCount++;
+            String role = state.getRole(player);
+            if (isMafiaTeam(role, madameContacted)) {
+                mafiaCount++;
+            } else {
+                citizenPower += citizenPower(role);
+            }
+        }
+        return new Standing(aliveCount, mafiaCount, citizenPower);
+    }
+}
@@ -0,0 +1,53 @@
+package mafia.game.engine;
+
+/**
+ * 규칙 판정용 게임 상태 조회
+ *
+ * 서버는 플레이어 이름으로, 시뮬레이터는 좌석 번호로 상태를 보관하므로
+ * GameRules의 페이즈 판정(resolveNight, resolveFinalDecision, resolveWinner)은 이 인터페이스로 상태를 읽습니다.
+ * 판정은 상태를 바꾸지 않으며, 결과 적용(메시지 전송, 저널 기록 등)은 호출하는 쪽이 합니다.
+ *
+ * @param <P> 플레이어 식별자 (서버는 이름, 시뮬레이터는 좌석 번호)
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public interface GameView<P> {
+
+    /**
+     * 게임에 참가 중인 플레이어 (승리 조건 집계 대상)
+     *
+     * @return 플레이어 목록
+     */
+    Iterable<P> getPlayers();
+
+    /**
+     * 현재 역할 (도굴꾼 변신, 부활 후 시민 전환 반영)
+     *
+     * @param player 플레이어
+     * @return 역할
+     */
+    String getRole(P player);
+
+    boolean isAlive(P player);
+
+    /**
+     * 군인 방어막 보유 여부
+     *
+     * @param player 플레이어
+     * @return 방어막이 남아 있으면 true
+     */
+    boolean hasShield(P player);
+
+    boolean isSeduced(P player);
+
+    /**
+     * 마담이 마피아와 접선했는지 (접선한 마담은 마피아 팀으로 집계)
+     *
+     * @return 접선 여부
+     */
+    boolean isMadameContacted();
+
+    boolean isGhoulPresent();
+
+    boolean isGhoulTransformed();
+}
@@ -0,0 +1,288 @@
+package mafia.game.engine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 역할 구성기
+ *
+ * 플레이어 수에 맞는 역할 목록을 만듭니다. 서버와 시뮬레이터가 같은 구성 규칙을 사용합니다.
+ * 반환 목록은 섞이지 않은 상태이며, 배정 순서는 호출자가 같은 난수로 섞어 정합니다.
+ *
+ * 인원별 구성:
+ * - 4명: 마피아1, 의사1, 경찰1, 시민1
+ * - 5명: 마피아2, 의사1, 경찰1, 정치인 또는 군인
+ * - 6명: 마피아1, 보조1(스파이 또는 마담), 의사1, 경찰1, 정치인, 군인
+ * - 7명: 6명 구성 + 영매
+ * - 8명: 마피아2, 보조1, 의사1, 경찰1, 특수 직업 7개 중 3개
+ *
+ * 밸런스 최적화 도구(BalanceOptimizer)가 내보낸 구성 파일을 읽으면 해당 인원은 파일의 구성을 사용합니다.
+ * 파일 형식 (properties): {@code players.<인원>=<RoleComposition 명세>}
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class RoleComposer {
+
+    // ========================================
+    // 설정 상수
+    // ========================================
+
+    /**
+     * 최소 인원
+     */
+    public static final int MIN_PLAYERS = 4;
+
+    /**
+     * 최대 인원
+     */
+    public static final int MAX_PLAYERS = 8;
+
+    /**
+     * 8인 구성에서 뽑는 특수 직업 후보
+     */
+    private static final String[] SPECIAL_ROLES = {
+        "POLITICIAN", "REPORTER", "SOLDIER", "SHAMAN", "GHOUL", "GANGSTER", "PRIEST"
+    };
+
+    /**
+     * 구성 파일 기본 경로
+     */
+    public static final String DEFAULT_COMPOSITION_FILE = "game_data/balance/role_compositions.properties";
+
+    /**
+     * 구성 파일 키 접두사
+     */
+    public static final String KEY_PREFIX = "players.";
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    /**
+     * 인원 -> 파일에서 읽은 구성 (없는 인원은 기본 구성 사용)
+     */
+    private volatile Map<Integer, RoleComposition> compositions = Map.of();
+
+    // ========================================
+    // 구성
+    // ========================================
+
+    /**
+     * 플레이어 수에 따른 역할 목록 생성
+     *
+     * @param playerCount 플레이어 수
+     * @param random 게임 난수 (역할 배정용 하위 스트림)
+     * @return 역할 목록 (지원하지 않는 인원이면 빈 목록)
+     */
+    public List<String> compose(int playerCount, GameRandom random) {
+        RoleComposition composition = compositions.get(playerCount);
+        if (composition != null) {
+            return composition.compose(random);
+        }
+
+        switch (playerCount) {
+            case 4:
+                return createRolesFor4Players();
+            case 5:
+                return createRolesFor5Players(random);
+            case 6:
+                return createRolesFor6Players(random);
+            case 7:
+                return createRolesFor7Players(random);
+            case 8:
+                return createRolesFor8Players(random);
+            default:
+                return new ArrayList<>();
+        }
+    }
+
+    /**
+     * 기본 구성의 명세 (createRolesForN과 같은 구성)
+     *
+     * @param playerCount 플레이어 수
+     * @return 구성 명세 (지원하지 않는 인원이면 null)
+     */
+    public static String defaultSpec(int playerCount) {
+        String supporter = "SPY|MADAME";
+        switch (playerCount) {
+            case 4:
+                return "MAFIA,DOCTOR,POLICE,CITIZEN";
+            case 5:
+                return "MAFIA,MAFIA,DOCTOR,POLICE,POLITICIAN|SOLDIER";
+            case 6:
+                return "MAFIA," + supporter + ",DOCTOR,POLICE,POLITICIAN,SOLDIER";
+            case 7:
+                return "MAFIA," + supporter + ",DOCTOR,POLICE,POLITICIAN,SOLDIER,SHAMAN";
+            case 8:
+                return "MAFIA,MAFIA," + supporter + ",DOCTOR,POLICE,3*" + String.join("|", SPECIAL_ROLES);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 4명용 역할 구성
+     */
+    private List<String> createRolesFor4Players() {
+        List<String> roles = new ArrayList<>();
+        roles.add("MAFIA");
+        roles.add("DOCTOR");
+        roles.add("POLICE");
+        roles.add("CITIZEN");
+        return roles;
+    }
+
+    /**
+     * 5명용 역할 구성
+     */
+    private List<String> createRolesFor5Players(GameRandom random) {
+        List<String> roles = new ArrayList<>();
+        roles.add("MAFIA");
+        roles.add("MAFIA");
+        roles.add("DOCTOR");
+        roles.add("POLICE");
+
+        // 정치인 또는 군인 중 랜덤 선택
+        roles.add(random.nextBoolean() ? "POLITICIAN" : "SOLDIER");
+        return roles;
+    }
+
+    /**
+     * 6명용 역할 구성
+     */
+    private List<String> createRolesFor6Players(GameRandom random) {
+        List<String> roles = new ArrayList<>();
+        roles.add("MAFIA");
+        addRandomMafiaSupporter(roles, random);
+        roles.add("DOCTOR");
+        roles.add("POLICE");
+        roles.add("POLITICIAN");
+        roles.add("SOLDIER");
+        return roles;
+    }
+
+    /**
+     * 7명용 역할 구성
+     */
+    private List<String> createRolesFor7Players(GameRandom random) {
+        List<String> roles = createRolesFor6Players(random);
+        roles.add("SHAMAN");
+        return roles;
+    }
+
+    /**
+     * 8명용 역할 구성
+     */
+    private List<String> createRolesFor8Players(GameRandom random) {
+        List<String> roles = new ArrayList<>();
+        roles.add("MAFIA");
+        roles.add("MAFIA");
+        addRandomMafiaSupporter(roles, random);
+        roles.add("DOCTOR");
+        roles.add("POLICE");
+
+        // 특수 직업 7개 중 3개 랜덤 선택
+        List<String> specialRoles = new ArrayList<>(List.of(SPECIAL_ROLES));
+        random.shuffle(specialRoles);
+        roles.addAll(specialRoles.subList(0, 3));
+        return roles;
+    }
+
+    /**
+     * 마피아 보조 직업 랜덤 추가 (스파이 또는 마담)
+     */
+    private void addRandomMafiaSupporter(List<String> roles, GameRandom random) {
+        roles.add(random.nextBoolean() ? "SPY" : "MADAME");
+    }
+
+    // ========================================
+    // 구성 파일
+    // ========================================
+
+    /**
+     * 특정 인원의 구성 지정
+     *
+     * @param playerCount 플레이어 수
+     * @param composition 역할 구성 (null이면 기본 구성으로 복귀)
+     * @throws IllegalArgumentException 인원 범위를 벗어나거나 구성 인원이 맞지 않는 경우
+     */
+    public synchronized void setComposition(int playerCount, RoleComposition composition) {
+        Map<Integer, RoleComposition> updated = new HashMap<>(compositions);
+        if (composition == null) {
+            updated.remove(playerCount);
+        } else {
+            validate(playerCount, composition);
+            updated.put(playerCount, composition);
+        }
+        compositions = Map.copyOf(updated);
+    }
+
+    /**
+     * 구성 파일 읽기
+     * 파일의 모든 항목을 검증한 뒤 한 번에 교체하므로, 잘못된 파일은 기존 구성을 바꾸지 않습니다.
+     *
+     * @param file 구성 파일
+     * @return 읽은 인원 수 (파일이 없으면 0)
+     * @throws IOException 읽기 실패 시
+     * @throws IllegalArgumentException 잘못된 항목이 있는 경우
+     */
+    public int loadCompositions(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return 0;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+
+        Map<Integer, RoleComposition> loaded = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (!key.startsWith(KEY_PREFIX)) {
+                continue;
+            }
+            int playerCount;
+            try {
+                playerCount = Integer.parseInt(key.substring(KEY_PREFIX.length()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 키: " + key);
+            }
+            RoleComposition composition = RoleComposition.parse(properties.getProperty(key));
+            validate(playerCount, composition);
+            loaded.put(playerCount, composition);
+        }
+
+        synchronized (this) {
+            compositions = Map.copyOf(loaded);
+        }
+        return loaded.size();
+    }
+
+    /**
+     * 현재 사용 중인 구성 명세
+     *
+     * @param playerCount 플레이어 수
+     * @return 구성 명세 (파일 구성이 없으면 기본 구성)
+     */
+    public String getSpec(int playerCount) {
+        RoleComposition composition = compositions.get(playerCount);
+        return composition != null ? composition.toSpec() : defaultSpec(playerCount);
+    }
+
+    private static void validate(int playerCount, RoleComposition composition) {
+        if (playerCount < MIN_PLAYERS || playerCount > MAX_PLAYERS) {
+            throw new IllegalArgumentException("지원하지 않는 인원: " + playerCount);
+        }
+        if (composition.size() != playerCount) {
+            throw new IllegalArgumentException(playerCount + "인 구성의 역할 수가 " + composition.size() + "개입니다");
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package mafia.game.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 역할 구성 명세
+ *
+ * 한 인원수의 역할 구성을 슬롯 목록으로 표현합니다. 문자열 형식은 쉼표로 구분한 슬롯이며,
+ * 각 슬롯은 다음 중 하나입니다.
+ * <pre>
+ * MAFIA                       고정 역할
+ * SPY|MADAME                  후보 중 하나를 무작위 선택
+ * 3*POLITICIAN|SOLDIER|...    후보 중 서로 다른 3개를 무작위 선택
+ * </pre>
+ * 예: {@code MAFIA,MAFIA,SPY|MADAME,DOCTOR,POLICE,3*POLITICIAN|REPORTER|SOLDIER|SHAMAN|GHOUL|GANGSTER|PRIEST}
+ *
+ * 서버는 역할별 상태를 한 사람 기준으로 관리하므로, 마피아와 시민을 제외한 역할은
+ * 구성 전체에서 한 슬롯에만 나타날 수 있습니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class RoleComposition {
+
+    // ========================================
+    // 설정 상수
+    // ========================================
+
+    /**
+     * 구성에 사용할 수 있는 역할
+     */
+    public static final Set<String> KNOWN_ROLES = Set.of(
+        "MAFIA", "SPY", "MADAME", "DOCTOR", "POLICE", "CITIZEN", "POLITICIAN",
+        "SOLDIER", "SHAMAN", "REPORTER", "GHOUL", "GANGSTER", "PRIEST"
+    );
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    private final List<Slot> slots;
+    private final int size;
+
+    private RoleComposition(List<Slot> slots) {
+        this.slots = slots;
+        int total = 0;
+        for (Slot slot : slots) {
+            total += slot.picks;
+        }
+        this.size = total;
+    }
+
+    // ========================================
+    // 파싱
+    // ========================================
+
+    /**
+     * 문자열 명세 파싱
+     *
+     * @param spec 구성 명세
+     * @return 역할 구성
+     * @throws IllegalArgumentException 형식이 잘못되었거나 알 수 없는 역할, 중복 역할, 마피아가 없는 경우
+     */
+    public static RoleComposition parse(String spec) {
+        List<Slot> slots = new ArrayList<>();
+        Set<String> uniqueRoles = new HashSet<>();
+        boolean hasMafia = false;
+
+        for (String token : spec.split(",")) {
+            token = token.trim();
+            if (token.isEmpty()) {
+                throw new IllegalArgumentException("빈 슬롯: " + spec);
+            }
+
+            int picks = 1;
+            int star = token.indexOf('*');
+            if (star >= 0) {
+                try {
+                    picks = Integer.parseInt(token.substring(0, star).trim());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("잘못된 선택 수: " + token);
+                }
+                token = token.substring(star + 1);
+            }
+
+            String[] alternatives = token.split("\\|");
+            for (int i = 0; i < alternatives.length; i++) {
+                String role = alternatives[i].trim().toUpperCase();
+                if (!KNOWN_ROLES.contains(role)) {
+                    throw new IllegalArgumentException("알 수 없는 역할: " + role);
+                }
+                if (!role.equals("MAFIA") && !role.equals("CITIZEN") && !uniqueRoles.add(role)) {
+                    throw new IllegalArgumentException("중복 역할: " + role);
+                }
+                hasMafia |= role.equals("MAFIA") && alternatives.length == 1;
+                alternatives[i] = role;
+            }
+            if (picks < 1 || (alternatives.length > 1 && picks > alternatives.length)) {
+                throw new IllegalArgumentException("선택 수가 후보 수보다 많습니다: " + token);
+            }
+            if (picks > 1 && alternatives.length == 1 && !alternatives[0].equals("MAFIA")
+                    && !alternatives[0].equals("CITIZEN")) {
+                throw new IllegalArgumentException("중복 역할: " + alternatives[0]);
+            }
+            slots.add(new Slot(alternatives, picks));
+        }
+
+        if (!hasMafia) {
+            throw new IllegalArgumentException("고정 마피아가 없습니다: " + spec);
+        }
+        return new RoleComposition(slots);
+    }
+
+    // ========================================
+    // 구성
+    // ========================================
+
+    /**
+     * 역할 목록 생성 (섞이지 않은 상태)
+     *
+     * @param random 게임 난수
+     * @return 역할 목록
+     */
+    public List<String> compose(GameRandom random) {
+        List<String> roles = new ArrayList<>(size);
+        for (Slot slot : slots) {
+            if (slot.alternatives.length == 1) {
+                for (int i = 0; i < slot.picks; i++) {
+                    roles.add(slot.alternatives[0]);
+                }
+            } else if (slot.picks == 1) {
+                roles.add(slot.alternatives[random.nextInt(slot.alternatives.length)]);
+            } else {
+                List<String> pool = new ArrayList<>(Arrays.asList(slot.alternatives));
+                random.shuffle(pool);
+                roles.addAll(pool.subList(0, slot.picks));
+            }
+        }
+        return roles;
+    }
+
+    /**
+     * 인원수
+     *
+     * @return 구성된 역할 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 문자열 명세로 변환 (parse의 역)
+     *
+     * @return 구성 명세
+     */
+    public String toSpec() {
+        StringBuilder sb = new StringBuilder();
+        for (Slot slot : slots) {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            if (slot.alternatives.length == 1) {
+                for (int i = 0; i < slot.picks; i++) {
+                    if (i > 0) {
+                        sb.append(',');
+                    }
+                    sb.append(slot.alternatives[0]);
+                }
+                continue;
+            }
+            if (slot.picks > 1) {
+                sb.append(slot.picks).append('*');
+            }
+            sb.append(String.join("|", slot.alternatives));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return toSpec();
+    }
+
+    // ========================================
+    // 내부 클래스 - Slot
+    // ========================================
+
+    /**
+     * 구성 슬롯 (후보 중 picks개 선택)
+     */
+    private static class Slot {
+        private final String[] alternatives;
+        private final int picks;
+
+        Slot(String[] alternatives, int picks) {
+            this.alternatives = alternatives;
+            this.picks = picks;
+        }
+    }
+}
@@ -0,0 +1,444 @@
+package mafia.game.features;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 클라이언트 세션 (재접속 토큰 + 최근 전송 프레임)
+ *
+ * 로그인할 때 서버가 추측할 수 없는 토큰을 발급하고, 이후 이 클라이언트에게 보내는 프레임마다
+ * 1부터 증가하는 순번을 매겨 최근 프레임을 고정 크기 원형 버퍼에 보관합니다.
+ * 연결이 끊겼다가 돌아온 클라이언트가 마지막으로 받은 순번을 알려 주면
+ * 그 뒤의 프레임만 다시 보낼 수 있습니다 (게임 상태 전체를 다시 보내지 않음).
+ *
+ * 전송 형식: [순번 long][writeUTF 본문] (세션 제어 메시지는 순번 0)
+ *
+ * 설계 원칙:
+ * - 프레임은 한 번만 인코딩하고 참조만 보관 (전체 방송은 모든 세션이 같은 바이트 배열 공유)
+ * - 보내는 쪽은 record로 순번을 매겨 버퍼에 넣기만 하고, 소켓 쓰기는 세션마다 하나인 전송 스레드가
+ *   awaitBatch/complete로 버퍼에서 꺼내 수행 (느린 클라이언트의 소켓이 게임 스레드를 막지 않음)
+ * - 전송이 재전송 버퍼보다 많이 밀리면 그 연결은 끊고 재접속 절차로 복구
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class ClientSession {
+
+    // ========================================
+    // 설정 상수
+    // ========================================
+
+    /**
+     * 기본 보관 프레임 수 (재접속 대기 30초 동안 쌓이는 메시지보다 충분히 큼)
+     */
+    public static final int DEFAULT_REPLAY_CAPACITY = 1024;
+
+    /**
+     * 토큰 바이트 수 (128비트)
+     */
+    private static final int TOKEN_BYTES = 16;
+
+    /**
+     * 연결별 출력 버퍼 크기 (순번 8바이트 + 길이 2바이트 + 본문 최대 65535바이트)
+     */
+    public static final int OUTPUT_BUFFER_BYTES = Long.BYTES + 2 + 65535;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // ========================================
+    // 인코딩된 프레임
+    // ========================================
+
+    /**
+     * 인코딩된 메시지 (불변, 여러 세션이 공유)
+     */
+    public static final class Frame {
+        private final String text;
+        private final byte[] encoded;
+
+        private Frame(String text, byte[] encoded) {
+            this.text = text;
+            this.encoded = encoded;
+        }
+
+        /**
+         * 메시지 인코딩 (writeUTF와 같은 길이 접두사 + 수정된 UTF-8)
+         *
+         * @param text 메시지
+         * @return 프레임
+         * @throws IOException 인코딩 길이가 65535바이트를 넘는 경우
+         */
+        public static Frame encode(String text) throws IOException {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(text.length() + 2);
+            new DataOutputStream(buffer).writeUTF(text);
+            return new Frame(text, buffer.toByteArray());
+        }
+
+        /**
+         * 원문 조회
+         *
+         * @return 메시지
+         */
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * 순번과 함께 버퍼 스트림에 쓰기 (flush는 호출자가 묶음 단위로)
+         * 공유 본문을 복사하지 않고 순번과 본문을 이어 씁니다
+         * (out이 OUTPUT_BUFFER_BYTES 버퍼 스트림이면 프레임 하나가 TCP 세그먼트 두 개로 나뉘지 않음).
+         *
+         * @param out 출력 스트림 (newOutputStream으로 만든 버퍼 스트림)
+         * @param seq 순번 (제어 메시지는 0)
+         * @throws IOException 전송 실패 시
+         */
+        public void writeTo(DataOutputStream out, long seq) throws IOException {
+            out.writeLong(seq);
+            out.write(encoded);
+        }
+    }
+
+    /**
+     * 전송 스레드가 한 번에 꺼낸 프레임 묶음
+     */
+    public static final class Batch {
+        private final DataOutputStream out;
+        private final long firstSeq;
+        private final List<Frame> frames;
+        private final long generation;
+
+        private Batch(DataOutputStream out, long firstSeq, List<Frame> frames, long generation) {
+            this.out = out;
+            this.firstSeq = firstSeq;
+            this.frames = frames;
+            this.generation = generation;
+        }
+
+        /**
+         * 보낼 연결의 출력 스트림
+         *
+         * @return 출력 스트림
+         */
+        public DataOutputStream getOut() {
+            return out;
+        }
+
+        /**
+         * 첫 프레임의 순번
+         *
+         * @return 순번
+         */
+        public long getFirstSeq() {
+            return firstSeq;
+        }
+
+        /**
+         * 보낼 프레임
+         *
+         * @return 프레임 목록 (전송이 재전송 버퍼보다 많이 밀렸으면 null)
+         */
+        public List<Frame> getFrames() {
+            return frames;
+        }
+    }
+
+    /**
+     * 소켓 출력 스트림 감싸기 (연결마다 한 번)
+     * 가장 큰 프레임(순번 + writeUTF 최대 길이)이 들어가는 버퍼를 두어 프레임 하나가 write 한 번으로 나가게 합니다.
+     *
+     * @param socketOut 소켓 출력 스트림
+     * @return 버퍼 출력 스트림
+     */
+    public static DataOutputStream newOutputStream(OutputStream socketOut) {
+        return new DataOutputStream(new BufferedOutputStream(socketOut, OUTPUT_BUFFER_BYTES));
+    }
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    /**
+     * 재접속 토큰 (16진수)
+     */
+    private final String token;
+
+    /**
+     * 토큰의 SHA-256 해시 (방 스냅샷에 저장, 토큰 자체는 디스크에 남기지 않음)
+     */
+    private final String tokenHash;
+
+    /**
+     * 최근 프레임 원형 버퍼 (순번 seq는 (seq - 1) % 길이 위치)
+     */
+    private final Frame[] replay;
+
+    /**
+     * 마지막으로 부여한 순번 (0이면 아직 없음)
+     */
+    private long lastSeq;
+
+    /**
+     * 현재 연결의 출력 스트림 (연결이 끊겼으면 null)
+     */
+    private DataOutputStream out;
+
+    /**
+     * 현재 연결로 마지막으로 보낸 순번
+     */
+    private long sentSeq;
+
+    /**
+     * 연결 세대 (attach/detach마다 증가, 이전 연결로 꺼낸 묶음의 결과는 무시)
+     */
+    private long generation;
+
+    /**
+     * 세션 종료 여부 (전송 스레드 종료)
+     */
+    private boolean closed;
+
+    /**
+     * 생성자
+     *
+     * @param replayCapacity 보관할 최근 프레임 수
+     * @throws IllegalArgumentException replayCapacity가 1보다 작은 경우
+     */
+    public ClientSession(int replayCapacity) {
+        if (replayCapacity < 1) {
+            throw new IllegalArgumentException("replayCapacity는 1 이상이어야 합니다: " + replayCapacity);
+        }
+        this.replay = new Frame[replayCapacity];
+        this.token = newToken();
+        this.tokenHash = hashToken(token);
+    }
+
+    // ========================================
+    // 토큰
+    // ========================================
+
+    /**
+     * 재접속 토큰 조회
+     *
+     * @return 토큰
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * 토큰 일치 여부 (비교 시간이 내용에 따라 달라지지 않음)
+     *
+     * @param candidate 클라이언트가 보낸 토큰
+     * @return 일치하면 true
+     */
+    public boolean matches(String candidate) {
+        return candidate != null && MessageDigest.isEqual(
+                token.getBytes(StandardCharsets.US_ASCII), candidate.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 토큰 해시 조회
+     *
+     * @return SHA-256 해시 (16진수)
+     */
+    public String getTokenHash() {
+        return tokenHash;
+    }
+
+    /**
+     * 저장된 토큰 해시와 클라이언트가 보낸 토큰의 일치 여부 (서버 재시작 후 복구된 자리 확인용)
+     *
+     * @param tokenHash 저장된 토큰 해시
+     * @param candidate 클라이언트가 보낸 토큰 (없으면 null)
+     * @return 일치하면 true
+     */
+    public static boolean matchesHash(String tokenHash, String candidate) {
+        return tokenHash != null && candidate != null && MessageDigest.isEqual(
+                tokenHash.getBytes(StandardCharsets.US_ASCII),
+                hashToken(candidate).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 토큰 해시 계산
+     *
+     * @param token 토큰
+     * @return SHA-256 해시 (16진수)
+     */
+    static String hashToken(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return toHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 Java 구현이 SHA-256을 제공하므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        return toHex(bytes);
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    // ========================================
+    // 프레임 기록 및 재전송
+    // ========================================
+
+    /**
+     * 보낼 프레임 기록 (다음 순번 부여)
+     *
+     * @param frame 프레임
+     * @return 부여한 순번
+     */
+    public synchronized long record(Frame frame) {
+        lastSeq++;
+        replay[(int) ((lastSeq - 1) % replay.length)] = frame;
+        notifyAll();
+        return lastSeq;
+    }
+
+    /**
+     * 마지막으로 부여한 순번
+     *
+     * @return 순번 (0이면 아직 없음)
+     */
+    public synchronized long getLastSeq() {
+        return lastSeq;
+    }
+
+    /**
+     * 클라이언트가 받은 순번 이후의 프레임 조회
+     *
+     * @param ackSeq 클라이언트가 마지막으로 받은 순번
+     * @return ackSeq + 1부터 마지막까지의 프레임 (이미 버퍼에서 밀려났거나 순번이 맞지 않으면 null)
+     */
+    public synchronized List<Frame> since(long ackSeq) {
+        if (ackSeq < 0 || ackSeq > lastSeq || lastSeq - ackSeq > replay.length) {
+            return null;
+        }
+        List<Frame> missed = new ArrayList<>((int) (lastSeq - ackSeq));
+        for (long seq = ackSeq + 1; seq <= lastSeq; seq++) {
+            missed.add(replay[(int) ((seq - 1) % replay.length)]);
+        }
+        return missed;
+    }
+
+    // ========================================
+    // 연결 및 전송 스레드
+    // ========================================
+
+    /**
+     * 새 연결 연결 (이후 sentSeq 다음 순번부터 이 연결로 전송)
+     *
+     * @param out 출력 스트림
+     * @param sentSeq 이 연결의 클라이언트가 이미 받은 마지막 순번
+     */
+    public synchronized void attach(DataOutputStream out, long sentSeq) {
+        if (closed) {
+            return;
+        }
+        this.out = out;
+        this.sentSeq = sentSeq;
+        generation++;
+        notifyAll();
+    }
+
+    /**
+     * 연결 분리 (재접속할 때까지 기록만 하고 보내지 않음)
+     */
+    public synchronized void detach() {
+        out = null;
+        generation++;
+    }
+
+    /**
+     * 세션 종료 여부
+     *
+     * @return close 이후면 true
+     */
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * 전송이 재전송 버퍼보다 많이 밀렸으면 연결 분리
+     * 전송 스레드가 소켓 쓰기에서 막혀 있으면 스스로 알아챌 수 없으므로 기록하는 쪽에서 확인합니다.
+     *
+     * @return 분리했으면 true (호출자가 연결을 닫아 막힌 쓰기를 풀어 줌)
+     */
+    public synchronized boolean detachIfLagging() {
+        if (out == null || lastSeq - sentSeq <= replay.length) {
+            return false;
+        }
+        detach();
+        return true;
+    }
+
+    /**
+     * 세션 종료 (전송 스레드가 awaitBatch에서 null을 받고 끝남)
+     */
+    public synchronized void close() {
+        closed = true;
+        out = null;
+        generation++;
+        notifyAll();
+    }
+
+    /**
+     * 보낼 프레임이 생길 때까지 대기 후 묶음으로 꺼냄 (전송 스레드)
+     *
+     * @return 보낼 묶음 (세션이 종료되면 null)
+     * @throws InterruptedException 대기 중 인터럽트 시
+     */
+    public synchronized Batch awaitBatch() throws InterruptedException {
+        while (!closed && (out == null || sentSeq >= lastSeq)) {
+            wait();
+        }
+        if (closed) {
+            return null;
+        }
+        return new Batch(out, sentSeq + 1, since(sentSeq), generation);
+    }
+
+    /**
+     * 묶음 전송 완료 (그 사이 연결이 바뀌었으면 무시)
+     *
+     * @param batch 보낸 묶음
+     */
+    public synchronized void complete(Batch batch) {
+        if (batch.generation == generation) {
+            sentSeq = batch.firstSeq - 1 + batch.frames.size();
+        }
+    }
+
+    /**
+     * 묶음 전송 실패 (그 연결로는 더 보내지 않음)
+     *
+     * @param batch 실패한 묶음
+     * @return 실패한 연결이 아직 현재 연결이면 true (호출자가 연결을 닫음)
+     */
+    public synchronized boolean fail(Batch batch) {
+        if (batch.generation != generation) {
+            return false;
+        }
+        detach();
+        return true;
+    }
+}
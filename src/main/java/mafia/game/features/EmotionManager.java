@@ -3,6 +3,7 @@ package mafia.game.features;
 import mafia.game.models.Message;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import mafia.game.time.GameClocks;
 
 /**
  * 감정 표현 시스템 관리자
@@ -221,7 +222,7 @@ public class EmotionManager {
             return true;
         }
 
-        long now = System.currentTimeMillis();
+        long now = GameClocks.get().currentTimeMillis();
         return (now - lastUsed) >= COOLDOWN_MS;
     }
 
@@ -237,7 +238,7 @@ public class EmotionManager {
             return 0;
         }
 
-        long now = System.currentTimeMillis();
+        long now = GameClocks.get().currentTimeMillis();
         long elapsed = now - lastUsed;
         return Math.max(0, COOLDOWN_MS - elapsed);
     }
@@ -248,7 +249,7 @@ public class EmotionManager {
      * @param playerName 플레이어 이름
      */
     private void recordCooldown(String playerName) {
-        cooldowns.put(playerName, System.currentTimeMillis());
+        cooldowns.put(playerName, GameClocks.get().currentTimeMillis());
     }
 
     /**
@@ -552,7 +553,7 @@ public class EmotionManager {
             this.playerName = playerName;
             this.emotion = emotion;
             this.targetPlayer = targetPlayer;
-            this.timestamp = System.currentTimeMillis();
+            this.timestamp = GameClocks.get().currentTimeMillis();
         }
 
         public String getPlayerName() { return playerName; }
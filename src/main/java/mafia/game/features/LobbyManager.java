@@ -3,6 +3,7 @@ package mafia.game.features;
 import mafia.game.models.Message;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import mafia.game.time.GameClocks;
 
 /**
  * 프리게임 로비 시스템 관리자
@@ -140,7 +141,7 @@ public class LobbyManager {
         }
 
         this.state = LobbyState.WAITING;
-        this.lobbyStartTime = System.currentTimeMillis();
+        this.lobbyStartTime = GameClocks.get().currentTimeMillis();
         this.readyStatus.clear();
         this.rolePreferences.clear();
         this.chatHistory.clear();
@@ -248,17 +249,12 @@ public class LobbyManager {
         notifyStateChange(state);
 
         // 5초 후 게임 시작
-        new Thread(() -> {
-            try {
-                Thread.sleep(5000);
-                if (state == LobbyState.COUNTDOWN) {
-                    this.state = LobbyState.READY;
-                    notifyStateChange(state);
-                }
-            } catch (InterruptedException e) {
-                e.printStackTrace();
+        GameClocks.get().schedule(() -> {
+            if (state == LobbyState.COUNTDOWN) {
+                this.state = LobbyState.READY;
+                notifyStateChange(state);
             }
-        }).start();
+        }, 5000);
     }
 
     /**
@@ -355,7 +351,7 @@ public class LobbyManager {
      * @return 경과 시간 (초)
      */
     public int getElapsedSeconds() {
-        long elapsed = System.currentTimeMillis() - lobbyStartTime;
+        long elapsed = GameClocks.get().currentTimeMillis() - lobbyStartTime;
         return (int) (elapsed / 1000);
     }
 
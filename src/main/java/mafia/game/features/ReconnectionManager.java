@@ -2,6 +2,8 @@ package mafia.game.features;
 
 import java.util.*;
 import java.util.concurrent.*;
+import mafia.game.time.GameClocks;
+import mafia.game.time.ScheduledTask;
 
 /**
  * 재접속 시스템 관리자
@@ -52,9 +54,9 @@ public class ReconnectionManager {
     private final Map<String, DisconnectedPlayer> disconnectedPlayers;
 
     /**
-     * 재접속 대기 타이머
+     * 재접속 대기 타이머 (이름 -> 예약 핸들)
      */
-    private final ScheduledExecutorService scheduler;
+    private final Map<String, ScheduledTask> timeouts;
 
     /**
      * 재접속 리스너
@@ -89,7 +91,7 @@ public class ReconnectionManager {
      */
     private ReconnectionManager() {
         this.disconnectedPlayers = new ConcurrentHashMap<>();
-        this.scheduler = Executors.newScheduledThreadPool(2);
+        this.timeouts = new ConcurrentHashMap<>();
         this.listeners = new ArrayList<>();
         this.enabled = true;
     }
@@ -118,7 +120,7 @@ public class ReconnectionManager {
         DisconnectedPlayer disconnected = new DisconnectedPlayer(
             playerName,
             gameState,
-            System.currentTimeMillis()
+            GameClocks.get().currentTimeMillis()
         );
 
         disconnectedPlayers.put(playerName, disconnected);
@@ -136,14 +138,16 @@ public class ReconnectionManager {
      * @param playerName 플레이어 이름
      */
     private void scheduleTimeout(String playerName) {
-        scheduler.schedule(() -> {
+        ScheduledTask timeout = GameClocks.get().schedule(() -> {
+            timeouts.remove(playerName);
             DisconnectedPlayer disconnected = disconnectedPlayers.get(playerName);
 
             if (disconnected != null && !disconnected.isReconnected()) {
                 // 타임아웃 처리
                 handleTimeout(playerName);
             }
-        }, RECONNECTION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }, TimeUnit.SECONDS.toMillis(RECONNECTION_TIMEOUT_SECONDS));
+        timeouts.put(playerName, timeout);
     }
 
     /**
@@ -180,7 +184,7 @@ public class ReconnectionManager {
         }
 
         // 타임아웃 체크
-        long elapsed = System.currentTimeMillis() - disconnected.getDisconnectTime();
+        long elapsed = GameClocks.get().currentTimeMillis() - disconnected.getDisconnectTime();
         if (elapsed > RECONNECTION_TIMEOUT_SECONDS * 1000) {
             disconnectedPlayers.remove(playerName);
             return ReconnectionResult.error("재접속 시간이 초과되었습니다.");
@@ -195,6 +199,7 @@ public class ReconnectionManager {
 
         // 목록에서 제거
         disconnectedPlayers.remove(playerName);
+        cancelTimeout(playerName);
 
         return ReconnectionResult.success(restoredState);
     }
@@ -226,7 +231,7 @@ public class ReconnectionManager {
             return -1;
         }
 
-        long elapsed = System.currentTimeMillis() - disconnected.getDisconnectTime();
+        long elapsed = GameClocks.get().currentTimeMillis() - disconnected.getDisconnectTime();
         long remaining = RECONNECTION_TIMEOUT_SECONDS * 1000 - elapsed;
 
         return Math.max(0, (int) (remaining / 1000));
@@ -324,20 +329,29 @@ public class ReconnectionManager {
      */
     public void reset() {
         disconnectedPlayers.clear();
+        for (String playerName : new ArrayList<>(timeouts.keySet())) {
+            cancelTimeout(playerName);
+        }
+    }
+
+    /**
+     * 재접속 타임아웃 예약 취소
+     *
+     * @param playerName 플레이어 이름
+     */
+    private void cancelTimeout(String playerName) {
+        ScheduledTask timeout = timeouts.remove(playerName);
+        if (timeout != null) {
+            timeout.cancel();
+        }
     }
 
     /**
      * 종료 (서버 종료 시)
      */
     public void shutdown() {
-        scheduler.shutdown();
-        try {
-            if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
-                scheduler.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            scheduler.shutdownNow();
-        }
+        // 타이머 스레드는 게임 시계가 소유하므로 대기 중인 타임아웃만 취소
+        reset();
     }
 
     // ========================================
@@ -387,20 +401,25 @@ public class ReconnectionManager {
 
     /**
      * 플레이어 게임 상태 (Memento 패턴)
+     * 알고 있던 정보와 채팅 기록은 복사하지 않고, 세션 재전송 버퍼(ClientSession)의 위치만 기억합니다.
+     * 끊긴 동안의 메시지는 그 버퍼가 다른 세션과 공유하는 프레임으로 보관하므로 플레이어당 상태 크기가 일정합니다.
      */
     public static class PlayerGameState {
         private final String role;
         private final boolean alive;
-        private final Map<String, String> knownInformation;
-        private final List<String> chatHistory;
+        private final long replayCursor;
 
-        public PlayerGameState(String role, boolean alive,
-                              Map<String, String> knownInformation,
-                              List<String> chatHistory) {
+        /**
+         * 생성자
+         *
+         * @param role 역할
+         * @param alive 생존 여부
+         * @param replayCursor 연결이 끊길 때까지 보낸 마지막 순번 (재전송 버퍼가 없으면 0)
+         */
+        public PlayerGameState(String role, boolean alive, long replayCursor) {
             this.role = role;
             this.alive = alive;
-            this.knownInformation = new HashMap<>(knownInformation);
-            this.chatHistory = new ArrayList<>(chatHistory);
+            this.replayCursor = replayCursor;
         }
 
         public String getRole() {
@@ -411,12 +430,8 @@ public class ReconnectionManager {
             return alive;
         }
 
-        public Map<String, String> getKnownInformation() {
-            return new HashMap<>(knownInformation);
-        }
-
-        public List<String> getChatHistory() {
-            return new ArrayList<>(chatHistory);
+        public long getReplayCursor() {
+            return replayCursor;
         }
     }
 
@@ -1,6 +1,8 @@
 package mafia.game.features;
 
 import mafia.game.models.PlayerStatistics;
+import mafia.game.jfr.StatisticsPersistEvent;
+import mafia.game.metrics.MetricsRegistry;
 import java.io.*;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -326,6 +328,10 @@ public class StatisticsManager {
      * @param stats 통계 객체
      */
     private void saveStatistics(String playerName, PlayerStatistics stats) {
+        StatisticsPersistEvent event = new StatisticsPersistEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean success = false;
         try {
             String filename = dataDirectory + sanitizeFilename(playerName) + ".dat";
             FileOutputStream fos = new FileOutputStream(filename);
@@ -333,9 +339,18 @@ public class StatisticsManager {
             oos.writeObject(stats);
             oos.close();
             fos.close();
+            success = true;
         } catch (IOException e) {
             System.err.println("통계 저장 실패: " + playerName);
             e.printStackTrace();
+        } finally {
+            MetricsRegistry.getInstance().recordPersistenceFlush(System.nanoTime() - start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.player = playerName;
+                event.success = success;
+                event.commit();
+            }
         }
     }
 
@@ -2,6 +2,7 @@ package mafia.game.features;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import mafia.game.time.GameClocks;
 
 /**
  * 라이브 투표 집계 시스템
@@ -145,7 +146,7 @@ public class VoteTracker {
         this.candidates.addAll(candidates);
         this.voteDurationSeconds = durationSeconds;
         this.mode = mode;
-        this.voteStartTime = System.currentTimeMillis();
+        this.voteStartTime = GameClocks.get().currentTimeMillis();
         this.active = true;
 
         // 후보자 득표수 초기화
@@ -345,7 +346,7 @@ public class VoteTracker {
         if (!active) {
             return 0;
         }
-        long elapsed = System.currentTimeMillis() - voteStartTime;
+        long elapsed = GameClocks.get().currentTimeMillis() - voteStartTime;
         return (int) (elapsed / 1000);
     }
 
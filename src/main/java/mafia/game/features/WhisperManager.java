@@ -3,6 +3,7 @@ package mafia.game.features;
 import mafia.game.models.Message;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import mafia.game.time.GameClocks;
 
 /**
  * 익명 쪽지 시스템 관리자
@@ -163,7 +164,7 @@ public class WhisperManager {
         List<Long> sendTimes = sendLimits.computeIfAbsent(sender, k -> new ArrayList<>());
 
         // 현재 시간
-        long now = System.currentTimeMillis();
+        long now = GameClocks.get().currentTimeMillis();
 
         // 제한 시간 이전의 전송 기록 제거
         sendTimes.removeIf(time -> now - time > LIMIT_WINDOW_MS);
@@ -179,7 +180,7 @@ public class WhisperManager {
      */
     private void recordSend(String sender) {
         sendLimits.computeIfAbsent(sender, k -> new ArrayList<>())
-                  .add(System.currentTimeMillis());
+                  .add(GameClocks.get().currentTimeMillis());
     }
 
     // ========================================
@@ -0,0 +1,36 @@
+package mafia.game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 브로드캐스트 JFR 이벤트
+ *
+ * WriteAll 한 번의 실행 구간, 수신자 수, 전송 바이트를 기록합니다.
+ * 느린 클라이언트 하나가 전체 브로드캐스트를 지연시키는지 확인할 때 사용합니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+@Name("mafia.Broadcast")
+@Label("Broadcast")
+@Category({"Mafia Game", "Network"})
+@Description("Message written to every connected player")
+@StackTrace(false)
+public class BroadcastEvent extends Event {
+
+    @Label("Opcode")
+    public String opcode;
+
+    @Label("Recipients")
+    public int recipients;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
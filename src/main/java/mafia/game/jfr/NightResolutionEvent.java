@@ -0,0 +1,39 @@
+package mafia.game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 밤 행동 처리 JFR 이벤트
+ *
+ * processNightActions 실행 구간과 그 결과(사망자 수 등)를 기록합니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+@Name("mafia.NightResolution")
+@Label("Night Resolution")
+@Category({"Mafia Game", "Game Lifecycle"})
+@Description("Resolution of night actions")
+@StackTrace(false)
+public class NightResolutionEvent extends Event {
+
+    @Label("Night")
+    public int night;
+
+    @Label("Night Actions")
+    public int actions;
+
+    @Label("Mafia Attacked")
+    public boolean mafiaAttacked;
+
+    @Label("Deaths")
+    public int deaths;
+
+    @Label("Alive Players")
+    public int alivePlayers;
+}
@@ -0,0 +1,43 @@
+package mafia.game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 페이즈 전환 JFR 이벤트
+ *
+ * 페이즈 핸들러(startNightPhase, startDayPhase, startVotePhase, processFinalDecision 등)
+ * 실행 구간을 기록합니다. JMC에서 GC 일시 정지나 락 경합과 나란히 볼 수 있습니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+@Name("mafia.PhaseTransition")
+@Label("Phase Transition")
+@Category({"Mafia Game", "Game Lifecycle"})
+@Description("Execution of a server phase handler")
+@StackTrace(false)
+public class PhaseTransitionEvent extends Event {
+
+    @Label("Handler")
+    public String handler;
+
+    @Label("Phase Before")
+    public String phaseBefore;
+
+    @Label("Phase After")
+    public String phaseAfter;
+
+    @Label("Day")
+    public int day;
+
+    @Label("Night")
+    public int night;
+
+    @Label("Alive Players")
+    public int alivePlayers;
+}
@@ -0,0 +1,30 @@
+package mafia.game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 통계 저장 JFR 이벤트
+ *
+ * StatisticsManager가 플레이어 통계 파일을 쓰는 구간을 기록합니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+@Name("mafia.StatisticsPersist")
+@Label("Statistics Persist")
+@Category({"Mafia Game", "Persistence"})
+@Description("Player statistics written to disk")
+@StackTrace(false)
+public class StatisticsPersistEvent extends Event {
+
+    @Label("Player")
+    public String player;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,46 @@
+package mafia.game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 투표 결과 처리 JFR 이벤트
+ *
+ * 낮 투표 집계(PLURALITY)와 찬반 투표 결정(FINAL_DECISION) 두 단계를 stage로 구분합니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+@Name("mafia.VoteResolution")
+@Label("Vote Resolution")
+@Category({"Mafia Game", "Game Lifecycle"})
+@Description("Resolution of a day vote or final decision")
+@StackTrace(false)
+public class VoteResolutionEvent extends Event {
+
+    @Label("Stage")
+    @Description("PLURALITY or FINAL_DECISION")
+    public String stage;
+
+    @Label("Day")
+    public int day;
+
+    @Label("Target")
+    public String target;
+
+    @Label("Votes For")
+    public int votesFor;
+
+    @Label("Votes Against")
+    public int votesAgainst;
+
+    @Label("Tie")
+    public boolean tie;
+
+    @Label("Eliminated")
+    public boolean eliminated;
+}
@@ -0,0 +1,517 @@
+package mafia.game.journal;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import mafia.game.time.GameClocks;
+
+/**
+ * 게임 이벤트 저널 (추가 전용)
+ *
+ * 한 게임(방)의 모든 권위 있는 이벤트를 순서대로 바이너리 세그먼트 파일에 기록합니다.
+ * 분쟁 확인, 리플레이, 오프라인 분석의 단일 원본으로 사용됩니다.
+ *
+ * 설계 원칙:
+ * - 방(게임)마다 하나의 저널, 하나의 기록 스레드 (순차 쓰기)
+ * - 핸들러 스레드는 순번을 받고 큐에 넣기만 함 (디스크 I/O 없음)
+ * - Group Commit: 기록 스레드가 큐에 쌓인 레코드를 모아 쓰고 한 번만 force()
+ * - 세그먼트 파일은 고정 크기로 만들어 메모리 매핑 후 순차 기록
+ *
+ * 저장 위치: game_data/journal/&lt;gameId&gt;/
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class GameJournal implements AutoCloseable {
+
+    // ========================================
+    // 설정 상수
+    // ========================================
+
+    /**
+     * 기본 저널 디렉토리
+     */
+    public static final String BASE_DIRECTORY = "game_data/journal";
+
+    /**
+     * 기본 세그먼트 크기 (4MB)
+     */
+    private static final int DEFAULT_SEGMENT_SIZE = 4 * 1024 * 1024;
+
+    /**
+     * 대기 큐 크기
+     */
+    private static final int QUEUE_CAPACITY = 16384;
+
+    /**
+     * 한 번의 커밋에 모으는 최대 레코드 수
+     */
+    private static final int MAX_BATCH = 512;
+
+    // ========================================
+    // 큐 항목
+    // ========================================
+
+    /**
+     * 기록 대기 중인 이벤트
+     */
+    private static final class Entry {
+        final long sequence;
+        final long timestamp;
+        final JournalEventType type;
+        final String actor;
+        final String target;
+        final byte[] payload;
+
+        Entry(long sequence, long timestamp, JournalEventType type, String actor, String target, byte[] payload) {
+            this.sequence = sequence;
+            this.timestamp = timestamp;
+            this.type = type;
+            this.actor = actor;
+            this.target = target;
+            this.payload = payload;
+        }
+    }
+
+    /**
+     * 종료 신호
+     */
+    private static final Entry CLOSE_MARKER = new Entry(-1, 0, null, null, null, null);
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    /**
+     * 게임 ID
+     */
+    private final String gameId;
+
+    /**
+     * 저널 디렉토리
+     */
+    private final Path directory;
+
+    /**
+     * 세그먼트 크기
+     */
+    private final int segmentSize;
+
+    /**
+     * 다음 순번
+     */
+    private final AtomicLong nextSequence = new AtomicLong();
+
+    /**
+     * 기록 대기 큐
+     */
+    private final BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    /**
+     * 기록 스레드
+     */
+    private final Thread writerThread;
+
+    /**
+     * 현재 세그먼트 (기록 스레드 전용)
+     */
+    private MappedByteBuffer segment;
+
+    /**
+     * 현재 세그먼트 번호 (기록 스레드 전용)
+     */
+    private int segmentIndex = -1;
+
+    /**
+     * 레코드 인코딩 버퍼 (기록 스레드 전용)
+     */
+    private ByteBuffer scratch = ByteBuffer.allocate(4096);
+
+    /**
+     * CRC 계산기 (기록 스레드 전용)
+     */
+    private final CRC32 crc = new CRC32();
+
+    /**
+     * 커밋된 마지막 순번
+     */
+    private volatile long committedSequence = -1;
+
+    /**
+     * 기록 실패로 버려진 이벤트 수
+     */
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    /**
+     * 닫힘 여부
+     */
+    private volatile boolean closed;
+
+    // ========================================
+    // 생성
+    // ========================================
+
+    /**
+     * 기본 디렉토리에 새 게임 저널 열기
+     *
+     * @param gameId 게임 ID
+     * @return 저널
+     * @throws IOException 디렉토리/세그먼트 생성 실패 시
+     */
+    public static GameJournal open(String gameId) throws IOException {
+        return new GameJournal(Paths.get(BASE_DIRECTORY, gameId), gameId, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * 생성자
+     *
+     * @param directory 저널 디렉토리
+     * @param gameId 게임 ID
+     * @param segmentSize 세그먼트 크기 (바이트)
+     * @throws IOException 디렉토리/세그먼트 생성 실패 시
+     */
+    public GameJournal(Path directory, String gameId, int segmentSize) throws IOException {
+        this(directory, gameId, segmentSize, 0, -1);
+    }
+
+    /**
+     * 기존 게임 저널 이어 쓰기 (서버 재시작 후 복구)
+     * 기존 세그먼트는 그대로 두고, 마지막 순번 다음부터 새 세그먼트에 기록합니다.
+     *
+     * @param gameId 게임 ID
+     * @return 저널
+     * @throws IOException 기존 저널 읽기 또는 세그먼트 생성 실패 시
+     */
+    public static GameJournal reopen(String gameId) throws IOException {
+        Path directory = Paths.get(BASE_DIRECTORY, gameId);
+        if (!Files.isDirectory(directory)) {
+            return open(gameId);
+        }
+
+        long[] lastSequence = {-1};
+        new JournalReader(directory).forEach(record -> lastSequence[0] = record.getSequence());
+        int segments;
+        try (java.util.stream.Stream<Path> files = Files.list(directory)) {
+            segments = (int) files
+                    .filter(p -> p.getFileName().toString().endsWith(JournalFormat.SEGMENT_SUFFIX))
+                    .count();
+        }
+        return new GameJournal(directory, gameId, DEFAULT_SEGMENT_SIZE, lastSequence[0] + 1, segments - 1);
+    }
+
+    /**
+     * 생성자
+     *
+     * @param directory 저널 디렉토리
+     * @param gameId 게임 ID
+     * @param segmentSize 세그먼트 크기 (바이트)
+     * @param firstSequence 첫 순번
+     * @param lastSegmentIndex 이미 존재하는 마지막 세그먼트 번호 (없으면 -1)
+     * @throws IOException 디렉토리/세그먼트 생성 실패 시
+     */
+    private GameJournal(Path directory, String gameId, int segmentSize,
+                        long firstSequence, int lastSegmentIndex) throws IOException {
+        this.gameId = gameId;
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.nextSequence.set(firstSequence);
+        this.segmentIndex = lastSegmentIndex;
+
+        Files.createDirectories(directory);
+        openNextSegment();
+
+        this.writerThread = new Thread(this::runWriter, "journal-" + gameId);
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    // ========================================
+    // 기록 (핸들러 스레드)
+    // ========================================
+
+    /**
+     * 이벤트 기록 (문자열 payload)
+     *
+     * @param type 이벤트 종류
+     * @param actor 행위자 (없으면 null)
+     * @param target 대상 (없으면 null)
+     * @param payload 추가 데이터 (없으면 null)
+     * @return 부여된 순번 (닫힌 경우 -1)
+     */
+    public long append(JournalEventType type, String actor, String target, String payload) {
+        byte[] bytes = payload == null ? new byte[0] : payload.getBytes(StandardCharsets.UTF_8);
+        return append(type, actor, target, bytes);
+    }
+
+    /**
+     * 이벤트 기록 (바이너리 payload)
+     * 순번 부여와 큐 삽입은 같은 락 안에서 이루어져 파일 순서가 순번 순서와 같습니다.
+     * 큐가 가득 찬 경우에만 기록 스레드가 따라잡을 때까지 대기합니다. (이벤트 유실 없음)
+     *
+     * @param type 이벤트 종류
+     * @param actor 행위자 (없으면 null)
+     * @param target 대상 (없으면 null)
+     * @param payload 추가 데이터
+     * @return 부여된 순번 (닫힌 경우 -1)
+     */
+    public long append(JournalEventType type, String actor, String target, byte[] payload) {
+        if (closed) {
+            return -1;
+        }
+        synchronized (queue) {
+            long sequence = nextSequence.getAndIncrement();
+            Entry entry = new Entry(sequence, GameClocks.get().currentTimeMillis(), type, actor, target, payload);
+            if (!queue.offer(entry)) {
+                try {
+                    queue.put(entry);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return -1;
+                }
+            }
+            return sequence;
+        }
+    }
+
+    // ========================================
+    // 기록 스레드
+    // ========================================
+
+    /**
+     * 기록 루프 (Group Commit)
+     */
+    private void runWriter() {
+        List<Entry> batch = new ArrayList<>(MAX_BATCH);
+        boolean stop = false;
+
+        while (!stop) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, MAX_BATCH - 1);
+
+            long lastSequence = -1;
+            int written = 0;
+            try {
+                for (Entry entry : batch) {
+                    if (entry == CLOSE_MARKER) {
+                        stop = true;
+                        break;
+                    }
+                    writeRecord(entry);
+                    lastSequence = entry.sequence;
+                    written++;
+                }
+                segment.force();
+                if (lastSequence >= 0) {
+                    committedSequence = lastSequence;
+                }
+            } catch (IOException e) {
+                // 실패한 레코드부터 배치 끝까지는 기록되지 않음 (닫기 표시는 그대로 처리)
+                int dropped = 0;
+                for (int i = written; i < batch.size(); i++) {
+                    if (batch.get(i) == CLOSE_MARKER) {
+                        stop = true;
+                    } else {
+                        dropped++;
+                    }
+                }
+                droppedCount.addAndGet(dropped);
+                System.err.println("저널 기록 실패 (" + gameId + "): " + e.getMessage()
+                        + " - 이벤트 " + dropped + "건 버림 (누적 " + droppedCount.get() + "건)");
+            }
+            batch.clear();
+        }
+
+        closeSegment();
+    }
+
+    /**
+     * 레코드 한 건을 현재 세그먼트에 기록 (공간이 부족하면 다음 세그먼트로)
+     *
+     * @param entry 이벤트
+     * @throws IOException 세그먼트 생성 실패 시
+     */
+    private void writeRecord(Entry entry) throws IOException {
+        ByteBuffer body = encode(entry);
+        int length = body.remaining();
+        int required = JournalFormat.RECORD_HEADER_SIZE + length;
+
+        if (segment.remaining() < required) {
+            if (JournalFormat.SEGMENT_HEADER_SIZE + required > segmentSize) {
+                throw new IOException("레코드가 세그먼트보다 큽니다: " + required + " bytes");
+            }
+            segment.force();
+            openNextSegment();
+        }
+
+        crc.reset();
+        crc.update(body.array(), 0, length);
+
+        segment.putInt(length);
+        segment.putInt((int) crc.getValue());
+        segment.put(body.array(), 0, length);
+    }
+
+    /**
+     * 레코드 본문 인코딩 (재사용 버퍼)
+     *
+     * @param entry 이벤트
+     * @return 본문 버퍼 (position 0, limit = 길이)
+     */
+    private ByteBuffer encode(Entry entry) {
+        byte[] actor = fieldBytes(entry.actor);
+        byte[] target = fieldBytes(entry.target);
+        int size = 8 + 8 + 1
+                + 2 + (actor == null ? 0 : actor.length)
+                + 2 + (target == null ? 0 : target.length)
+                + 4 + entry.payload.length;
+
+        if (scratch.capacity() < size) {
+            scratch = ByteBuffer.allocate(Math.max(size, scratch.capacity() * 2));
+        }
+        scratch.clear();
+        scratch.putLong(entry.sequence);
+        scratch.putLong(entry.timestamp);
+        scratch.put(entry.type.getCode());
+        putBytes(scratch, actor);
+        putBytes(scratch, target);
+        scratch.putInt(entry.payload.length);
+        scratch.put(entry.payload);
+        scratch.flip();
+        return scratch;
+    }
+
+    /**
+     * actor/target 필드 바이트 (short 길이에 맞게 문자 경계에서 자름)
+     */
+    private static byte[] fieldBytes(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= Short.MAX_VALUE) {
+            return bytes;
+        }
+        // 잘리는 위치가 멀티바이트 문자의 연속 바이트(10xxxxxx)면 그 문자의 시작까지 물러남
+        int end = Short.MAX_VALUE;
+        while (end > 0 && (bytes[end] & 0xC0) == 0x80) {
+            end--;
+        }
+        return Arrays.copyOf(bytes, end);
+    }
+
+    /**
+     * 길이(short) + 바이트 기록 (null은 -1)
+     */
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putShort((short) -1);
+        } else {
+            buffer.putShort((short) bytes.length);
+            buffer.put(bytes);
+        }
+    }
+
+    /**
+     * 다음 세그먼트 파일 생성 및 매핑
+     *
+     * @throws IOException 파일 생성 실패 시
+     */
+    private void openNextSegment() throws IOException {
+        closeSegment();
+        segmentIndex++;
+
+        Path file = directory.resolve(JournalFormat.segmentFileName(segmentIndex));
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(segmentSize);
+            // 매핑은 채널을 닫은 뒤에도 유효
+            segment = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+
+        segment.putInt(JournalFormat.MAGIC);
+        segment.putShort(JournalFormat.VERSION);
+        segment.putShort((short) 0);
+        segment.putInt(segmentIndex);
+        segment.putLong(System.currentTimeMillis());
+        segment.putInt(0);
+    }
+
+    /**
+     * 현재 세그먼트 마무리
+     */
+    private void closeSegment() {
+        if (segment != null) {
+            segment.force();
+            segment = null;
+        }
+    }
+
+    // ========================================
+    // 조회 및 종료
+    // ========================================
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * 디스크에 커밋된 마지막 순번
+     *
+     * @return 순번 (없으면 -1)
+     */
+    public long getCommittedSequence() {
+        return committedSequence;
+    }
+
+    /**
+     * 기록 실패로 버려진 이벤트 수
+     *
+     * @return 누적 건수
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * 남은 이벤트를 모두 기록하고 저널 닫기
+     */
+    @Override
+    public void close() {
+        synchronized (queue) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                queue.put(CLOSE_MARKER);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            writerThread.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package mafia.game.journal;
+
+/**
+ * 저널 이벤트 종류
+ *
+ * 코드는 파일 포맷에 기록되므로 한 번 정한 값은 바꾸지 않습니다.
+ * 새 종류는 뒤에 새 코드로 추가합니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public enum JournalEventType {
+    /** 게임 시작 (payload: 참가자 수 등) */
+    GAME_START(1),
+    /** 역할 배정 (actor: 플레이어, payload: 역할) */
+    ROLE_ASSIGNED(2),
+    /** 페이즈 진입 (payload: 페이즈, 일차/밤 차수) */
+    PHASE(3),
+    /** 밤 행동 (actor: 플레이어, target: 대상, payload: 행동 역할) */
+    NIGHT_ACTION(4),
+    /** 사망 (actor: 사망자, payload: 원인) */
+    DEATH(5),
+    /** 부활 (actor: 부활자, payload: 원인) */
+    REVIVE(6),
+    /** 역할 변경 (actor: 플레이어, payload: 새 역할) */
+    ROLE_CHANGE(7),
+    /** 투표 금지 (target: 대상) */
+    VOTE_BAN(8),
+    /** 낮 투표 (actor: 투표자, target: 대상, payload: 표 수) */
+    VOTE(9),
+    /** 찬반 투표 (actor: 투표자, target: 변론 대상, payload: AGREE/DISAGREE) */
+    FINAL_VOTE(10),
+    /** 찬반 투표 결과 (target: 변론 대상, payload: 결과) */
+    FINAL_DECISION(11),
+    /** 채팅 (actor: 발신자, target: 페이즈, payload: 원문) */
+    CHAT(12),
+    /** 쪽지 (actor: 발신자, target: 수신자, payload: 내용) */
+    WHISPER(13),
+    /** 감정 표현 (actor: 플레이어, target: 대상, payload: 감정 ID) */
+    EMOTION(14),
+    /** 게임 종료 (payload: 승리 팀) */
+    GAME_END(15),
+    /** 상태 스냅샷 키프레임 (payload: GameStateSnapshot 바이너리) */
+    SNAPSHOT(16);
+
+    /**
+     * 파일에 기록되는 코드
+     */
+    private final byte code;
+
+    /**
+     * 코드 -> 종류 조회 테이블
+     */
+    private static final JournalEventType[] BY_CODE = new JournalEventType[128];
+
+    static {
+        for (JournalEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    JournalEventType(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    /**
+     * 코드로 종류 조회
+     *
+     * @param code 파일 코드
+     * @return 이벤트 종류 (알 수 없으면 null)
+     */
+    public static JournalEventType fromCode(byte code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
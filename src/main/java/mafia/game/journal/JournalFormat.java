@@ -0,0 +1,55 @@
+package mafia.game.journal;
+
+/**
+ * 저널 파일 포맷 상수
+ *
+ * 세그먼트 파일 ({@code 00000000.seg}):
+ * <pre>
+ * [헤더 24바이트]
+ *   int   MAGIC ("MFJ1")
+ *   short VERSION
+ *   short 예약
+ *   int   세그먼트 번호
+ *   long  생성 시각
+ *   int   예약
+ * [레코드]*
+ *   int   본문 길이 (0이면 세그먼트 끝)
+ *   int   본문 CRC32
+ *   본문:
+ *     long  순번
+ *     long  기록 시각
+ *     byte  이벤트 코드
+ *     short actor 길이 (-1: null) + UTF-8
+ *     short target 길이 (-1: null) + UTF-8
+ *     int   payload 길이 + 바이트
+ * </pre>
+ * 세그먼트는 미리 고정 크기로 만들어지므로 기록되지 않은 영역은 0으로 채워져 있습니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+final class JournalFormat {
+
+    static final int MAGIC = 0x4D464A31;
+
+    static final short VERSION = 1;
+
+    static final int SEGMENT_HEADER_SIZE = 24;
+
+    static final int RECORD_HEADER_SIZE = 8;
+
+    static final String SEGMENT_SUFFIX = ".seg";
+
+    private JournalFormat() {
+    }
+
+    /**
+     * 세그먼트 파일 이름
+     *
+     * @param index 세그먼트 번호
+     * @return 파일 이름
+     */
+    static String segmentFileName(int index) {
+        return String.format("%08d%s", index, SEGMENT_SUFFIX);
+    }
+}
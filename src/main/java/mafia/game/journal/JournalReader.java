@@ -0,0 +1,183 @@
+package mafia.game.journal;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 게임 저널 읽기
+ *
+ * 세그먼트를 번호 순으로 읽기 전용 매핑하여 레코드를 순서대로 돌려줍니다.
+ * 기록 도중 종료되어 CRC가 맞지 않는 꼬리 레코드를 만나면 그 세그먼트의 나머지를 건너뛰고,
+ * 재시작 후 이어 쓴 다음 세그먼트부터 계속 읽습니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class JournalReader {
+
+    /**
+     * 저널 디렉토리
+     */
+    private final Path directory;
+
+    /**
+     * 손상된 꼬리 레코드 발견 여부
+     */
+    private boolean truncated;
+
+    /**
+     * 생성자
+     *
+     * @param directory 저널 디렉토리 (game_data/journal/&lt;gameId&gt;)
+     */
+    public JournalReader(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * 모든 레코드 읽기
+     *
+     * @return 레코드 목록 (순번 순)
+     * @throws IOException 파일 읽기 실패 시
+     */
+    public List<JournalRecord> readAll() throws IOException {
+        List<JournalRecord> records = new ArrayList<>();
+        forEach(records::add);
+        return records;
+    }
+
+    /**
+     * 레코드를 순서대로 처리
+     *
+     * @param consumer 레코드 소비자
+     * @throws IOException 파일 읽기 실패 또는 잘못된 세그먼트 시
+     */
+    public void forEach(Consumer<JournalRecord> consumer) throws IOException {
+        truncated = false;
+        for (Path segmentFile : listSegments()) {
+            // 손상된 꼬리 이후는 건너뛰고 다음 세그먼트부터 계속 (재시작 후 이어 쓴 세그먼트)
+            if (!readSegment(segmentFile, consumer)) {
+                truncated = true;
+            }
+        }
+    }
+
+    /**
+     * 세그먼트 파일 목록 (번호 순)
+     *
+     * @return 세그먼트 경로 목록
+     * @throws IOException 디렉토리 읽기 실패 시
+     */
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(p -> p.getFileName().toString().endsWith(JournalFormat.SEGMENT_SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * 세그먼트 하나 읽기
+     *
+     * @param file 세그먼트 파일
+     * @param consumer 레코드 소비자
+     * @return 정상적으로 끝까지 읽었으면 true, 손상된 레코드에서 멈췄으면 false
+     * @throws IOException 파일 읽기 실패 또는 잘못된 헤더 시
+     */
+    private boolean readSegment(Path file, Consumer<JournalRecord> consumer) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.remaining() < JournalFormat.SEGMENT_HEADER_SIZE || buffer.getInt() != JournalFormat.MAGIC) {
+            throw new IOException("저널 세그먼트가 아닙니다: " + file);
+        }
+        short version = buffer.getShort();
+        if (version != JournalFormat.VERSION) {
+            throw new IOException("지원하지 않는 저널 버전: " + version);
+        }
+        buffer.position(JournalFormat.SEGMENT_HEADER_SIZE);
+
+        CRC32 crc = new CRC32();
+        while (buffer.remaining() >= JournalFormat.RECORD_HEADER_SIZE) {
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length == 0) {
+                return true;
+            }
+            if (length < 0 || length > buffer.remaining()) {
+                return false;
+            }
+
+            ByteBuffer body = buffer.slice();
+            body.limit(length);
+            crc.reset();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                return false;
+            }
+
+            try {
+                consumer.accept(decode(body));
+            } catch (BufferUnderflowException e) {
+                return false;
+            }
+            buffer.position(buffer.position() + length);
+        }
+        return true;
+    }
+
+    /**
+     * 레코드 본문 디코딩
+     *
+     * @param body 본문 버퍼
+     * @return 레코드
+     */
+    private static JournalRecord decode(ByteBuffer body) {
+        long sequence = body.getLong();
+        long timestamp = body.getLong();
+        JournalEventType type = JournalEventType.fromCode(body.get());
+        String actor = getString(body);
+        String target = getString(body);
+        byte[] payload = new byte[body.getInt()];
+        body.get(payload);
+        return new JournalRecord(sequence, timestamp, type, actor, target, payload);
+    }
+
+    /**
+     * 길이(short) + UTF-8 문자열 읽기
+     */
+    private static String getString(ByteBuffer body) {
+        short length = body.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        body.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 마지막 읽기에서 손상된 꼬리 레코드를 만났는지 여부
+     *
+     * @return 손상 여부
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
@@ -0,0 +1,78 @@
+package mafia.game.journal;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 저널 레코드 한 건 (읽기 결과)
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class JournalRecord {
+
+    private final long sequence;
+    private final long timestamp;
+    private final JournalEventType type;
+    private final String actor;
+    private final String target;
+    private final byte[] payload;
+
+    /**
+     * 생성자
+     *
+     * @param sequence 게임 내 순번 (0부터)
+     * @param timestamp 기록 시각 (밀리초)
+     * @param type 이벤트 종류
+     * @param actor 행위자 (없으면 null)
+     * @param target 대상 (없으면 null)
+     * @param payload 추가 데이터
+     */
+    public JournalRecord(long sequence, long timestamp, JournalEventType type,
+                         String actor, String target, byte[] payload) {
+        this.sequence = sequence;
+        this.timestamp = timestamp;
+        this.type = type;
+        this.actor = actor;
+        this.target = target;
+        this.payload = payload;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public JournalEventType getType() {
+        return type;
+    }
+
+    public String getActor() {
+        return actor;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    /**
+     * payload를 UTF-8 문자열로 조회
+     *
+     * @return payload 문자열
+     */
+    public String getPayloadText() {
+        return new String(payload, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("#%d %s actor=%s target=%s payload=%s",
+                sequence, type, actor, target, getPayloadText());
+    }
+}
@@ -0,0 +1,437 @@
+package mafia.game.loadtest;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import mafia.game.metrics.MetricsRegistry;
+
+/**
+ * 스크립트 봇 클라이언트 (실제 TCP 연결 하나)
+ *
+ * 실제 클라이언트와 같은 프로토콜을 사용합니다 (보낼 때는 writeUTF, 받을 때는 [순번 long][writeUTF 본문]).
+ * <pre>
+ * 접속 -> "/login 이름"
+ * ROLE:역할               역할 기억
+ * PLAYERS:a,[DEAD]b,...   생존자 목록 기억 (대상 선택 시에만 파싱)
+ * PHASE:NIGHT             능력 역할이면 지연 후 NIGHT_ACTION:역할:대상
+ * PHASE:VOTE              지연 후 VOTE:대상
+ * PHASE:AGREE_DISAGREE    지연 후 AGREE_DISAGREE:AGREE|DISAGREE
+ * </pre>
+ * 채팅은 "[이름] lt#순번" 형식으로 보내고, 서버가 브로드캐스트한 자기 메시지를 받으면
+ * 전송 시각과의 차이를 왕복 지연으로 기록합니다. 채팅이 막히는 밤/최후의 반론/사망 상태에서는 보내지 않으며,
+ * 페이즈 전환과 엇갈려 거부된 채팅은 유실이 아닌 거부로 집계합니다.
+ *
+ * 수신은 봇마다 전용 스레드(작은 스택)로, 행동과 채팅은 공용 예약 스레드에서 처리합니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class BotClient {
+
+    // ========================================
+    // 설정 상수
+    // ========================================
+
+    /**
+     * 왕복 지연 측정용 채팅 표식
+     */
+    private static final String CHAT_TAG = "lt#";
+
+    /**
+     * 이 시간 안에 브로드캐스트되지 않은 채팅은 유실로 집계
+     */
+    private static final long CHAT_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * 수신 스레드 스택 크기 (봇 수천 개를 한 프로세스에서 띄우기 위함)
+     */
+    private static final long READER_STACK_SIZE = 256 * 1024;
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    private final String name;
+    private final InetSocketAddress address;
+    private final LoadGenerator.Options options;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicReference<LoadStats> stats;
+    private final Random random;
+
+    /**
+     * 자기 채팅 브로드캐스트 접두사 ("[이름] lt#")
+     */
+    private final String echoPrefix;
+
+    private Socket socket;
+    private DataOutputStream out;
+    private ScheduledFuture<?> chatTask;
+    private volatile boolean connected;
+
+    // 게임 상태 (수신 스레드에서 갱신, 예약 스레드에서 읽음)
+    private volatile String role;
+    private volatile String phase = "WAITING";
+    private volatile String playersLine = "";
+    private volatile String defendant;
+
+    /**
+     * 응답을 기다리는 채팅 (순번, 전송 시각)
+     */
+    private final ArrayDeque<long[]> pendingChats = new ArrayDeque<>();
+    private long chatSeq;
+
+    /**
+     * 생성자
+     *
+     * @param name 로그인 이름 (공백 없음)
+     * @param address 서버 주소
+     * @param options 부하 설정
+     * @param scheduler 행동/채팅 예약 스레드
+     * @param stats 현재 단계 집계 (단계마다 교체됨)
+     * @param seed 봇별 난수 시드
+     */
+    public BotClient(String name, InetSocketAddress address, LoadGenerator.Options options,
+                     ScheduledExecutorService scheduler, AtomicReference<LoadStats> stats, long seed) {
+        this.name = name;
+        this.address = address;
+        this.options = options;
+        this.scheduler = scheduler;
+        this.stats = stats;
+        this.random = new Random(seed);
+        this.echoPrefix = "[" + name + "] " + CHAT_TAG;
+    }
+
+    // ========================================
+    // 연결
+    // ========================================
+
+    /**
+     * 접속 및 로그인
+     *
+     * @return 성공 여부
+     */
+    public boolean connect() {
+        long start = System.nanoTime();
+        try {
+            socket = new Socket();
+            socket.setTcpNoDelay(true);
+            socket.connect(address, options.connectTimeoutMillis);
+            out = new DataOutputStream(socket.getOutputStream());
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            send("/login " + name);
+            connected = true;
+
+            Thread reader = new Thread(null, () -> readLoop(in), "bot-" + name, READER_STACK_SIZE);
+            reader.setDaemon(true);
+            reader.start();
+
+            if (options.chatPerMinute > 0) {
+                long period = Math.max(1, Math.round(60_000.0 / options.chatPerMinute));
+                chatTask = scheduler.scheduleAtFixedRate(this::chat,
+                        (long) (random.nextDouble() * period), period, TimeUnit.MILLISECONDS);
+            }
+
+            stats.get().connected(System.nanoTime() - start);
+            return true;
+        } catch (IOException e) {
+            stats.get().connectFailed();
+            closeQuietly();
+            return false;
+        }
+    }
+
+    /**
+     * 연결 종료
+     */
+    public void close() {
+        if (connected) {
+            connected = false;
+            closeQuietly();
+        }
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private void closeQuietly() {
+        if (chatTask != null) {
+            chatTask.cancel(false);
+        }
+        try {
+            if (socket != null) {
+                socket.close();
+            }
+        } catch (IOException ignored) {
+            // 이미 닫힘
+        }
+    }
+
+    /**
+     * 연결이 끊긴 경우 (서버 종료, 전송 실패)
+     */
+    private void onDisconnected() {
+        if (connected) {
+            connected = false;
+            stats.get().disconnected();
+            closeQuietly();
+        }
+    }
+
+    // ========================================
+    // 송신
+    // ========================================
+
+    private void send(String msg) throws IOException {
+        synchronized (out) {
+            out.writeUTF(msg);
+            out.flush();
+        }
+    }
+
+    /**
+     * 예약 스레드에서의 전송 (실패 시 연결 종료 처리)
+     */
+    private void sendAction(String msg) {
+        if (!connected) {
+            return;
+        }
+        try {
+            send(msg);
+            stats.get().sent();
+        } catch (IOException e) {
+            onDisconnected();
+        }
+    }
+
+    /**
+     * 행동을 사람처럼 지연해서 전송
+     */
+    private void sendLater(String msg) {
+        long delay = options.actionMinMillis;
+        if (options.actionMaxMillis > options.actionMinMillis) {
+            delay += (long) (random.nextDouble() * (options.actionMaxMillis - options.actionMinMillis));
+        }
+        scheduler.schedule(() -> sendAction(msg), delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 주기 채팅 (왕복 지연 측정)
+     */
+    private void chat() {
+        if (!connected || phase.equals("NIGHT") || phase.equals("FINAL_DEFENSE") || isDead()) {
+            return;
+        }
+        long seq;
+        synchronized (pendingChats) {
+            expireChats(System.nanoTime());
+            seq = ++chatSeq;
+            pendingChats.addLast(new long[] {seq, System.nanoTime()});
+        }
+        sendAction(echoPrefix + seq);
+    }
+
+    /**
+     * 응답 시간이 지난 채팅을 유실로 집계 (pendingChats 잠금 상태에서 호출)
+     */
+    private void expireChats(long now) {
+        while (!pendingChats.isEmpty() && now - pendingChats.peekFirst()[1] > CHAT_TIMEOUT_NANOS) {
+            pendingChats.pollFirst();
+            stats.get().chatLost();
+        }
+    }
+
+    // ========================================
+    // 수신
+    // ========================================
+
+    private void readLoop(DataInputStream in) {
+        try {
+            while (connected) {
+                in.readLong(); // 세션 순번 (봇은 재접속하지 않음)
+                String frame = in.readUTF();
+                stats.get().received(MetricsRegistry.utfLength(frame));
+                // 한 프레임에 여러 줄이 올 수 있음
+                int start = 0;
+                int end;
+                while ((end = frame.indexOf('\n', start)) >= 0) {
+                    handleLine(frame, start, end);
+                    start = end + 1;
+                }
+                if (start < frame.length()) {
+                    handleLine(frame, start, frame.length());
+                }
+            }
+        } catch (IOException e) {
+            onDisconnected();
+        }
+    }
+
+    private void handleLine(String frame, int start, int end) {
+        if (frame.startsWith(echoPrefix, start)) {
+            onChatEcho(parseLong(frame, start + echoPrefix.length(), end));
+        } else if (frame.startsWith("PHASE:", start)) {
+            onPhase(frame.substring(start + 6, end).trim());
+        } else if (frame.startsWith("PLAYERS:", start)) {
+            playersLine = frame.substring(start + 8, end);
+        } else if (frame.startsWith("ROLE:", start)) {
+            role = frame.substring(start + 5, end).trim();
+        } else if (frame.startsWith("SYSTEM:", start) && frame.indexOf("채팅할 수", start) >= 0
+                && frame.indexOf("채팅할 수", start) < end) {
+            onChatRejected();
+        }
+    }
+
+    /**
+     * 페이즈 규칙으로 거부된 채팅 (페이즈 전환 직전에 보낸 경우) - 유실로 세지 않음
+     */
+    private void onChatRejected() {
+        synchronized (pendingChats) {
+            if (pendingChats.pollFirst() != null) {
+                stats.get().chatRejected();
+            }
+        }
+    }
+
+    private void onChatEcho(long seq) {
+        long now = System.nanoTime();
+        synchronized (pendingChats) {
+            while (!pendingChats.isEmpty()) {
+                long[] pending = pendingChats.pollFirst();
+                if (pending[0] == seq) {
+                    stats.get().roundTrip(now - pending[1]);
+                    return;
+                }
+                if (pending[0] > seq) {
+                    pendingChats.addFirst(pending);
+                    return;
+                }
+                // 앞선 채팅이 건너뛰어짐 (서버가 거부)
+                stats.get().chatLost();
+            }
+        }
+    }
+
+    private static long parseLong(String s, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    // ========================================
+    // 게임 행동
+    // ========================================
+
+    private void onPhase(String phaseLine) {
+        if (phaseLine.startsWith("FINAL_DEFENSE:")) {
+            phase = "FINAL_DEFENSE";
+            defendant = phaseLine.substring("FINAL_DEFENSE:".length());
+            return;
+        }
+        phase = phaseLine;
+
+        switch (phaseLine) {
+            case "NIGHT":
+                onNight();
+                break;
+            case "VOTE":
+                if (!isDead()) {
+                    String target = pickTarget(true);
+                    if (target != null) {
+                        sendLater("VOTE:" + target);
+                    }
+                }
+                break;
+            case "AGREE_DISAGREE":
+                if (!isDead() && !name.equals(defendant)) {
+                    sendLater("AGREE_DISAGREE:" + (random.nextBoolean() ? "AGREE" : "DISAGREE"));
+                }
+                break;
+            case "END":
+                role = null;
+                defendant = null;
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void onNight() {
+        String myRole = role;
+        if (myRole == null || isDead()) {
+            return;
+        }
+        String target;
+        switch (myRole) {
+            case "MAFIA":
+            case "DOCTOR":
+            case "POLICE":
+            case "SPY":
+            case "REPORTER":
+            case "GANGSTER":
+                target = pickTarget(true);
+                break;
+            case "SHAMAN":
+            case "PRIEST":
+                target = pickTarget(false);
+                break;
+            default:
+                return;
+        }
+        if (target != null) {
+            sendLater("NIGHT_ACTION:" + myRole + ":" + target);
+        }
+    }
+
+    /**
+     * 대상 선택 (자신 제외)
+     *
+     * @param alive true면 생존자, false면 사망자 중에서
+     * @return 대상 이름 (없으면 null)
+     */
+    private String pickTarget(boolean alive) {
+        List<String> candidates = new ArrayList<>();
+        for (String entry : playersLine.split(",")) {
+            entry = entry.trim();
+            if (entry.isEmpty()) {
+                continue;
+            }
+            boolean dead = entry.startsWith("[DEAD]");
+            String player = dead ? entry.substring(6) : entry;
+            if (dead != alive && !player.equals(name)) {
+                candidates.add(player);
+            }
+        }
+        return candidates.isEmpty() ? null : candidates.get(random.nextInt(candidates.size()));
+    }
+
+    private boolean isDead() {
+        String line = playersLine;
+        int index = line.indexOf("[DEAD]" + name);
+        if (index < 0) {
+            return false;
+        }
+        int end = index + 6 + name.length();
+        return end == line.length() || line.charAt(end) == ',';
+    }
+}
@@ -0,0 +1,324 @@
+package mafia.game.loadtest;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 소켓 부하 생성기
+ *
+ * 실제 TCP 연결을 맺는 스크립트 봇(BotClient)을 단계적으로 늘리며
+ * 단계마다 연결 성공률, 채팅 왕복 지연, 서버 송수신 처리량을 출력합니다.
+ * 왕복 p99가 SLO를 넘거나 연결 실패/끊김/채팅 유실이 허용치를 넘는 첫 단계에서 멈추고,
+ * 그 직전 단계를 포화 지점으로 보고합니다.
+ *
+ * 서버는 프로세스당 방 하나를 운영하므로, 여러 방의 부하는 서버를 포트별로 여러 개 띄우고
+ * --ports로 나열합니다 (봇은 포트에 순서대로 분배). 헤드리스 서버는 autoStartPlayers명이
+ * 모이면 게임을 시작하고, 그 뒤에 들어온 봇은 채팅만 합니다.
+ *
+ * 명령행 사용법:
+ * <pre>
+ * java -cp target/classes mafia.game.loadtest.LoadGenerator \
+ *      --host=127.0.0.1 --ports=30000-30003 --start=50 --step=50 --max=2000 \
+ *      --step-seconds=15 --chat-per-minute=12 --action-delay=1000-8000 --slo-p99-ms=250
+ * </pre>
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class LoadGenerator {
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    private final Options options;
+    private final List<InetSocketAddress> servers;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicReference<LoadStats> stats = new AtomicReference<>(new LoadStats());
+    private final List<BotClient> bots = new ArrayList<>();
+
+    /**
+     * 생성자
+     *
+     * @param options 부하 설정
+     */
+    public LoadGenerator(Options options) {
+        this.options = options;
+        this.servers = new ArrayList<>();
+        for (int port : options.ports) {
+            servers.add(new InetSocketAddress(options.host, port));
+        }
+        AtomicInteger threadId = new AtomicInteger();
+        this.scheduler = Executors.newScheduledThreadPool(options.threads, r -> {
+            Thread thread = new Thread(r, "load-scheduler-" + threadId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ========================================
+    // 실행
+    // ========================================
+
+    /**
+     * 단계별 부하 실행
+     *
+     * @return 마지막으로 기준을 만족한 봇 수 (첫 단계부터 실패하면 0)
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public int run() throws InterruptedException {
+        System.out.println("[Load] 서버 " + servers + ", 단계 " + options.start + " -> " + options.max
+                + " (+" + options.step + "), 단계당 " + options.stepSeconds + "초, 채팅 "
+                + options.chatPerMinute + "회/분, 왕복 p99 SLO " + options.sloP99Millis + "ms");
+
+        int lastGood = 0;
+        int target = options.start;
+        int stage = 1;
+        try {
+            while (true) {
+                // 1. 목표 봇 수까지 연결
+                LoadStats rampStats = new LoadStats();
+                stats.set(rampStats);
+                connectUpTo(target);
+                System.out.println("[Load] 단계 " + stage + " 연결: " + rampStats.connectionSummary());
+
+                // 2. 측정
+                LoadStats stepStats = new LoadStats();
+                stats.set(stepStats);
+                Thread.sleep(options.stepSeconds * 1000L);
+                int connected = countConnected();
+                System.out.println("[Load] 단계 " + stage + " 측정: " + stepStats.trafficSummary(connected));
+
+                // 3. 판정
+                String violation = checkViolation(rampStats, stepStats, target, connected);
+                if (violation != null) {
+                    System.out.println("[Load] 단계 " + stage + " 기준 초과: " + violation);
+                    break;
+                }
+                lastGood = target;
+                if (target >= options.max) {
+                    break;
+                }
+                target = Math.min(options.max, target + options.step);
+                stage++;
+            }
+        } finally {
+            closeAll();
+        }
+
+        if (lastGood == target) {
+            System.out.println("[Load] 최대 " + lastGood + "명까지 기준을 만족했습니다 (포화 지점 미도달).");
+        } else {
+            System.out.println("[Load] 포화 지점: " + lastGood + "명 (다음 단계 " + target + "명에서 기준 초과)");
+        }
+        return lastGood;
+    }
+
+    /**
+     * 목표 수까지 봇 연결 (초당 연결 수 제한)
+     */
+    private void connectUpTo(int target) throws InterruptedException {
+        long intervalNanos = options.connectRate > 0 ? 1_000_000_000L / options.connectRate : 0;
+        long next = System.nanoTime();
+        while (bots.size() < target) {
+            int index = bots.size();
+            InetSocketAddress server = servers.get(index % servers.size());
+            BotClient bot = new BotClient(options.namePrefix + index, server, options, scheduler, stats,
+                    options.seed + index);
+            bots.add(bot);
+            bot.connect();
+
+            next += intervalNanos;
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                Thread.sleep(wait / 1_000_000, (int) (wait % 1_000_000));
+            }
+        }
+    }
+
+    private int countConnected() {
+        int count = 0;
+        for (BotClient bot : bots) {
+            if (bot.isConnected()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 단계 기준 검사
+     *
+     * @return 위반 내용 (만족하면 null)
+     */
+    private String checkViolation(LoadStats rampStats, LoadStats stepStats, int target, int connected) {
+        long attempted = rampStats.getConnectOk() + rampStats.getConnectFailed();
+        if (attempted > 0 && (double) rampStats.getConnectFailed() / attempted > options.maxErrorRate) {
+            return "연결 실패 " + rampStats.getConnectFailed() + "/" + attempted;
+        }
+        if ((double) (target - connected) / target > options.maxErrorRate) {
+            return "연결 끊김 " + (target - connected) + "/" + target;
+        }
+        if (options.chatPerMinute <= 0) {
+            return null;
+        }
+        long chats = stepStats.getRoundTripCount() + stepStats.getChatLost();
+        if (chats == 0) {
+            return "측정된 채팅 왕복 없음";
+        }
+        if ((double) stepStats.getChatLost() / chats > options.maxErrorRate) {
+            return "채팅 유실 " + stepStats.getChatLost() + "/" + chats;
+        }
+        double p99 = stepStats.getRoundTripMillis(99);
+        if (p99 > options.sloP99Millis) {
+            return String.format("왕복 p99 %.2fms > %dms", p99, options.sloP99Millis);
+        }
+        return null;
+    }
+
+    private void closeAll() {
+        for (BotClient bot : bots) {
+            bot.close();
+        }
+        scheduler.shutdownNow();
+    }
+
+    // ========================================
+    // 설정
+    // ========================================
+
+    /**
+     * 부하 설정 (명령행 인자)
+     */
+    public static class Options {
+        public String host = "127.0.0.1";
+        public int[] ports = {30000};
+        public int start = 50;
+        public int step = 50;
+        public int max = 1000;
+        public int stepSeconds = 15;
+
+        /**
+         * 초당 새 연결 수 (0이면 제한 없음)
+         */
+        public int connectRate = 200;
+        public int connectTimeoutMillis = 3000;
+
+        /**
+         * 봇당 분당 채팅 수 (0이면 채팅/왕복 측정 없음)
+         */
+        public double chatPerMinute = 12;
+
+        /**
+         * 페이즈 시작 후 행동까지의 지연 범위
+         */
+        public long actionMinMillis = 1000;
+        public long actionMaxMillis = 8000;
+
+        public int sloP99Millis = 250;
+
+        /**
+         * 연결 실패, 끊김, 채팅 유실 허용 비율
+         */
+        public double maxErrorRate = 0.01;
+
+        public int threads = 4;
+        public String namePrefix = "lt";
+        public long seed = 1;
+
+        /**
+         * 명령행 인자 파싱 (--key=value)
+         *
+         * @param args 명령행 인자
+         * @return 설정
+         * @throws IllegalArgumentException 알 수 없는 인자인 경우
+         */
+        public static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                int eq = arg.indexOf('=');
+                if (!arg.startsWith("--") || eq < 0) {
+                    throw new IllegalArgumentException("--key=value 형식이어야 합니다: " + arg);
+                }
+                values.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+
+            Options options = new Options();
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                String value = entry.getValue();
+                switch (entry.getKey()) {
+                    case "host": options.host = value; break;
+                    case "ports": options.ports = parsePorts(value); break;
+                    case "start": options.start = Integer.parseInt(value); break;
+                    case "step": options.step = Integer.parseInt(value); break;
+                    case "max": options.max = Integer.parseInt(value); break;
+                    case "step-seconds": options.stepSeconds = Integer.parseInt(value); break;
+                    case "connect-rate": options.connectRate = Integer.parseInt(value); break;
+                    case "connect-timeout": options.connectTimeoutMillis = Integer.parseInt(value); break;
+                    case "chat-per-minute": options.chatPerMinute = Double.parseDouble(value); break;
+                    case "action-delay": {
+                        int dash = value.indexOf('-');
+                        options.actionMinMillis = Long.parseLong(dash < 0 ? value : value.substring(0, dash));
+                        options.actionMaxMillis = dash < 0 ? options.actionMinMillis
+                                : Long.parseLong(value.substring(dash + 1));
+                        break;
+                    }
+                    case "slo-p99-ms": options.sloP99Millis = Integer.parseInt(value); break;
+                    case "max-error-rate": options.maxErrorRate = Double.parseDouble(value); break;
+                    case "threads": options.threads = Integer.parseInt(value); break;
+                    case "name-prefix": options.namePrefix = value; break;
+                    case "seed": options.seed = Long.parseLong(value); break;
+                    default:
+                        throw new IllegalArgumentException("알 수 없는 인자: --" + entry.getKey());
+                }
+            }
+            if (options.start < 1 || options.step < 1 || options.max < options.start) {
+                throw new IllegalArgumentException("start >= 1, step >= 1, max >= start 이어야 합니다.");
+            }
+            return options;
+        }
+
+        /**
+         * 포트 목록 파싱 ("30000", "30000,30001", "30000-30003")
+         */
+        private static int[] parsePorts(String value) {
+            List<Integer> ports = new ArrayList<>();
+            for (String part : value.split(",")) {
+                int dash = part.indexOf('-');
+                if (dash < 0) {
+                    ports.add(Integer.parseInt(part.trim()));
+                } else {
+                    int from = Integer.parseInt(part.substring(0, dash).trim());
+                    int to = Integer.parseInt(part.substring(dash + 1).trim());
+                    for (int port = from; port <= to; port++) {
+                        ports.add(port);
+                    }
+                }
+            }
+            return ports.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    // ========================================
+    // 명령행 실행
+    // ========================================
+
+    /**
+     * 명령행 진입점
+     *
+     * @param args --host, --ports, --start, --step, --max, --step-seconds, --connect-rate,
+     *             --connect-timeout, --chat-per-minute, --action-delay, --slo-p99-ms,
+     *             --max-error-rate, --threads, --name-prefix, --seed
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public static void main(String[] args) throws InterruptedException {
+        new LoadGenerator(Options.parse(args)).run();
+    }
+}
@@ -0,0 +1,156 @@
+package mafia.game.loadtest;
+
+import java.util.concurrent.atomic.LongAdder;
+import mafia.game.metrics.LogLinearHistogram;
+
+/**
+ * 부하 단계별 집계
+ *
+ * 봇 수신 스레드와 예약 스레드가 동시에 기록하므로 카운터는 LongAdder,
+ * 왕복 지연은 LogLinearHistogram(할당 없는 기록)을 사용합니다.
+ * 단계가 바뀌면 새 인스턴스로 교체합니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class LoadStats {
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    private final long startNanos = System.nanoTime();
+
+    private final LongAdder connectOk = new LongAdder();
+    private final LongAdder connectFailed = new LongAdder();
+    private final LongAdder disconnected = new LongAdder();
+    private final LongAdder sentMessages = new LongAdder();
+    private final LongAdder receivedMessages = new LongAdder();
+    private final LongAdder receivedBytes = new LongAdder();
+    private final LongAdder chatLost = new LongAdder();
+    private final LongAdder chatRejected = new LongAdder();
+
+    /**
+     * 채팅 왕복 지연 (전송 ~ 자기 메시지 브로드캐스트 수신, 나노초)
+     */
+    private final LogLinearHistogram roundTrip = new LogLinearHistogram();
+
+    /**
+     * 연결 수립 지연 (connect + /login 전송, 나노초)
+     */
+    private final LogLinearHistogram connectTime = new LogLinearHistogram();
+
+    // ========================================
+    // 기록
+    // ========================================
+
+    public void connected(long nanos) {
+        connectOk.increment();
+        connectTime.record(nanos);
+    }
+
+    public void connectFailed() {
+        connectFailed.increment();
+    }
+
+    public void disconnected() {
+        disconnected.increment();
+    }
+
+    public void sent() {
+        sentMessages.increment();
+    }
+
+    /**
+     * 수신 프레임 기록
+     *
+     * @param utfBytes writeUTF 본문 바이트 수 (길이 헤더 2바이트 제외)
+     */
+    public void received(int utfBytes) {
+        receivedMessages.increment();
+        receivedBytes.add(utfBytes + 2);
+    }
+
+    public void roundTrip(long nanos) {
+        roundTrip.record(nanos);
+    }
+
+    public void chatLost() {
+        chatLost.increment();
+    }
+
+    public void chatRejected() {
+        chatRejected.increment();
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    public long getConnectOk() {
+        return connectOk.sum();
+    }
+
+    public long getConnectFailed() {
+        return connectFailed.sum();
+    }
+
+    public long getDisconnected() {
+        return disconnected.sum();
+    }
+
+    public long getChatLost() {
+        return chatLost.sum();
+    }
+
+    public long getRoundTripCount() {
+        return roundTrip.getCount();
+    }
+
+    /**
+     * 왕복 지연 백분위
+     *
+     * @param percentile 백분위 (0.0 ~ 100.0)
+     * @return 밀리초
+     */
+    public double getRoundTripMillis(double percentile) {
+        return roundTrip.getMillisAtPercentile(percentile);
+    }
+
+    /**
+     * 단계 시작 이후 경과 시간
+     *
+     * @return 초
+     */
+    public double getElapsedSeconds() {
+        return (System.nanoTime() - startNanos) / 1_000_000_000.0;
+    }
+
+    /**
+     * 연결 결과 요약
+     *
+     * @return 요약 문자열
+     */
+    public String connectionSummary() {
+        return String.format("연결 성공 %,d 실패 %,d (connect+login p50 %.1fms p99 %.1fms, %.1f초)",
+            getConnectOk(), getConnectFailed(), connectTime.getMillisAtPercentile(50),
+            connectTime.getMillisAtPercentile(99), getElapsedSeconds());
+    }
+
+    /**
+     * 트래픽 요약 (송신 = 서버 수신 처리량, 수신 = 서버 브로드캐스트 처리량)
+     *
+     * @param bots 현재 연결된 봇 수
+     * @return 요약 문자열
+     */
+    public String trafficSummary(int bots) {
+        double seconds = Math.max(getElapsedSeconds(), 0.001);
+        return String.format(
+            "봇 %,d | 송신 %,.0f msg/s | 수신 %,.0f msg/s (%,.1f KB/s) | 끊김 %d | "
+                + "왕복 p50 %.2fms p99 %.2fms p999 %.2fms (n=%,d, 유실 %d, 거부 %d)",
+            bots, sentMessages.sum() / seconds, receivedMessages.sum() / seconds,
+            receivedBytes.sum() / seconds / 1024, getDisconnected(),
+            getRoundTripMillis(50), getRoundTripMillis(99), getRoundTripMillis(99.9),
+            getRoundTripCount(), getChatLost(), chatRejected.sum());
+    }
+}
@@ -0,0 +1,486 @@
+package mafia.game.logging;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 비동기 구조화 로거
+ *
+ * 네트워크 스레드가 로그 때문에 멈추지 않도록, 로그 요청은 미리 할당된
+ * 고정 크기 링 버퍼에 필드만 복사하고 즉시 반환합니다.
+ * 포맷팅과 출력은 전용 스레드 하나가 배치 단위로 수행합니다.
+ *
+ * 설계 원칙:
+ * - Singleton Pattern: 서버 전체에서 하나의 로거 사용
+ * - Bounded: 버퍼가 가득 차면 기다리지 않고 버린 뒤 개수만 집계
+ * - Allocation-Light: 링 슬롯과 포맷 버퍼를 재사용
+ *
+ * 기능:
+ * - 레벨(TRACE ~ ERROR) 및 분류별 최소 레벨
+ * - 분류별 샘플링 (예: CHAT은 N개 중 1개만)
+ * - key=value 형식 출력 (ts, level, cat, thread, msg)
+ *
+ * 버퍼 크기는 mafia.log.bufferSize 시스템 프로퍼티로 지정합니다. (기본 8192)
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class AsyncLogger {
+
+    // ========================================
+    // Singleton 패턴
+    // ========================================
+
+    private static AsyncLogger instance;
+
+    /**
+     * Singleton 인스턴스 조회
+     *
+     * @return AsyncLogger 인스턴스
+     */
+    public static synchronized AsyncLogger getInstance() {
+        if (instance == null) {
+            instance = new AsyncLogger(Integer.getInteger(BUFFER_SIZE_PROPERTY, DEFAULT_CAPACITY));
+        }
+        return instance;
+    }
+
+    // ========================================
+    // 설정 상수
+    // ========================================
+
+    /**
+     * 버퍼 크기 시스템 프로퍼티
+     */
+    public static final String BUFFER_SIZE_PROPERTY = "mafia.log.bufferSize";
+
+    /**
+     * 기본 버퍼 크기
+     */
+    private static final int DEFAULT_CAPACITY = 8192;
+
+    /**
+     * 한 번에 출력하는 최대 로그 수
+     */
+    private static final int BATCH_SIZE = 256;
+
+    /**
+     * 버려진 로그 보고 주기 (밀리초)
+     */
+    private static final long DROP_REPORT_INTERVAL_MS = 5000;
+
+    // ========================================
+    // 링 버퍼 슬롯
+    // ========================================
+
+    /**
+     * 로그 한 건 (재사용)
+     */
+    private static final class Slot {
+        long timeMillis;
+        LogLevel level;
+        LogCategory category;
+        String thread;
+        String message;
+
+        void copyFrom(Slot other) {
+            this.timeMillis = other.timeMillis;
+            this.level = other.level;
+            this.category = other.category;
+            this.thread = other.thread;
+            this.message = other.message;
+            other.message = null;
+        }
+    }
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    /**
+     * 링 버퍼
+     */
+    private final Slot[] ring;
+
+    /**
+     * 출력 스레드가 복사해 가는 배치 버퍼
+     */
+    private final Slot[] batch;
+
+    /**
+     * 다음에 읽을 위치
+     */
+    private int head;
+
+    /**
+     * 버퍼에 쌓인 개수
+     */
+    private int size;
+
+    /**
+     * 링 버퍼 보호용 락
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 데이터 도착 신호
+     */
+    private final Condition notEmpty = lock.newCondition();
+
+    /**
+     * 분류별 최소 레벨 (ordinal 인덱스)
+     */
+    private final LogLevel[] categoryLevels;
+
+    /**
+     * 분류별 샘플링 비율 (N개 중 1개 기록, ordinal 인덱스)
+     */
+    private final int[] sampleRates;
+
+    /**
+     * 분류별 샘플링 카운터
+     */
+    private final AtomicLong[] sampleCounters;
+
+    /**
+     * 버퍼 초과로 버린 로그 수
+     */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * 출력 대상 목록
+     */
+    private final List<LogSink> sinks = new CopyOnWriteArrayList<>();
+
+    /**
+     * key=value 포맷 버퍼 (출력 스레드 전용)
+     */
+    private final StringBuilder line = new StringBuilder(256);
+
+    /**
+     * 출력 스레드
+     */
+    private Thread writerThread;
+
+    /**
+     * 실행 중 여부
+     */
+    private volatile boolean running;
+
+    // ========================================
+    // 생성자
+    // ========================================
+
+    /**
+     * private 생성자 (Singleton)
+     *
+     * @param capacity 링 버퍼 크기
+     */
+    private AsyncLogger(int capacity) {
+        this.ring = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            ring[i] = new Slot();
+        }
+        this.batch = new Slot[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch[i] = new Slot();
+        }
+
+        LogCategory[] categories = LogCategory.values();
+        this.categoryLevels = new LogLevel[categories.length];
+        this.sampleRates = new int[categories.length];
+        this.sampleCounters = new AtomicLong[categories.length];
+        for (int i = 0; i < categories.length; i++) {
+            categoryLevels[i] = LogLevel.INFO;
+            sampleRates[i] = 1;
+            sampleCounters[i] = new AtomicLong();
+        }
+    }
+
+    // ========================================
+    // 설정
+    // ========================================
+
+    /**
+     * 전체 분류의 최소 레벨 설정
+     *
+     * @param level 최소 레벨
+     */
+    public void setLevel(LogLevel level) {
+        for (int i = 0; i < categoryLevels.length; i++) {
+            categoryLevels[i] = level;
+        }
+    }
+
+    /**
+     * 특정 분류의 최소 레벨 설정
+     *
+     * @param category 분류
+     * @param level 최소 레벨
+     */
+    public void setLevel(LogCategory category, LogLevel level) {
+        categoryLevels[category.ordinal()] = level;
+    }
+
+    /**
+     * 특정 분류의 샘플링 비율 설정
+     *
+     * @param category 분류
+     * @param oneInN N개 중 1개만 기록 (1이면 전부)
+     */
+    public void setSampleRate(LogCategory category, int oneInN) {
+        sampleRates[category.ordinal()] = Math.max(1, oneInN);
+    }
+
+    /**
+     * 출력 대상 추가
+     *
+     * @param sink 출력 대상
+     */
+    public void addSink(LogSink sink) {
+        sinks.add(sink);
+    }
+
+    /**
+     * 출력 대상 제거
+     *
+     * @param sink 출력 대상
+     */
+    public void removeSink(LogSink sink) {
+        sinks.remove(sink);
+    }
+
+    // ========================================
+    // 로그 기록 (호출 스레드)
+    // ========================================
+
+    /**
+     * 레벨/분류가 기록 대상인지 확인
+     * 메시지 문자열을 만드는 비용이 큰 경우 먼저 호출합니다.
+     *
+     * @param level 레벨
+     * @param category 분류
+     * @return 기록 대상 여부
+     */
+    public boolean isEnabled(LogLevel level, LogCategory category) {
+        return level.ordinal() >= categoryLevels[category.ordinal()].ordinal();
+    }
+
+    /**
+     * 로그 기록
+     *
+     * @param level 레벨
+     * @param category 분류
+     * @param message 메시지
+     */
+    public void log(LogLevel level, LogCategory category, String message) {
+        if (!isEnabled(level, category)) {
+            return;
+        }
+        int rate = sampleRates[category.ordinal()];
+        if (rate > 1 && sampleCounters[category.ordinal()].incrementAndGet() % rate != 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        String thread = Thread.currentThread().getName();
+
+        lock.lock();
+        try {
+            if (size == ring.length) {
+                dropped.incrementAndGet();
+                return;
+            }
+            Slot slot = ring[(head + size) % ring.length];
+            slot.timeMillis = now;
+            slot.level = level;
+            slot.category = category;
+            slot.thread = thread;
+            slot.message = message;
+            size++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void debug(LogCategory category, String message) {
+        log(LogLevel.DEBUG, category, message);
+    }
+
+    public void info(LogCategory category, String message) {
+        log(LogLevel.INFO, category, message);
+    }
+
+    public void warn(LogCategory category, String message) {
+        log(LogLevel.WARN, category, message);
+    }
+
+    public void error(LogCategory category, String message) {
+        log(LogLevel.ERROR, category, message);
+    }
+
+    // ========================================
+    // 출력 스레드
+    // ========================================
+
+    /**
+     * 출력 스레드 시작 (중복 호출 무시)
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::runWriter, "async-logger");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "async-logger-shutdown"));
+    }
+
+    /**
+     * 남은 로그를 모두 출력하고 스레드 종료
+     */
+    public void shutdown() {
+        Thread thread;
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+            thread = writerThread;
+        }
+        lock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            thread.join(2000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 출력 루프
+     */
+    private void runWriter() {
+        long lastDropReport = System.currentTimeMillis();
+
+        while (true) {
+            int count = drainBatch();
+            for (int i = 0; i < count; i++) {
+                Slot slot = batch[i];
+                formatLine(slot);
+                for (LogSink sink : sinks) {
+                    sink.write(slot.level, slot.category, line, slot.message);
+                }
+                slot.message = null;
+            }
+            if (count > 0) {
+                for (LogSink sink : sinks) {
+                    sink.flush();
+                }
+            }
+
+            long now = System.currentTimeMillis();
+            if (now - lastDropReport >= DROP_REPORT_INTERVAL_MS) {
+                lastDropReport = now;
+                long lost = dropped.getAndSet(0);
+                if (lost > 0) {
+                    log(LogLevel.WARN, LogCategory.SYSTEM, "로그 버퍼 초과로 " + lost + "건 버림");
+                }
+            }
+
+            if (count == 0 && !running) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 링 버퍼에서 배치 버퍼로 복사
+     *
+     * @return 복사한 개수
+     */
+    private int drainBatch() {
+        lock.lock();
+        try {
+            if (size == 0 && running) {
+                notEmpty.await(DROP_REPORT_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            }
+            int count = Math.min(size, BATCH_SIZE);
+            for (int i = 0; i < count; i++) {
+                batch[i].copyFrom(ring[head]);
+                head = (head + 1) % ring.length;
+            }
+            size -= count;
+            return count;
+        } catch (InterruptedException e) {
+            running = false;
+            return 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * key=value 한 줄 생성
+     * 예) ts=2025-01-01T12:00:00.123Z level=INFO cat=GAME thread=Thread-3 msg="밤이 되었습니다"
+     *
+     * @param slot 로그 한 건
+     */
+    private void formatLine(Slot slot) {
+        line.setLength(0);
+        line.append("ts=");
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(slot.timeMillis), line);
+        line.append(" level=").append(slot.level.name());
+        line.append(" cat=").append(slot.category.name());
+        line.append(" thread=").append(slot.thread);
+        line.append(" msg=\"");
+        appendEscaped(line, slot.message);
+        line.append('"');
+    }
+
+    /**
+     * 메시지를 한 줄로 이스케이프 (끝의 공백/개행 제거)
+     *
+     * @param sb 출력 버퍼
+     * @param message 메시지
+     */
+    private static void appendEscaped(StringBuilder sb, String message) {
+        if (message == null) {
+            return;
+        }
+        int end = message.length();
+        while (end > 0 && Character.isWhitespace(message.charAt(end - 1))) {
+            end--;
+        }
+        for (int i = 0; i < end; i++) {
+            char c = message.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    break;
+                default:
+                    sb.append(c);
+            }
+        }
+    }
+}
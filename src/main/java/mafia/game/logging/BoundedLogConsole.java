@@ -0,0 +1,203 @@
+package mafia.game.logging;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.swing.JTextArea;
+import javax.swing.Timer;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Element;
+
+/**
+ * 서버 GUI용 제한 크기 로그 콘솔
+ *
+ * 어느 스레드에서든 로그 줄을 lock-free 큐에 넣기만 하고,
+ * 대기 중인 줄이 있을 때만 EDT의 Swing Timer를 한 번 예약해 모아서 문서에 한 번에 삽입합니다 (유휴 시 타이머 없음).
+ *
+ * 설계 원칙:
+ * - Swing 컴포넌트는 EDT에서만 접근
+ * - getText() 전체 복사 없음 (캐럿은 문서 길이로 이동)
+ * - 최근 N줄만 유지: 문서 앞부분을 잘라 메모리 일정 유지
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class BoundedLogConsole implements LogSink {
+
+    // ========================================
+    // 설정 상수
+    // ========================================
+
+    /**
+     * 플러시 주기 (약 60fps)
+     */
+    private static final int FLUSH_INTERVAL_MS = 16;
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    /**
+     * 출력 대상 텍스트 영역
+     */
+    private final JTextArea textArea;
+
+    /**
+     * 최대 유지 줄 수
+     */
+    private final int maxLines;
+
+    /**
+     * 아직 문서에 반영되지 않은 줄 (생산자: 아무 스레드, 소비자: EDT)
+     */
+    private final ConcurrentLinkedQueue<String> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * pending 크기 (ConcurrentLinkedQueue.size()는 O(n)이므로 따로 집계)
+     */
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    /**
+     * 배치 삽입 버퍼 (EDT 전용)
+     */
+    private final StringBuilder batch = new StringBuilder(4096);
+
+    /**
+     * 프레임 단위 플러시 타이머 (대기 중인 줄이 있을 때만 한 번 실행)
+     */
+    private final Timer flushTimer;
+
+    /**
+     * 플러시 예약 여부
+     */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    // ========================================
+    // 생성자
+    // ========================================
+
+    /**
+     * 생성자 (EDT에서 호출)
+     *
+     * @param textArea 출력 대상 텍스트 영역
+     * @param maxLines 최대 유지 줄 수
+     */
+    public BoundedLogConsole(JTextArea textArea, int maxLines) {
+        this.textArea = textArea;
+        this.maxLines = Math.max(1, maxLines);
+        this.flushTimer = new Timer(FLUSH_INTERVAL_MS, e -> flushToDocument());
+        this.flushTimer.setRepeats(false);
+    }
+
+    // ========================================
+    // 생산자 (아무 스레드)
+    // ========================================
+
+    /**
+     * 로그 한 줄 추가 (비차단)
+     * 화면에 반영되기 전에 maxLines를 넘게 쌓이면 오래된 줄부터 버립니다.
+     *
+     * @param line 로그 줄
+     */
+    public void append(String line) {
+        pending.offer(line);
+        if (pendingCount.incrementAndGet() > maxLines) {
+            if (pending.poll() != null) {
+                pendingCount.decrementAndGet();
+            }
+        }
+        if (scheduled.compareAndSet(false, true)) {
+            flushTimer.start();
+        }
+    }
+
+    @Override
+    public void write(LogLevel level, LogCategory category, CharSequence structuredLine, String message) {
+        append(message);
+    }
+
+    // ========================================
+    // 소비자 (EDT)
+    // ========================================
+
+    /**
+     * 대기 중인 줄을 문서에 한 번에 반영
+     */
+    private void flushToDocument() {
+        // 먼저 예약을 풀어 두어, 비우는 도중 들어온 줄은 다음 플러시를 다시 예약
+        scheduled.set(false);
+        if (pendingCount.get() == 0) {
+            return;
+        }
+
+        batch.setLength(0);
+        int added = 0;
+        String line;
+        while ((line = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            line = stripTrailingNewlines(line);
+            batch.append(line).append('\n');
+            added++;
+        }
+        if (added == 0) {
+            return;
+        }
+
+        Document doc = textArea.getDocument();
+        try {
+            doc.insertString(doc.getLength(), batch.toString(), null);
+            trimDocument(doc);
+        } catch (BadLocationException e) {
+            // 문서 끝에 삽입하므로 발생하지 않음
+        }
+        textArea.setCaretPosition(doc.getLength());
+
+        // 대량 로그 후 버퍼가 과도하게 커진 채로 남지 않도록
+        if (batch.capacity() > 64 * 1024) {
+            batch.setLength(0);
+            batch.trimToSize();
+        }
+    }
+
+    /**
+     * 문서 앞부분을 잘라 maxLines 줄만 남김
+     *
+     * @param doc 문서
+     * @throws BadLocationException 잘못된 위치
+     */
+    private void trimDocument(Document doc) throws BadLocationException {
+        Element root = doc.getDefaultRootElement();
+        // 마지막 줄은 삽입 후 남는 빈 줄
+        int excess = root.getElementCount() - 1 - maxLines;
+        if (excess > 0) {
+            int end = root.getElement(excess - 1).getEndOffset();
+            doc.remove(0, end);
+        }
+    }
+
+    /**
+     * 줄 끝 개행 제거 (기존 로그 호출부의 "\n" 접미사 대응)
+     *
+     * @param line 로그 줄
+     * @return 개행이 제거된 줄
+     */
+    private static String stripTrailingNewlines(String line) {
+        int end = line.length();
+        while (end > 0 && (line.charAt(end - 1) == '\n' || line.charAt(end - 1) == '\r')) {
+            end--;
+        }
+        return end == line.length() ? line : line.substring(0, end);
+    }
+
+    // ========================================
+    // 종료
+    // ========================================
+
+    /**
+     * 예약된 플러시 취소
+     */
+    public void stop() {
+        flushTimer.stop();
+    }
+}
@@ -0,0 +1,21 @@
+package mafia.game.logging;
+
+/**
+ * 로그 분류
+ *
+ * 분류마다 최소 레벨과 샘플링 비율을 따로 둘 수 있습니다.
+ * CHAT은 플레이어 대화 내용이므로 DEBUG에서만, 샘플링하여 기록합니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public enum LogCategory {
+    /** 서버 시작/종료, 설정 */
+    SYSTEM,
+    /** 게임 진행 (페이즈, 역할, 투표 결과) */
+    GAME,
+    /** 접속, 전송 오류 */
+    NETWORK,
+    /** 플레이어가 보낸 메시지 원문 */
+    CHAT
+}
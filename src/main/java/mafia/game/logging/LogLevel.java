@@ -0,0 +1,35 @@
+package mafia.game.logging;
+
+/**
+ * 로그 레벨
+ *
+ * 숫자가 클수록 심각한 로그입니다. 설정된 레벨 이상만 기록됩니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public enum LogLevel {
+    TRACE,
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR;
+
+    /**
+     * 문자열에서 레벨 파싱 (대소문자 무시, 실패 시 기본값)
+     *
+     * @param value 레벨 문자열
+     * @param defaultLevel 기본 레벨
+     * @return 로그 레벨
+     */
+    public static LogLevel parse(String value, LogLevel defaultLevel) {
+        if (value == null) {
+            return defaultLevel;
+        }
+        try {
+            return LogLevel.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return defaultLevel;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package mafia.game.logging;
+
+/**
+ * 로그 출력 대상
+ *
+ * AsyncLogger의 출력 스레드에서만 호출됩니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public interface LogSink {
+
+    /**
+     * 로그 한 줄 출력
+     *
+     * @param level 레벨
+     * @param category 분류
+     * @param structuredLine key=value 형식으로 포맷된 한 줄
+     * @param message 원본 메시지
+     */
+    void write(LogLevel level, LogCategory category, CharSequence structuredLine, String message);
+
+    /**
+     * 한 번의 배치 출력이 끝난 뒤 호출 (버퍼 플러시 등)
+     */
+    default void flush() {
+    }
+}
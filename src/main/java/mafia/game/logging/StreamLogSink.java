@@ -0,0 +1,51 @@
+package mafia.game.logging;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 스트림 출력 대상 (표준 출력, 파일 등)
+ *
+ * 구조화된 key=value 한 줄을 그대로 쓰고, 배치가 끝날 때만 플러시합니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class StreamLogSink implements LogSink {
+
+    /**
+     * 버퍼링된 출력
+     */
+    private final Writer writer;
+
+    /**
+     * 생성자
+     *
+     * @param out 출력 스트림
+     */
+    public StreamLogSink(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+    }
+
+    @Override
+    public void write(LogLevel level, LogCategory category, CharSequence structuredLine, String message) {
+        try {
+            writer.append(structuredLine).append('\n');
+        } catch (IOException e) {
+            // 출력 실패는 무시 (로깅 때문에 서버가 멈추지 않도록)
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            // 출력 실패는 무시
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package mafia.game.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단조 증가 카운터
+ *
+ * LongAdder 기반으로 여러 스레드가 동시에 증가시켜도 경합이 적고,
+ * 기록 시 객체를 할당하지 않습니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public final class Counter {
+
+    /**
+     * 누적 값
+     */
+    private final LongAdder value = new LongAdder();
+
+    /**
+     * 1 증가
+     */
+    public void increment() {
+        value.increment();
+    }
+
+    /**
+     * 지정한 값만큼 증가
+     *
+     * @param delta 증가량 (0 이상)
+     */
+    public void add(long delta) {
+        value.add(delta);
+    }
+
+    /**
+     * 현재 누적 값 조회
+     *
+     * @return 누적 값
+     */
+    public long get() {
+        return value.sum();
+    }
+}
@@ -0,0 +1,161 @@
+package mafia.game.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 버킷 지연 시간 히스토그램
+ *
+ * 버킷 경계는 생성 시 고정되며, 기록은 경계 배열을 선형 탐색한 뒤
+ * 해당 버킷의 LongAdder를 증가시키는 것이 전부입니다. (할당 없음)
+ * Prometheus 히스토그램 형식(누적 버킷, sum, count)으로 내보낼 수 있습니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public final class LatencyHistogram {
+
+    // ========================================
+    // 기본 버킷 경계 (나노초)
+    // ========================================
+
+    /**
+     * 50µs ~ 5s 구간의 기본 버킷 경계
+     */
+    private static final long[] DEFAULT_BOUNDS_NANOS = {
+        50_000L, 100_000L, 250_000L, 500_000L,
+        1_000_000L, 2_500_000L, 5_000_000L, 10_000_000L,
+        25_000_000L, 50_000_000L, 100_000_000L, 250_000_000L,
+        500_000_000L, 1_000_000_000L, 2_500_000_000L, 5_000_000_000L
+    };
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    /**
+     * 버킷 상한 (나노초, 오름차순)
+     */
+    private final long[] boundsNanos;
+
+    /**
+     * 버킷별 개수 (마지막 칸은 +Inf)
+     */
+    private final LongAdder[] buckets;
+
+    /**
+     * 기록된 값의 합 (나노초)
+     */
+    private final LongAdder sumNanos = new LongAdder();
+
+    /**
+     * 기록 횟수
+     */
+    private final LongAdder count = new LongAdder();
+
+    // ========================================
+    // 생성자
+    // ========================================
+
+    /**
+     * 기본 버킷 경계로 생성
+     */
+    public LatencyHistogram() {
+        this(DEFAULT_BOUNDS_NANOS);
+    }
+
+    /**
+     * 지정한 버킷 경계로 생성
+     *
+     * @param boundsNanos 버킷 상한 (나노초, 오름차순)
+     */
+    public LatencyHistogram(long[] boundsNanos) {
+        this.boundsNanos = boundsNanos.clone();
+        this.buckets = new LongAdder[boundsNanos.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    // ========================================
+    // 기록
+    // ========================================
+
+    /**
+     * 지연 시간 기록
+     *
+     * @param nanos 지연 시간 (나노초)
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        int i = 0;
+        while (i < boundsNanos.length && nanos > boundsNanos[i]) {
+            i++;
+        }
+        buckets[i].increment();
+        sumNanos.add(nanos);
+        count.increment();
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    /**
+     * 버킷 개수 (+Inf 포함)
+     *
+     * @return 버킷 개수
+     */
+    public int getBucketCount() {
+        return buckets.length;
+    }
+
+    /**
+     * 버킷 상한 조회
+     *
+     * @param index 버킷 인덱스
+     * @return 상한 (나노초), +Inf 버킷이면 Long.MAX_VALUE
+     */
+    public long getBucketBoundNanos(int index) {
+        return index < boundsNanos.length ? boundsNanos[index] : Long.MAX_VALUE;
+    }
+
+    /**
+     * 버킷의 (비누적) 개수 조회
+     *
+     * @param index 버킷 인덱스
+     * @return 개수
+     */
+    public long getBucketValue(int index) {
+        return buckets[index].sum();
+    }
+
+    /**
+     * 기록 횟수
+     *
+     * @return 기록 횟수
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * 기록된 값의 합
+     *
+     * @return 합 (나노초)
+     */
+    public long getSumNanos() {
+        return sumNanos.sum();
+    }
+
+    /**
+     * 평균 지연 시간
+     *
+     * @return 평균 (밀리초), 기록이 없으면 0
+     */
+    public double getMeanMillis() {
+        long n = getCount();
+        return n == 0 ? 0.0 : getSumNanos() / (double) n / 1_000_000.0;
+    }
+}
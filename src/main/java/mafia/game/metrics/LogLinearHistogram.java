@@ -0,0 +1,183 @@
+package mafia.game.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * HDR 스타일 로그-선형 히스토그램
+ *
+ * 값 범위를 2의 거듭제곱 구간으로 나누고, 각 구간을 다시 64개의 선형 하위 버킷으로 나눕니다.
+ * 따라서 1ns ~ 2^62ns 전 범위에서 상대 오차가 약 1.6% 이내로 유지되며,
+ * p50/p99/p999 같은 꼬리 백분위를 고정 메모리로 계산할 수 있습니다.
+ *
+ * 구조:
+ * - 0 ~ 127: 값 그대로 인덱스 (정확)
+ * - 128 이상: 상위 7비트를 남기고 나머지 비트 수(shift)로 구간을 결정
+ *
+ * 기록은 인덱스 계산 후 AtomicLongArray 증가뿐이라 할당이 없습니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public final class LogLinearHistogram {
+
+    // ========================================
+    // 버킷 구성 상수
+    // ========================================
+
+    /**
+     * 선형 구간 크기 (0 ~ 127은 값 그대로 기록)
+     */
+    private static final int LINEAR_LIMIT = 128;
+
+    /**
+     * 구간당 하위 버킷 수
+     */
+    private static final int SUB_BUCKETS = 64;
+
+    /**
+     * 최대 shift (2^62 이상은 마지막 버킷)
+     */
+    private static final int MAX_SHIFT = 56;
+
+    /**
+     * 전체 버킷 수
+     */
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + MAX_SHIFT * SUB_BUCKETS;
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    /**
+     * 버킷별 개수
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * 전체 기록 횟수
+     */
+    private final AtomicLong count = new AtomicLong();
+
+    /**
+     * 기록된 최대값
+     */
+    private final AtomicLong max = new AtomicLong();
+
+    // ========================================
+    // 기록
+    // ========================================
+
+    /**
+     * 값 기록
+     *
+     * @param value 기록할 값 (나노초, 음수는 0으로 처리)
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts.incrementAndGet(indexOf(value));
+        count.incrementAndGet();
+
+        long current;
+        while (value > (current = max.get())) {
+            if (max.compareAndSet(current, value)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 값에 해당하는 버킷 인덱스
+     *
+     * @param value 값 (0 이상)
+     * @return 버킷 인덱스
+     */
+    static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - 6;
+        if (shift > MAX_SHIFT) {
+            return BUCKET_COUNT - 1;
+        }
+        int mantissa = (int) (value >>> shift) - SUB_BUCKETS;
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + mantissa;
+    }
+
+    /**
+     * 버킷에 속하는 최대값 (백분위 보고용)
+     *
+     * @param index 버킷 인덱스
+     * @return 해당 버킷의 상한값
+     */
+    static long highestEquivalentValue(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int offset = index - LINEAR_LIMIT;
+        int shift = offset / SUB_BUCKETS + 1;
+        long mantissa = offset % SUB_BUCKETS + SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    /**
+     * 기록 횟수
+     *
+     * @return 횟수
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * 기록된 최대값
+     *
+     * @return 최대값 (나노초)
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * 백분위 값 계산
+     *
+     * @param percentile 백분위 (0.0 ~ 100.0)
+     * @return 해당 백분위 값 (나노초, 기록이 없으면 0)
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(percentile / 100.0 * total);
+        if (rank < 1) {
+            rank = 1;
+        }
+
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += counts.get(i);
+            if (cumulative >= rank) {
+                return Math.min(highestEquivalentValue(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * 밀리초 단위 백분위 값
+     *
+     * @param percentile 백분위 (0.0 ~ 100.0)
+     * @return 해당 백분위 값 (밀리초)
+     */
+    public double getMillisAtPercentile(double percentile) {
+        return getValueAtPercentile(percentile) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,78 @@
+package mafia.game.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX로 노출되는 서버 메트릭 인터페이스
+ *
+ * ObjectName: mafia.game:type=Metrics
+ * JConsole / VisualVM 등에서 조회할 수 있습니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public interface MafiaMetricsMXBean {
+
+    /**
+     * 게이지 현재 값 (이름 -> 값)
+     *
+     * @return 게이지 맵
+     */
+    Map<String, Long> getGauges();
+
+    /**
+     * Opcode별 수신 메시지 수
+     *
+     * @return Opcode -> 수신 수
+     */
+    Map<String, Long> getMessagesIn();
+
+    /**
+     * Opcode별 송신 메시지 수
+     *
+     * @return Opcode -> 송신 수
+     */
+    Map<String, Long> getMessagesOut();
+
+    /**
+     * 총 수신 바이트
+     *
+     * @return 바이트 수
+     */
+    long getBytesIn();
+
+    /**
+     * 총 송신 바이트
+     *
+     * @return 바이트 수
+     */
+    long getBytesOut();
+
+    /**
+     * 페이즈 핸들러별 평균 처리 시간
+     *
+     * @return 핸들러 이름 -> 평균 (밀리초)
+     */
+    Map<String, Double> getPhaseHandlerMeanMillis();
+
+    /**
+     * 통계 저장 횟수
+     *
+     * @return 저장 횟수
+     */
+    long getPersistenceFlushCount();
+
+    /**
+     * 통계 저장 평균 시간
+     *
+     * @return 평균 (밀리초)
+     */
+    double getPersistenceFlushMeanMillis();
+
+    /**
+     * 메시지 종류별 종단 간 지연 p99
+     *
+     * @return Opcode -> p99 (밀리초)
+     */
+    Map<String, Double> getMessageLatencyP99Millis();
+}
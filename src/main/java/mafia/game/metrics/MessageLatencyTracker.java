@@ -0,0 +1,311 @@
+package mafia.game.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 메시지 종단 간 지연 시간 추적기
+ *
+ * 발신자 UserService가 readUTF()로 메시지를 읽은 시점부터
+ * 마지막 수신자의 세션 버퍼에 기록된 시점까지를 측정합니다 (소켓 쓰기는 세션별 전송 스레드가 따로 수행).
+ *
+ * 측정 지점:
+ * - decode: readUTF() 반환 직후
+ * - handler start: 메시지 타입별 핸들러 진입
+ * - enqueue: 첫 WriteOne() 진입
+ * - write complete: 마지막 WriteOne()의 세션 버퍼 기록 완료
+ *
+ * 서버는 메시지를 읽은 스레드에서 핸들러와 브로드캐스트를 모두 수행하므로
+ * 스레드별 Trace 객체 하나를 재사용해 할당 없이 타임스탬프를 모읍니다.
+ * 페이즈 타이머 스레드처럼 Trace가 시작되지 않은 스레드의 전송은 무시됩니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class MessageLatencyTracker {
+
+    // ========================================
+    // Singleton 패턴
+    // ========================================
+
+    private static MessageLatencyTracker instance;
+
+    /**
+     * Singleton 인스턴스 조회
+     *
+     * @return MessageLatencyTracker 인스턴스
+     */
+    public static synchronized MessageLatencyTracker getInstance() {
+        if (instance == null) {
+            instance = new MessageLatencyTracker();
+        }
+        return instance;
+    }
+
+    // ========================================
+    // 설정 상수
+    // ========================================
+
+    /**
+     * 느린 메시지 기준 시스템 프로퍼티 (밀리초)
+     */
+    public static final String SLOW_THRESHOLD_PROPERTY = "mafia.latency.slowMillis";
+
+    /**
+     * 느린 메시지 기본 기준 (밀리초)
+     */
+    private static final long DEFAULT_SLOW_THRESHOLD_MS = 100;
+
+    /**
+     * 보고 대상 백분위
+     */
+    private static final double[] REPORT_PERCENTILES = {50.0, 99.0, 99.9};
+
+    // ========================================
+    // 스레드별 추적 정보
+    // ========================================
+
+    /**
+     * 메시지 하나의 처리 타임스탬프 (스레드당 하나, 재사용)
+     */
+    private static final class Trace {
+        boolean active;
+        Opcode opcode;
+        String handlerName;
+        long decodeNanos;
+        long handlerStartNanos;
+        long enqueueNanos;
+        long lastWriteNanos;
+        int writes;
+    }
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    /**
+     * 스레드별 Trace
+     */
+    private final ThreadLocal<Trace> traces = ThreadLocal.withInitial(Trace::new);
+
+    /**
+     * Opcode별 종단 간 지연 히스토그램 (ordinal 인덱스)
+     */
+    private final LogLinearHistogram[] histograms;
+
+    /**
+     * 느린 메시지 기준 (나노초)
+     */
+    private final long slowThresholdNanos;
+
+    /**
+     * 느린 메시지 로그 출력 대상
+     */
+    private volatile Consumer<String> slowMessageSink = System.err::println;
+
+    // ========================================
+    // 생성자
+    // ========================================
+
+    /**
+     * private 생성자 (Singleton)
+     */
+    private MessageLatencyTracker() {
+        Opcode[] opcodes = Opcode.all();
+        this.histograms = new LogLinearHistogram[opcodes.length];
+        for (int i = 0; i < opcodes.length; i++) {
+            histograms[i] = new LogLinearHistogram();
+        }
+        this.slowThresholdNanos = Long.getLong(SLOW_THRESHOLD_PROPERTY, DEFAULT_SLOW_THRESHOLD_MS) * 1_000_000L;
+    }
+
+    // ========================================
+    // 측정 지점
+    // ========================================
+
+    /**
+     * 메시지 디코드 완료 (readUTF 직후)
+     *
+     * @param opcode 메시지 종류
+     */
+    public void onDecode(Opcode opcode) {
+        Trace trace = traces.get();
+        trace.active = true;
+        trace.opcode = opcode;
+        trace.handlerName = null;
+        trace.decodeNanos = System.nanoTime();
+        trace.handlerStartNanos = 0;
+        trace.enqueueNanos = 0;
+        trace.lastWriteNanos = 0;
+        trace.writes = 0;
+    }
+
+    /**
+     * 핸들러 진입
+     *
+     * @param handlerName 핸들러 메소드 이름
+     */
+    public void onHandlerStart(String handlerName) {
+        Trace trace = traces.get();
+        if (trace.active) {
+            trace.handlerName = handlerName;
+            trace.handlerStartNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * 전송 시작 (WriteOne 진입)
+     */
+    public void onEnqueue() {
+        Trace trace = traces.get();
+        if (trace.active && trace.enqueueNanos == 0) {
+            trace.enqueueNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * 전송 완료 (세션 버퍼에 기록)
+     */
+    public void onWriteComplete() {
+        Trace trace = traces.get();
+        if (trace.active) {
+            trace.lastWriteNanos = System.nanoTime();
+            trace.writes++;
+        }
+    }
+
+    /**
+     * 메시지 처리 완료 (핸들러 반환 후)
+     * 전송이 없었다면 핸들러 반환 시점을 종료 시점으로 사용합니다.
+     */
+    public void onComplete() {
+        Trace trace = traces.get();
+        if (!trace.active) {
+            return;
+        }
+        trace.active = false;
+
+        long end = trace.writes > 0 ? trace.lastWriteNanos : System.nanoTime();
+        long total = end - trace.decodeNanos;
+        histograms[trace.opcode.ordinal()].record(total);
+
+        if (total >= slowThresholdNanos) {
+            slowMessageSink.accept(formatSlowMessage(trace, total));
+        }
+    }
+
+    /**
+     * 느린 메시지 로그 생성
+     *
+     * @param trace 추적 정보
+     * @param total 전체 시간 (나노초)
+     * @return 로그 문자열
+     */
+    private String formatSlowMessage(Trace trace, long total) {
+        long handlerStart = trace.handlerStartNanos == 0 ? trace.decodeNanos : trace.handlerStartNanos;
+        long enqueue = trace.enqueueNanos == 0 ? handlerStart : trace.enqueueNanos;
+        return String.format(
+                "[Latency] 느린 메시지: type=%s handler=%s total=%.2fms decode->handler=%.2fms "
+                        + "handler->enqueue=%.2fms enqueue->lastWrite=%.2fms writes=%d",
+                trace.opcode.name(),
+                trace.handlerName == null ? "-" : trace.handlerName,
+                total / 1_000_000.0,
+                (handlerStart - trace.decodeNanos) / 1_000_000.0,
+                (enqueue - handlerStart) / 1_000_000.0,
+                trace.writes > 0 ? (trace.lastWriteNanos - enqueue) / 1_000_000.0 : 0.0,
+                trace.writes);
+    }
+
+    // ========================================
+    // 설정
+    // ========================================
+
+    /**
+     * 느린 메시지 로그 출력 대상 설정
+     *
+     * @param sink 로그 소비자
+     */
+    public void setSlowMessageSink(Consumer<String> sink) {
+        this.slowMessageSink = sink;
+    }
+
+    // ========================================
+    // 조회 및 보고
+    // ========================================
+
+    /**
+     * 메시지 종류별 히스토그램 조회
+     *
+     * @param opcode 메시지 종류
+     * @return 히스토그램
+     */
+    public LogLinearHistogram getHistogram(Opcode opcode) {
+        return histograms[opcode.ordinal()];
+    }
+
+    /**
+     * 메시지 종류별 p99 (밀리초)
+     *
+     * @return Opcode 이름 -> p99
+     */
+    public Map<String, Double> getP99Millis() {
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (Opcode opcode : Opcode.all()) {
+            LogLinearHistogram histogram = histograms[opcode.ordinal()];
+            if (histogram.getCount() > 0) {
+                result.put(opcode.name(), histogram.getMillisAtPercentile(99.0));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 지연 시간 보고서 생성
+     *
+     * @return 메시지 종류별 count/p50/p99/p999/max 표
+     */
+    public String formatReport() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== 메시지 지연 시간 (ms) ===\n");
+        sb.append(String.format("%-15s %8s %9s %9s %9s %9s%n", "TYPE", "COUNT", "P50", "P99", "P999", "MAX"));
+        for (Opcode opcode : Opcode.all()) {
+            LogLinearHistogram histogram = histograms[opcode.ordinal()];
+            if (histogram.getCount() == 0) {
+                continue;
+            }
+            sb.append(String.format("%-15s %8d %9.2f %9.2f %9.2f %9.2f%n",
+                    opcode.name(),
+                    histogram.getCount(),
+                    histogram.getMillisAtPercentile(50.0),
+                    histogram.getMillisAtPercentile(99.0),
+                    histogram.getMillisAtPercentile(99.9),
+                    histogram.getMax() / 1_000_000.0));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Prometheus summary 형식으로 출력
+     *
+     * @param sb 출력 버퍼
+     */
+    void appendPrometheus(StringBuilder sb) {
+        String name = "mafia_message_latency_seconds";
+        sb.append("# HELP ").append(name).append(" End-to-end latency from read to last delivery\n");
+        sb.append("# TYPE ").append(name).append(" summary\n");
+        for (Opcode opcode : Opcode.all()) {
+            LogLinearHistogram histogram = histograms[opcode.ordinal()];
+            if (histogram.getCount() == 0) {
+                continue;
+            }
+            for (double percentile : REPORT_PERCENTILES) {
+                sb.append(name).append("{opcode=\"").append(opcode.name())
+                  .append("\",quantile=\"").append(percentile / 100.0).append("\"} ")
+                  .append(histogram.getValueAtPercentile(percentile) / 1_000_000_000.0).append('\n');
+            }
+            sb.append(name).append("_count{opcode=\"").append(opcode.name()).append("\"} ")
+              .append(histogram.getCount()).append('\n');
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package mafia.game.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Prometheus 스크랩용 로컬 HTTP 엔드포인트
+ *
+ * 루프백 주소에만 바인딩하며 GET /metrics 요청에 텍스트 형식으로 응답합니다.
+ * 요청 처리는 별도의 데몬 스레드 하나에서 수행되어 게임 스레드에 영향을 주지 않습니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class MetricsHttpExporter {
+
+    /**
+     * Prometheus 텍스트 형식 Content-Type
+     */
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /**
+     * 메트릭 레지스트리
+     */
+    private final MetricsRegistry registry;
+
+    /**
+     * HTTP 서버
+     */
+    private HttpServer server;
+
+    /**
+     * 요청 처리 스레드
+     */
+    private ExecutorService executor;
+
+    /**
+     * 생성자
+     *
+     * @param registry 메트릭 레지스트리
+     */
+    public MetricsHttpExporter(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 엔드포인트 시작
+     *
+     * @param port 바인딩 포트
+     * @throws IOException 바인딩 실패 시
+     */
+    public void start(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", this::handle);
+
+        executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "metrics-http");
+            t.setDaemon(true);
+            return t;
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * 엔드포인트 종료
+     */
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * /metrics 요청 처리
+     *
+     * @param exchange HTTP 요청/응답
+     * @throws IOException 응답 전송 실패 시
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            byte[] body = registry.toPrometheusText().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,497 @@
+package mafia.game.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * 서버 메트릭 레지스트리
+ *
+ * 이 클래스는 서버 운영 지표(카운터, 게이지, 지연 시간 히스토그램)를 한 곳에 모읍니다.
+ *
+ * 설계 원칙:
+ * - Singleton Pattern: 하나의 레지스트리만 존재
+ * - Allocation-Free Hot Path: 메시지 송수신 기록은 미리 만든 LongAdder 배열만 사용
+ * - Pull Model: 게이지는 조회 시점에 LongSupplier로 값을 읽음
+ *
+ * 기능:
+ * - 접속 세션 수, 활성 방 수 등 게이지
+ * - Opcode별 송수신 메시지 수 및 바이트
+ * - 송신 대기(진행 중) 메시지 수
+ * - 페이즈 핸들러 처리 시간, 통계 저장 시간 히스토그램
+ * - JMX MBean 및 Prometheus 텍스트 형식 내보내기
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class MetricsRegistry implements MafiaMetricsMXBean {
+
+    // ========================================
+    // Singleton 패턴
+    // ========================================
+
+    private static MetricsRegistry instance;
+
+    /**
+     * Singleton 인스턴스 조회
+     *
+     * @return MetricsRegistry 인스턴스
+     */
+    public static synchronized MetricsRegistry getInstance() {
+        if (instance == null) {
+            instance = new MetricsRegistry();
+        }
+        return instance;
+    }
+
+    // ========================================
+    // 설정 상수
+    // ========================================
+
+    /**
+     * JMX ObjectName
+     */
+    public static final String MBEAN_NAME = "mafia.game:type=Metrics";
+
+    /**
+     * HTTP 내보내기 포트 시스템 프로퍼티 (미설정 시 비활성)
+     */
+    public static final String HTTP_PORT_PROPERTY = "mafia.metrics.port";
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    /**
+     * Opcode별 수신 카운터 (ordinal 인덱스)
+     */
+    private final Counter[] messagesIn;
+
+    /**
+     * Opcode별 송신 카운터 (ordinal 인덱스)
+     */
+    private final Counter[] messagesOut;
+
+    /**
+     * 수신 바이트
+     */
+    private final Counter bytesIn = new Counter();
+
+    /**
+     * 송신 바이트
+     */
+    private final Counter bytesOut = new Counter();
+
+    /**
+     * 전송 중인 메시지 수 (송신 큐 깊이)
+     */
+    private final LongAdder outboundQueueDepth = new LongAdder();
+
+    /**
+     * 페이즈 핸들러별 처리 시간 (ordinal 인덱스)
+     */
+    private final LatencyHistogram[] phaseHandlerLatency;
+
+    /**
+     * 통계 저장 시간
+     */
+    private final LatencyHistogram persistenceFlush = new LatencyHistogram();
+
+    /**
+     * 등록된 게이지 (이름 -> 값 공급자)
+     */
+    private final Map<String, LongSupplier> gauges;
+
+    /**
+     * 게이지 설명 (이름 -> 설명)
+     */
+    private final Map<String, String> gaugeHelp;
+
+    /**
+     * HTTP 내보내기 (시작하지 않았으면 null)
+     */
+    private MetricsHttpExporter httpExporter;
+
+    /**
+     * MBean 등록 여부
+     */
+    private boolean mbeanRegistered;
+
+    // ========================================
+    // 생성자
+    // ========================================
+
+    /**
+     * private 생성자 (Singleton)
+     */
+    private MetricsRegistry() {
+        Opcode[] opcodes = Opcode.all();
+        this.messagesIn = new Counter[opcodes.length];
+        this.messagesOut = new Counter[opcodes.length];
+        for (int i = 0; i < opcodes.length; i++) {
+            messagesIn[i] = new Counter();
+            messagesOut[i] = new Counter();
+        }
+
+        PhaseHandler[] handlers = PhaseHandler.values();
+        this.phaseHandlerLatency = new LatencyHistogram[handlers.length];
+        for (int i = 0; i < handlers.length; i++) {
+            phaseHandlerLatency[i] = new LatencyHistogram();
+        }
+
+        this.gauges = new ConcurrentHashMap<>();
+        this.gaugeHelp = new ConcurrentHashMap<>();
+
+        registerGauge("outbound_queue_depth", "Messages currently being written to sockets",
+                outboundQueueDepth::sum);
+    }
+
+    // ========================================
+    // 기록 (Hot Path)
+    // ========================================
+
+    /**
+     * 수신 메시지 기록
+     *
+     * @param msg 수신 메시지
+     */
+    public void recordInbound(String msg) {
+        messagesIn[Opcode.classifyInbound(msg).ordinal()].increment();
+        bytesIn.add(utfLength(msg));
+    }
+
+    /**
+     * 송신 메시지 기록
+     *
+     * @param msg 송신 메시지
+     */
+    public void recordOutbound(String msg) {
+        messagesOut[Opcode.classifyOutbound(msg).ordinal()].increment();
+        bytesOut.add(utfLength(msg));
+    }
+
+    /**
+     * 송신 시작 (큐 깊이 증가)
+     *
+     * @param messages 한 번에 쓰기 시작한 메시지 수
+     */
+    public void outboundEnqueued(int messages) {
+        outboundQueueDepth.add(messages);
+    }
+
+    /**
+     * 송신 완료 (큐 깊이 감소)
+     *
+     * @param messages 쓰기를 마친 메시지 수
+     */
+    public void outboundDequeued(int messages) {
+        outboundQueueDepth.add(-messages);
+    }
+
+    /**
+     * 페이즈 핸들러 처리 시간 기록
+     *
+     * @param handler 핸들러
+     * @param nanos 처리 시간 (나노초)
+     */
+    public void recordPhaseHandler(PhaseHandler handler, long nanos) {
+        phaseHandlerLatency[handler.ordinal()].record(nanos);
+    }
+
+    /**
+     * 통계 저장 시간 기록
+     *
+     * @param nanos 저장 시간 (나노초)
+     */
+    public void recordPersistenceFlush(long nanos) {
+        persistenceFlush.record(nanos);
+    }
+
+    /**
+     * writeUTF로 전송될 바이트 수 계산 (길이 접두사 2바이트 포함)
+     *
+     * @param s 문자열
+     * @return 바이트 수
+     */
+    public static int utfLength(String s) {
+        int len = 2;
+        for (int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) {
+                len += 1;
+            } else if (c > 0x07FF) {
+                len += 3;
+            } else {
+                len += 2;
+            }
+        }
+        return len;
+    }
+
+    // ========================================
+    // 게이지 관리
+    // ========================================
+
+    /**
+     * 게이지 등록 (같은 이름이면 교체)
+     *
+     * @param name 메트릭 이름 (mafia_ 접두사 제외)
+     * @param help 설명
+     * @param supplier 값 공급자
+     */
+    public void registerGauge(String name, String help, LongSupplier supplier) {
+        gauges.put(name, supplier);
+        gaugeHelp.put(name, help);
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    /**
+     * 특정 Opcode 수신 수
+     *
+     * @param opcode Opcode
+     * @return 수신 수
+     */
+    public long getMessagesIn(Opcode opcode) {
+        return messagesIn[opcode.ordinal()].get();
+    }
+
+    /**
+     * 특정 Opcode 송신 수
+     *
+     * @param opcode Opcode
+     * @return 송신 수
+     */
+    public long getMessagesOut(Opcode opcode) {
+        return messagesOut[opcode.ordinal()].get();
+    }
+
+    /**
+     * 페이즈 핸들러 히스토그램 조회
+     *
+     * @param handler 핸들러
+     * @return 히스토그램
+     */
+    public LatencyHistogram getPhaseHandlerLatency(PhaseHandler handler) {
+        return phaseHandlerLatency[handler.ordinal()];
+    }
+
+    /**
+     * 통계 저장 히스토그램 조회
+     *
+     * @return 히스토그램
+     */
+    public LatencyHistogram getPersistenceFlushLatency() {
+        return persistenceFlush;
+    }
+
+    // ========================================
+    // MafiaMetricsMXBean 구현
+    // ========================================
+
+    @Override
+    public Map<String, Long> getGauges() {
+        Map<String, Long> result = new TreeMap<>();
+        for (Map.Entry<String, LongSupplier> entry : gauges.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().getAsLong());
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getMessagesIn() {
+        return toOpcodeMap(messagesIn);
+    }
+
+    @Override
+    public Map<String, Long> getMessagesOut() {
+        return toOpcodeMap(messagesOut);
+    }
+
+    @Override
+    public long getBytesIn() {
+        return bytesIn.get();
+    }
+
+    @Override
+    public long getBytesOut() {
+        return bytesOut.get();
+    }
+
+    @Override
+    public Map<String, Double> getPhaseHandlerMeanMillis() {
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (PhaseHandler handler : PhaseHandler.values()) {
+            result.put(handler.getHandlerName(), phaseHandlerLatency[handler.ordinal()].getMeanMillis());
+        }
+        return result;
+    }
+
+    @Override
+    public long getPersistenceFlushCount() {
+        return persistenceFlush.getCount();
+    }
+
+    @Override
+    public double getPersistenceFlushMeanMillis() {
+        return persistenceFlush.getMeanMillis();
+    }
+
+    @Override
+    public Map<String, Double> getMessageLatencyP99Millis() {
+        return MessageLatencyTracker.getInstance().getP99Millis();
+    }
+
+    /**
+     * 카운터 배열을 Opcode 이름 맵으로 변환
+     *
+     * @param counters 카운터 배열
+     * @return Opcode 이름 -> 값
+     */
+    private Map<String, Long> toOpcodeMap(Counter[] counters) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Opcode opcode : Opcode.all()) {
+            result.put(opcode.name(), counters[opcode.ordinal()].get());
+        }
+        return result;
+    }
+
+    // ========================================
+    // Prometheus 텍스트 형식
+    // ========================================
+
+    /**
+     * Prometheus 텍스트 노출 형식(0.0.4)으로 전체 메트릭 생성
+     *
+     * @return 메트릭 텍스트
+     */
+    public String toPrometheusText() {
+        StringBuilder sb = new StringBuilder(4096);
+
+        for (Map.Entry<String, Long> entry : getGauges().entrySet()) {
+            String name = "mafia_" + entry.getKey();
+            sb.append("# HELP ").append(name).append(' ').append(gaugeHelp.get(entry.getKey())).append('\n');
+            sb.append("# TYPE ").append(name).append(" gauge\n");
+            sb.append(name).append(' ').append(entry.getValue()).append('\n');
+        }
+
+        appendOpcodeCounters(sb, "mafia_messages_in_total", "Messages received from clients", messagesIn);
+        appendOpcodeCounters(sb, "mafia_messages_out_total", "Messages sent to clients", messagesOut);
+
+        sb.append("# HELP mafia_bytes_in_total Bytes received from clients\n");
+        sb.append("# TYPE mafia_bytes_in_total counter\n");
+        sb.append("mafia_bytes_in_total ").append(bytesIn.get()).append('\n');
+        sb.append("# HELP mafia_bytes_out_total Bytes sent to clients\n");
+        sb.append("# TYPE mafia_bytes_out_total counter\n");
+        sb.append("mafia_bytes_out_total ").append(bytesOut.get()).append('\n');
+
+        sb.append("# HELP mafia_phase_handler_seconds Phase handler execution time\n");
+        sb.append("# TYPE mafia_phase_handler_seconds histogram\n");
+        for (PhaseHandler handler : PhaseHandler.values()) {
+            appendHistogram(sb, "mafia_phase_handler_seconds",
+                    "handler=\"" + handler.getHandlerName() + "\"",
+                    phaseHandlerLatency[handler.ordinal()]);
+        }
+
+        sb.append("# HELP mafia_persistence_flush_seconds Statistics persistence time\n");
+        sb.append("# TYPE mafia_persistence_flush_seconds histogram\n");
+        appendHistogram(sb, "mafia_persistence_flush_seconds", null, persistenceFlush);
+
+        MessageLatencyTracker.getInstance().appendPrometheus(sb);
+
+        return sb.toString();
+    }
+
+    /**
+     * Opcode 라벨 카운터 출력
+     */
+    private void appendOpcodeCounters(StringBuilder sb, String name, String help, Counter[] counters) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(" counter\n");
+        for (Opcode opcode : Opcode.all()) {
+            long value = counters[opcode.ordinal()].get();
+            if (value > 0) {
+                sb.append(name).append("{opcode=\"").append(opcode.name()).append("\"} ")
+                  .append(value).append('\n');
+            }
+        }
+    }
+
+    /**
+     * 히스토그램 출력 (누적 버킷, sum, count)
+     */
+    private void appendHistogram(StringBuilder sb, String name, String labels, LatencyHistogram histogram) {
+        String prefix = labels == null ? "" : labels + ",";
+        long cumulative = 0;
+        for (int i = 0; i < histogram.getBucketCount(); i++) {
+            cumulative += histogram.getBucketValue(i);
+            long bound = histogram.getBucketBoundNanos(i);
+            String le = bound == Long.MAX_VALUE ? "+Inf" : Double.toString(bound / 1_000_000_000.0);
+            sb.append(name).append("_bucket{").append(prefix).append("le=\"").append(le).append("\"} ")
+              .append(cumulative).append('\n');
+        }
+        String suffix = labels == null ? "" : "{" + labels + "}";
+        sb.append(name).append("_sum").append(suffix).append(' ')
+          .append(histogram.getSumNanos() / 1_000_000_000.0).append('\n');
+        sb.append(name).append("_count").append(suffix).append(' ')
+          .append(histogram.getCount()).append('\n');
+    }
+
+    // ========================================
+    // 내보내기 (JMX / HTTP)
+    // ========================================
+
+    /**
+     * 내보내기 시작
+     * JMX MBean을 등록하고, mafia.metrics.port 프로퍼티가 있으면 HTTP 엔드포인트를 엽니다.
+     *
+     * @return 시작 결과 설명
+     */
+    public synchronized String startExporters() {
+        StringBuilder status = new StringBuilder();
+
+        if (!mbeanRegistered) {
+            try {
+                MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+                ObjectName name = new ObjectName(MBEAN_NAME);
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(this, name);
+                }
+                mbeanRegistered = true;
+                status.append("JMX ").append(MBEAN_NAME);
+            } catch (Exception e) {
+                status.append("JMX 등록 실패: ").append(e.getMessage());
+            }
+        }
+
+        String port = System.getProperty(HTTP_PORT_PROPERTY);
+        if (port != null && httpExporter == null) {
+            try {
+                httpExporter = new MetricsHttpExporter(this);
+                httpExporter.start(Integer.parseInt(port.trim()));
+                status.append(", HTTP http://127.0.0.1:").append(port.trim()).append("/metrics");
+            } catch (Exception e) {
+                httpExporter = null;
+                status.append(", HTTP 시작 실패: ").append(e.getMessage());
+            }
+        }
+
+        return status.toString();
+    }
+
+    /**
+     * 내보내기 종료
+     */
+    public synchronized void stopExporters() {
+        if (httpExporter != null) {
+            httpExporter.stop();
+            httpExporter = null;
+        }
+    }
+}
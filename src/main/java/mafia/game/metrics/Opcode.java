@@ -0,0 +1,113 @@
+package mafia.game.metrics;
+
+/**
+ * 프로토콜 메시지 종류 (메트릭 라벨용)
+ *
+ * 서버가 주고받는 writeUTF 메시지를 접두사로 분류합니다.
+ * 분류는 startsWith 비교만 사용하므로 할당이 없습니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public enum Opcode {
+    // 클라이언트 -> 서버
+    LOGIN,
+    NIGHT_ACTION,
+    VOTE,
+    AGREE_DISAGREE,
+    WHISPER,
+    EMOTION,
+    COMMAND,
+    EXIT,
+    CHAT,
+
+    // 서버 -> 클라이언트
+    ROLE,
+    PHASE,
+    PLAYERS,
+    DEAD,
+    SOUND,
+    REVEAL,
+    SYSTEM,
+    GUIDE,
+    STATS,
+
+    // 분류 불가
+    OTHER;
+
+    /**
+     * 캐시된 values() 배열 (호출마다 복사 방지)
+     */
+    private static final Opcode[] VALUES = values();
+
+    /**
+     * 전체 Opcode 목록
+     *
+     * @return Opcode 배열 (수정 금지)
+     */
+    static Opcode[] all() {
+        return VALUES;
+    }
+
+    /**
+     * 클라이언트가 보낸 메시지 분류
+     *
+     * @param msg 수신 메시지
+     * @return Opcode
+     */
+    public static Opcode classifyInbound(String msg) {
+        if (msg.startsWith("NIGHT_ACTION:")) {
+            return NIGHT_ACTION;
+        } else if (msg.startsWith("VOTE:")) {
+            return VOTE;
+        } else if (msg.startsWith("AGREE_DISAGREE:")) {
+            return AGREE_DISAGREE;
+        } else if (msg.startsWith("WHISPER:")) {
+            return WHISPER;
+        } else if (msg.startsWith("EMOTION:")) {
+            return EMOTION;
+        } else if (msg.startsWith("/login")) {
+            return LOGIN;
+        } else if (msg.startsWith("/")) {
+            return COMMAND;
+        } else if (msg.contains("/exit")) {
+            return EXIT;
+        }
+        return CHAT;
+    }
+
+    /**
+     * 서버가 보내는 메시지 분류
+     *
+     * @param msg 송신 메시지
+     * @return Opcode
+     */
+    public static Opcode classifyOutbound(String msg) {
+        if (msg.startsWith("SYSTEM:")) {
+            return SYSTEM;
+        } else if (msg.startsWith("PHASE:")) {
+            return PHASE;
+        } else if (msg.startsWith("PLAYERS:")) {
+            return PLAYERS;
+        } else if (msg.startsWith("ROLE:")) {
+            return ROLE;
+        } else if (msg.startsWith("DEAD:")) {
+            return DEAD;
+        } else if (msg.startsWith("REVEAL:")) {
+            return REVEAL;
+        } else if (msg.startsWith("SOUND:")) {
+            return SOUND;
+        } else if (msg.startsWith("WHISPER:")) {
+            return WHISPER;
+        } else if (msg.startsWith("EMOTION:")) {
+            return EMOTION;
+        } else if (msg.startsWith("GUIDE:")) {
+            return GUIDE;
+        } else if (msg.startsWith("STATS")) {
+            return STATS;
+        } else if (msg.startsWith("[")) {
+            return CHAT;
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,32 @@
+package mafia.game.metrics;
+
+/**
+ * 지연 시간을 측정하는 서버 페이즈 핸들러 목록
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public enum PhaseHandler {
+    START_GAME("startGame"),
+    START_NIGHT("startNightPhase"),
+    PROCESS_NIGHT("processNightActions"),
+    START_DAY("startDayPhase"),
+    START_VOTE("startVotePhase"),
+    PROCESS_VOTE("processVoteResult"),
+    START_FINAL_DEFENSE("startFinalDefensePhase"),
+    START_AGREE_DISAGREE("startAgreeDisagreeVote"),
+    PROCESS_FINAL_DECISION("processFinalDecision");
+
+    /**
+     * 메트릭 라벨로 쓰이는 메소드 이름
+     */
+    private final String handlerName;
+
+    PhaseHandler(String handlerName) {
+        this.handlerName = handlerName;
+    }
+
+    public String getHandlerName() {
+        return handlerName;
+    }
+}
@@ -0,0 +1,330 @@
+package mafia.game.models;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 게임 상태 스냅샷 데이터 모델
+ *
+ * 한 시점의 게임별 상태(역할, 생존, 방어막, 성불, 투표 금지, 유혹, 도굴꾼/성직자 상태 등)를 담습니다.
+ * 저널의 키프레임으로 기록되어 리플레이가 처음부터 재생하지 않고 원하는 지점으로 이동할 수 있게 합니다.
+ *
+ * 바이너리 형식 (DataOutputStream):
+ * <pre>
+ * byte  버전
+ * short 일차, short 밤 차수, UTF 페이즈
+ * short 플레이어 수, [UTF 이름, UTF 역할, byte 상태 플래그]*
+ * UTF 도굴꾼, boolean 변신 여부, UTF 도굴 희생자
+ * boolean 성직자 사용, UTF 부활 대상, UTF 기자 대상
+ * UTF 산타 선물 대상, boolean 마담 접선 여부
+ * </pre>
+ *
+ * 설계 원칙:
+ * - 플레이어별 boolean 상태는 1바이트 비트 플래그로 압축
+ * - 입장 순서를 유지 (LinkedHashMap)
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class GameStateSnapshot {
+
+    // ========================================
+    // 상태 플래그
+    // ========================================
+
+    public static final int FLAG_ALIVE = 1;
+    public static final int FLAG_SHIELD = 1 << 1;
+    public static final int FLAG_BLESSED = 1 << 2;
+    public static final int FLAG_VOTE_BANNED = 1 << 3;
+    public static final int FLAG_SEDUCED = 1 << 4;
+
+    /**
+     * 형식 버전
+     */
+    private static final byte VERSION = 1;
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    private int day;
+    private int night;
+    private String phase = "WAITING";
+
+    /**
+     * 플레이어 -> 역할 (입장 순서)
+     */
+    private final Map<String, String> roles = new LinkedHashMap<>();
+
+    /**
+     * 플레이어 -> 상태 플래그
+     */
+    private final Map<String, Integer> flags = new LinkedHashMap<>();
+
+    private String ghoulName = "";
+    private boolean ghoulTransformed;
+    private String ghoulVictim = "";
+    private boolean priestUsed;
+    private String priestTarget = "";
+    private String reporterTarget = "";
+    private String santaGiftReceiver = "";
+    private boolean madameContacted;
+
+    // ========================================
+    // 플레이어 상태
+    // ========================================
+
+    /**
+     * 플레이어 추가 또는 역할 변경
+     *
+     * @param player 플레이어 이름
+     * @param role 역할
+     */
+    public void setRole(String player, String role) {
+        roles.put(player, role == null ? "" : role);
+        flags.putIfAbsent(player, FLAG_ALIVE);
+    }
+
+    /**
+     * 상태 플래그 설정/해제
+     *
+     * @param player 플레이어 이름
+     * @param flag FLAG_* 값
+     * @param value 설정 여부
+     */
+    public void setFlag(String player, int flag, boolean value) {
+        int current = flags.getOrDefault(player, 0);
+        flags.put(player, value ? current | flag : current & ~flag);
+        roles.putIfAbsent(player, "");
+    }
+
+    /**
+     * 상태 플래그 확인
+     *
+     * @param player 플레이어 이름
+     * @param flag FLAG_* 값
+     * @return 설정 여부
+     */
+    public boolean hasFlag(String player, int flag) {
+        return (flags.getOrDefault(player, 0) & flag) != 0;
+    }
+
+    public boolean isAlive(String player) {
+        return hasFlag(player, FLAG_ALIVE);
+    }
+
+    public String getRole(String player) {
+        return roles.get(player);
+    }
+
+    /**
+     * 플레이어 -> 역할 (읽기 전용, 입장 순서)
+     *
+     * @return 역할 맵
+     */
+    public Map<String, String> getRoles() {
+        return Collections.unmodifiableMap(roles);
+    }
+
+    // ========================================
+    // Getter / Setter
+    // ========================================
+
+    public int getDay() {
+        return day;
+    }
+
+    public void setDay(int day) {
+        this.day = day;
+    }
+
+    public int getNight() {
+        return night;
+    }
+
+    public void setNight(int night) {
+        this.night = night;
+    }
+
+    public String getPhase() {
+        return phase;
+    }
+
+    public void setPhase(String phase) {
+        this.phase = phase;
+    }
+
+    public String getGhoulName() {
+        return ghoulName;
+    }
+
+    public void setGhoulName(String ghoulName) {
+        this.ghoulName = nullToEmpty(ghoulName);
+    }
+
+    public boolean isGhoulTransformed() {
+        return ghoulTransformed;
+    }
+
+    public void setGhoulTransformed(boolean ghoulTransformed) {
+        this.ghoulTransformed = ghoulTransformed;
+    }
+
+    public String getGhoulVictim() {
+        return ghoulVictim;
+    }
+
+    public void setGhoulVictim(String ghoulVictim) {
+        this.ghoulVictim = nullToEmpty(ghoulVictim);
+    }
+
+    public boolean isPriestUsed() {
+        return priestUsed;
+    }
+
+    public void setPriestUsed(boolean priestUsed) {
+        this.priestUsed = priestUsed;
+    }
+
+    public String getPriestTarget() {
+        return priestTarget;
+    }
+
+    public void setPriestTarget(String priestTarget) {
+        this.priestTarget = nullToEmpty(priestTarget);
+    }
+
+    public String getReporterTarget() {
+        return reporterTarget;
+    }
+
+    public void setReporterTarget(String reporterTarget) {
+        this.reporterTarget = nullToEmpty(reporterTarget);
+    }
+
+    public String getSantaGiftReceiver() {
+        return santaGiftReceiver;
+    }
+
+    public void setSantaGiftReceiver(String santaGiftReceiver) {
+        this.santaGiftReceiver = nullToEmpty(santaGiftReceiver);
+    }
+
+    public boolean isMadameContacted() {
+        return madameContacted;
+    }
+
+    public void setMadameContacted(boolean madameContacted) {
+        this.madameContacted = madameContacted;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    // ========================================
+    // 복사 및 직렬화
+    // ========================================
+
+    /**
+     * 깊은 복사
+     *
+     * @return 복사본
+     */
+    public GameStateSnapshot copy() {
+        GameStateSnapshot copy = new GameStateSnapshot();
+        copy.day = day;
+        copy.night = night;
+        copy.phase = phase;
+        copy.roles.putAll(roles);
+        copy.flags.putAll(flags);
+        copy.ghoulName = ghoulName;
+        copy.ghoulTransformed = ghoulTransformed;
+        copy.ghoulVictim = ghoulVictim;
+        copy.priestUsed = priestUsed;
+        copy.priestTarget = priestTarget;
+        copy.reporterTarget = reporterTarget;
+        copy.santaGiftReceiver = santaGiftReceiver;
+        copy.madameContacted = madameContacted;
+        return copy;
+    }
+
+    /**
+     * 바이너리 인코딩
+     *
+     * @return 인코딩된 바이트
+     */
+    public byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + roles.size() * 24);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeShort(day);
+            out.writeShort(night);
+            out.writeUTF(phase);
+
+            out.writeShort(roles.size());
+            for (Map.Entry<String, String> entry : roles.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeUTF(entry.getValue());
+                out.writeByte(flags.getOrDefault(entry.getKey(), 0));
+            }
+
+            out.writeUTF(ghoulName);
+            out.writeBoolean(ghoulTransformed);
+            out.writeUTF(ghoulVictim);
+            out.writeBoolean(priestUsed);
+            out.writeUTF(priestTarget);
+            out.writeUTF(reporterTarget);
+            out.writeUTF(santaGiftReceiver);
+            out.writeBoolean(madameContacted);
+        } catch (IOException e) {
+            // 메모리 스트림이므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 바이너리 디코딩
+     *
+     * @param data 인코딩된 바이트
+     * @return 스냅샷
+     * @throws IOException 형식이 잘못된 경우
+     */
+    public static GameStateSnapshot decode(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("지원하지 않는 스냅샷 버전: " + version);
+            }
+
+            GameStateSnapshot snapshot = new GameStateSnapshot();
+            snapshot.day = in.readShort();
+            snapshot.night = in.readShort();
+            snapshot.phase = in.readUTF();
+
+            int players = in.readShort();
+            for (int i = 0; i < players; i++) {
+                String name = in.readUTF();
+                snapshot.roles.put(name, in.readUTF());
+                snapshot.flags.put(name, (int) in.readByte());
+            }
+
+            snapshot.ghoulName = in.readUTF();
+            snapshot.ghoulTransformed = in.readBoolean();
+            snapshot.ghoulVictim = in.readUTF();
+            snapshot.priestUsed = in.readBoolean();
+            snapshot.priestTarget = in.readUTF();
+            snapshot.reporterTarget = in.readUTF();
+            snapshot.santaGiftReceiver = in.readUTF();
+            snapshot.madameContacted = in.readBoolean();
+            return snapshot;
+        }
+    }
+}
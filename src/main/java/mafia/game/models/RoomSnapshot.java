@@ -0,0 +1,304 @@
+package mafia.game.models;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 방 스냅샷 데이터 모델
+ *
+ * 서버 재시작 후 진행 중인 게임을 이어가기 위해 필요한 방 상태를 담습니다.
+ * 게임별 상태(GameStateSnapshot)에 더해 다음 페이즈 단계와 남은 시간,
+ * 밤 행동/투표 집계처럼 페이즈 도중에만 유효한 상태를 함께 저장합니다.
+ *
+ * 바이너리 형식 (DataOutputStream):
+ * <pre>
+ * byte  버전
+ * UTF 방 ID, UTF 게임 ID, long 저장 시각, long 상태 버전
+ * UTF 다음 단계 (없으면 ""), long 남은 시간(ms)
+ * int 상태 길이, [GameStateSnapshot]
+ * 밤 행동 맵, 득표 맵, 투표자 집합, 찬반 투표자 집합, 속성 맵
+ * 세션 토큰 해시 맵
+ * </pre>
+ *
+ * 세션 토큰은 SHA-256 해시만 저장하며, 재시작 후 복구된 자리는 이전 토큰을 가진 클라이언트만 되찾을 수 있습니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class RoomSnapshot {
+
+    /**
+     * 형식 버전
+     */
+    private static final byte VERSION = 2;
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    private String roomId = "";
+    private String gameId = "";
+    private long savedAtMillis;
+    private long stateVersion;
+
+    /**
+     * 다음에 실행될 페이즈 단계 (PhaseHandler 이름)
+     */
+    private String pendingStep = "";
+
+    /**
+     * 다음 단계까지 남은 시간
+     */
+    private long remainingMillis;
+
+    private GameStateSnapshot state = new GameStateSnapshot();
+
+    /**
+     * 역할 -> 밤 행동 대상
+     */
+    private final Map<String, String> nightActions = new LinkedHashMap<>();
+
+    /**
+     * 후보 -> 득표 수
+     */
+    private final Map<String, Integer> voteCounts = new LinkedHashMap<>();
+
+    /**
+     * 이번 라운드 투표 완료자
+     */
+    private final Set<String> votedThisRound = new LinkedHashSet<>();
+
+    /**
+     * 찬반 투표 완료자
+     */
+    private final Set<String> votedFinalDecision = new LinkedHashSet<>();
+
+    /**
+     * 기타 스칼라 상태 (키 -> 문자열 값)
+     */
+    private final Map<String, String> attributes = new LinkedHashMap<>();
+
+    /**
+     * 플레이어 -> 세션 토큰 해시
+     */
+    private final Map<String, String> tokenHashes = new LinkedHashMap<>();
+
+    // ========================================
+    // Getter / Setter
+    // ========================================
+
+    public String getRoomId() {
+        return roomId;
+    }
+
+    public void setRoomId(String roomId) {
+        this.roomId = roomId;
+    }
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    public void setGameId(String gameId) {
+        this.gameId = gameId == null ? "" : gameId;
+    }
+
+    public long getSavedAtMillis() {
+        return savedAtMillis;
+    }
+
+    public void setSavedAtMillis(long savedAtMillis) {
+        this.savedAtMillis = savedAtMillis;
+    }
+
+    public long getStateVersion() {
+        return stateVersion;
+    }
+
+    public void setStateVersion(long stateVersion) {
+        this.stateVersion = stateVersion;
+    }
+
+    public String getPendingStep() {
+        return pendingStep;
+    }
+
+    public void setPendingStep(String pendingStep) {
+        this.pendingStep = pendingStep == null ? "" : pendingStep;
+    }
+
+    public long getRemainingMillis() {
+        return remainingMillis;
+    }
+
+    public void setRemainingMillis(long remainingMillis) {
+        this.remainingMillis = Math.max(0, remainingMillis);
+    }
+
+    public GameStateSnapshot getState() {
+        return state;
+    }
+
+    public void setState(GameStateSnapshot state) {
+        this.state = state;
+    }
+
+    public Map<String, String> getNightActions() {
+        return nightActions;
+    }
+
+    public Map<String, Integer> getVoteCounts() {
+        return voteCounts;
+    }
+
+    public Set<String> getVotedThisRound() {
+        return votedThisRound;
+    }
+
+    public Set<String> getVotedFinalDecision() {
+        return votedFinalDecision;
+    }
+
+    public Map<String, String> getTokenHashes() {
+        return tokenHashes;
+    }
+
+    /**
+     * 속성 설정
+     *
+     * @param key 키
+     * @param value 값 (null이면 빈 문자열)
+     */
+    public void setAttribute(String key, Object value) {
+        attributes.put(key, value == null ? "" : String.valueOf(value));
+    }
+
+    public String getAttribute(String key) {
+        return attributes.getOrDefault(key, "");
+    }
+
+    public boolean getBooleanAttribute(String key) {
+        return Boolean.parseBoolean(attributes.get(key));
+    }
+
+    public int getIntAttribute(String key) {
+        String value = attributes.get(key);
+        return value == null || value.isEmpty() ? 0 : Integer.parseInt(value);
+    }
+
+    // ========================================
+    // 직렬화
+    // ========================================
+
+    /**
+     * 바이너리 인코딩
+     *
+     * @return 인코딩된 바이트
+     */
+    public byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeUTF(roomId);
+            out.writeUTF(gameId);
+            out.writeLong(savedAtMillis);
+            out.writeLong(stateVersion);
+            out.writeUTF(pendingStep);
+            out.writeLong(remainingMillis);
+
+            byte[] stateBytes = state.encode();
+            out.writeInt(stateBytes.length);
+            out.write(stateBytes);
+
+            writeStringMap(out, nightActions);
+            out.writeShort(voteCounts.size());
+            for (Map.Entry<String, Integer> entry : voteCounts.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue());
+            }
+            writeStringSet(out, votedThisRound);
+            writeStringSet(out, votedFinalDecision);
+            writeStringMap(out, attributes);
+            writeStringMap(out, tokenHashes);
+        } catch (IOException e) {
+            // 메모리 스트림이므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 바이너리 디코딩
+     *
+     * @param data 인코딩된 바이트
+     * @return 방 스냅샷
+     * @throws IOException 형식이 잘못된 경우
+     */
+    public static RoomSnapshot decode(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("지원하지 않는 방 스냅샷 버전: " + version);
+            }
+
+            RoomSnapshot snapshot = new RoomSnapshot();
+            snapshot.roomId = in.readUTF();
+            snapshot.gameId = in.readUTF();
+            snapshot.savedAtMillis = in.readLong();
+            snapshot.stateVersion = in.readLong();
+            snapshot.pendingStep = in.readUTF();
+            snapshot.remainingMillis = in.readLong();
+
+            byte[] stateBytes = new byte[in.readInt()];
+            in.readFully(stateBytes);
+            snapshot.state = GameStateSnapshot.decode(stateBytes);
+
+            readStringMap(in, snapshot.nightActions);
+            int votes = in.readShort();
+            for (int i = 0; i < votes; i++) {
+                snapshot.voteCounts.put(in.readUTF(), in.readInt());
+            }
+            readStringSet(in, snapshot.votedThisRound);
+            readStringSet(in, snapshot.votedFinalDecision);
+            readStringMap(in, snapshot.attributes);
+            readStringMap(in, snapshot.tokenHashes);
+            return snapshot;
+        }
+    }
+
+    private static void writeStringMap(DataOutputStream out, Map<String, String> map) throws IOException {
+        out.writeShort(map.size());
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeUTF(entry.getValue());
+        }
+    }
+
+    private static void readStringMap(DataInputStream in, Map<String, String> map) throws IOException {
+        int size = in.readShort();
+        for (int i = 0; i < size; i++) {
+            map.put(in.readUTF(), in.readUTF());
+        }
+    }
+
+    private static void writeStringSet(DataOutputStream out, Set<String> set) throws IOException {
+        out.writeShort(set.size());
+        for (String value : set) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static void readStringSet(DataInputStream in, Set<String> set) throws IOException {
+        int size = in.readShort();
+        for (int i = 0; i < size; i++) {
+            set.add(in.readUTF());
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package mafia.game.recovery;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import mafia.game.models.RoomSnapshot;
+
+/**
+ * 방 스냅샷 저장소
+ *
+ * 진행 중인 방 상태를 주기적으로 디스크에 저장하여 서버 재시작 후 게임을 복구할 수 있게 합니다.
+ * 게임 스레드는 markDirty()로 상태 버전만 올리고, 캡처와 파일 쓰기는 전용 스레드에서 수행합니다.
+ * 상태 버전이 마지막 저장 이후 바뀐 방만 다시 쓰므로 대기 중인 방은 비용이 들지 않습니다.
+ *
+ * 파일 형식 (game_data/rooms/&lt;roomId&gt;.snap):
+ * <pre>
+ * int MAGIC, int 본문 길이, int CRC32, [RoomSnapshot 본문]
+ * </pre>
+ * 임시 파일에 쓰고 fsync 한 뒤 원자적으로 교체하므로, 쓰기 도중 종료되어도 이전 스냅샷이 남습니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class RoomSnapshotStore {
+
+    // ========================================
+    // Singleton 패턴
+    // ========================================
+
+    private static RoomSnapshotStore instance;
+
+    /**
+     * Singleton 인스턴스 조회
+     *
+     * @return RoomSnapshotStore 인스턴스
+     */
+    public static synchronized RoomSnapshotStore getInstance() {
+        if (instance == null) {
+            instance = new RoomSnapshotStore(Paths.get(BASE_DIRECTORY));
+        }
+        return instance;
+    }
+
+    // ========================================
+    // 설정 상수
+    // ========================================
+
+    /**
+     * 스냅샷 디렉토리
+     */
+    public static final String BASE_DIRECTORY = "game_data/rooms";
+
+    /**
+     * 파일 식별자 ("MRSN")
+     */
+    private static final int MAGIC = 0x4D52534E;
+
+    /**
+     * 헤더 크기 (MAGIC + 길이 + CRC)
+     */
+    private static final int HEADER_SIZE = 12;
+
+    /**
+     * 기본 저장 주기
+     */
+    private static final long DEFAULT_INTERVAL_MILLIS = 1000;
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    /**
+     * 스냅샷 디렉토리
+     */
+    private final Path directory;
+
+    /**
+     * 등록된 방 (ID -> 상태)
+     */
+    private final Map<String, RoomEntry> rooms = new ConcurrentHashMap<>();
+
+    /**
+     * 캡처/쓰기 전용 스레드
+     */
+    private final ScheduledExecutorService writer;
+
+    /**
+     * 오류 통지 대상
+     */
+    private volatile Consumer<String> errorSink = message -> { };
+
+    // 통계
+    private final AtomicLong writeCount = new AtomicLong();
+    private final AtomicLong lastWriteBytes = new AtomicLong();
+    private final AtomicLong lastWriteNanos = new AtomicLong();
+
+    /**
+     * 생성자
+     *
+     * @param directory 스냅샷 디렉토리
+     */
+    RoomSnapshotStore(Path directory) {
+        this.directory = directory;
+        this.writer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "room-snapshot-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ========================================
+    // 방 등록 및 변경 통지
+    // ========================================
+
+    /**
+     * 방 등록 및 주기 저장 시작
+     * capture는 저장 스레드에서 호출되며, 게임 상태를 바꾸는 쪽과 같은 잠금 안에서 일관된 사본을 만들어야 합니다.
+     * 저장할 게임이 없으면 null을 반환합니다 (파일 삭제).
+     *
+     * @param roomId 방 ID
+     * @param capture 방 상태 캡처 함수
+     */
+    public void register(String roomId, Supplier<RoomSnapshot> capture) {
+        long interval = Long.getLong("mafia.snapshot.intervalMillis", DEFAULT_INTERVAL_MILLIS);
+        RoomEntry entry = new RoomEntry(capture);
+        rooms.put(roomId, entry);
+        writer.scheduleWithFixedDelay(() -> saveIfDirty(roomId, entry), interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 방 상태 변경 통지 (게임 스레드, 비차단)
+     *
+     * @param roomId 방 ID
+     */
+    public void markDirty(String roomId) {
+        RoomEntry entry = rooms.get(roomId);
+        if (entry != null) {
+            entry.version.incrementAndGet();
+        }
+    }
+
+    /**
+     * 현재 상태 버전
+     *
+     * @param roomId 방 ID
+     * @return 상태 버전 (등록되지 않은 방은 0)
+     */
+    public long getVersion(String roomId) {
+        RoomEntry entry = rooms.get(roomId);
+        return entry == null ? 0 : entry.version.get();
+    }
+
+    /**
+     * 오류 통지 대상 설정
+     *
+     * @param errorSink 오류 메시지 수신 함수
+     */
+    public void setErrorSink(Consumer<String> errorSink) {
+        this.errorSink = errorSink;
+    }
+
+    // ========================================
+    // 저장
+    // ========================================
+
+    /**
+     * 변경된 경우에만 저장 (저장 스레드)
+     *
+     * @param roomId 방 ID
+     * @param entry 방 상태
+     */
+    private void saveIfDirty(String roomId, RoomEntry entry) {
+        long version = entry.version.get();
+        if (version == entry.writtenVersion) {
+            return;
+        }
+
+        RoomSnapshot snapshot;
+        try {
+            snapshot = entry.capture.get();
+        } catch (RuntimeException e) {
+            // 캡처 함수는 방의 상태 잠금 안에서 복사하므로 여기서 실패하면 버그: 기록 후 다음 주기에 재시도
+            errorSink.accept("[Snapshot] 캡처 실패 (" + roomId + "): " + e);
+            return;
+        }
+
+        try {
+            if (snapshot == null) {
+                Files.deleteIfExists(fileFor(roomId));
+            } else {
+                snapshot.setRoomId(roomId);
+                snapshot.setStateVersion(version);
+                write(roomId, snapshot);
+            }
+            entry.writtenVersion = version;
+        } catch (IOException e) {
+            errorSink.accept("[Snapshot] 저장 실패 (" + roomId + "): " + e.getMessage());
+        }
+    }
+
+    /**
+     * 모든 방을 즉시 저장 (종료 훅 등에서 호출, 저장 스레드에서 실행될 때까지 대기)
+     */
+    public void flushNow() {
+        try {
+            writer.submit(() -> rooms.forEach(this::saveIfDirty)).get(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            errorSink.accept("[Snapshot] 종료 저장 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 스냅샷 파일 쓰기 (임시 파일 + fsync + 원자적 교체)
+     *
+     * @param roomId 방 ID
+     * @param snapshot 방 스냅샷
+     * @throws IOException 쓰기 실패 시
+     */
+    private void write(String roomId, RoomSnapshot snapshot) throws IOException {
+        long start = System.nanoTime();
+        byte[] body = snapshot.encode();
+        CRC32 crc = new CRC32();
+        crc.update(body);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + body.length);
+        buffer.putInt(MAGIC).putInt(body.length).putInt((int) crc.getValue()).put(body).flip();
+
+        Files.createDirectories(directory);
+        Path target = fileFor(roomId);
+        Path temp = directory.resolve(roomId + ".snap.tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        writeCount.incrementAndGet();
+        lastWriteBytes.set(buffer.capacity());
+        lastWriteNanos.set(System.nanoTime() - start);
+    }
+
+    // ========================================
+    // 복구
+    // ========================================
+
+    /**
+     * 저장된 방 스냅샷 읽기
+     *
+     * @param roomId 방 ID
+     * @return 방 스냅샷 (없거나 손상된 경우 null)
+     */
+    public RoomSnapshot load(String roomId) {
+        Path file = fileFor(roomId);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+                errorSink.accept("[Snapshot] 잘못된 스냅샷 파일: " + file);
+                return null;
+            }
+            int length = buffer.getInt();
+            int expectedCrc = buffer.getInt();
+            if (length < 0 || length != buffer.remaining()) {
+                errorSink.accept("[Snapshot] 잘린 스냅샷 파일: " + file);
+                return null;
+            }
+
+            byte[] body = new byte[length];
+            buffer.get(body);
+            CRC32 crc = new CRC32();
+            crc.update(body);
+            if ((int) crc.getValue() != expectedCrc) {
+                errorSink.accept("[Snapshot] CRC 불일치: " + file);
+                return null;
+            }
+            return RoomSnapshot.decode(body);
+        } catch (IOException e) {
+            errorSink.accept("[Snapshot] 읽기 실패 (" + roomId + "): " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 저장된 방 스냅샷 삭제 (저장 스레드에서 순서대로 실행)
+     *
+     * @param roomId 방 ID
+     */
+    public void delete(String roomId) {
+        writer.execute(() -> {
+            try {
+                Files.deleteIfExists(fileFor(roomId));
+            } catch (IOException e) {
+                errorSink.accept("[Snapshot] 삭제 실패 (" + roomId + "): " + e.getMessage());
+            }
+        });
+    }
+
+    private Path fileFor(String roomId) {
+        return directory.resolve(roomId + ".snap");
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    public long getWriteCount() {
+        return writeCount.get();
+    }
+
+    public long getLastWriteBytes() {
+        return lastWriteBytes.get();
+    }
+
+    public long getLastWriteMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(lastWriteNanos.get());
+    }
+
+    // ========================================
+    // 내부 클래스 - RoomEntry
+    // ========================================
+
+    /**
+     * 등록된 방의 캡처 함수와 버전
+     */
+    private static class RoomEntry {
+        private final Supplier<RoomSnapshot> capture;
+        private final AtomicLong version = new AtomicLong();
+
+        /**
+         * 마지막으로 저장된 버전 (저장 스레드 전용)
+         */
+        private long writtenVersion;
+
+        RoomEntry(Supplier<RoomSnapshot> capture) {
+            this.capture = capture;
+        }
+    }
+}
@@ -0,0 +1,393 @@
+package mafia.game.replay;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import mafia.game.journal.GameJournal;
+import mafia.game.journal.JournalEventType;
+import mafia.game.journal.JournalReader;
+import mafia.game.journal.JournalRecord;
+import mafia.game.models.GameStateSnapshot;
+
+/**
+ * 게임 리플레이 엔진
+ *
+ * 기록된 게임 저널에서 임의 시점의 게임 상태를 복원합니다.
+ * 저널에는 페이즈 시작마다 SNAPSHOT 키프레임이 있으므로,
+ * 목표 지점 직전 키프레임을 이진 탐색으로 찾고 그 이후 이벤트(delta)만 적용합니다.
+ * 따라서 탐색 비용은 O(log 키프레임 수 + 스냅샷 + delta)입니다.
+ *
+ * 사용 예:
+ * <pre>
+ * ReplayEngine replay = ReplayEngine.load("game-20250101-120000-000");
+ * GameStateSnapshot state = replay.seekToPhase(3, "VOTE");
+ * </pre>
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class ReplayEngine {
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    /**
+     * 게임 ID
+     */
+    private final String gameId;
+
+    /**
+     * 전체 레코드 (순번 순)
+     */
+    private final List<JournalRecord> records;
+
+    /**
+     * 키프레임 레코드 위치 (오름차순)
+     */
+    private final int[] keyframeIndexes;
+
+    /**
+     * 키프레임 정렬 키 (일차 * 16 + 페이즈 순위, 오름차순)
+     */
+    private final int[] keyframeKeys;
+
+    /**
+     * 디코딩된 키프레임 (로드 시 한 번만 디코딩)
+     */
+    private final GameStateSnapshot[] keyframeCache;
+
+    // ========================================
+    // 생성
+    // ========================================
+
+    /**
+     * 기본 저널 디렉토리에서 게임 로드
+     *
+     * @param gameId 게임 ID
+     * @return 리플레이 엔진
+     * @throws IOException 저널 읽기 실패 시
+     */
+    public static ReplayEngine load(String gameId) throws IOException {
+        return load(Paths.get(GameJournal.BASE_DIRECTORY, gameId));
+    }
+
+    /**
+     * 저널 디렉토리에서 게임 로드
+     *
+     * @param directory 저널 디렉토리
+     * @return 리플레이 엔진
+     * @throws IOException 저널 읽기 실패 시
+     */
+    public static ReplayEngine load(Path directory) throws IOException {
+        List<JournalRecord> records = new JournalReader(directory).readAll();
+        return new ReplayEngine(directory.getFileName().toString(), records);
+    }
+
+    /**
+     * 기록된 게임 ID 목록 (최근 순)
+     *
+     * @param limit 최대 개수
+     * @return 게임 ID 목록
+     */
+    public static List<String> listGames(int limit) {
+        Path base = Paths.get(GameJournal.BASE_DIRECTORY);
+        if (!Files.isDirectory(base)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> dirs = Files.list(base)) {
+            return dirs.filter(Files::isDirectory)
+                    .map(p -> p.getFileName().toString())
+                    .sorted(Collections.reverseOrder())
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 생성자
+     *
+     * @param gameId 게임 ID
+     * @param records 저널 레코드 (순번 순)
+     */
+    public ReplayEngine(String gameId, List<JournalRecord> records) {
+        this.gameId = gameId;
+        this.records = records;
+
+        List<Integer> indexes = new ArrayList<>();
+        List<Integer> keys = new ArrayList<>();
+        List<GameStateSnapshot> decoded = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            JournalRecord record = records.get(i);
+            if (record.getType() == JournalEventType.SNAPSHOT) {
+                GameStateSnapshot snapshot = decodeSnapshot(record);
+                int key = phaseKey(snapshot.getDay(), snapshot.getPhase());
+                // 정렬 키가 줄어드는 키프레임은 탐색 대상에서 제외 (이진 탐색 전제 유지)
+                if (!keys.isEmpty() && key < keys.get(keys.size() - 1)) {
+                    continue;
+                }
+                indexes.add(i);
+                keys.add(key);
+                decoded.add(snapshot);
+            }
+        }
+
+        this.keyframeIndexes = indexes.stream().mapToInt(Integer::intValue).toArray();
+        this.keyframeKeys = keys.stream().mapToInt(Integer::intValue).toArray();
+        this.keyframeCache = decoded.toArray(new GameStateSnapshot[0]);
+    }
+
+    // ========================================
+    // 탐색
+    // ========================================
+
+    /**
+     * 특정 페이즈 시작 시점으로 이동
+     *
+     * @param day 일차 (1부터)
+     * @param phase NIGHT, DAY, VOTE, FINAL_DEFENSE, AGREE_DISAGREE
+     * @return 해당 시점 상태 (복사본), 기록에 없는 페이즈면 null
+     */
+    public GameStateSnapshot seekToPhase(int day, String phase) {
+        int index = findPhase(day, phase);
+        return index < 0 ? null : stateAt(index);
+    }
+
+    /**
+     * 특정 페이즈 시작 키프레임의 레코드 위치
+     *
+     * @param day 일차
+     * @param phase 페이즈
+     * @return 레코드 위치 (없으면 -1)
+     */
+    public int findPhase(int day, String phase) {
+        int key = phaseKey(day, phase);
+        int lo = 0;
+        int hi = keyframeKeys.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keyframeKeys[mid] < key) {
+                lo = mid + 1;
+            } else if (keyframeKeys[mid] > key) {
+                hi = mid - 1;
+            } else {
+                return keyframeIndexes[mid];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 레코드 위치까지(포함) 적용한 상태
+     *
+     * @param recordIndex 레코드 위치
+     * @return 상태 (복사본)
+     */
+    public GameStateSnapshot stateAt(int recordIndex) {
+        if (recordIndex < 0 || recordIndex >= records.size()) {
+            throw new IndexOutOfBoundsException("레코드 위치 범위 초과: " + recordIndex);
+        }
+
+        int keyframe = floorKeyframe(recordIndex);
+        GameStateSnapshot state;
+        int from;
+        if (keyframe < 0) {
+            state = new GameStateSnapshot();
+            from = 0;
+        } else {
+            state = keyframeCache[keyframe].copy();
+            from = keyframeIndexes[keyframe] + 1;
+        }
+
+        for (int i = from; i <= recordIndex; i++) {
+            apply(state, records.get(i));
+        }
+        return state;
+    }
+
+    /**
+     * recordIndex 이하 마지막 키프레임 (이진 탐색)
+     *
+     * @param recordIndex 레코드 위치
+     * @return 키프레임 번호 (없으면 -1)
+     */
+    private int floorKeyframe(int recordIndex) {
+        int lo = 0;
+        int hi = keyframeIndexes.length - 1;
+        int result = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keyframeIndexes[mid] <= recordIndex) {
+                result = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    // ========================================
+    // 이벤트 적용 (delta)
+    // ========================================
+
+    /**
+     * 이벤트 한 건을 상태에 적용
+     *
+     * @param state 상태
+     * @param record 이벤트
+     */
+    static void apply(GameStateSnapshot state, JournalRecord record) {
+        if (record.getType() == null) {
+            return;
+        }
+        switch (record.getType()) {
+            case ROLE_ASSIGNED:
+                state.setRole(record.getActor(), record.getPayloadText());
+                if ("GHOUL".equals(record.getPayloadText())) {
+                    state.setGhoulName(record.getActor());
+                }
+                break;
+            case ROLE_CHANGE:
+                state.setRole(record.getActor(), record.getPayloadText());
+                if (record.getTarget() != null) {
+                    state.setGhoulTransformed(true);
+                    state.setGhoulVictim(record.getTarget());
+                }
+                break;
+            case DEATH:
+                state.setFlag(record.getActor(), GameStateSnapshot.FLAG_ALIVE, false);
+                break;
+            case REVIVE:
+                state.setFlag(record.getActor(), GameStateSnapshot.FLAG_ALIVE, true);
+                if ("PRIEST".equals(record.getPayloadText())) {
+                    state.setPriestUsed(true);
+                }
+                break;
+            case VOTE_BAN:
+                state.setFlag(record.getTarget(), GameStateSnapshot.FLAG_VOTE_BANNED, true);
+                break;
+            case PHASE:
+                applyPhase(state, record.getPayloadText());
+                break;
+            case SNAPSHOT:
+                GameStateSnapshot snapshot = decodeSnapshot(record);
+                state.setDay(snapshot.getDay());
+                state.setNight(snapshot.getNight());
+                state.setPhase(snapshot.getPhase());
+                break;
+            default:
+                // 채팅/투표 등은 상태를 바꾸지 않음
+                break;
+        }
+    }
+
+    /**
+     * PHASE payload ("VOTE day=3 night=3") 적용
+     */
+    private static void applyPhase(GameStateSnapshot state, String payload) {
+        String[] parts = payload.split(" ");
+        state.setPhase(parts[0]);
+        for (int i = 1; i < parts.length; i++) {
+            if (parts[i].startsWith("day=")) {
+                state.setDay(Integer.parseInt(parts[i].substring(4)));
+            } else if (parts[i].startsWith("night=")) {
+                state.setNight(Integer.parseInt(parts[i].substring(6)));
+            }
+        }
+    }
+
+    /**
+     * SNAPSHOT 레코드 디코딩
+     */
+    private static GameStateSnapshot decodeSnapshot(JournalRecord record) {
+        try {
+            return GameStateSnapshot.decode(record.getPayload());
+        } catch (IOException e) {
+            throw new UncheckedIOException("손상된 스냅샷 #" + record.getSequence(), e);
+        }
+    }
+
+    /**
+     * 페이즈 정렬 키 (하루 안에서 밤 -> 낮 -> 투표 -> 최후 변론 -> 찬반 순)
+     *
+     * @param day 일차
+     * @param phase 페이즈
+     * @return 정렬 키
+     */
+    static int phaseKey(int day, String phase) {
+        int rank;
+        switch (phase) {
+            case "NIGHT":
+                rank = 0;
+                break;
+            case "DAY":
+                rank = 1;
+                break;
+            case "VOTE":
+                rank = 2;
+                break;
+            case "FINAL_DEFENSE":
+                rank = 3;
+                break;
+            case "AGREE_DISAGREE":
+                rank = 4;
+                break;
+            default:
+                rank = 15;
+        }
+        return day * 16 + rank;
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    public int size() {
+        return records.size();
+    }
+
+    public JournalRecord getRecord(int index) {
+        return records.get(index);
+    }
+
+    /**
+     * 키프레임 수
+     *
+     * @return 키프레임 수
+     */
+    public int getKeyframeCount() {
+        return keyframeIndexes.length;
+    }
+
+    /**
+     * 게임 시드 (GAME_START 레코드의 seed=)
+     *
+     * @return 시드 (기록이 없으면 null)
+     */
+    public Long getSeed() {
+        for (JournalRecord record : records) {
+            if (record.getType() == JournalEventType.GAME_START) {
+                for (String part : record.getPayloadText().split(" ")) {
+                    if (part.startsWith("seed=")) {
+                        return Long.parseLong(part.substring(5));
+                    }
+                }
+            }
+        }
+        return null;
+    }
+}
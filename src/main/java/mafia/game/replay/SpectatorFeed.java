@@ -0,0 +1,219 @@
+package mafia.game.replay;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import mafia.game.journal.JournalEventType;
+import mafia.game.journal.JournalRecord;
+import mafia.game.models.GameStateSnapshot;
+
+/**
+ * 관전자 리플레이 피드
+ *
+ * 리플레이 엔진에서 시작 지점의 상태를 요약해 보낸 뒤,
+ * 이후 이벤트를 기록된 시간 간격(배속 적용)에 맞춰 한 줄씩 전송합니다.
+ * 전송은 클라이언트가 이미 처리하는 "SYSTEM:" 메시지 형식만 사용합니다.
+ *
+ * 관전 피드는 아무 플레이어나 요청할 수 있으므로, 실제 게임에서 모두에게 공개된 내용만 보냅니다.
+ * <pre>
+ * 표시    페이즈 전환, 사망/부활, 공개 투표, 찬반 최종 결과, 생존자의 낮/투표 채팅, 게임 결과
+ * 숨김    역할과 역할 변경, 밤 행동, 방어막/성불/유혹/투표 금지 상태, 개별 찬반 투표,
+ *         밤 채팅(마피아 팀), 사망자 채팅, 최후의 반론 채팅, 쪽지
+ * </pre>
+ *
+ * 설계 원칙:
+ * - 이벤트 사이 대기 시간은 최대 MAX_GAP_MS로 제한 (긴 공백 건너뛰기)
+ * - stop() 또는 sink 실패 시 즉시 종료
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class SpectatorFeed implements Runnable {
+
+    // ========================================
+    // 설정 상수
+    // ========================================
+
+    /**
+     * 이벤트 사이 최대 대기 시간
+     */
+    private static final long MAX_GAP_MS = 3000;
+
+    /**
+     * 메시지 접두사
+     */
+    private static final String PREFIX = "SYSTEM: [리플레이] ";
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    private final ReplayEngine engine;
+    private final int startIndex;
+    private final double speed;
+    private final Consumer<String> sink;
+    private volatile boolean active = true;
+
+    /**
+     * 재생 시점의 사망자 (사망자 채팅을 걸러내기 위해 DEATH/REVIVE로 갱신, 재생 스레드 전용)
+     */
+    private final Set<String> dead = new HashSet<>();
+
+    /**
+     * 생성자
+     *
+     * @param engine 리플레이 엔진
+     * @param startIndex 시작 레코드 위치
+     * @param speed 재생 배속 (1.0 = 실시간)
+     * @param sink 메시지 전송 대상
+     */
+    public SpectatorFeed(ReplayEngine engine, int startIndex, double speed, Consumer<String> sink) {
+        this.engine = engine;
+        this.startIndex = Math.max(0, startIndex);
+        this.speed = speed > 0 ? speed : 1.0;
+        this.sink = sink;
+    }
+
+    // ========================================
+    // 재생
+    // ========================================
+
+    @Override
+    public void run() {
+        try {
+            play();
+        } finally {
+            active = false;
+        }
+    }
+
+    private void play() {
+        if (engine.size() == 0) {
+            sink.accept(PREFIX + "기록된 이벤트가 없습니다.\n");
+            return;
+        }
+
+        int from = Math.min(startIndex, engine.size() - 1);
+        sink.accept(PREFIX + engine.getGameId() + " 재생 시작 (x" + speed + ")\n");
+        GameStateSnapshot state = engine.stateAt(from);
+        for (String player : state.getRoles().keySet()) {
+            if (!state.isAlive(player)) {
+                dead.add(player);
+            }
+        }
+        sink.accept(describeState(state));
+
+        long previousTimestamp = engine.getRecord(from).getTimestamp();
+        for (int i = from + 1; i < engine.size() && active; i++) {
+            JournalRecord record = engine.getRecord(i);
+            long gap = (long) ((record.getTimestamp() - previousTimestamp) / speed);
+            previousTimestamp = record.getTimestamp();
+            if (gap > 0) {
+                try {
+                    Thread.sleep(Math.min(gap, MAX_GAP_MS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+
+            String line = describe(record, dead);
+            track(record);
+            if (line != null && active) {
+                sink.accept(PREFIX + line + "\n");
+            }
+        }
+
+        if (active) {
+            sink.accept(PREFIX + "재생 종료\n");
+        }
+    }
+
+    /**
+     * 재생 중지 (대기 중인 스레드는 호출자가 interrupt하면 바로 종료)
+     */
+    public void stop() {
+        active = false;
+    }
+
+    /**
+     * 재생 중인지 여부
+     *
+     * @return 재생이 끝나지 않았고 중지되지 않았으면 true
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    // ========================================
+    // 메시지 변환
+    // ========================================
+
+    /**
+     * 상태 요약 메시지 (플레이어 이름과 생존 여부만)
+     *
+     * @param state 상태
+     * @return 여러 줄 메시지
+     */
+    static String describeState(GameStateSnapshot state) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(PREFIX).append(state.getDay()).append("일차 ").append(state.getPhase()).append('\n');
+        for (String player : state.getRoles().keySet()) {
+            sb.append(PREFIX).append("  ").append(player);
+            sb.append(state.isAlive(player) ? " 생존" : " 사망");
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 사망자 목록 갱신
+     *
+     * @param record 이벤트
+     */
+    private void track(JournalRecord record) {
+        if (record.getType() == JournalEventType.DEATH) {
+            dead.add(record.getActor());
+        } else if (record.getType() == JournalEventType.REVIVE) {
+            dead.remove(record.getActor());
+        }
+    }
+
+    /**
+     * 이벤트 한 건을 관전 메시지로 변환 (공개된 이벤트만)
+     *
+     * @param record 이벤트
+     * @param dead 이벤트 시점의 사망자
+     * @return 메시지 (표시하지 않는 이벤트는 null)
+     */
+    static String describe(JournalRecord record, Set<String> dead) {
+        if (record.getType() == null) {
+            return null;
+        }
+        String actor = record.getActor();
+        String target = record.getTarget();
+        switch (record.getType()) {
+            case GAME_START:
+                return "게임 시작 (" + record.getPayloadText() + ")";
+            case PHASE:
+                return "페이즈 전환: " + record.getPayloadText();
+            case DEATH:
+                return actor + " 사망 (" + record.getPayloadText() + ")";
+            case REVIVE:
+                return actor + " 부활";
+            case VOTE:
+                return actor + " -> " + target + " 투표";
+            case FINAL_DECISION:
+                return "최종 결정: " + record.getPayloadText();
+            case CHAT:
+                // 대상 필드는 채팅 당시 페이즈: 생존자의 낮/투표 채팅만 모두에게 보였음
+                boolean publicChat = "DAY".equals(target) || "VOTE".equals(target);
+                return publicChat && !dead.contains(actor) ? actor + ": " + record.getPayloadText() : null;
+            case GAME_END:
+                return "게임 종료: " + record.getPayloadText();
+            default:
+                // 역할, 밤 행동, 투표 금지, 개별 찬반, 쪽지는 비공개
+                return null;
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package mafia.game.simulation;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import mafia.game.engine.RoleComposer;
+import mafia.game.engine.RoleComposition;
+
+/**
+ * 역할 구성 밸런스 최적화 도구
+ *
+ * 인원별로 후보 역할 구성을 나열하고, 후보마다 봇 게임을 대량으로 돌려
+ * 시민 팀 승률이 50%에 가장 가까운 구성을 찾습니다.
+ *
+ * 진행 방식:
+ * 1. 선별: 모든 후보를 적은 판수(screenGames)로 병렬 평가
+ * 2. 정밀: 상위 top개 후보만 많은 판수(finalGames)로 다시 평가해 최종 선택
+ *
+ * 모든 후보가 같은 시드 구간을 사용하므로(공통 난수), 후보 간 차이가 시드 운에 덜 흔들립니다.
+ * 승률은 Wilson 95% 신뢰구간과 함께 보고하고, 결과는 서버가 시작할 때 읽는
+ * 구성 파일(RoleComposer.DEFAULT_COMPOSITION_FILE)로 내보냅니다.
+ *
+ * 명령행 사용법:
+ * <pre>
+ * java -cp target/classes mafia.game.simulation.BalanceOptimizer \
+ *      --players=4-8 --screen-games=3000 --final-games=30000 --top=8 --policy=heuristic --seed=1
+ * </pre>
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class BalanceOptimizer {
+
+    // ========================================
+    // 설정 상수
+    // ========================================
+
+    /**
+     * 후보 구성에 넣어 볼 특수 직업 (각각 최대 1명)
+     */
+    private static final String[] SPECIAL_ROLES = {
+        "POLITICIAN", "SOLDIER", "SHAMAN", "REPORTER", "GHOUL", "GANGSTER", "PRIEST"
+    };
+
+    /**
+     * 마피아 보조 직업 후보 (null = 없음)
+     */
+    private static final String[] SUPPORTERS = { null, "SPY", "MADAME", "SPY|MADAME" };
+
+    /**
+     * 95% 신뢰구간 z 값
+     */
+    private static final double Z_95 = 1.96;
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    private final BotPolicy policy;
+    private final long baseSeed;
+
+    /**
+     * 생성자
+     *
+     * @param policy 봇 정책 (상태가 없어야 함)
+     * @param baseSeed 평가 시드 시작값
+     */
+    public BalanceOptimizer(BotPolicy policy, long baseSeed) {
+        this.policy = policy;
+        this.baseSeed = baseSeed;
+    }
+
+    // ========================================
+    // 후보 생성
+    // ========================================
+
+    /**
+     * 인원별 후보 구성 나열
+     * 의사와 경찰은 항상 포함하고, 마피아 팀은 전체의 절반 미만으로 제한합니다.
+     * 남는 자리는 특수 직업 조합과 시민으로 채웁니다. 현재 기본 구성도 항상 포함됩니다.
+     *
+     * @param playerCount 플레이어 수
+     * @return 후보 명세 목록
+     */
+    public static List<String> candidateSpecs(int playerCount) {
+        Set<String> specs = new LinkedHashSet<>();
+        specs.add(RoleComposer.defaultSpec(playerCount));
+
+        int maxMafiaTeam = (playerCount - 1) / 2;
+        for (int mafia = 1; mafia <= maxMafiaTeam; mafia++) {
+            for (String supporter : SUPPORTERS) {
+                int team = mafia + (supporter == null ? 0 : 1);
+                int free = playerCount - team - 2;
+                if (team > maxMafiaTeam || free < 0) {
+                    continue;
+                }
+
+                for (int mask = 0; mask < 1 << SPECIAL_ROLES.length; mask++) {
+                    int specials = Integer.bitCount(mask);
+                    if (specials > free) {
+                        continue;
+                    }
+                    List<String> slots = new ArrayList<>();
+                    for (int i = 0; i < mafia; i++) {
+                        slots.add("MAFIA");
+                    }
+                    if (supporter != null) {
+                        slots.add(supporter);
+                    }
+                    slots.add("DOCTOR");
+                    slots.add("POLICE");
+                    for (int i = 0; i < SPECIAL_ROLES.length; i++) {
+                        if ((mask & (1 << i)) != 0) {
+                            slots.add(SPECIAL_ROLES[i]);
+                        }
+                    }
+                    for (int i = specials; i < free; i++) {
+                        slots.add("CITIZEN");
+                    }
+                    specs.add(String.join(",", slots));
+                }
+            }
+        }
+        return new ArrayList<>(specs);
+    }
+
+    // ========================================
+    // 평가
+    // ========================================
+
+    /**
+     * 후보 하나 평가 (호출 스레드에서 순차 실행)
+     *
+     * @param playerCount 플레이어 수
+     * @param spec 구성 명세
+     * @param games 게임 수
+     * @return 평가 결과
+     */
+    public Evaluation evaluate(int playerCount, String spec, long games) {
+        RoleComposer composer = new RoleComposer();
+        composer.setComposition(playerCount, RoleComposition.parse(spec));
+        GameSimulator simulator = new GameSimulator(composer, policy, false);
+
+        SimulationStats stats = new SimulationStats();
+        for (long seed = baseSeed; seed < baseSeed + games; seed++) {
+            stats.record(simulator.play(playerCount, seed));
+        }
+        return new Evaluation(playerCount, spec, stats);
+    }
+
+    /**
+     * 후보 여러 개를 병렬 평가 (공용 ForkJoinPool, 후보 단위로 분할)
+     *
+     * @param playerCount 플레이어 수
+     * @param specs 후보 명세
+     * @param games 후보당 게임 수
+     * @return 불균형이 작은 순서로 정렬된 결과
+     */
+    public List<Evaluation> evaluateAll(int playerCount, List<String> specs, long games) {
+        return specs.parallelStream()
+                .map(spec -> evaluate(playerCount, spec, games))
+                .sorted(Comparator.comparingDouble(Evaluation::getImbalance))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 한 인원의 최적 구성 탐색 (선별 후 상위 후보 정밀 평가)
+     *
+     * @param playerCount 플레이어 수
+     * @param screenGames 선별 단계 후보당 게임 수
+     * @param finalGames 정밀 단계 후보당 게임 수
+     * @param top 정밀 평가할 후보 수
+     * @return 정밀 평가 결과 (첫 항목이 최적)
+     */
+    public List<Evaluation> optimize(int playerCount, long screenGames, long finalGames, int top) {
+        List<Evaluation> screened = evaluateAll(playerCount, candidateSpecs(playerCount), screenGames);
+        List<String> finalists = screened.stream()
+                .limit(top)
+                .map(Evaluation::getSpec)
+                .collect(Collectors.toList());
+        return evaluateAll(playerCount, finalists, finalGames);
+    }
+
+    // ========================================
+    // 내보내기
+    // ========================================
+
+    /**
+     * 최적 구성을 서버 구성 파일로 저장
+     *
+     * @param file 저장 경로
+     * @param best 인원 -> 최적 평가 결과
+     * @throws IOException 쓰기 실패 시
+     */
+    public void export(Path file, Map<Integer, Evaluation> best) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("# BalanceOptimizer " + LocalDateTime.now().withNano(0)
+                    + " policy=" + policy.getName() + " seed=" + baseSeed);
+            writer.newLine();
+            for (Evaluation evaluation : new TreeMap<>(best).values()) {
+                writer.write("# " + evaluation);
+                writer.newLine();
+                writer.write(RoleComposer.KEY_PREFIX + evaluation.getPlayerCount() + "=" + evaluation.getSpec());
+                writer.newLine();
+            }
+        }
+    }
+
+    // ========================================
+    // 통계
+    // ========================================
+
+    /**
+     * Wilson 점수 신뢰구간
+     *
+     * @param successes 성공 수
+     * @param trials 시행 수
+     * @param z 신뢰수준 z 값
+     * @return {하한, 상한}
+     */
+    public static double[] wilsonInterval(long successes, long trials, double z) {
+        if (trials == 0) {
+            return new double[] { 0.0, 1.0 };
+        }
+        double p = (double) successes / trials;
+        double z2 = z * z;
+        double denominator = 1 + z2 / trials;
+        double center = (p + z2 / (2.0 * trials)) / denominator;
+        double half = z * Math.sqrt(p * (1 - p) / trials + z2 / (4.0 * trials * trials)) / denominator;
+        return new double[] { Math.max(0.0, center - half), Math.min(1.0, center + half) };
+    }
+
+    // ========================================
+    // 내부 클래스 - Evaluation
+    // ========================================
+
+    /**
+     * 후보 구성 평가 결과
+     */
+    public static class Evaluation {
+        private final int playerCount;
+        private final String spec;
+        private final SimulationStats stats;
+        private final double lower;
+        private final double upper;
+
+        public Evaluation(int playerCount, String spec, SimulationStats stats) {
+            this.playerCount = playerCount;
+            this.spec = spec;
+            this.stats = stats;
+            double[] interval = wilsonInterval(stats.getCitizenWins(), stats.getGames(), Z_95);
+            this.lower = interval[0];
+            this.upper = interval[1];
+        }
+
+        public int getPlayerCount() {
+            return playerCount;
+        }
+
+        public String getSpec() {
+            return spec;
+        }
+
+        public SimulationStats getStats() {
+            return stats;
+        }
+
+        /**
+         * 시민 승률 95% 신뢰구간 하한
+         */
+        public double getLower() {
+            return lower;
+        }
+
+        /**
+         * 시민 승률 95% 신뢰구간 상한
+         */
+        public double getUpper() {
+            return upper;
+        }
+
+        /**
+         * 불균형 정도 (시민 승률과 50%의 차이)
+         *
+         * @return 0.0 ~ 0.5
+         */
+        public double getImbalance() {
+            return Math.abs(stats.getCitizenWinRate() - 0.5);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d인 시민 승률 %.1f%% (95%% CI %.1f%% ~ %.1f%%), 마피아 승 %d, 무승부 %d, %d판, 평균 %.2f일",
+                    playerCount, stats.getCitizenWinRate() * 100, lower * 100, upper * 100,
+                    stats.getMafiaWins(), stats.getDraws(), stats.getGames(), stats.getAverageDays());
+        }
+    }
+
+    // ========================================
+    // 명령행 실행
+    // ========================================
+
+    /**
+     * 명령행 진입점
+     *
+     * @param args --players, --screen-games, --final-games, --top, --policy, --seed, --out
+     * @throws IOException 구성 파일 저장 실패 시
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("--key=value 형식이어야 합니다: " + arg);
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        String players = options.getOrDefault("players", RoleComposer.MIN_PLAYERS + "-" + RoleComposer.MAX_PLAYERS);
+        int dash = players.indexOf('-');
+        int from = Integer.parseInt(dash < 0 ? players : players.substring(0, dash));
+        int to = Integer.parseInt(dash < 0 ? players : players.substring(dash + 1));
+        long screenGames = Long.parseLong(options.getOrDefault("screen-games", "3000"));
+        long finalGames = Long.parseLong(options.getOrDefault("final-games", "30000"));
+        int top = Integer.parseInt(options.getOrDefault("top", "8"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+        Path out = Paths.get(options.getOrDefault("out", RoleComposer.DEFAULT_COMPOSITION_FILE));
+        BalanceOptimizer optimizer = new BalanceOptimizer(
+                SimulationRunner.policyFor(options.getOrDefault("policy", "heuristic")), seed);
+
+        long start = System.nanoTime();
+        Map<Integer, Evaluation> best = new TreeMap<>();
+        for (int playerCount = from; playerCount <= to; playerCount++) {
+            long phaseStart = System.nanoTime();
+            int candidates = candidateSpecs(playerCount).size();
+            List<Evaluation> results = optimizer.optimize(playerCount, screenGames, finalGames, top);
+            Evaluation current = optimizer.evaluate(playerCount, RoleComposer.defaultSpec(playerCount), finalGames);
+
+            System.out.printf("[Balance] %d인: 후보 %d개, %.1f초%n",
+                    playerCount, candidates, (System.nanoTime() - phaseStart) / 1e9);
+            System.out.println("[Balance]   현재: " + current.getSpec());
+            System.out.println("[Balance]         " + current);
+            for (int i = 0; i < Math.min(3, results.size()); i++) {
+                System.out.println("[Balance]   " + (i + 1) + "위: " + results.get(i).getSpec());
+                System.out.println("[Balance]         " + results.get(i));
+            }
+            best.put(playerCount, results.get(0));
+        }
+
+        optimizer.export(out, best);
+        System.out.printf("[Balance] 완료 %.1f초, 저장: %s%n", (System.nanoTime() - start) / 1e9, out);
+    }
+}
@@ -0,0 +1,49 @@
+package mafia.game.simulation;
+
+/**
+ * 봇 플레이어 행동 정책
+ *
+ * 시뮬레이션에서 플레이어의 선택(밤 행동 대상, 투표 대상, 찬반)을 결정합니다.
+ * 플레이어와 대상은 SimulatedGame의 좌석 번호(0부터)로 다루며, 선택하지 않으면 -1을 반환합니다.
+ * 정책은 여러 게임에서 재사용되므로 게임별 상태를 필드에 두지 않고 SimulatedGame에서만 읽어야 합니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public interface BotPolicy {
+
+    /**
+     * 밤 행동 대상 선택
+     *
+     * @param game 게임 상태
+     * @param actor 행동하는 플레이어
+     * @return 대상 플레이어 (행동하지 않으면 -1)
+     */
+    int chooseNightTarget(SimulatedGame game, int actor);
+
+    /**
+     * 투표 대상 선택
+     *
+     * @param game 게임 상태
+     * @param voter 투표하는 플레이어
+     * @return 대상 플레이어 (기권하면 -1)
+     */
+    int chooseVoteTarget(SimulatedGame game, int voter);
+
+    /**
+     * 최후의 반론 대상 처형 찬반
+     *
+     * @param game 게임 상태
+     * @param voter 투표하는 플레이어
+     * @param defendant 최후의 반론 대상
+     * @return 찬성이면 true
+     */
+    boolean agreeExecution(SimulatedGame game, int voter, int defendant);
+
+    /**
+     * 정책 이름 (명령행 옵션 및 출력용)
+     *
+     * @return 이름
+     */
+    String getName();
+}
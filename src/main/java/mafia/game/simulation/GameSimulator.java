@@ -0,0 +1,348 @@
+package mafia.game.simulation;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import mafia.game.engine.GameRandom;
+import mafia.game.engine.GameRules;
+import mafia.game.engine.RoleComposer;
+
+/**
+ * 헤드리스 게임 시뮬레이터
+ *
+ * 소켓, Swing, 타이머 없이 서버와 같은 순서로 한 게임을 끝까지 진행합니다.
+ * 역할 구성은 RoleComposer, 판정은 GameRules를 그대로 사용하므로 서버와 규칙이 갈라지지 않습니다.
+ * 밤 행동, 찬반 투표, 승리 조건은 서버와 같은 GameRules.resolveNight/resolveFinalDecision/resolveWinner로 판정하고,
+ * 여기서는 봇 선택과 결과 적용만 합니다.
+ *
+ * 페이즈 순서 (MafiaGameServer와 동일):
+ * <pre>
+ * 밤 시작 -> 밤 행동 처리 -> 낮 시작(승리 체크, 유혹 해제, 부활, 특종)
+ *        -> 투표 -> 최후의 반론 -> 찬반 투표 -> 승리 체크 -> 밤 시작 ...
+ * </pre>
+ *
+ * 같은 시드와 같은 정책이면 항상 같은 결과가 나옵니다. 인스턴스는 스레드 하나에서만 사용합니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class GameSimulator {
+
+    // ========================================
+    // 설정 상수
+    // ========================================
+
+    /**
+     * 최대 진행 일수 (넘으면 무승부로 종료)
+     */
+    public static final int MAX_DAYS = 30;
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    private final RoleComposer roleComposer;
+    private final BotPolicy policy;
+
+    /**
+     * 크리스마스 이벤트 적용 여부 (산타의 선물 2표)
+     */
+    private final boolean christmasEvent;
+
+    /**
+     * 생성자
+     *
+     * @param policy 봇 정책
+     * @param christmasEvent 크리스마스 이벤트 적용 여부
+     */
+    public GameSimulator(BotPolicy policy, boolean christmasEvent) {
+        this(new RoleComposer(), policy, christmasEvent);
+    }
+
+    /**
+     * 생성자
+     *
+     * @param roleComposer 역할 구성기
+     * @param policy 봇 정책
+     * @param christmasEvent 크리스마스 이벤트 적용 여부
+     */
+    public GameSimulator(RoleComposer roleComposer, BotPolicy policy, boolean christmasEvent) {
+        this.roleComposer = roleComposer;
+        this.policy = policy;
+        this.christmasEvent = christmasEvent;
+    }
+
+    // ========================================
+    // 게임 진행
+    // ========================================
+
+    /**
+     * 한 게임 진행
+     *
+     * @param playerCount 플레이어 수
+     * @param seed 게임 시드
+     * @return 종료된 게임 상태 (MAX_DAYS를 넘기면 승자 NONE)
+     */
+    public SimulatedGame play(int playerCount, long seed) {
+        GameRandom random = new GameRandom(seed);
+        GameRandom roleRandom = random.split();
+        GameRandom eventRandom = random.split();
+        GameRandom botRandom = random.split();
+
+        // 역할 배정 (서버의 assignRoles와 같은 난수 사용 순서)
+        List<String> roles = roleComposer.compose(playerCount, roleRandom);
+        if (roles.isEmpty()) {
+            throw new IllegalArgumentException("지원하지 않는 인원: " + playerCount);
+        }
+        roleRandom.shuffle(roles);
+
+        SimulatedGame game = new SimulatedGame(roles, botRandom);
+        if (christmasEvent) {
+            game.santaSeat = eventRandom.nextInt(playerCount);
+        }
+
+        while (game.day < MAX_DAYS) {
+            runNight(game);
+            if (checkWinner(game)) {
+                break;
+            }
+            startDay(game);
+            if (runVote(game)) {
+                break;
+            }
+        }
+        return game;
+    }
+
+    // ========================================
+    // 밤
+    // ========================================
+
+    /**
+     * 밤 행동 선택 및 처리 (startNightPhase + processNightActions)
+     */
+    private void runNight(SimulatedGame game) {
+        game.day++;
+        game.night++;
+        clear(game.voteBanned);
+        game.reporterTarget = -1;
+
+        // 역할 -> 대상 (서버의 nightActions와 같이 같은 역할은 나중 선택이 우선)
+        Map<String, Integer> actions = new HashMap<>();
+
+        int n = game.getPlayerCount();
+        for (int seat = 0; seat < n; seat++) {
+            if (!game.alive[seat] || game.seduced[seat]) {
+                continue;
+            }
+            int target = policy.chooseNightTarget(game, seat);
+            if (target < 0) {
+                continue;
+            }
+            String role = game.getRole(seat);
+
+            // 죽은 사람 대상 능력 사용 제한 (영매, 성직자 제외)
+            if (!role.equals("SHAMAN") && !role.equals("PRIEST") && !game.alive[target]) {
+                continue;
+            }
+
+            switch (role) {
+                case "MAFIA":
+                case "DOCTOR":
+                case "GANGSTER":
+                    actions.put(role, target);
+                    break;
+                case "POLICE":
+                    game.learn(seat, target, GameRules.appearsAsMafiaToPolice(game.getRole(target)));
+                    break;
+                case "SPY":
+                    spyInvestigate(game, seat, target);
+                    break;
+                case "SHAMAN":
+                    if (!game.alive[target]) {
+                        game.blessed[target] = true;
+                        game.learn(seat, target, game.isMafiaTeam(target));
+                    }
+                    break;
+                case "REPORTER":
+                    if (GameRules.reporterCanAct(game.night)) {
+                        game.reporterTarget = target;
+                    }
+                    break;
+                case "PRIEST":
+                    if (GameRules.checkRevive(game.priestUsed, game.alive[target], game.blessed[target])
+                            == GameRules.ReviveCheck.OK) {
+                        game.priestTarget = target;
+                        game.priestUsed = true;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        GameRules.NightResult<Integer> result = GameRules.resolveNight(game.view, actions);
+
+        // 건달의 투표 금지
+        if (result.getVoteBanned() != null) {
+            game.voteBanned[result.getVoteBanned()] = true;
+        }
+
+        // 마피아의 공격
+        Integer attacked = result.getAttackTarget();
+        if (attacked != null) {
+            if (result.isShieldConsumed()) {
+                game.shield[attacked] = false;
+            }
+            if (result.getOutcome() == GameRules.AttackOutcome.KILLED) {
+                kill(game, attacked, result.isGhoulTransforming());
+            } else if (result.getOutcome() == GameRules.AttackOutcome.SAVED_BY_SOLDIER) {
+                // 방어막이 공개되므로 모두가 군인(시민 팀)임을 알게 됨
+                game.publish(attacked, false);
+            }
+        }
+    }
+
+    /**
+     * 스파이 조사 (마피아를 찾으면 접선)
+     */
+    private void spyInvestigate(SimulatedGame game, int spy, int target) {
+        String targetRole = game.getRole(target);
+        game.learn(spy, target, game.isMafiaTeam(target));
+        if (targetRole.equals("MAFIA") && !game.spyContacted) {
+            game.spyContacted = true;
+            for (int i = 0; i < game.getPlayerCount(); i++) {
+                if (game.getRole(i).equals("MAFIA")) {
+                    game.learn(spy, i, true);
+                    game.learn(i, spy, true);
+                }
+            }
+        }
+    }
+
+    /**
+     * 마피아에게 사망 (도굴꾼 변신 포함)
+     */
+    private void kill(SimulatedGame game, int victim, boolean ghoulTransforming) {
+        game.alive[victim] = false;
+        if (ghoulTransforming) {
+            game.setRole(game.ghoulSeat, game.getRole(victim));
+            game.ghoulVictim = victim;
+            game.ghoulTransformed = true;
+        }
+    }
+
+    // ========================================
+    // 낮
+    // ========================================
+
+    /**
+     * 낮 시작 (startDayPhase, 승리 체크 이후 부분)
+     */
+    private void startDay(SimulatedGame game) {
+        clear(game.seduced);
+
+        // 성직자의 부활
+        if (game.priestTarget >= 0) {
+            int revived = game.priestTarget;
+            game.alive[revived] = true;
+            if (GameRules.revivesAsCitizen(revived == game.ghoulVictim, game.ghoulTransformed)) {
+                game.setRole(revived, "CITIZEN");
+            }
+            game.priestTarget = -1;
+        }
+
+        // 기자의 특종
+        if (game.reporterTarget >= 0) {
+            game.publish(game.reporterTarget, game.isMafiaTeam(game.reporterTarget));
+        }
+    }
+
+    // ========================================
+    // 투표
+    // ========================================
+
+    /**
+     * 투표, 최후의 반론, 찬반 투표 (processVoteResult + processFinalDecision)
+     *
+     * @return 게임이 끝났으면 true
+     */
+    private boolean runVote(SimulatedGame game) {
+        int n = game.getPlayerCount();
+        int[] votes = new int[n];
+
+        for (int voter = 0; voter < n; voter++) {
+            if (!game.alive[voter] || game.voteBanned[voter]) {
+                continue;
+            }
+            int target = policy.chooseVoteTarget(game, voter);
+            if (target < 0 || !game.alive[target]) {
+                continue;
+            }
+            String role = game.getRole(voter);
+            votes[target] += GameRules.voteWeight(role, voter == game.santaSeat);
+
+            // 마담의 유혹 (마피아를 유혹하면 접선)
+            if (role.equals("MADAME")) {
+                game.seduced[target] = true;
+                if (game.getRole(target).equals("MAFIA") && !game.madameContacted) {
+                    game.madameContacted = true;
+                    game.learn(voter, target, true);
+                    game.learn(target, voter, true);
+                }
+            }
+        }
+
+        int defendant = GameRules.plurality(votes);
+        if (defendant < 0) {
+            return checkWinner(game);
+        }
+
+        // 찬반 투표 (투표하지 않은 사람은 반대, 대상자는 투표권 없음)
+        int agree = 0;
+        int disagree = 0;
+        for (int voter = 0; voter < n; voter++) {
+            if (!game.alive[voter] || voter == defendant) {
+                continue;
+            }
+            if (policy.agreeExecution(game, voter, defendant)) {
+                agree++;
+            } else {
+                disagree++;
+            }
+        }
+
+        switch (GameRules.resolveFinalDecision(game.view, defendant, agree, disagree)) {
+            case SURVIVED_AS_POLITICIAN:
+                // 정치인 능력 공개
+                game.publish(defendant, false);
+                break;
+            case EXECUTED:
+                game.alive[defendant] = false;
+                break;
+            default:
+                break;
+        }
+        return checkWinner(game);
+    }
+
+    // ========================================
+    // 승리 조건
+    // ========================================
+
+    /**
+     * 승리 조건 확인 (checkGameEnd)
+     *
+     * @return 게임이 끝났으면 true
+     */
+    private boolean checkWinner(SimulatedGame game) {
+        game.winner = GameRules.resolveWinner(game.view).getWinner();
+        return game.winner != GameRules.Winner.NONE;
+    }
+
+    private static void clear(boolean[] flags) {
+        for (int i = 0; i < flags.length; i++) {
+            flags[i] = false;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package mafia.game.simulation;
+
+/**
+ * 정보 활용 봇 정책
+ *
+ * 각 플레이어가 알고 있는 정보(마피아 동료, 경찰/스파이 조사 결과, 기자 특종)만으로
+ * 사람이 흔히 하는 선택을 흉내 냅니다.
+ *
+ * - 마피아 측: 알려진 동료를 피하고, 시민으로 알려진 플레이어를 우선 공격/투표
+ * - 시민 측: 알려진 마피아에게 투표/찬성, 시민으로 확인된 플레이어는 보호/반대
+ * - 조사 역할: 아직 정체를 모르는 생존자를 우선 조사
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class HeuristicBotPolicy implements BotPolicy {
+
+    @Override
+    public int chooseNightTarget(SimulatedGame game, int actor) {
+        int others = game.aliveMask() & ~(1 << actor);
+        switch (game.getRole(actor)) {
+            case "MAFIA":
+                return preferOrAny(game, others & knownTownMask(game, actor), others & ~knownMafiaMask(game, actor));
+            case "DOCTOR":
+                // 3번 중 1번은 자기 자신, 나머지는 시민으로 확인된 사람 우선
+                if (game.getRandom().nextInt(3) == 0) {
+                    return actor;
+                }
+                return preferOrAny(game, others & knownTownMask(game, actor), others);
+            case "POLICE":
+            case "SPY":
+            case "REPORTER":
+                return preferOrAny(game, others & ~knownMask(game, actor), others);
+            case "GANGSTER":
+                return preferOrAny(game, others & knownMafiaMask(game, actor), others & ~knownTownMask(game, actor));
+            case "SHAMAN":
+                return game.pick(game.revivableMask());
+            case "PRIEST":
+                if (game.isPriestUsed()) {
+                    return -1;
+                }
+                int dead = game.revivableMask();
+                return preferOrAny(game, dead & knownTownMask(game, actor), dead);
+            default:
+                return -1;
+        }
+    }
+
+    @Override
+    public int chooseVoteTarget(SimulatedGame game, int voter) {
+        int others = game.aliveMask() & ~(1 << voter);
+        if (isMafiaSide(game, voter)) {
+            return preferOrAny(game, others & knownTownMask(game, voter), others & ~knownMafiaMask(game, voter));
+        }
+        return preferOrAny(game, others & knownMafiaMask(game, voter), others & ~knownTownMask(game, voter));
+    }
+
+    @Override
+    public boolean agreeExecution(SimulatedGame game, int voter, int defendant) {
+        if (isMafiaSide(game, voter)) {
+            return !game.knowsMafia(voter, defendant);
+        }
+        if (game.knowsMafia(voter, defendant)) {
+            return true;
+        }
+        if (game.knowsTown(voter, defendant)) {
+            return false;
+        }
+        return game.getRandom().nextBoolean();
+    }
+
+    @Override
+    public String getName() {
+        return "heuristic";
+    }
+
+    // ========================================
+    // 유틸리티 메서드
+    // ========================================
+
+    /**
+     * 우선 후보가 있으면 그중에서, 없으면 차선 후보(그것도 없으면 -1) 중에서 선택
+     */
+    private static int preferOrAny(SimulatedGame game, int preferred, int fallback) {
+        return preferred != 0 ? game.pick(preferred) : game.pick(fallback);
+    }
+
+    /**
+     * 자기 역할 기준 마피아 측 여부 (스파이와 마담은 접선 전에도 마피아 편으로 행동)
+     */
+    private static boolean isMafiaSide(SimulatedGame game, int seat) {
+        String role = game.getRole(seat);
+        return role.equals("MAFIA") || role.equals("SPY") || role.equals("MADAME");
+    }
+
+    private static int knownMafiaMask(SimulatedGame game, int observer) {
+        return game.knownMafia[observer];
+    }
+
+    private static int knownTownMask(SimulatedGame game, int observer) {
+        return game.knownTown[observer];
+    }
+
+    private static int knownMask(SimulatedGame game, int observer) {
+        return game.knownMafia[observer] | game.knownTown[observer];
+    }
+}
@@ -0,0 +1,47 @@
+package mafia.game.simulation;
+
+/**
+ * 무작위 봇 정책
+ *
+ * 정보를 전혀 활용하지 않고 규칙상 가능한 대상 중에서 무작위로 고릅니다.
+ * 역할 구성의 기본 유불리를 재는 기준선으로 사용합니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class RandomBotPolicy implements BotPolicy {
+
+    @Override
+    public int chooseNightTarget(SimulatedGame game, int actor) {
+        switch (game.getRole(actor)) {
+            case "MAFIA":
+            case "DOCTOR":
+            case "POLICE":
+            case "SPY":
+            case "REPORTER":
+            case "GANGSTER":
+                return game.pick(game.aliveMask() & ~(1 << actor));
+            case "SHAMAN":
+                return game.pick(game.revivableMask());
+            case "PRIEST":
+                return game.isPriestUsed() ? -1 : game.pick(game.revivableMask());
+            default:
+                return -1;
+        }
+    }
+
+    @Override
+    public int chooseVoteTarget(SimulatedGame game, int voter) {
+        return game.pick(game.aliveMask() & ~(1 << voter));
+    }
+
+    @Override
+    public boolean agreeExecution(SimulatedGame game, int voter, int defendant) {
+        return game.getRandom().nextBoolean();
+    }
+
+    @Override
+    public String getName() {
+        return "random";
+    }
+}
@@ -0,0 +1,344 @@
+package mafia.game.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import mafia.game.engine.GameRandom;
+import mafia.game.engine.GameRules;
+import mafia.game.engine.GameView;
+
+/**
+ * 시뮬레이션 게임 상태
+ *
+ * 서버의 게임 상태 맵(aliveStatus, soldierShield, blessedStatus, voteBanned, seduced 등)을
+ * 좌석 번호로 색인하는 배열로 옮긴 것입니다. 한 게임은 한 스레드에서만 진행되므로 동기화하지 않습니다.
+ *
+ * 봇 정책이 읽는 정보:
+ * - 공개 정보: 생존, 성불, 투표 금지, 유혹, 날짜
+ * - 관찰자별 정보: 관찰자가 마피아 팀/시민 팀으로 알고 있는 플레이어 (비트마스크)
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class SimulatedGame {
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    private final int playerCount;
+    private final String[] roles;
+    private final GameRandom random;
+
+    final boolean[] alive;
+    final boolean[] shield;
+    final boolean[] blessed;
+    final boolean[] voteBanned;
+    final boolean[] seduced;
+
+    /**
+     * 관찰자 -> 마피아 팀으로 알고 있는 플레이어 비트마스크
+     */
+    final int[] knownMafia;
+
+    /**
+     * 관찰자 -> 시민 팀으로 알고 있는 플레이어 비트마스크
+     */
+    final int[] knownTown;
+
+    int day;
+    int night;
+    boolean spyContacted;
+    boolean madameContacted;
+    int ghoulSeat = -1;
+    int ghoulVictim = -1;
+    boolean ghoulTransformed;
+    boolean priestUsed;
+    int priestTarget = -1;
+    int reporterTarget = -1;
+    int santaSeat = -1;
+    GameRules.Winner winner = GameRules.Winner.NONE;
+
+    /**
+     * 규칙 판정용 상태 조회 (GameRules의 페이즈 판정에 전달)
+     */
+    final GameView<Integer> view;
+
+    /**
+     * 생성자
+     *
+     * @param roles 좌석 순서대로 배정된 역할
+     * @param random 봇 선택용 난수
+     */
+    SimulatedGame(List<String> roles, GameRandom random) {
+        this.playerCount = roles.size();
+        this.roles = roles.toArray(new String[0]);
+        this.random = random;
+        this.alive = new boolean[playerCount];
+        this.shield = new boolean[playerCount];
+        this.blessed = new boolean[playerCount];
+        this.voteBanned = new boolean[playerCount];
+        this.seduced = new boolean[playerCount];
+        this.knownMafia = new int[playerCount];
+        this.knownTown = new int[playerCount];
+        this.view = new SeatView();
+
+        int mafiaMask = 0;
+        for (int i = 0; i < playerCount; i++) {
+            alive[i] = true;
+            if (this.roles[i].equals("SOLDIER")) {
+                shield[i] = true;
+            } else if (this.roles[i].equals("GHOUL")) {
+                ghoulSeat = i;
+            }
+            if (this.roles[i].equals("MAFIA")) {
+                mafiaMask |= 1 << i;
+            }
+        }
+
+        // 자기 자신과 마피아끼리는 서로 압니다 (broadcastMafiaTeamInfo)
+        for (int i = 0; i < playerCount; i++) {
+            if (this.roles[i].equals("MAFIA")) {
+                knownMafia[i] |= mafiaMask;
+            } else if (!isMafiaTeam(i)) {
+                knownTown[i] |= 1 << i;
+            }
+        }
+    }
+
+    // ========================================
+    // 상태 변경 (GameSimulator 전용)
+    // ========================================
+
+    void setRole(int seat, String role) {
+        roles[seat] = role;
+    }
+
+    /**
+     * 관찰자에게 대상의 진영을 알림
+     *
+     * @param observer 관찰자
+     * @param target 대상
+     * @param mafia 마피아 팀이면 true
+     */
+    void learn(int observer, int target, boolean mafia) {
+        if (mafia) {
+            knownMafia[observer] |= 1 << target;
+            knownTown[observer] &= ~(1 << target);
+        } else {
+            knownTown[observer] |= 1 << target;
+            knownMafia[observer] &= ~(1 << target);
+        }
+    }
+
+    /**
+     * 모든 플레이어에게 대상의 진영을 알림 (기자 특종)
+     *
+     * @param target 대상
+     * @param mafia 마피아 팀이면 true
+     */
+    void publish(int target, boolean mafia) {
+        for (int i = 0; i < playerCount; i++) {
+            learn(i, target, mafia);
+        }
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public String getRole(int seat) {
+        return roles[seat];
+    }
+
+    public boolean isAlive(int seat) {
+        return alive[seat];
+    }
+
+    public boolean isBlessed(int seat) {
+        return blessed[seat];
+    }
+
+    public boolean isVoteBanned(int seat) {
+        return voteBanned[seat];
+    }
+
+    public boolean isSeduced(int seat) {
+        return seduced[seat];
+    }
+
+    public int getDay() {
+        return day;
+    }
+
+    public int getNight() {
+        return night;
+    }
+
+    public boolean isPriestUsed() {
+        return priestUsed;
+    }
+
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    public GameRules.Winner getWinner() {
+        return winner;
+    }
+
+    /**
+     * 실제 마피아 팀 여부 (정책은 자신의 좌석에만 사용해야 함)
+     *
+     * @param seat 좌석
+     * @return 마피아 팀 여부
+     */
+    public boolean isMafiaTeam(int seat) {
+        return GameRules.isMafiaTeam(roles[seat], madameContacted);
+    }
+
+    /**
+     * 관찰자가 대상을 마피아 팀으로 알고 있는지
+     *
+     * @param observer 관찰자
+     * @param target 대상
+     * @return 알고 있으면 true
+     */
+    public boolean knowsMafia(int observer, int target) {
+        return (knownMafia[observer] & (1 << target)) != 0;
+    }
+
+    /**
+     * 관찰자가 대상을 시민 팀으로 알고 있는지
+     *
+     * @param observer 관찰자
+     * @param target 대상
+     * @return 알고 있으면 true
+     */
+    public boolean knowsTown(int observer, int target) {
+        return (knownTown[observer] & (1 << target)) != 0;
+    }
+
+    /**
+     * 생존자 수
+     *
+     * @return 생존자 수
+     */
+    public int countAlive() {
+        int count = 0;
+        for (boolean a : alive) {
+            if (a) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 조건 비트마스크 중 무작위 좌석 선택
+     *
+     * @param mask 후보 비트마스크
+     * @return 좌석 (후보가 없으면 -1)
+     */
+    public int pick(int mask) {
+        int count = Integer.bitCount(mask);
+        if (count == 0) {
+            return -1;
+        }
+        int skip = random.nextInt(count);
+        while (skip-- > 0) {
+            mask &= mask - 1;
+        }
+        return Integer.numberOfTrailingZeros(mask);
+    }
+
+    /**
+     * 생존자 비트마스크
+     *
+     * @return 생존자 비트마스크
+     */
+    public int aliveMask() {
+        int mask = 0;
+        for (int i = 0; i < playerCount; i++) {
+            if (alive[i]) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 부활 가능한 사망자 비트마스크 (성불되지 않은 사망자)
+     *
+     * @return 사망자 비트마스크
+     */
+    public int revivableMask() {
+        int mask = 0;
+        for (int i = 0; i < playerCount; i++) {
+            if (!alive[i] && !blessed[i]) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    // ========================================
+    // 내부 클래스 - SeatView
+    // ========================================
+
+    /**
+     * 좌석 번호로 상태를 읽는 GameView
+     */
+    private class SeatView implements GameView<Integer> {
+        private final List<Integer> seats = new ArrayList<>(playerCount);
+
+        SeatView() {
+            for (int i = 0; i < playerCount; i++) {
+                seats.add(i);
+            }
+        }
+
+        @Override
+        public Iterable<Integer> getPlayers() {
+            return seats;
+        }
+
+        @Override
+        public String getRole(Integer seat) {
+            return roles[seat];
+        }
+
+        @Override
+        public boolean isAlive(Integer seat) {
+            return alive[seat];
+        }
+
+        @Override
+        public boolean hasShield(Integer seat) {
+            return shield[seat];
+        }
+
+        @Override
+        public boolean isSeduced(Integer seat) {
+            return seduced[seat];
+        }
+
+        @Override
+        public boolean isMadameContacted() {
+            return madameContacted;
+        }
+
+        @Override
+        public boolean isGhoulPresent() {
+            return ghoulSeat >= 0;
+        }
+
+        @Override
+        public boolean isGhoulTransformed() {
+            return ghoulTransformed;
+        }
+    }
+}
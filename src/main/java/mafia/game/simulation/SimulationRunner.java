@@ -0,0 +1,190 @@
+package mafia.game.simulation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * 병렬 시뮬레이션 실행기
+ *
+ * 시드 구간을 fork/join으로 나눠 모든 코어에서 게임을 돌립니다.
+ * 게임 i의 시드는 baseSeed + i 이므로, 같은 인자로 다시 실행하면 같은 집계가 나옵니다.
+ *
+ * 명령행 사용법:
+ * <pre>
+ * java -cp target/classes mafia.game.simulation.SimulationRunner \
+ *      --games=1000000 --players=8 --policy=heuristic --seed=1 [--christmas]
+ * </pre>
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class SimulationRunner {
+
+    // ========================================
+    // 설정 상수
+    // ========================================
+
+    /**
+     * 더 나누지 않고 한 스레드에서 처리할 게임 수
+     */
+    private static final int LEAF_GAMES = 2048;
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    private final ForkJoinPool pool;
+    private final Supplier<GameSimulator> simulatorFactory;
+
+    /**
+     * 생성자
+     *
+     * @param pool 실행 풀
+     * @param simulatorFactory 작업 단위별 시뮬레이터 생성 함수
+     */
+    public SimulationRunner(ForkJoinPool pool, Supplier<GameSimulator> simulatorFactory) {
+        this.pool = pool;
+        this.simulatorFactory = simulatorFactory;
+    }
+
+    /**
+     * 공용 풀을 사용하는 실행기 생성
+     *
+     * @param policy 봇 정책 (상태가 없어야 함)
+     * @param christmasEvent 크리스마스 이벤트 적용 여부
+     * @return 실행기
+     */
+    public static SimulationRunner create(BotPolicy policy, boolean christmasEvent) {
+        return new SimulationRunner(ForkJoinPool.commonPool(), () -> new GameSimulator(policy, christmasEvent));
+    }
+
+    // ========================================
+    // 실행
+    // ========================================
+
+    /**
+     * 게임 여러 판 실행
+     *
+     * @param playerCount 플레이어 수
+     * @param games 게임 수
+     * @param baseSeed 첫 게임 시드
+     * @return 집계 결과
+     */
+    public SimulationStats run(int playerCount, long games, long baseSeed) {
+        return pool.invoke(new SimulationTask(playerCount, baseSeed, baseSeed + games));
+    }
+
+    /**
+     * 시드 구간 [from, to) 을 처리하는 작업
+     */
+    private class SimulationTask extends RecursiveTask<SimulationStats> {
+        private static final long serialVersionUID = 1L;
+
+        private final int playerCount;
+        private final long from;
+        private final long to;
+
+        SimulationTask(int playerCount, long from, long to) {
+            this.playerCount = playerCount;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationStats compute() {
+            if (to - from <= LEAF_GAMES) {
+                GameSimulator simulator = simulatorFactory.get();
+                SimulationStats stats = new SimulationStats();
+                for (long seed = from; seed < to; seed++) {
+                    stats.record(simulator.play(playerCount, seed));
+                }
+                return stats;
+            }
+
+            long mid = from + (to - from) / 2;
+            SimulationTask left = new SimulationTask(playerCount, from, mid);
+            left.fork();
+            SimulationStats right = new SimulationTask(playerCount, mid, to).compute();
+            return right.merge(left.join());
+        }
+    }
+
+    // ========================================
+    // 명령행 실행
+    // ========================================
+
+    /**
+     * 이름으로 봇 정책 조회
+     *
+     * @param name random 또는 heuristic
+     * @return 봇 정책
+     * @throws IllegalArgumentException 알 수 없는 이름인 경우
+     */
+    public static BotPolicy policyFor(String name) {
+        switch (name) {
+            case "random":
+                return new RandomBotPolicy();
+            case "heuristic":
+                return new HeuristicBotPolicy();
+            default:
+                throw new IllegalArgumentException("알 수 없는 정책: " + name);
+        }
+    }
+
+    /**
+     * 명령행 진입점
+     *
+     * @param args --games, --players, --policy, --seed, --christmas
+     */
+    public static void main(String[] args) {
+        Map<String, String> options = parseArgs(args);
+        long games = Long.parseLong(options.getOrDefault("games", "100000"));
+        int players = Integer.parseInt(options.getOrDefault("players", "8"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+        boolean christmas = options.containsKey("christmas");
+        BotPolicy policy = policyFor(options.getOrDefault("policy", "heuristic"));
+
+        SimulationRunner runner = create(policy, christmas);
+
+        // JIT 예열
+        runner.run(players, Math.min(games, 20000), seed);
+
+        long start = System.nanoTime();
+        SimulationStats stats = runner.run(players, games, seed);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.println("[Simulation] " + players + "인, 정책=" + policy.getName()
+                + (christmas ? ", 크리스마스" : "") + ", 코어=" + ForkJoinPool.commonPool().getParallelism());
+        System.out.println("[Simulation] " + stats);
+        System.out.printf("[Simulation] %.2f초, 초당 %,.0f판 (시간당 %,.0f판)%n",
+                seconds, games / seconds, games / seconds * 3600);
+    }
+
+    /**
+     * --key=value / --key value / --flag 형식 인자 파싱
+     */
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("알 수 없는 인자: " + arg);
+            }
+            String key = arg.substring(2);
+            int eq = key.indexOf('=');
+            if (eq >= 0) {
+                options.put(key.substring(0, eq), key.substring(eq + 1));
+            } else if (key.equals("christmas")) {
+                options.put(key, "true");
+            } else if (i + 1 < args.length) {
+                options.put(key, args[++i]);
+            } else {
+                throw new IllegalArgumentException("값이 필요합니다: " + arg);
+            }
+        }
+        return options;
+    }
+}
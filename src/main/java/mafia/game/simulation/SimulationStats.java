@@ -0,0 +1,105 @@
+package mafia.game.simulation;
+
+import mafia.game.engine.GameRules;
+
+/**
+ * 시뮬레이션 집계 결과
+ *
+ * 작업 단위마다 따로 모은 뒤 merge()로 합치므로 동기화가 필요 없습니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class SimulationStats {
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    private long games;
+    private long citizenWins;
+    private long mafiaWins;
+    private long draws;
+    private long totalDays;
+
+    // ========================================
+    // 집계
+    // ========================================
+
+    /**
+     * 끝난 게임 한 판 기록
+     *
+     * @param game 종료된 게임
+     */
+    public void record(SimulatedGame game) {
+        games++;
+        totalDays += game.getDay();
+        if (game.getWinner() == GameRules.Winner.CITIZEN) {
+            citizenWins++;
+        } else if (game.getWinner() == GameRules.Winner.MAFIA) {
+            mafiaWins++;
+        } else {
+            draws++;
+        }
+    }
+
+    /**
+     * 다른 집계 결과 합치기
+     *
+     * @param other 다른 집계
+     * @return this
+     */
+    public SimulationStats merge(SimulationStats other) {
+        games += other.games;
+        citizenWins += other.citizenWins;
+        mafiaWins += other.mafiaWins;
+        draws += other.draws;
+        totalDays += other.totalDays;
+        return this;
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getCitizenWins() {
+        return citizenWins;
+    }
+
+    public long getMafiaWins() {
+        return mafiaWins;
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    /**
+     * 시민 팀 승률
+     *
+     * @return 승률 (0.0 ~ 1.0)
+     */
+    public double getCitizenWinRate() {
+        return games == 0 ? 0.0 : (double) citizenWins / games;
+    }
+
+    /**
+     * 평균 진행 일수
+     *
+     * @return 평균 일수
+     */
+    public double getAverageDays() {
+        return games == 0 ? 0.0 : (double) totalDays / games;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("게임 %d판 | 시민 승 %d (%.1f%%) | 마피아 승 %d (%.1f%%) | 무승부 %d | 평균 %.2f일",
+                games, citizenWins, getCitizenWinRate() * 100, mafiaWins,
+                games == 0 ? 0.0 : (double) mafiaWins / games * 100, draws, getAverageDays());
+    }
+}
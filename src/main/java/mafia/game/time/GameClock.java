@@ -0,0 +1,41 @@
+package mafia.game.time;
+
+/**
+ * 게임 시계
+ *
+ * 서버의 모든 마감 시각, 페이즈 타이머, 타임스탬프는 이 인터페이스를 통해 얻습니다.
+ * 운영에서는 SystemGameClock(실제 시간), 테스트와 부하 테스트에서는 VirtualGameClock(가상 시간)을 사용합니다.
+ *
+ * 규칙:
+ * - 지연 실행은 Thread.sleep 대신 schedule()로 예약
+ * - 경과 시간 계산은 System.currentTimeMillis() 대신 currentTimeMillis()로 계산
+ * - 디스크에 저장되어 재시작 후 비교되는 시각(스냅샷 저장 시각 등)은 실제 시간을 사용
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public interface GameClock {
+
+    /**
+     * 현재 시각 (epoch 밀리초)
+     *
+     * @return 현재 시각
+     */
+    long currentTimeMillis();
+
+    /**
+     * 단조 증가 시각 (경과 시간 측정용)
+     *
+     * @return 나노초
+     */
+    long nanoTime();
+
+    /**
+     * 지연 실행 예약
+     *
+     * @param task 실행할 작업
+     * @param delayMillis 지연 시간 (0 이하면 가능한 한 빨리)
+     * @return 예약 핸들
+     */
+    ScheduledTask schedule(Runnable task, long delayMillis);
+}
@@ -0,0 +1,79 @@
+package mafia.game.time;
+
+/**
+ * 프로세스 기본 게임 시계
+ *
+ * 서버와 기능 매니저(VoteTracker, LobbyManager, ReconnectionManager 등)가 같은 시계를 보도록
+ * 기본 시계 하나를 보관합니다. mafia.clock 시스템 프로퍼티로 고를 수 있습니다.
+ * - system (기본): 실제 시간
+ * - virtual: 가상 시간, mafia.clock.pauseMillis(기본 50ms)마다 다음 타이머로 자동 진행
+ *
+ * 테스트는 서버를 만들기 전에 set()으로 VirtualGameClock을 지정하고 직접 시간을 진행합니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public final class GameClocks {
+
+    /**
+     * 시계 선택 시스템 프로퍼티
+     */
+    public static final String CLOCK_PROPERTY = "mafia.clock";
+
+    /**
+     * 가상 시계 자동 진행 간격 시스템 프로퍼티
+     */
+    public static final String PAUSE_PROPERTY = "mafia.clock.pauseMillis";
+
+    private static volatile GameClock clock;
+
+    private GameClocks() {
+    }
+
+    /**
+     * 기본 시계 조회 (처음 호출 시 시스템 프로퍼티로 생성)
+     *
+     * @return 게임 시계
+     */
+    public static GameClock get() {
+        GameClock current = clock;
+        if (current == null) {
+            synchronized (GameClocks.class) {
+                if (clock == null) {
+                    clock = create(System.getProperty(CLOCK_PROPERTY, "system"));
+                }
+                current = clock;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 기본 시계 교체 (서버와 매니저가 시계를 읽기 전에 호출해야 함)
+     *
+     * @param newClock 게임 시계
+     */
+    public static synchronized void set(GameClock newClock) {
+        clock = newClock;
+    }
+
+    /**
+     * 이름으로 시계 생성
+     *
+     * @param name system 또는 virtual
+     * @return 게임 시계
+     * @throws IllegalArgumentException 알 수 없는 이름인 경우
+     */
+    static GameClock create(String name) {
+        switch (name) {
+            case "system":
+                return new SystemGameClock();
+            case "virtual":
+                VirtualGameClock virtual = new VirtualGameClock();
+                virtual.startAutoAdvance(Long.getLong(PAUSE_PROPERTY, 50));
+                return virtual;
+            default:
+                throw new IllegalArgumentException("알 수 없는 시계: " + name);
+        }
+    }
+}
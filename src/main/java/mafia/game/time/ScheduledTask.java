@@ -0,0 +1,26 @@
+package mafia.game.time;
+
+/**
+ * 예약된 작업 핸들
+ *
+ * GameClock.schedule()이 반환하며, 실행 전이면 취소할 수 있습니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public interface ScheduledTask {
+
+    /**
+     * 작업 취소
+     *
+     * @return 실행 전에 취소되었으면 true
+     */
+    boolean cancel();
+
+    /**
+     * 실행 완료 또는 취소 여부
+     *
+     * @return 더 이상 실행되지 않으면 true
+     */
+    boolean isDone();
+}
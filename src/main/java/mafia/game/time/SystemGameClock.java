@@ -0,0 +1,80 @@
+package mafia.game.time;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실제 시간 게임 시계
+ *
+ * 시스템 시계를 그대로 사용하고, 예약 작업은 데몬 스레드 풀에서 실행합니다.
+ * 예약마다 스레드를 새로 만들던 Thread.sleep 방식과 달리 대기 중인 타이머가 스레드를 차지하지 않습니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class SystemGameClock implements GameClock {
+
+    // ========================================
+    // 설정 상수
+    // ========================================
+
+    /**
+     * 타이머 스레드 수 (페이즈 타이머, 투표 현황, 재접속 타임아웃이 겹쳐도 서로 막지 않도록)
+     */
+    private static final int THREADS = 4;
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    private final ScheduledThreadPoolExecutor executor;
+
+    /**
+     * 생성자
+     */
+    public SystemGameClock() {
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(THREADS, r -> {
+            Thread thread = new Thread(r, "game-clock-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public ScheduledTask schedule(Runnable task, long delayMillis) {
+        ScheduledFuture<?> future = executor.schedule(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                // 예약 작업의 예외가 조용히 사라지지 않도록 출력 (기존 스레드 방식과 동일)
+                e.printStackTrace();
+            }
+        }, Math.max(0, delayMillis), TimeUnit.MILLISECONDS);
+
+        return new ScheduledTask() {
+            @Override
+            public boolean cancel() {
+                return future.cancel(false);
+            }
+
+            @Override
+            public boolean isDone() {
+                return future.isDone();
+            }
+        };
+    }
+}
@@ -0,0 +1,278 @@
+package mafia.game.time;
+
+import java.util.PriorityQueue;
+
+/**
+ * 가상 시간 게임 시계
+ *
+ * 시간은 advance(), runNext(), runUntilIdle()을 호출할 때만 흐르고, 예약 작업은 호출한 스레드에서
+ * 마감 시각 순서대로 실행됩니다. 30초짜리 페이즈도 대기 없이 바로 다음 단계로 넘어가므로
+ * 한 게임 전체를 밀리초 단위로 진행할 수 있습니다.
+ *
+ * 소켓 클라이언트가 붙는 부하 테스트처럼 직접 시간을 넘기기 어려운 경우에는
+ * startAutoAdvance()로 실제 시간 pauseMillis마다 다음 마감 시각으로 건너뛰게 할 수 있습니다.
+ *
+ * @author Mafia Game Team
+ * @version 2.0
+ */
+public class VirtualGameClock implements GameClock {
+
+    // ========================================
+    // 필드
+    // ========================================
+
+    /**
+     * 가상 시간 0의 epoch 밀리초
+     */
+    private final long epochMillis;
+
+    /**
+     * 현재 가상 시간 (나노초)
+     */
+    private long nowNanos;
+
+    /**
+     * 예약 순번 (같은 마감 시각이면 먼저 예약한 작업부터)
+     */
+    private long sequence;
+
+    /**
+     * 대기 중인 작업 (마감 시각, 순번 순)
+     */
+    private final PriorityQueue<VirtualTask> queue = new PriorityQueue<>();
+
+    /**
+     * 자동 진행 스레드
+     */
+    private Thread autoAdvanceThread;
+
+    /**
+     * 생성자 (가상 시간 0 = 현재 실제 시각)
+     */
+    public VirtualGameClock() {
+        this(System.currentTimeMillis());
+    }
+
+    /**
+     * 생성자
+     *
+     * @param epochMillis 가상 시간 0의 epoch 밀리초
+     */
+    public VirtualGameClock(long epochMillis) {
+        this.epochMillis = epochMillis;
+    }
+
+    // ========================================
+    // GameClock 구현
+    // ========================================
+
+    @Override
+    public synchronized long currentTimeMillis() {
+        return epochMillis + nowNanos / 1_000_000;
+    }
+
+    @Override
+    public synchronized long nanoTime() {
+        return nowNanos;
+    }
+
+    @Override
+    public synchronized ScheduledTask schedule(Runnable task, long delayMillis) {
+        VirtualTask scheduled = new VirtualTask(task, nowNanos + Math.max(0, delayMillis) * 1_000_000, sequence++);
+        queue.add(scheduled);
+        return scheduled;
+    }
+
+    // ========================================
+    // 시간 진행
+    // ========================================
+
+    /**
+     * 시간을 millis만큼 진행하며 그 사이 마감되는 작업을 모두 실행
+     * 실행 중인 작업이 새로 예약한 작업도 마감 시각이 범위 안이면 함께 실행됩니다.
+     *
+     * @param millis 진행할 시간
+     * @return 실행한 작업 수
+     */
+    public int advance(long millis) {
+        long target;
+        synchronized (this) {
+            target = nowNanos + millis * 1_000_000;
+        }
+
+        int executed = 0;
+        while (true) {
+            VirtualTask next;
+            synchronized (this) {
+                next = queue.peek();
+                if (next == null || next.deadlineNanos > target) {
+                    nowNanos = Math.max(nowNanos, target);
+                    return executed;
+                }
+                queue.poll();
+                nowNanos = Math.max(nowNanos, next.deadlineNanos);
+            }
+            if (next.execute()) {
+                executed++;
+            }
+        }
+    }
+
+    /**
+     * 다음 마감 시각으로 건너뛰어 그 작업 하나를 실행
+     *
+     * @return 실행한 작업이 있으면 true
+     */
+    public boolean runNext() {
+        while (true) {
+            VirtualTask next;
+            synchronized (this) {
+                next = queue.poll();
+                if (next == null) {
+                    return false;
+                }
+                nowNanos = Math.max(nowNanos, next.deadlineNanos);
+            }
+            if (next.execute()) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 작업이 없을 때까지 실행 (반복 작업이 끝나지 않는 경우를 위해 가상 시간 상한 지정)
+     *
+     * @param maxMillis 진행할 최대 가상 시간
+     * @return 실행한 작업 수
+     */
+    public int runUntilIdle(long maxMillis) {
+        long limit;
+        synchronized (this) {
+            limit = nowNanos + maxMillis * 1_000_000;
+        }
+
+        int executed = 0;
+        while (true) {
+            synchronized (this) {
+                VirtualTask next = queue.peek();
+                if (next == null || next.deadlineNanos > limit) {
+                    return executed;
+                }
+            }
+            if (runNext()) {
+                executed++;
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 작업 수 (취소된 작업 포함)
+     *
+     * @return 작업 수
+     */
+    public synchronized int getPendingCount() {
+        return queue.size();
+    }
+
+    // ========================================
+    // 자동 진행
+    // ========================================
+
+    /**
+     * 자동 진행 시작: 실제 시간 pauseMillis마다 다음 예약 작업까지 시간을 건너뜀
+     * 클라이언트가 각 페이즈에 응답할 시간을 pauseMillis만큼 보장하면서 대기 시간만 없앱니다.
+     *
+     * @param pauseMillis 단계 사이 실제 대기 시간
+     */
+    public synchronized void startAutoAdvance(long pauseMillis) {
+        if (autoAdvanceThread != null) {
+            return;
+        }
+        autoAdvanceThread = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    Thread.sleep(pauseMillis);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                runNext();
+            }
+        }, "virtual-clock");
+        autoAdvanceThread.setDaemon(true);
+        autoAdvanceThread.start();
+    }
+
+    /**
+     * 자동 진행 중지
+     */
+    public synchronized void stopAutoAdvance() {
+        if (autoAdvanceThread != null) {
+            autoAdvanceThread.interrupt();
+            autoAdvanceThread = null;
+        }
+    }
+
+    // ========================================
+    // 내부 클래스 - VirtualTask
+    // ========================================
+
+    /**
+     * 가상 시간 예약 작업
+     */
+    private static class VirtualTask implements ScheduledTask, Comparable<VirtualTask> {
+        private final Runnable task;
+        private final long deadlineNanos;
+        private final long sequence;
+
+        /**
+         * 0 = 대기, 1 = 완료, 2 = 취소
+         */
+        private int state;
+
+        VirtualTask(Runnable task, long deadlineNanos, long sequence) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+            this.sequence = sequence;
+        }
+
+        /**
+         * 취소되지 않았으면 실행
+         *
+         * @return 실행했으면 true
+         */
+        boolean execute() {
+            synchronized (this) {
+                if (state != 0) {
+                    return false;
+                }
+                state = 1;
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+            return true;
+        }
+
+        @Override
+        public synchronized boolean cancel() {
+            if (state != 0) {
+                return false;
+            }
+            state = 2;
+            return true;
+        }
+
+        @Override
+        public synchronized boolean isDone() {
+            return state != 0;
+        }
+
+        @Override
+        public int compareTo(VirtualTask other) {
+            int byDeadline = Long.compare(deadlineNanos, other.deadlineNanos);
+            return byDeadline != 0 ? byDeadline : Long.compare(sequence, other.sequence);
+        }
+    }
+}